@@ -0,0 +1,187 @@
+package com.ktb.community.cache;
+
+import com.ktb.community.redis.RedisHandler;
+import com.ktb.community.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 조건부 GET(ETag / If-None-Match)을 위한 메모리 버전 인덱스
+ *
+ * 게시글/댓글/좋아요/사용자 정보가 바뀌는 모든 쓰기 경로에서 커밋 후 버전을 올리고,
+ * (커밋 전에 올리면 그 사이의 조회가 이전 데이터에 새 ETag를 붙일 수 있음)
+ * 조회 API는 DB를 보지 않고 이 버전만으로 ETag를 만들어 304를 판단함
+ *
+ * - 게시글 버전: 게시글 수정/삭제, 댓글 작성/수정/삭제, 좋아요/취소 (상세 화면의 내용과 카운트)
+ * - 댓글 버전: 해당 게시글의 댓글 작성/수정/삭제
+ * - 피드 버전: 어떤 게시글이든 목록에 보이는 값이 바뀐 경우
+ * - 사용자 버전: 닉네임/프로필 이미지 변경 (모든 화면의 작성자 정보)
+ *
+ * 조회수는 상세 조회마다 바뀌므로 버전에 포함하지 않고 weak ETag(W/)를 사용함 (조회수 차이는 같은 표현으로 취급)
+ * 서버가 재시작되면 epoch가 바뀌어 이전 ETag는 모두 불일치로 처리됨
+ *
+ * 다른 노드에서 일어난 쓰기도 반영해야 하므로, 커밋 후 변경을 Redis 채널로 발행하고 모든 노드가 구독해서 같은 버전을 올림
+ * 버전 값과 epoch는 노드마다 다르므로 노드가 바뀌면 304 대신 200이 될 뿐, 바뀐 내용에 304를 주지는 않음
+ *
+ * 응답에 들어있는 이미지 Presigned URL은 1시간 뒤 만료되므로, 내용이 그대로여도 max-age 구간이 바뀌면 ETag를 바꿔 새 URL을 받게 함
+ * (발행에 실패해서 다른 노드에 전달되지 않은 변경도 이 구간이 지나면 반영됨)
+ */
+@Component
+public class ContentVersionIndex {
+    private static final Logger log = LoggerFactory.getLogger(ContentVersionIndex.class);
+
+    // 모든 노드가 구독하는 Redis 채널
+    public static final String CHANNEL = "content:versions";
+
+    private static final String POST = "P";
+    private static final String COMMENTS = "C";
+    private static final String FEED = "F";
+    private static final String USERS = "U";
+
+    private final RedisHandler redisHandler;
+    // 자기 노드가 발행한 메시지를 구분하는 값
+    private final String nodeId = newEpoch();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<Long, Long> postVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> commentVersions = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long maxAgeMillis;
+    private final LongSupplier now;
+
+    private volatile String epoch = newEpoch();
+    private volatile long feedVersion;
+    private volatile long userVersion;
+
+    @Autowired
+    public ContentVersionIndex(RedisHandler redisHandler,
+                               @Value("${cache.content-version.max-entries:200000}") int maxEntries,
+                               @Value("${cache.content-version.max-age-minutes:30}") long maxAgeMinutes) {
+        this(redisHandler, maxEntries, Duration.ofMinutes(maxAgeMinutes), System::currentTimeMillis);
+    }
+
+    ContentVersionIndex(RedisHandler redisHandler, int maxEntries, Duration maxAge, LongSupplier now) {
+        this.redisHandler = redisHandler;
+        this.maxEntries = maxEntries;
+        this.maxAgeMillis = maxAge.toMillis();
+        this.now = now;
+    }
+
+    /**
+     * 게시글 내용이나 카운트가 바뀐 경우 (피드도 함께 바뀜)
+     */
+    public void postChanged(Long postId) {
+        AfterCommit.run(() -> changed(POST, postId));
+    }
+
+    /**
+     * 댓글이 바뀐 경우 (댓글 수가 바뀌므로 게시글과 피드도 함께 바뀜)
+     */
+    public void commentsChanged(Long postId) {
+        AfterCommit.run(() -> changed(COMMENTS, postId));
+    }
+
+    /**
+     * 새 게시글이 생겨 피드 첫 페이지가 바뀐 경우
+     */
+    public void feedChanged() {
+        AfterCommit.run(() -> changed(FEED, null));
+    }
+
+    /**
+     * 작성자 정보(닉네임, 프로필 이미지)가 바뀐 경우
+     */
+    public void usersChanged() {
+        AfterCommit.run(() -> changed(USERS, null));
+    }
+
+    /**
+     * Redis 채널로 받은 메시지 ("노드 종류 [게시글ID]"). 자기 노드가 발행한 메시지는 이미 반영했으므로 무시
+     */
+    public void onRelayMessage(String message) {
+        String[] parts = message.split(" ");
+        if (parts.length < 2 || parts[0].equals(nodeId)) {
+            return;
+        }
+        try {
+            apply(parts[1], parts.length > 2 ? Long.valueOf(parts[2]) : null);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed content version message: {}", message);
+        }
+    }
+
+    public String postETag(Long postId, String viewer) {
+        return etag("p" + postId, postVersions.getOrDefault(postId, 0L), viewer);
+    }
+
+    public String commentsETag(Long postId, Long cursor, int size, String viewer) {
+        return etag("c" + postId + "." + cursor + "." + size, commentVersions.getOrDefault(postId, 0L), viewer);
+    }
+
+    public String feedETag(Long cursor, int size, String viewer) {
+        return etag("f" + cursor + "." + size, feedVersion, viewer);
+    }
+
+    public String postViewETag(Long postId, int commentSize, String viewer) {
+        long version = Math.max(postVersions.getOrDefault(postId, 0L), commentVersions.getOrDefault(postId, 0L));
+        return etag("v" + postId + "." + commentSize, version, viewer);
+    }
+
+    /**
+     * 좋아요 여부, 본인 글 여부가 사용자마다 다르므로 요청 사용자도 ETag에 포함
+     * max-age 구간 번호도 넣어서, 같은 ETag로 304를 줄 수 있는 기간이 구간 끝까지로 제한됨
+     */
+    private String etag(String resource, long version, String viewer) {
+        long window = now.getAsLong() / maxAgeMillis;
+        return "W/\"" + resource + "-" + epoch + "." + version + "." + userVersion + "." + Long.toString(window, 36)
+                + "-" + Long.toHexString(BloomFilter.hash(viewer)) + "\"";
+    }
+
+    // 이 노드에 바로 반영하고 다른 노드에 알림. 발행이 실패하면(RedisHandler가 로그를 남김) 다른 노드는 다음 변경 때까지 이전 버전을 유지함
+    private void changed(String kind, Long postId) {
+        apply(kind, postId);
+        redisHandler.publish(CHANNEL, nodeId + " " + kind + (postId == null ? "" : " " + postId));
+    }
+
+    private void apply(String kind, Long postId) {
+        long version = clock.incrementAndGet();
+        switch (kind) {
+            case POST -> {
+                put(postVersions, postId, version);
+                feedVersion = version;
+            }
+            case COMMENTS -> {
+                put(commentVersions, postId, version);
+                put(postVersions, postId, version);
+                feedVersion = version;
+            }
+            case FEED -> feedVersion = version;
+            case USERS -> userVersion = version;
+            default -> log.warn("Ignoring unknown content version kind: {}", kind);
+        }
+    }
+
+    private void put(Map<Long, Long> versions, Long postId, long version) {
+        if (versions.size() >= maxEntries && !versions.containsKey(postId)) {
+            // 한도를 넘으면 전부 비우고 epoch를 바꿔 기존 ETag를 모두 무효화
+            postVersions.clear();
+            commentVersions.clear();
+            epoch = newEpoch();
+        }
+        versions.put(postId, version);
+    }
+
+    private static String newEpoch() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+}
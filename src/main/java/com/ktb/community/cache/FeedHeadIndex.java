@@ -0,0 +1,193 @@
+package com.ktb.community.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 피드 첫 페이지의 "새 게시글이 있는지" 확인용 메모리 인덱스
+ *
+ * 가장 큰 게시글 ID와 최근 생성된 게시글 ID의 ring buffer만 유지하고,
+ * createPost / removePost가 커밋 후에 갱신하므로 polling은 DB를 보지 않음
+ *
+ * - cursor가 최대 ID 이상이면 잠금 없이 바로 0 (대부분의 polling)
+ * - ring에서 밀려난 ID보다 오래된 cursor는 정확한 개수를 알 수 없으므로 saturated로 표시
+ * - 서버 시작 후 첫 조회 때 한 번만 DB에서 최근 ID를 채움 (initializeIfNeeded)
+ *   동시에 들어온 첫 조회는 하나만 DB를 읽고, DB를 읽는 동안 삭제된 ID는 채울 때 다시 뺌
+ */
+@Component
+public class FeedHeadIndex {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // DB에서 최근 ID를 읽는 첫 조회를 하나로 제한
+    private final ReentrantLock initLock = new ReentrantLock();
+    private final long[] ring;
+    private int next;
+    private int size;
+
+    private volatile long maxId;
+    private volatile boolean ready;
+    // ring에서 밀려났거나 처음부터 담지 못한 ID 중 가장 큰 값
+    private long evictedMax;
+    // 초기화가 끝나기 전에 삭제된 ID (DB에서 읽은 목록에 아직 남아있을 수 있음)
+    private final Set<Long> removedBeforeReady = new HashSet<>();
+
+    @Autowired
+    public FeedHeadIndex(@Value("${cache.feed-head.capacity:1024}") int capacity) {
+        this.ring = new long[capacity];
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long maxId() {
+        return maxId;
+    }
+
+    /**
+     * 게시글이 생성된 경우 (커밋 후 호출)
+     */
+    public void add(long postId) {
+        lock.lock();
+        try {
+            append(postId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 게시글이 삭제된 경우 (커밋 후 호출). 삭제된 게시글은 새 게시글 수에서 빠짐
+     */
+    public void remove(long postId) {
+        lock.lock();
+        try {
+            for (int i = 0; i < ring.length; i++) {
+                if (ring[i] == postId) {
+                    ring[i] = 0;
+                }
+            }
+            if (!ready) {
+                removedBeforeReady.add(postId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 아직 초기화되지 않았다면 loader로 최근 게시글 ID를 읽어 채움
+     * 동시에 호출되면 하나만 loader를 실행하고 나머지는 그 결과를 기다림
+     */
+    public void initializeIfNeeded(Supplier<List<Long>> loader) {
+        if (ready) {
+            return;
+        }
+        initLock.lock();
+        try {
+            if (!ready) {
+                initialize(loader.get());
+            }
+        } finally {
+            initLock.unlock();
+        }
+    }
+
+    /**
+     * DB에서 읽은 최근 게시글 ID로 채움. 그 사이 add()된 ID와 합쳐서 최근 capacity개만 남김
+     * 그 사이 remove()된 ID는 DB 목록에 있더라도 넣지 않음
+     *
+     * @param recentIds 삭제되지 않은 최근 게시글 ID (최대 capacity개)
+     */
+    public void initialize(List<Long> recentIds) {
+        lock.lock();
+        try {
+            long[] merged = new long[size + recentIds.size()];
+            int count = 0;
+            for (long id : ring) {
+                if (id > 0) {
+                    merged[count++] = id;
+                }
+            }
+            for (Long id : recentIds) {
+                if (!removedBeforeReady.contains(id)) {
+                    merged[count++] = id;
+                }
+            }
+            long[] ids = Arrays.stream(merged, 0, count).distinct().sorted().toArray();
+
+            if (recentIds.size() >= ring.length && !recentIds.isEmpty()) {
+                // DB에 더 오래된 게시글이 남아있을 수 있음
+                long oldestLoaded = recentIds.stream().mapToLong(Long::longValue).min().getAsLong();
+                evictedMax = Math.max(evictedMax, oldestLoaded - 1);
+            }
+
+            Arrays.fill(ring, 0);
+            next = 0;
+            size = 0;
+            for (long id : ids) {
+                append(id);
+            }
+            removedBeforeReady.clear();
+            ready = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * cursor보다 최근에 생성된(삭제되지 않은) 게시글 수
+     */
+    public Head countNewerThan(long cursor) {
+        long latest = maxId;
+        if (cursor >= latest) {
+            return new Head(0, latest, false);
+        }
+
+        lock.lock();
+        try {
+            int count = 0;
+            for (long id : ring) {
+                if (id > cursor) {
+                    count++;
+                }
+            }
+            return new Head(count, maxId, cursor < evictedMax);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(long postId) {
+        if (size == ring.length) {
+            evictedMax = Math.max(evictedMax, ring[next]);
+        } else {
+            size++;
+        }
+        ring[next] = postId;
+        next = (next + 1) % ring.length;
+        if (postId > maxId) {
+            maxId = postId;
+        }
+    }
+
+    /**
+     * @param newCount cursor보다 최근 게시글 수
+     * @param latestId 가장 최근에 생성된 게시글 ID
+     * @param saturated true면 실제 개수는 newCount 이상 (ring 범위를 벗어난 cursor)
+     */
+    public record Head(int newCount, long latestId, boolean saturated) {
+    }
+}
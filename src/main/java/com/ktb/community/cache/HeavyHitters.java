@@ -0,0 +1,161 @@
+package com.ktb.community.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 자주 조회되는 키(heavy hitter)를 고정된 메모리로 찾음
+ *
+ * - Count-Min Sketch: depth x width 카운터 배열로 모든 키의 빈도를 근사 (실제 값보다 작게 나오지 않음)
+ *   conservative update(가장 작은 카운터만 올림)로 다른 키와 겹쳐서 생기는 과대 추정을 줄임
+ * - 후보 테이블: 추정값이 큰 키를 최대 capacity개 유지. 가득 차면 가장 작은 후보를 새 키로 교체 (Space-Saving 방식)
+ * - decay(): 모든 카운터를 절반으로 줄여서, 조회가 줄어든 키는 점점 후보에서 밀려남
+ */
+public class HeavyHitters {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[][] sketch;
+    private final int mask;
+    private final int capacity;
+    private final Map<Long, Long> candidates;
+    // 후보 중 가장 작은 추정값 (가득 찬 경우에만 의미 있음)
+    private long minCandidate;
+
+    /**
+     * @param depth 해시 함수 수 (최대 8)
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     * @param capacity 유지할 후보 수
+     */
+    public HeavyHitters(int depth, int width, int capacity) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length);
+        }
+        int size = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.sketch = new long[depth][size];
+        this.mask = size - 1;
+        this.capacity = capacity;
+        this.candidates = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키의 조회를 기록하고 현재 추정 빈도를 반환
+     */
+    public long record(long key) {
+        lock.lock();
+        try {
+            long estimate = Long.MAX_VALUE;
+            int[] slots = new int[sketch.length];
+            for (int row = 0; row < sketch.length; row++) {
+                slots[row] = slot(key, row);
+                estimate = Math.min(estimate, sketch[row][slots[row]]);
+            }
+            estimate++;
+            for (int row = 0; row < sketch.length; row++) {
+                if (sketch[row][slots[row]] < estimate) {
+                    sketch[row][slots[row]] = estimate;
+                }
+            }
+
+            if (candidates.containsKey(key) || candidates.size() < capacity) {
+                candidates.put(key, estimate);
+                if (candidates.size() == capacity) {
+                    minCandidate = minimum();
+                }
+            } else if (estimate > minCandidate) {
+                evictMinimum();
+                candidates.put(key, estimate);
+                minCandidate = minimum();
+            }
+            return estimate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 추정 빈도가 큰 순서로 최대 limit개의 후보
+     */
+    public List<Hitter> top(int limit) {
+        List<Hitter> hitters = new ArrayList<>();
+        lock.lock();
+        try {
+            candidates.forEach((key, count) -> hitters.add(new Hitter(key, count)));
+        } finally {
+            lock.unlock();
+        }
+        hitters.sort(Comparator.comparingLong(Hitter::count).reversed().thenComparingLong(Hitter::key));
+        return hitters.size() > limit ? hitters.subList(0, limit) : hitters;
+    }
+
+    /**
+     * 모든 빈도를 절반으로 줄이고, 0이 된 후보는 제거
+     */
+    public void decay() {
+        lock.lock();
+        try {
+            for (long[] row : sketch) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>>= 1;
+                }
+            }
+            Iterator<Map.Entry<Long, Long>> iterator = candidates.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Long> entry = iterator.next();
+                long halved = entry.getValue() >>> 1;
+                if (halved == 0) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(halved);
+                }
+            }
+            minCandidate = minimum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictMinimum() {
+        Long victim = null;
+        long lowest = Long.MAX_VALUE;
+        for (Map.Entry<Long, Long> entry : candidates.entrySet()) {
+            if (entry.getValue() < lowest) {
+                lowest = entry.getValue();
+                victim = entry.getKey();
+            }
+        }
+        candidates.remove(victim);
+    }
+
+    private long minimum() {
+        long lowest = Long.MAX_VALUE;
+        for (long count : candidates.values()) {
+            lowest = Math.min(lowest, count);
+        }
+        return candidates.isEmpty() ? 0 : lowest;
+    }
+
+    private int slot(long key, int row) {
+        long hash = (key ^ SEEDS[row]) * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 31;
+        hash *= SEEDS[SEEDS.length - 1 - row];
+        hash ^= hash >>> 29;
+        return (int) hash & mask;
+    }
+
+    /**
+     * @param key 키 (게시글 ID)
+     * @param count 추정 빈도 (실제 값 이상)
+     */
+    public record Hitter(long key, long count) {
+    }
+}
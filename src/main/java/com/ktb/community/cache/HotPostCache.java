@@ -0,0 +1,270 @@
+package com.ktb.community.cache;
+
+import com.ktb.community.entity.Count;
+import com.ktb.community.repository.CountRepository;
+import com.ktb.community.resilience.ResilienceRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회가 몰리는 게시글(heavy hitter)의 상세 스냅샷과 카운트를 메모리에 고정
+ *
+ * 모든 게시글을 오래 캐싱할 수는 없지만 소수의 게시글이 대부분의 조회를 받으므로,
+ * HeavyHitters로 상위 게시글만 찾아서 고정함
+ *
+ * - 고정된 게시글은 스냅샷 캐시 갱신과 Count 조회 없이 응답
+ * - 조회수는 메모리에 모았다가 refresh 주기마다 UPDATE 한 번으로 반영 (같은 행에 대한 조회마다의 UPDATE를 없앰)
+ * - 좋아요/댓글 수는 refresh 주기마다 고정된 게시글 전체를 한 번의 쿼리로 다시 읽음
+ * - decay 주기마다 빈도를 절반으로 줄이므로, 조회가 줄어든 게시글은 상위에서 밀려나 고정이 해제됨
+ * - 다른 노드에서 수정된 내용과 Presigned URL 만료 때문에 스냅샷은 max-age가 지나면 다시 읽음
+ */
+@Component
+public class HotPostCache {
+    private static final Logger log = LoggerFactory.getLogger(HotPostCache.class);
+
+    private final CountRepository countRepository;
+    private final ResilienceRegistry resilienceRegistry;
+    private final HeavyHitters heavyHitters;
+    private final int maxPinned;
+    private final long minHits;
+    private final long refreshMillis;
+    private final int decayEvery;
+    private final long maxAgeNanos;
+
+    private final Map<Long, Pinned> pinned = new ConcurrentHashMap<>();
+    // 고정 해제된 항목. 해제 직전에 시작한 요청이 남긴 조회수를 다음 refresh에서 반영한 뒤 버림
+    private final ConcurrentLinkedQueue<Pinned> retired = new ConcurrentLinkedQueue<>();
+    private volatile Set<Long> hotIds = Set.of();
+    private int ticks;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder flushedViews = new LongAdder();
+
+    private final TaskScheduler scheduler;
+    private ScheduledFuture<?> refreshTask;
+
+    @Autowired
+    public HotPostCache(CountRepository countRepository, ResilienceRegistry resilienceRegistry,
+                        @Qualifier("backgroundTaskScheduler") TaskScheduler scheduler,
+                        @Value("${cache.hot-post.max-pinned:32}") int maxPinned,
+                        @Value("${cache.hot-post.min-hits:50}") long minHits,
+                        @Value("${cache.hot-post.refresh-millis:1000}") long refreshMillis,
+                        @Value("${cache.hot-post.decay-seconds:10}") long decaySeconds,
+                        @Value("${cache.hot-post.sketch-width:4096}") int sketchWidth,
+                        @Value("${cache.hot-post.max-age-seconds:30}") long maxAgeSeconds) {
+        this.countRepository = countRepository;
+        this.resilienceRegistry = resilienceRegistry;
+        this.scheduler = scheduler;
+        // 후보는 고정 한도보다 넉넉하게 유지해야 순위 경계의 게시글이 번갈아 밀려나지 않음
+        this.heavyHitters = new HeavyHitters(4, sketchWidth, maxPinned * 4);
+        this.maxPinned = maxPinned;
+        this.minHits = minHits;
+        this.refreshMillis = refreshMillis;
+        this.decayEvery = (int) Math.max(1, decaySeconds * 1000 / refreshMillis);
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+    }
+
+    @PostConstruct
+    public void start() {
+        Duration interval = Duration.ofMillis(refreshMillis);
+        refreshTask = scheduler.scheduleWithFixedDelay(this::refreshSafely, Instant.now().plus(interval), interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+        }
+        // 모아둔 조회수를 잃지 않도록 마지막으로 반영
+        pinned.values().forEach(this::flushViews);
+        retired.forEach(this::flushViews);
+    }
+
+    /**
+     * 게시글 상세 조회를 기록하고, 고정된 게시글이면 반환
+     */
+    public Pinned lookup(Long postId) {
+        this.heavyHitters.record(postId);
+        Pinned entry = pinned.get(postId);
+        if (entry != null) {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * 피드에 노출된 게시글 기록 (곧 상세 조회될 가능성이 높음)
+     */
+    public void recordImpressions(Collection<Long> postIds) {
+        for (Long postId : postIds) {
+            this.heavyHitters.record(postId);
+        }
+    }
+
+    /**
+     * DB에서 읽은 스냅샷과 카운트를 받아서, 현재 상위 게시글이면 고정
+     * 전달한 카운트의 조회수는 이미 DB에 반영된(또는 현재 트랜잭션에서 반영될) 값이어야 함
+     */
+    public void offer(PostDetailSnapshot snapshot, Count count) {
+        Long postId = snapshot.postId();
+        if (!hotIds.contains(postId) || pinned.size() >= maxPinned) {
+            return;
+        }
+        pinned.putIfAbsent(postId, new Pinned(snapshot, count.getViewCount(), count.getLikeCount(), count.getCommentCount()));
+    }
+
+    /**
+     * 게시글이 수정/삭제된 경우 (커밋 후 호출). 다음 조회 때 새 스냅샷으로 다시 고정됨
+     */
+    public void invalidate(Long postId) {
+        Pinned entry = pinned.remove(postId);
+        if (entry != null) {
+            retired.add(entry);
+        }
+    }
+
+    public Stats stats() {
+        List<HotPost> hot = new ArrayList<>();
+        for (HeavyHitters.Hitter hitter : this.heavyHitters.top(maxPinned)) {
+            hot.add(new HotPost(hitter.key(), hitter.count(), pinned.containsKey(hitter.key())));
+        }
+        return new Stats(pinned.size(), hits.sum(), flushedViews.sum(), hot);
+    }
+
+    void refresh() {
+        // 이전 주기에 해제된 항목의 남은 조회수 반영
+        Pinned expired;
+        while ((expired = retired.poll()) != null) {
+            flushViews(expired);
+        }
+
+        if (++ticks % decayEvery == 0) {
+            this.heavyHitters.decay();
+        }
+
+        Set<Long> current = new HashSet<>();
+        for (HeavyHitters.Hitter hitter : this.heavyHitters.top(maxPinned)) {
+            if (hitter.count() >= minHits) {
+                current.add(hitter.key());
+            }
+        }
+        hotIds = current;
+
+        long now = System.nanoTime();
+        for (Map.Entry<Long, Pinned> entry : List.copyOf(pinned.entrySet())) {
+            if (!current.contains(entry.getKey()) || now - entry.getValue().pinnedAt > maxAgeNanos) {
+                invalidate(entry.getKey());
+            }
+        }
+
+        pinned.values().forEach(this::flushViews);
+        if (!pinned.isEmpty()) {
+            List<Count> counts = this.resilienceRegistry.mysql().call(() -> this.countRepository.findAllById(List.copyOf(pinned.keySet())));
+            for (Count count : counts) {
+                Pinned entry = pinned.get(count.getId());
+                if (entry != null) {
+                    entry.update(count);
+                }
+            }
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // DB 장애 시 조회수는 남겨두고 다음 주기에 다시 반영
+            log.warn("Hot post refresh failed: {}", e.toString());
+        }
+    }
+
+    private void flushViews(Pinned entry) {
+        long delta = entry.pendingViews.sumThenReset();
+        if (delta == 0) {
+            return;
+        }
+        try {
+            this.resilienceRegistry.mysql().run(() -> this.countRepository.addViewCount(entry.snapshot.postId(), delta));
+            flushedViews.add(delta);
+        } catch (RuntimeException e) {
+            entry.pendingViews.add(delta);
+            if (entry != pinned.get(entry.snapshot.postId())) {
+                // 고정 해제된 항목이면 다음 주기에 다시 시도
+                retired.add(entry);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 고정된 게시글. 조회수는 마지막으로 읽은 값 + 아직 DB에 반영하지 않은 조회수
+     */
+    public static final class Pinned {
+        private final PostDetailSnapshot snapshot;
+        private final LongAdder pendingViews = new LongAdder();
+        private final long pinnedAt = System.nanoTime();
+        private volatile long views;
+        private volatile long likes;
+        private volatile long comments;
+
+        Pinned(PostDetailSnapshot snapshot, long views, long likes, long comments) {
+            this.snapshot = snapshot;
+            this.views = views;
+            this.likes = likes;
+            this.comments = comments;
+        }
+
+        public PostDetailSnapshot snapshot() {
+            return snapshot;
+        }
+
+        public void recordView() {
+            pendingViews.increment();
+        }
+
+        public long views() {
+            return views + pendingViews.sum();
+        }
+
+        public long likes() {
+            return likes;
+        }
+
+        public long comments() {
+            return comments;
+        }
+
+        private void update(Count count) {
+            this.views = count.getViewCount();
+            this.likes = count.getLikeCount();
+            this.comments = count.getCommentCount();
+        }
+    }
+
+    public record HotPost(long postId, long estimatedHits, boolean pinned) {
+    }
+
+    public record Stats(int pinned, long hits, long flushedViews, List<HotPost> hot) {
+    }
+}
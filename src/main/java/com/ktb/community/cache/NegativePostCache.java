@@ -0,0 +1,162 @@
+package com.ktb.community.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 존재하지 않거나 삭제된 게시글 ID에 대한 negative cache
+ *
+ * 1. 짧은 TTL의 정확한 집합: 최근 404를 낸 ID는 DB 조회 없이 바로 404
+ * 2. 주기적으로 교체되는 Bloom filter: 오래전에 죽은 ID까지 적은 메모리로 기억
+ *    Bloom filter는 false positive가 있으므로 "아마도 죽은 ID"로만 취급하고,
+ *    호출자가 가벼운 PK 조회로 한 번 더 확인해야 함 (살아있는 게시글이 404가 되지 않도록)
+ */
+@Component
+public class NegativePostCache {
+
+    public enum Lookup {
+        // 확실히 죽은 ID (DB 조회 불필요)
+        DEAD,
+        // Bloom filter에만 걸린 ID (가벼운 확인 필요)
+        MAYBE_DEAD,
+        // 알 수 없음 (정상 조회)
+        UNKNOWN
+    }
+
+    private final Map<Long, Long> recentDead = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxSize;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long rotationNanos;
+
+    // 현재 세대에만 추가하고, 조회는 현재 + 이전 세대 모두 확인
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private final AtomicLong rotatedAt;
+
+    private final LongAdder absorbed = new LongAdder();
+    private final LongAdder bloomConfirmed = new LongAdder();
+    private final LongAdder bloomFalsePositives = new LongAdder();
+    private final LongAdder databaseMisses = new LongAdder();
+
+    @Autowired
+    public NegativePostCache(@Value("${cache.negative-post.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${cache.negative-post.max-size:100000}") int maxSize,
+                             @Value("${cache.negative-post.bloom-expected-insertions:1000000}") long expectedInsertions,
+                             @Value("${cache.negative-post.bloom-false-positive-rate:0.01}") double falsePositiveRate,
+                             @Value("${cache.negative-post.bloom-rotation-minutes:60}") long rotationMinutes) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxSize = maxSize;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rotationNanos = Duration.ofMinutes(rotationMinutes).toNanos();
+        this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.previous = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.rotatedAt = new AtomicLong(System.nanoTime());
+    }
+
+    public Lookup lookup(Long postId) {
+        long now = System.nanoTime();
+        rotateIfDue(now);
+
+        Long expiresAt = recentDead.get(postId);
+        if (expiresAt != null) {
+            if (now < expiresAt) {
+                absorbed.increment();
+                return Lookup.DEAD;
+            }
+            recentDead.remove(postId, expiresAt);
+        }
+
+        long hash = BloomFilter.hash(postId);
+        if (current.mightContain(hash) || previous.mightContain(hash)) {
+            return Lookup.MAYBE_DEAD;
+        }
+        return Lookup.UNKNOWN;
+    }
+
+    /**
+     * DB 조회 결과 존재하지 않거나 삭제된 게시글로 확인된 경우
+     */
+    public void markDead(Long postId) {
+        long now = System.nanoTime();
+        if (recentDead.size() >= maxSize) {
+            evict(now);
+        }
+        recentDead.put(postId, now + ttlNanos);
+        current.put(BloomFilter.hash(postId));
+    }
+
+    /**
+     * Bloom filter 결과를 PK 조회로 확인한 뒤 호출
+     */
+    public void recordBloomCheck(Long postId, boolean dead) {
+        if (dead) {
+            bloomConfirmed.increment();
+            markDead(postId);
+        } else {
+            bloomFalsePositives.increment();
+        }
+    }
+
+    public void recordDatabaseMiss() {
+        databaseMisses.increment();
+    }
+
+    /**
+     * 게시글이 새로 생성된 경우, 미리 조회됐던 ID라면 negative cache에서 제거
+     * Bloom filter에서는 지울 수 없지만 MAYBE_DEAD는 항상 DB로 확인하므로 문제없음
+     */
+    public void markCreated(Long postId) {
+        recentDead.remove(postId);
+    }
+
+    public Stats stats() {
+        long absorbedCount = absorbed.sum();
+        long bloomCount = bloomConfirmed.sum();
+        long dbMissCount = databaseMisses.sum();
+        long totalMisses = absorbedCount + bloomCount + dbMissCount;
+        double absorbedRate = totalMisses == 0 ? 0.0 : (double) absorbedCount / totalMisses;
+        return new Stats(absorbedCount, bloomCount, bloomFalsePositives.sum(), dbMissCount, absorbedRate, recentDead.size());
+    }
+
+    private void rotateIfDue(long now) {
+        long last = rotatedAt.get();
+        if (now - last < rotationNanos || !rotatedAt.compareAndSet(last, now)) {
+            return;
+        }
+        previous = current;
+        current = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private void evict(long now) {
+        recentDead.entrySet().removeIf(e -> now >= e.getValue());
+
+        Iterator<Long> iterator = recentDead.keySet().iterator();
+        while (recentDead.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * @param absorbed DB 조회 없이 처리한 404 수
+     * @param bloomConfirmed Bloom filter + PK 조회로 처리한 404 수
+     * @param bloomFalsePositives Bloom filter가 살아있는 게시글을 가리킨 횟수
+     * @param databaseMisses 전체 조회 후에야 알게 된 404 수
+     * @param absorbedRate 전체 404 중 DB 조회 없이 처리한 비율
+     * @param size 정확한 집합에 들어있는 ID 수
+     */
+    public record Stats(long absorbed, long bloomConfirmed, long bloomFalsePositives, long databaseMisses,
+                        double absorbedRate, int size) {
+    }
+}
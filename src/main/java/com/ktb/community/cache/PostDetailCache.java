@@ -0,0 +1,34 @@
+package com.ktb.community.cache;
+
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * 게시글 상세 스냅샷 캐시
+ * Presigned URL 유효시간(1시간)보다 충분히 짧은 TTL을 사용해야 함
+ * DB가 일시적으로 응답하지 않으면 이전 스냅샷을 대신 반환
+ */
+@Component
+public class PostDetailCache extends SingleFlightCache<Long, PostDetailSnapshot> {
+
+    @Autowired
+    public PostDetailCache(@Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                           @Value("${cache.post-detail.ttl-seconds:30}") long ttlSeconds,
+                           @Value("${cache.post-detail.stale-seconds:30}") long staleSeconds,
+                           @Value("${cache.post-detail.early-refresh-beta:1.0}") double earlyRefreshBeta,
+                           @Value("${cache.post-detail.max-size:10000}") int maxSize) {
+        super(cacheRefreshExecutor, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(staleSeconds), earlyRefreshBeta, maxSize);
+    }
+
+    @Override
+    protected boolean isTransientFailure(RuntimeException e) {
+        return e instanceof DependencyUnavailableException || e instanceof TransientDataAccessException;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ktb.community.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 상세 조회에서 사용자와 무관한 부분 (게시글 + 작성자 + Presigned 이미지 URL)
+ * 조회수/좋아요 여부처럼 요청마다 달라지는 값은 포함하지 않음
+ */
+public record PostDetailSnapshot(
+        Long postId,
+        String title,
+        String content,
+        Long authorId,
+        String authorNickname,
+        LocalDateTime createdAt,
+        List<String> images
+) {
+}
@@ -0,0 +1,271 @@
+package com.ktb.community.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 동일 키에 대한 동시 miss를 하나의 로드로 합치는(single-flight) 캐시
+ *
+ * - 만료 전: 캐시 값을 반환하되, 로드 비용에 비례한 확률로 미리 백그라운드 갱신 (XFetch)
+ * - 만료 후 stale 구간: 이전 값을 그대로 반환하고 백그라운드에서 한 번만 갱신 (stale-while-revalidate)
+ * - stale 구간도 지난 경우: 동기 로드, 동시에 들어온 요청은 진행 중인 로드 결과를 공유
+ * - 동기 로드가 일시적 장애(isTransientFailure)로 실패하고 이전 값이 남아 있다면 그 값을 반환 (stale-if-error)
+ * - 키 해시로 나눈 stripe마다 접근 순서 LinkedHashMap을 두고, stripe가 가득 차면 가장 오래 조회되지 않은 항목을 지움 (LRU)
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+@Slf4j
+public class SingleFlightCache<K, V> {
+
+    private static final int STRIPE_COUNT = 16;
+
+    private final Stripe<K, V>[] stripes;
+    private final Map<K, Load<V>> inFlight = new ConcurrentHashMap<>();
+    private final Executor refreshExecutor;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final double earlyRefreshBeta;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder staleOnError = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public SingleFlightCache(Executor refreshExecutor, Duration ttl, Duration staleWindow, double earlyRefreshBeta, int maxSize) {
+        this.refreshExecutor = refreshExecutor;
+        this.ttlNanos = ttl.toNanos();
+        this.staleNanos = staleWindow.toNanos();
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        // stripe마다 같은 크기로 나누므로 전체 크기는 maxSize보다 stripe 수만큼 커질 수 있음
+        int maxPerStripe = Math.max(1, (maxSize + STRIPE_COUNT - 1) / STRIPE_COUNT);
+        this.stripes = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe<>(maxPerStripe);
+        }
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 loader로 로드
+     *
+     * @param key 캐시 키
+     * @param loader 값 로더 (같은 키에 대해 동시에 한 번만 실행됨)
+     * @return 캐시된 값 또는 새로 로드한 값
+     */
+    public V get(K key, Function<K, V> loader) {
+        long now = System.nanoTime();
+        Stripe<K, V> stripe = stripeOf(key);
+        Entry<V> entry;
+        synchronized (stripe) {
+            entry = stripe.get(key);
+        }
+
+        if (entry != null) {
+            if (now < entry.expiresAt()) {
+                hits.increment();
+                if (shouldRefreshEarly(entry, now)) {
+                    refreshAsync(key, loader);
+                }
+                return entry.value();
+            }
+            if (now < entry.expiresAt() + staleNanos) {
+                // 만료됐지만 stale 구간 안이라면 이전 값을 돌려주고 백그라운드에서 갱신
+                staleHits.increment();
+                refreshAsync(key, loader);
+                return entry.value();
+            }
+        }
+
+        misses.increment();
+        try {
+            return loadAndJoin(key, loader);
+        } catch (RuntimeException e) {
+            if (entry != null && isTransientFailure(e)) {
+                staleOnError.increment();
+                log.warn("Serving stale value for key {} : {}", key, e.getMessage());
+                return entry.value();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 키를 무효화. 진행 중인 로드가 있다면 그 결과도 캐시에 저장되지 않음
+     *
+     * @param key 캐시 키
+     */
+    public void invalidate(K key) {
+        Load<V> load = inFlight.get(key);
+        if (load != null) {
+            load.invalidated = true;
+        }
+        Stripe<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        inFlight.values().forEach(load -> load.invalidated = true);
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public Stats stats() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return new Stats(hits.sum(), staleHits.sum(), misses.sum(), coalesced.sum(), refreshes.sum(), staleOnError.sum(), size);
+    }
+
+    /**
+     * 로드 실패 시 이전 값을 대신 반환해도 되는 예외인지 판단
+     * 기본값은 false (모든 예외를 그대로 전달). 의존성 장애처럼 일시적인 예외만 true로 재정의할 것
+     */
+    protected boolean isTransientFailure(RuntimeException e) {
+        return false;
+    }
+
+    private V loadAndJoin(K key, Function<K, V> loader) {
+        Load<V> mine = new Load<>();
+        Load<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            // 이미 같은 키를 로드 중이라면 그 결과를 기다림
+            coalesced.increment();
+            return join(existing.future);
+        }
+
+        try {
+            V value = runLoad(key, loader, mine);
+            mine.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void refreshAsync(K key, Function<K, V> loader) {
+        Load<V> mine = new Load<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            // 이미 다른 요청이 갱신 중
+            return;
+        }
+
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    mine.future.complete(runLoad(key, loader, mine));
+                } catch (RuntimeException | Error e) {
+                    log.warn("Background refresh failed for key {} : {}", key, e.getMessage());
+                    mine.future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 스레드가 가득 찼다면 이번 갱신은 포기하고 다음 요청에 맡김
+            inFlight.remove(key, mine);
+            mine.future.completeExceptionally(e);
+        }
+    }
+
+    private V runLoad(K key, Function<K, V> loader, Load<V> load) {
+        long start = System.nanoTime();
+        V value = loader.apply(key);
+        long end = System.nanoTime();
+
+        if (value != null) {
+            Stripe<K, V> stripe = stripeOf(key);
+            // invalidate()도 같은 lock 안에서 지우므로, 확인과 저장 사이에 무효화되어도 이전 값이 다시 들어가지 않음
+            synchronized (stripe) {
+                if (!load.invalidated) {
+                    stripe.put(key, new Entry<>(value, end + ttlNanos, end - start));
+                }
+            }
+        }
+        return value;
+    }
+
+    private Stripe<K, V> stripeOf(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    /**
+     * XFetch: 남은 시간이 (로드 비용 * beta * -ln(rand)) 보다 짧으면 미리 갱신
+     * 로드가 느린 항목일수록 만료 전에 더 일찍 갱신되어 만료 시점의 동시 miss를 피함
+     */
+    private boolean shouldRefreshEarly(Entry<V> entry, long now) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double gap = -entry.loadNanos() * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return now + gap >= entry.expiresAt();
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt, long loadNanos) {
+    }
+
+    /**
+     * 접근 순서 LinkedHashMap. 상한을 넘으면 가장 오래 조회되지 않은 항목을 지움 (get도 순서를 바꾸므로 stripe lock 안에서만 사용)
+     */
+    private static final class Stripe<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private final int maxEntries;
+
+        private Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private static final class Load<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+
+    public record Stats(long hits, long staleHits, long misses, long coalesced, long refreshes, long staleOnError, int size) {
+    }
+}
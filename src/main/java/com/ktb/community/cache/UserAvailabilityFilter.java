@@ -0,0 +1,171 @@
+package com.ktb.community.cache;
+
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.resilience.ResilienceRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * 이메일 중복 확인(입력 중 호출되는 조회 API) 앞단의 Bloom filter
+ *
+ * - 사용 중인 이메일을 Bloom filter에 넣어두고, 없다고 나오면 DB 조회 없이 "사용 가능"
+ *   있을 수도 있다고 나올 때만 DB로 확인 (false positive는 DB가 걸러줌)
+ * - 서버 시작 시 사용자 테이블을 ID 순서로 나눠 읽어서 채움. 끝나기 전에는 항상 DB로 확인
+ * - 이 서버에서 가입한 이메일만 바로 추가됨. 다른 서버에서 방금 가입한 이메일은 재시작 전까지 "사용 가능"으로 나올 수 있으므로
+ *   안내용 조회에만 쓰고, 가입/닉네임 변경처럼 값을 저장하는 경로는 항상 DB로 확인함
+ * - DB 비교(대소문자/악센트 무시)에서 같은 값이 다른 키가 되면 안 되므로, 키는 그보다 넓게 정규화함
+ */
+@Component
+public class UserAvailabilityFilter {
+    private static final Logger log = LoggerFactory.getLogger(UserAvailabilityFilter.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final long BOOTSTRAP_RETRY_SECONDS = 30;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final UserRepository userRepository;
+    private final ResilienceRegistry resilienceRegistry;
+    private final BloomFilter emails;
+    private volatile boolean ready;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder insertions = new LongAdder();
+
+    private final TaskScheduler scheduler;
+    private volatile boolean stopped;
+
+    @Autowired
+    public UserAvailabilityFilter(UserRepository userRepository, ResilienceRegistry resilienceRegistry,
+                                  @Qualifier("backgroundTaskScheduler") TaskScheduler scheduler,
+                                  @Value("${cache.user-availability.expected-users:1000000}") long expectedUsers,
+                                  @Value("${cache.user-availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.resilienceRegistry = resilienceRegistry;
+        this.scheduler = scheduler;
+        this.emails = new BloomFilter(expectedUsers, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.schedule(this::bootstrapSafely, Instant.now());
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * 이메일이 이미 사용 중인지. Bloom filter가 없다고 하면 DB를 조회하지 않음
+     *
+     * @param database 있을 수도 있는 경우에만 호출하는 DB 확인
+     */
+    public boolean emailTaken(String email, BooleanSupplier database) {
+        checks.increment();
+        if (ready && email != null && !emails.mightContain(BloomFilter.hash(key(email)))) {
+            skipped.increment();
+            return false;
+        }
+        boolean exists = database.getAsBoolean();
+        if (ready && !exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    /**
+     * 가입한 경우. 커밋 전에 넣어도 false positive만 늘어나므로 바로 추가
+     */
+    public void addEmail(String email) {
+        if (email != null) {
+            emails.put(BloomFilter.hash(key(email)));
+            insertions.increment();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Stats stats() {
+        long checkCount = checks.sum();
+        long skippedCount = skipped.sum();
+        double skippedRate = checkCount == 0 ? 0.0 : (double) skippedCount / checkCount;
+        return new Stats(ready, checkCount, skippedCount, skippedRate, falsePositives.sum(), insertions.sum(),
+                emails.bitSize());
+    }
+
+    /**
+     * Bloom filter 키: 양끝 공백, 대소문자, 악센트/전각 차이를 없앰
+     */
+    static String key(String value) {
+        String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 사용자 테이블 전체를 읽어서 채움. 그동안의 가입은 같은 Bloom filter에 바로 들어가므로 따로 모을 필요 없음
+     */
+    void bootstrap() {
+        long startedAt = System.currentTimeMillis();
+        long users = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            List<UserIdentity> batch = this.resilienceRegistry.mysql().call(
+                    () -> this.userRepository.findIdentitiesAfter(cursor, PageRequest.of(0, BATCH_SIZE)));
+            for (UserIdentity user : batch) {
+                addEmail(user.email());
+            }
+            users += batch.size();
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            afterId = batch.getLast().id();
+        }
+        ready = true;
+        log.info("User availability filter ready: {} users ({} ms)", users, System.currentTimeMillis() - startedAt);
+    }
+
+    private void bootstrapSafely() {
+        try {
+            bootstrap();
+        } catch (RuntimeException e) {
+            log.warn("User availability filter bootstrap failed, retrying in {}s: {}", BOOTSTRAP_RETRY_SECONDS, e.toString());
+            if (!stopped) {
+                scheduler.schedule(this::bootstrapSafely, Instant.now().plusSeconds(BOOTSTRAP_RETRY_SECONDS));
+            }
+        }
+    }
+
+    /**
+     * @param ready 초기화(사용자 테이블 읽기)가 끝났는지
+     * @param checks 이메일 확인 요청 수
+     * @param skipped 그중 DB 조회 없이 답한 수
+     * @param skippedRate 그중 DB 조회 없이 답한 비율
+     * @param falsePositives Bloom filter는 있다고 했지만 DB에는 없던 수
+     * @param insertions Bloom filter에 넣은 이메일 수
+     * @param bits Bloom filter의 비트 수
+     */
+    public record Stats(boolean ready, long checks, long skipped, double skippedRate, long falsePositives,
+                        long insertions, long bits) {
+    }
+}
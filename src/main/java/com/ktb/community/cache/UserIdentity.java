@@ -0,0 +1,7 @@
+package com.ktb.community.cache;
+
+/**
+ * 이메일 Bloom filter 초기화용 사용자 정보 (탈퇴한 사용자도 포함)
+ */
+public record UserIdentity(Long id, String email) {
+}
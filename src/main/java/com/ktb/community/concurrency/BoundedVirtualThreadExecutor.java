@@ -0,0 +1,38 @@
+package com.ktb.community.concurrency;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 작업마다 가상 스레드를 만들되, 동시에 실행되는 작업 수는 제한하는 Executor
+ *
+ * 가상 스레드는 풀링하지 않는 것이 원칙이므로 ThreadPoolTaskExecutor 대신 사용.
+ * 한도를 넘으면 호출자를 막지 않고 RejectedExecutionException을 던짐 (기존 스레드 풀의 큐가 가득 찼을 때와 같은 동작)
+ */
+public class BoundedVirtualThreadExecutor implements Executor {
+
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+
+    public BoundedVirtualThreadExecutor(String namePrefix, int maxConcurrentTasks) {
+        this.permits = new Semaphore(maxConcurrentTasks);
+        this.threadFactory = Thread.ofVirtual().name(namePrefix, 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Too many running tasks");
+        }
+        Thread thread = threadFactory.newThread(() -> {
+            try {
+                command.run();
+            } finally {
+                permits.release();
+            }
+        });
+        thread.start();
+    }
+}
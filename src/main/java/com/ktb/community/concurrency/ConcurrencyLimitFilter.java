@@ -0,0 +1,196 @@
+package com.ktb.community.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.community.dto.response.ApiResponseDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 동시에 처리 중인 요청 수를 관측한 지연 시간에 맞춰 제한하는 필터
+ *
+ * Tomcat 스레드가 DB 커넥션 풀이나 S3 호출 뒤에 쌓여서 모두가 느려지기 전에,
+ * 한도를 넘은 요청은 잠깐 대기시키고 그래도 자리가 없으면 503으로 바로 거절함
+ * Spring Security보다 먼저 실행되어 거절할 요청에는 인증 비용도 쓰지 않음
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final VegasLimit limit;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queuedTotal = new LongAdder();
+
+    @Autowired
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.limit = new VegasLimit(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit(), properties.getProbeIntervalSamples());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = pathOf(request);
+        boolean priority = properties.getPriorityPaths().contains(path);
+        boolean excluded = priority || properties.getLatencyExcludedPaths().contains(path);
+
+        if (!acquire(priority)) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+
+        int inFlightAtStart = inFlight.get();
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } catch (IOException | ServletException | RuntimeException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            int limitBefore = limit.getLimit();
+            // 비동기 요청(SSE 등)은 처리 시간이 연결 유지 시간이므로 지연 시간 샘플에서 제외
+            if (!request.isAsyncStarted() && isLatencySample(excluded, dropped, response.getStatus())) {
+                limit.onSample(System.nanoTime() - start, inFlightAtStart, dropped);
+            }
+            // 자리가 하나 났거나 한도가 늘었으면 대기 중인 요청을 깨움
+            wakeWaiters(limit.getLimit() > limitBefore);
+        }
+    }
+
+    /**
+     * 한도 계산에 쓸 요청인지
+     * 우선순위 요청(/health), 메모리에서 응답하는 경로(/posts/head, /changes), 304, negative cache 404처럼
+     * DB를 거치지 않는 빠른 응답이 rtt_noload가 되면 실제 요청은 모두 대기열에 있는 것처럼 보여 한도가 최솟값까지 떨어지므로,
+     * 그 외 요청의 2xx와 실패만 사용
+     *
+     * @param excluded 우선순위 경로이거나 latencyExcludedPaths에 포함된 경로인지
+     */
+    static boolean isLatencySample(boolean excluded, boolean dropped, int status) {
+        if (excluded) {
+            return false;
+        }
+        return dropped || (status >= 200 && status < 300);
+    }
+
+    public Stats stats() {
+        return new Stats(limit.getLimit(), inFlight.get(), queued.get(), queuedTotal.sum(), rejected.sum());
+    }
+
+    private String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private boolean acquire(boolean priority) {
+        int extra = priority ? properties.getPriorityReserve() : 0;
+        if (tryAcquire(limit.getLimit() + extra)) {
+            return true;
+        }
+
+        // 대기열도 가득 찼다면 바로 거절
+        if (queued.incrementAndGet() > properties.getMaxQueue()) {
+            queued.decrementAndGet();
+            return false;
+        }
+        queuedTotal.increment();
+
+        long remaining = TimeUnit.MILLISECONDS.toNanos(properties.getMaxQueueWaitMillis());
+        lock.lock();
+        try {
+            while (!tryAcquire(limit.getLimit() + extra)) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+            queued.decrementAndGet();
+        }
+    }
+
+    private boolean tryAcquire(int max) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 요청을 모두 깨움
+     * 일반 요청과 우선순위 요청은 기준(limit, limit + priorityReserve)이 달라서 하나만 깨우면
+     * 조건을 만족하지 못하는 요청이 깨어나고 우선순위 요청은 계속 잠들어 있을 수 있음
+     */
+    private void wakeWaiters(boolean limitGrew) {
+        if (queued.get() > 0 || limitGrew) {
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) {
+        try {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(objectMapper.writeValueAsString(ApiResponseDto.error("Server is busy. Please try again later.")));
+        } catch (IOException e) {
+            log.error("error", e);
+        }
+    }
+
+    /**
+     * @param limit 현재 동시 처리 한도
+     * @param inFlight 현재 처리 중인 요청 수
+     * @param queued 현재 대기 중인 요청 수
+     * @param queuedTotal 누적 대기 요청 수
+     * @param rejected 누적 거절(503) 수
+     */
+    public record Stats(int limit, int inFlight, int queued, long queuedTotal, long rejected) {
+    }
+}
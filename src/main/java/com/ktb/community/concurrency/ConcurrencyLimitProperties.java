@@ -0,0 +1,37 @@
+package com.ktb.community.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+@Getter
+@Setter
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    // 동시 처리 한도의 시작값과 범위 (관측한 지연 시간에 따라 이 범위 안에서 조정됨)
+    private int initialLimit = 50;
+    private int minLimit = 10;
+    private int maxLimit = 400;
+
+    // 한도를 넘은 요청을 대기시킬 최대 개수와 최대 대기 시간
+    private int maxQueue = 100;
+    private long maxQueueWaitMillis = 200;
+
+    // 최소 지연 시간(rtt_noload)을 다시 측정하는 주기 (샘플 수)
+    private int probeIntervalSamples = 1000;
+
+    // 우선 처리 경로는 한도를 넘어도 이만큼 더 허용
+    private int priorityReserve = 20;
+    private List<String> priorityPaths = new ArrayList<>(List.of("/health", "/auth/refresh-access-token"));
+
+    // DB를 거치지 않고 메모리에서 응답하는 경로는 지연 시간 샘플에서 제외 (rtt_noload가 낮아져 한도가 줄어드는 것을 막음)
+    private List<String> latencyExcludedPaths = new ArrayList<>(List.of("/posts/head", "/changes"));
+}
@@ -0,0 +1,144 @@
+package com.ktb.community.concurrency;
+
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 한 요청 안에서 서로 의존하지 않는 조회를 가상 스레드로 동시에 실행하기 위한 구조적 fan-out
+ *
+ * Java 21의 StructuredTaskScope는 preview API라서 같은 규칙을 직접 구현함
+ * - 모든 하위 작업은 open()으로 연 Scope 안에서만 실행되고, Scope를 닫으면 끝나지 않은 작업은 취소(interrupt)됨
+ * - 하나라도 실패하면 나머지 작업을 취소하고 그 예외를 그대로 던짐 (ShutdownOnFailure)
+ * - 요청 단위 deadline을 넘기면 모두 취소하고 DependencyUnavailableException
+ * - 하위 작업은 트랜잭션에 묶이지 않으므로 트랜잭션 안에서 JDBC 조회를 fork하지 말 것
+ *   (요청 스레드가 커넥션을 잡은 채 하위 작업이 커넥션을 또 기다리면 pool이 고갈됐을 때 교착)
+ *
+ * 사용 예:
+ * <pre>
+ * try (FanOutExecutor.Scope scope = fanOutExecutor.open()) {
+ *     FanOutExecutor.Subtask&lt;A&gt; a = scope.fork(() -> loadA());
+ *     FanOutExecutor.Subtask&lt;B&gt; b = scope.fork(() -> loadB());
+ *     scope.join();
+ *     return combine(a.get(), b.get());
+ * }
+ * </pre>
+ */
+@Component
+public class FanOutExecutor {
+
+    private final ExecutorService executor;
+    private final long deadlineNanos;
+
+    @Autowired
+    public FanOutExecutor(@Value("${fan-out.deadline-millis:2000}") long deadlineMillis) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+        this.deadlineNanos = Duration.ofMillis(deadlineMillis).toNanos();
+    }
+
+    public Scope open() {
+        return new Scope(System.nanoTime() + deadlineNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public interface Subtask<T> {
+        /**
+         * join()이 성공한 뒤에만 호출할 것
+         */
+        T get();
+    }
+
+    public final class Scope implements AutoCloseable {
+        private final long deadline;
+        private final List<Future<?>> running = new ArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        // fork 중에 먼저 끝난 작업이 done을 완료시키지 않도록 join() 전까지 1을 더 들고 있음
+        private final AtomicInteger remaining = new AtomicInteger(1);
+        private boolean joined;
+
+        private Scope(long deadline) {
+            this.deadline = deadline;
+        }
+
+        public <T> Subtask<T> fork(Supplier<T> task) {
+            if (joined) {
+                throw new IllegalStateException("Cannot fork after join");
+            }
+            CompletableFuture<T> result = new CompletableFuture<>();
+            remaining.incrementAndGet();
+            running.add(executor.submit(() -> {
+                try {
+                    result.complete(task.get());
+                    if (remaining.decrementAndGet() == 0) {
+                        done.complete(null);
+                    }
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                    // 첫 번째 실패만 기록되고, 나머지 작업은 더 기다리지 않음
+                    done.completeExceptionally(e);
+                }
+            }));
+            return result::join;
+        }
+
+        /**
+         * 모든 하위 작업이 끝날 때까지 대기
+         * 실패한 작업이 있으면 나머지를 취소하고 그 예외를, deadline을 넘기면 DependencyUnavailableException을 던짐
+         */
+        public void join() {
+            joined = true;
+            if (remaining.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+            try {
+                done.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                cancelAll();
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                cancelAll();
+                throw new DependencyUnavailableException("Request deadline exceeded. Please try again later.");
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new DependencyUnavailableException("Request was interrupted.");
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            for (Future<?> future : running) {
+                future.cancel(true);
+            }
+        }
+    }
+}
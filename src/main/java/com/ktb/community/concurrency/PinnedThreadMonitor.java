@@ -0,0 +1,131 @@
+package com.ktb.community.concurrency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드의 carrier 스레드 고정(pinning)을 감지
+ *
+ * 가상 스레드가 synchronized 블록 안이나 native 호출 중에 블로킹되면 carrier 스레드에서 내려오지 못하고
+ * carrier를 붙잡은 채 기다림. carrier 수는 CPU 코어 수 정도라서 이런 지점이 많으면 가상 스레드의 이점이 사라짐
+ * (예: synchronized를 사용하는 오래된 JDBC 드라이버)
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 구독해서 고정이 발생한 코드 위치별로 집계하고, 위치마다 처음 한 번 경고 로그를 남김
+ */
+@Slf4j
+@Component
+public class PinnedThreadMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 100;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private RecordingStream stream;
+
+    @Autowired
+    public PinnedThreadMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                               @Value("${virtual-threads.pinning.threshold-millis:20}") long thresholdMillis) {
+        this.enabled = virtualThreads;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+        } catch (Exception e) {
+            // JFR을 쓸 수 없는 환경이라도 애플리케이션은 정상 기동
+            log.warn("Virtual thread pinning monitor disabled : {}", e.getMessage());
+            stream = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public Stats stats() {
+        Map<String, Long> topSites = new LinkedHashMap<>();
+        pinnedBySite.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(10)
+                .forEach(e -> topSites.put(e.getKey(), e.getValue().sum()));
+        return new Stats(enabled, stream != null, pinnedEvents.sum(), pinnedNanos.sum() / 1_000_000, topSites);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+
+        String site = pinnedSite(event.getStackTrace());
+        LongAdder count = pinnedBySite.get(site);
+        if (count == null) {
+            if (pinnedBySite.size() >= MAX_SITES) {
+                site = "(other)";
+            }
+            LongAdder created = new LongAdder();
+            count = pinnedBySite.putIfAbsent(site, created);
+            if (count == null) {
+                count = created;
+                log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+            }
+        }
+        count.increment();
+    }
+
+    /**
+     * 스택에서 JDK 내부가 아닌 첫 프레임을 고정 위치로 사용 (보통 synchronized를 잡고 있는 라이브러리/애플리케이션 코드)
+     */
+    private String pinnedSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(unknown)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? "(unknown)" : frames.getFirst().getMethod().getType().getName();
+    }
+
+    /**
+     * @param virtualThreads 가상 스레드 모드 여부
+     * @param monitoring JFR 구독 중인지 여부
+     * @param pinnedEvents 임계값보다 오래 고정된 횟수
+     * @param pinnedMillis 고정된 시간 합계(ms)
+     * @param topSites 고정이 많이 발생한 코드 위치 (최대 10개)
+     */
+    public record Stats(boolean virtualThreads, boolean monitoring, long pinnedEvents, long pinnedMillis,
+                        Map<String, Long> topSites) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.ktb.community.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TCP Vegas 방식의 동시 처리 한도 계산
+ *
+ * 부하가 없을 때의 지연 시간(rtt_noload)과 현재 지연 시간을 비교해 대기열 길이를 추정
+ *   queue = limit * (1 - rtt_noload / rtt)
+ * 추정 대기열이 짧으면 한도를 늘리고, 길면 줄임. 오류(5xx)가 나면 바로 줄임
+ * rtt_noload는 모든 샘플의 최솟값이므로 DB를 거치지 않는 빠른 응답은 넘기지 않아야 함 (ConcurrencyLimitFilter.isLatencySample)
+ */
+public class VegasLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int probeIntervalSamples;
+    // synchronized 대신 ReentrantLock을 사용 (가상 스레드 carrier pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+    private long rttNoLoad;
+    private long samples;
+
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit, int probeIntervalSamples) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeIntervalSamples = probeIntervalSamples;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 요청 하나가 끝났을 때 호출
+     *
+     * @param rttNanos 요청 처리 시간
+     * @param inFlight 요청 시작 시점의 동시 처리 수
+     * @param dropped 5xx 등으로 실패했는지 여부
+     */
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (probeIntervalSamples > 0 && ++samples % probeIntervalSamples == 0) {
+                // 주기적으로 최소 지연 시간을 다시 잼 (DB나 네트워크 상황이 바뀌었을 수 있으므로)
+                rttNoLoad = 0;
+            }
+            if (rttNoLoad == 0 || rttNanos < rttNoLoad) {
+                rttNoLoad = rttNanos;
+                return;
+            }
+
+            int current = limit;
+            double log = Math.max(1.0, Math.log10(current));
+            double newLimit;
+
+            if (dropped) {
+                newLimit = current - log;
+            } else if (inFlight * 2 < current) {
+                // 한도의 절반도 사용하지 않는 상태에서는 지연 시간만으로 한도를 늘리지 않음
+                return;
+            } else {
+                double queue = Math.ceil(current * (1.0 - (double) rttNoLoad / rttNanos));
+                double threshold = log;
+                double alpha = 3 * log;
+                double beta = 6 * log;
+
+                if (queue <= threshold) {
+                    newLimit = current + beta;
+                } else if (queue < alpha) {
+                    newLimit = current + log;
+                } else if (queue > beta) {
+                    newLimit = current - log;
+                } else {
+                    return;
+                }
+            }
+
+            limit = (int) Math.max(minLimit, Math.min(maxLimit, newLimit));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
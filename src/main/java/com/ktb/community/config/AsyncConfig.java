@@ -0,0 +1,79 @@
+package com.ktb.community.config;
+
+import com.ktb.community.concurrency.BoundedVirtualThreadExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 캐시 백그라운드 갱신 전용 스레드 풀
+    // 요청 스레드와 분리해서 갱신이 몰려도 요청 처리에 영향을 주지 않도록 함
+    // 가상 스레드 모드에서는 작업마다 가상 스레드를 만들고 동시 실행 수만 제한
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return new BoundedVirtualThreadExecutor("cache-refresh-", 100);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    // SSE 카운트 이벤트 전송 전용
+    // 구독자는 대기 중에 스레드를 쓰지 않고, 보낼 이벤트가 있을 때만 잠깐 사용함. 가득 차면 다음 flush에 재시도
+    @Bean(name = "liveCountExecutor")
+    public Executor liveCountExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return new BoundedVirtualThreadExecutor("live-count-", 1000);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("live-count-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 팔로잉 피드 fan-out-on-write 전용
+    // 게시글 작성 요청은 팔로워 수와 관계없이 바로 응답하고, 팔로워 타임라인 갱신은 여기서 처리함
+    @Bean(name = "timelineFanOutExecutor")
+    public Executor timelineFanOutExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return new BoundedVirtualThreadExecutor("timeline-fan-out-", 100);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("timeline-fan-out-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 인덱스 초기화(bootstrap), 주기적인 갱신/flush/스냅샷 같은 백그라운드 작업 공용 스케줄러
+    // 컴포넌트마다 스레드를 따로 만들지 않고, 컨텍스트가 닫힐 때 Spring이 한 번에 종료함
+    // 시작 직후 인덱스 초기화 몇 개가 동시에 돌아도 주기 작업이 밀리지 않도록 여유를 둠
+    @Bean(name = "backgroundTaskScheduler")
+    public ThreadPoolTaskScheduler backgroundTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(6);
+        scheduler.setThreadNamePrefix("background-");
+        // 취소된 주기 작업이 큐에 남지 않도록 함
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
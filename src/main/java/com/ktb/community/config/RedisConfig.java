@@ -1,13 +1,22 @@
 package com.ktb.community.config;
 
+import com.ktb.community.cache.ContentVersionIndex;
+import com.ktb.community.live.LiveCountHub;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
 @Configuration
 public class RedisConfig {
     @Value("${spring.data.redis.host}")
@@ -16,9 +25,17 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // 명령 하나의 최대 대기 시간. Redis가 멈추면 요청 스레드가 무한정 기다리지 않도록 함
+    @Value("${redis.command-timeout-millis:500}")
+    private long commandTimeoutMillis;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(commandTimeoutMillis))
+                .build();
+
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
     }
 
     @Bean
@@ -31,4 +48,20 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    // 다른 노드에서 발행한 변경을 받음
+    // - 좋아요/댓글 수: SSE 구독자에게 전달
+    // - 콘텐츠 버전: ETag 버전을 올려서 이 노드가 바뀐 내용에 304를 주지 않도록 함
+    @Bean
+    public RedisMessageListenerContainer relayListenerContainer(LiveCountHub liveCountHub, ContentVersionIndex contentVersionIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(
+                (message, pattern) -> liveCountHub.onRelayMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(LiveCountHub.CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> contentVersionIndex.onRelayMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(ContentVersionIndex.CHANNEL));
+        return container;
+    }
 }
@@ -7,10 +7,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "aws.s3")
 @Getter
@@ -22,6 +25,9 @@ public class S3Config {
     private String accessKey;
     private String secretKey;
     private int presignedUrlExpiration;
+    // 재시도를 포함한 API 호출 전체 timeout / 시도 한 번의 timeout
+    private long apiCallTimeoutMillis = 3000;
+    private long apiCallAttemptTimeoutMillis = 1000;
 
     @Bean
     public S3Client s3Client() {
@@ -30,6 +36,10 @@ public class S3Config {
         return S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMillis))
+                        .apiCallAttemptTimeout(Duration.ofMillis(apiCallAttemptTimeoutMillis))
+                        .build())
                 .build();
     }
 
@@ -40,9 +40,11 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))// 세션을 무상태로 저장 JWT를 사용하므로 세션을 서버에 저장 X
                 .authorizeHttpRequests(auth ->
                         auth.requestMatchers("/auth/**", "/users/check-email", "/health", "/css/**", "/js/**", "/favicon.ico").permitAll()
+                                .requestMatchers("/admin/**").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 )// URL별로 인가 정책을 결정
                 // /auth/나 /user/check-email은 인증 X
+                // /admin/ (내부 통계)은 admin.emails에 있는 관리자만
                 // 나머지 URL은 인증이 필요함
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         //Spring Security의 기존 인증 필터 체인 앞에 JWT필터를 추가
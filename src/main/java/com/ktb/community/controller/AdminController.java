@@ -0,0 +1,113 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.cache.HotPostCache;
+import com.ktb.community.cache.NegativePostCache;
+import com.ktb.community.cache.PostDetailCache;
+import com.ktb.community.cache.UserAvailabilityFilter;
+import com.ktb.community.concurrency.ConcurrencyLimitFilter;
+import com.ktb.community.concurrency.PinnedThreadMonitor;
+import com.ktb.community.dto.response.ApiResponseDto;
+import com.ktb.community.live.LiveCountHub;
+import com.ktb.community.resilience.DependencyGuard;
+import com.ktb.community.resilience.ResilienceRegistry;
+import com.ktb.community.search.NicknameIndex;
+import com.ktb.community.search.SearchIndex;
+import com.ktb.community.spam.ContentFilter;
+import com.ktb.community.spam.NearDuplicateFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+    private final PostDetailCache postDetailCache;
+    private final NegativePostCache negativePostCache;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final ResilienceRegistry resilienceRegistry;
+    private final PinnedThreadMonitor pinnedThreadMonitor;
+    private final LiveCountHub liveCountHub;
+    private final HotPostCache hotPostCache;
+    private final SearchIndex searchIndex;
+    private final NearDuplicateFilter nearDuplicateFilter;
+    private final ContentFilter contentFilter;
+    private final NicknameIndex nicknameIndex;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+
+    @Autowired
+    public AdminController(PostDetailCache postDetailCache, NegativePostCache negativePostCache, ConcurrencyLimitFilter concurrencyLimitFilter, ResilienceRegistry resilienceRegistry, PinnedThreadMonitor pinnedThreadMonitor,
+                           LiveCountHub liveCountHub, HotPostCache hotPostCache, SearchIndex searchIndex, NearDuplicateFilter nearDuplicateFilter, ContentFilter contentFilter,
+                           NicknameIndex nicknameIndex, UserAvailabilityFilter userAvailabilityFilter) {
+        this.postDetailCache = postDetailCache;
+        this.negativePostCache = negativePostCache;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.resilienceRegistry = resilienceRegistry;
+        this.pinnedThreadMonitor = pinnedThreadMonitor;
+        this.liveCountHub = liveCountHub;
+        this.hotPostCache = hotPostCache;
+        this.searchIndex = searchIndex;
+        this.nearDuplicateFilter = nearDuplicateFilter;
+        this.contentFilter = contentFilter;
+        this.nicknameIndex = nicknameIndex;
+        this.userAvailabilityFilter = userAvailabilityFilter;
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<ApiResponseDto<Map<String, Object>>> getCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("post_detail", this.postDetailCache.stats());
+        stats.put("negative_post", this.negativePostCache.stats());
+        stats.put("user_availability", this.userAvailabilityFilter.stats());
+        return ResponseEntity.ok(ApiResponseDto.success(stats));
+    }
+
+    @GetMapping("/concurrency")
+    public ResponseEntity<ApiResponseDto<ConcurrencyLimitFilter.Stats>> getConcurrencyStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.concurrencyLimitFilter.stats()));
+    }
+
+    @GetMapping("/dependencies")
+    public ResponseEntity<ApiResponseDto<Map<String, DependencyGuard.Stats>>> getDependencyStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.resilienceRegistry.stats()));
+    }
+
+    @GetMapping("/threads")
+    public ResponseEntity<ApiResponseDto<PinnedThreadMonitor.Stats>> getThreadStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.pinnedThreadMonitor.stats()));
+    }
+
+    @GetMapping("/live")
+    public ResponseEntity<ApiResponseDto<LiveCountHub.Stats>> getLiveCountStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.liveCountHub.stats()));
+    }
+
+    @GetMapping("/hot-posts")
+    public ResponseEntity<ApiResponseDto<HotPostCache.Stats>> getHotPosts() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.hotPostCache.stats()));
+    }
+
+    @GetMapping("/search-index")
+    public ResponseEntity<ApiResponseDto<SearchIndex.Stats>> getSearchIndexStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.searchIndex.stats()));
+    }
+
+    @GetMapping("/nickname-index")
+    public ResponseEntity<ApiResponseDto<NicknameIndex.Stats>> getNicknameIndexStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.nicknameIndex.stats()));
+    }
+
+    @GetMapping("/spam")
+    public ResponseEntity<ApiResponseDto<NearDuplicateFilter.Stats>> getSpamStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.nearDuplicateFilter.stats()));
+    }
+
+    @GetMapping("/content-filter")
+    public ResponseEntity<ApiResponseDto<ContentFilter.Stats>> getContentFilterStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(this.contentFilter.stats()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.live.LiveCountHub;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 좋아요/댓글 수 실시간 갱신 (Server-Sent Events)
+ * 상세 화면은 ids에 게시글 하나, 목록 화면은 화면에 보이는 게시글들을 넣어 구독
+ */
+@RestController
+public class LiveCountController {
+    private final LiveCountHub liveCountHub;
+
+    @Autowired
+    public LiveCountController(LiveCountHub liveCountHub) {
+        this.liveCountHub = liveCountHub;
+    }
+
+    // 예: GET /posts/live?ids=1,2,3 (최대 100개)
+    // event: counts, data: [{"postId":1,"likes":10,"comments":3}, ...]
+    @GetMapping(value = "/posts/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam List<Long> ids) {
+        SseEmitter emitter = this.liveCountHub.subscribe(ids);
+        // nginx 등 리버스 프록시가 이벤트를 버퍼링하지 않도록 함
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.dto.response.ApiResponseDto;
+import com.ktb.community.dto.response.LikeStatusResponseDto;
+import com.ktb.community.dto.response.PostBatchResponseDto;
+import com.ktb.community.service.LikeService;
+import com.ktb.community.service.PostService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 다건 조회 API
+ * "/posts:batch" 처럼 컬렉션 뒤에 붙는 경로는 클래스 단위 @RequestMapping("/posts")와 합치면 "/posts/:batch"가 되므로 별도 컨트롤러로 분리
+ */
+@RestController
+public class PostBatchController {
+    private final PostService postService;
+    private final LikeService likeService;
+
+    @Autowired
+    public PostBatchController(PostService postService, LikeService likeService) {
+        this.postService = postService;
+        this.likeService = likeService;
+    }
+
+    // 예: GET /posts:batch?ids=1,2,3 (최대 100개)
+    @GetMapping("/posts:batch")
+    public ResponseEntity<ApiResponseDto<PostBatchResponseDto>> getPosts(@RequestParam List<Long> ids, Authentication authentication) {
+        String email = authentication.getName();
+        PostBatchResponseDto result = this.postService.getPostsByIds(ids, email);
+        return ResponseEntity.ok().body(ApiResponseDto.success(result));
+    }
+
+    // 예: GET /likes:batch?ids=1,2,3 (최대 500개)
+    @GetMapping("/likes:batch")
+    public ResponseEntity<ApiResponseDto<LikeStatusResponseDto>> getLikeStatus(@RequestParam List<Long> ids, Authentication authentication) {
+        String email = authentication.getName();
+        LikeStatusResponseDto result = this.likeService.getLikeStatus(ids, email);
+        return ResponseEntity.ok().body(ApiResponseDto.success(result));
+    }
+}
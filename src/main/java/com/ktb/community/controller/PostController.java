@@ -1,5 +1,6 @@
 package com.ktb.community.controller;
 
+import com.ktb.community.cache.ContentVersionIndex;
 import com.ktb.community.dto.request.CreateCommentRequestDto;
 import com.ktb.community.dto.request.CreatePostRequestDto;
 import com.ktb.community.dto.request.ModifyPostRequestDto;
@@ -8,12 +9,15 @@ import com.ktb.community.dto.response.*;
 import com.ktb.community.service.CommentService;
 import com.ktb.community.service.LikeService;
 import com.ktb.community.service.PostService;
+import com.ktb.community.service.PostViewService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/posts")
@@ -21,39 +25,135 @@ public class PostController {
     private final PostService postService;
     private final CommentService commentService;
     private final LikeService likeService;
+    private final PostViewService postViewService;
+    private final ContentVersionIndex contentVersionIndex;
 
     @Autowired
-    public PostController(PostService postService, CommentService commentService, LikeService likeService) {
+    public PostController(PostService postService, CommentService commentService, LikeService likeService, PostViewService postViewService,
+                          ContentVersionIndex contentVersionIndex) {
         this.postService = postService;
         this.commentService = commentService;
         this.likeService = likeService;
+        this.postViewService = postViewService;
+        this.contentVersionIndex = contentVersionIndex;
     }
 
     @GetMapping()
     public ResponseEntity<ApiResponseDto<CursorPageResponseDto<PostResponseDto>>> getPosts(
             @RequestParam(required = false) Long cursor,
             @RequestParam(defaultValue = "20") int size,
-            Authentication authentication
+            Authentication authentication,
+            WebRequest webRequest
     ) {
         String email = authentication.getName();
+        // 조회 전에 ETag를 계산해야 그 사이 바뀐 내용에 이전 ETag가 붙지 않음
+        String etag = contentVersionIndex.feedETag(cursor, size, email);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         CursorPageResponseDto<PostResponseDto> result = postService.getPostList(cursor, size, email);
-        return ResponseEntity.ok(ApiResponseDto.success(result));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponseDto.success(result));
+    }
+
+    // 팔로우한 사용자의 게시글만 최신순으로 조회
+    @GetMapping("/following")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<PostResponseDto>>> getFollowingPosts(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication
+    ) {
+        CursorPageResponseDto<PostResponseDto> result = this.postService.getFollowingFeed(cursor, size, authentication.getName());
+        return ResponseEntity.ok().body(ApiResponseDto.success(result));
+    }
+
+    // 나를 @닉네임으로 언급한 게시글 (최신순)
+    @GetMapping("/mentions")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<PostResponseDto>>> getMentionedPosts(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Positive int size,
+            Authentication authentication
+    ) {
+        CursorPageResponseDto<PostResponseDto> result = this.postService.getMentionedPosts(cursor, size, authentication.getName());
+        return ResponseEntity.ok().body(ApiResponseDto.success(result));
+    }
+
+    // 최근 조회/좋아요/댓글이 많은 순. cursor는 이전 응답의 next_cursor(순위 위치)
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<PostResponseDto>>> getTrendingPosts(
+            @RequestParam(required = false) @PositiveOrZero Long cursor,
+            @RequestParam(defaultValue = "20") @Positive int size,
+            Authentication authentication
+    ) {
+        CursorPageResponseDto<PostResponseDto> result = this.postService.getTrendingPosts(cursor, size, authentication.getName());
+        return ResponseEntity.ok().body(ApiResponseDto.success(result));
+    }
+
+    // 제목/본문/댓글 검색 (관련도 순). cursor는 이전 응답의 next_cursor(순위 위치)
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<PostResponseDto>>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) @PositiveOrZero Long cursor,
+            @RequestParam(defaultValue = "20") @Positive int size,
+            Authentication authentication
+    ) {
+        CursorPageResponseDto<PostResponseDto> result = this.postService.searchPosts(q, cursor, size, authentication.getName());
+        return ResponseEntity.ok().body(ApiResponseDto.success(result));
+    }
+
+    // 예: GET /posts/head?since=123 → 123번 이후 새 게시글 수 (DB 조회 없음)
+    @GetMapping("/head")
+    public ResponseEntity<ApiResponseDto<FeedHeadResponseDto>> getFeedHead(@RequestParam @PositiveOrZero Long since) {
+        FeedHeadResponseDto head = this.postService.getFeedHead(since);
+        return ResponseEntity.ok().body(ApiResponseDto.success(head));
     }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponseDto<PostDetailResponseDto>> getPostDetail(@PathVariable @Positive Long postId, Authentication authentication) {
+    public ResponseEntity<ApiResponseDto<PostDetailResponseDto>> getPostDetail(@PathVariable @Positive Long postId, Authentication authentication,
+                                                                             WebRequest webRequest) {
         String email = authentication.getName();
+        // 304인 경우 DB 조회도, 조회수 증가도 하지 않음
+        String etag = this.contentVersionIndex.postETag(postId, email);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         PostDetailResponseDto post = this.postService.getPostContent(postId, email);
-        return ResponseEntity.ok().body(ApiResponseDto.success(post));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponseDto.success(post));
+    }
+
+    // 순 조회자 수 (같은 사용자의 반복 조회는 한 번만 집계)
+    @GetMapping("/{postId}/viewers")
+    public ResponseEntity<ApiResponseDto<UniqueViewersResponseDto>> getUniqueViewers(@PathVariable @Positive Long postId) {
+        UniqueViewersResponseDto viewers = this.postService.getUniqueViewers(postId);
+        return ResponseEntity.ok().body(ApiResponseDto.success(viewers));
+    }
+
+    // 게시글 상세 + 댓글 첫 페이지를 한 번에 조회 (게시글 화면 진입용)
+    @GetMapping("/{postId}/view")
+    public ResponseEntity<ApiResponseDto<PostViewResponseDto>> getPostView(@PathVariable @Positive Long postId,
+                                                                         @RequestParam(defaultValue = "5") int size,
+                                                                         Authentication authentication,
+                                                                         WebRequest webRequest) {
+        String email = authentication.getName();
+        String etag = this.contentVersionIndex.postViewETag(postId, size, email);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        PostViewResponseDto postView = this.postViewService.getPostView(postId, size, email);
+        return ResponseEntity.ok().eTag(etag).body(ApiResponseDto.success(postView));
     }
 
     @GetMapping("/{postId}/comments")
     public ResponseEntity<ApiResponseDto<?>> getComment(@PathVariable Long postId, @RequestParam(required = false) Long cursor,
-                                                        @RequestParam(defaultValue = "5") int size, Authentication authentication) {
+                                                        @RequestParam(defaultValue = "5") int size, Authentication authentication,
+                                                        WebRequest webRequest) {
         String email = authentication.getName();
+        String etag = this.contentVersionIndex.commentsETag(postId, cursor, size, email);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         CursorCommentResponseDto<CommentResponseDto> cursorCommentResponseDto = this.commentService.getCommentList(postId, cursor, size, email);
-        return ResponseEntity.ok().body(ApiResponseDto.success(cursorCommentResponseDto));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponseDto.success(cursorCommentResponseDto));
     }
 
     @PostMapping()
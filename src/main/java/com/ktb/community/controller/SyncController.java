@@ -0,0 +1,28 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.dto.response.ApiResponseDto;
+import com.ktb.community.dto.response.ChangeFeedResponseDto;
+import com.ktb.community.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class SyncController {
+    private final SyncService syncService;
+
+    @Autowired
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    // 예: GET /changes?since=1730000000000123&limit=500
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponseDto<ChangeFeedResponseDto>> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                                           @RequestParam(defaultValue = "500") int limit) {
+        ChangeFeedResponseDto result = this.syncService.getChanges(since, limit);
+        return ResponseEntity.ok().body(ApiResponseDto.success(result));
+    }
+}
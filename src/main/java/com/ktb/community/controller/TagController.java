@@ -0,0 +1,50 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.dto.response.ApiResponseDto;
+import com.ktb.community.dto.response.CursorPageResponseDto;
+import com.ktb.community.dto.response.PostResponseDto;
+import com.ktb.community.dto.response.TagCountResponseDto;
+import com.ktb.community.service.PostService;
+import com.ktb.community.service.TagService;
+import jakarta.validation.constraints.Positive;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/tags")
+public class TagController {
+    private final PostService postService;
+    private final TagService tagService;
+
+    @Autowired
+    public TagController(PostService postService, TagService tagService) {
+        this.postService = postService;
+        this.tagService = tagService;
+    }
+
+    // 태그가 붙은 게시글 (최신순). cursor는 이전 응답의 next_cursor(게시글 ID)
+    @GetMapping("/{tag}/posts")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<PostResponseDto>>> getPostsByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Positive int size,
+            Authentication authentication
+    ) {
+        CursorPageResponseDto<PostResponseDto> result = this.postService.getPostsByTag(tag, cursor, size, authentication.getName());
+        return ResponseEntity.ok().body(ApiResponseDto.success(result));
+    }
+
+    // 최근에 많이 쓰인 태그 (tags.trending.window-hours 기준)
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponseDto<List<TagCountResponseDto>>> getTrendingTags() {
+        return ResponseEntity.ok().body(ApiResponseDto.success(this.tagService.trendingTags()));
+    }
+}
@@ -8,9 +8,13 @@ import com.ktb.community.dto.request.UpdateProfileImageRequestDto;
 import com.ktb.community.dto.response.ApiResponseDto;
 import com.ktb.community.dto.response.AvailabilityResponseDto;
 import com.ktb.community.dto.response.CrudUserResponseDto;
+import com.ktb.community.dto.response.FollowResponseDto;
+import com.ktb.community.dto.response.NicknameSuggestionResponseDto;
 import com.ktb.community.dto.response.UserInfoResponseDto;
+import com.ktb.community.service.FollowService;
 import com.ktb.community.service.UserService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,16 +22,20 @@ import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 @RestController
 @RequestMapping("/users")
 public class UserController {
 
     private final UserService userService;
+    private final FollowService followService;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, FollowService followService) {
         this.userService = userService;
+        this.followService = followService;
     }
 
 
@@ -84,6 +92,14 @@ public class UserController {
 
     }
 
+    @GetMapping("/nicknames")
+    public ResponseEntity<ApiResponseDto<List<NicknameSuggestionResponseDto>>> suggestNicknames(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") @Positive int size) {
+        List<NicknameSuggestionResponseDto> suggestions = this.userService.suggestNicknames(prefix, size);
+        return ResponseEntity.ok().body(ApiResponseDto.success(suggestions));
+    }
+
     @PatchMapping("/nickname")
     public ResponseEntity<ApiResponseDto<?>> patchNickname(
             @RequestBody @Valid ModifyNicknameRequestDto modifyNicknameRequestDto,
@@ -121,4 +137,16 @@ public class UserController {
         CrudUserResponseDto response = userService.deleteProfileImage(email);
         return ResponseEntity.ok(ApiResponseDto.success(response));
     }
+
+    @PostMapping("/{userId}/follow")
+    public ResponseEntity<ApiResponseDto<FollowResponseDto>> follow(@PathVariable Long userId, Authentication authentication) {
+        FollowResponseDto response = this.followService.follow(userId, authentication.getName());
+        return ResponseEntity.ok().body(ApiResponseDto.success(response));
+    }
+
+    @DeleteMapping("/{userId}/follow")
+    public ResponseEntity<ApiResponseDto<FollowResponseDto>> unfollow(@PathVariable Long userId, Authentication authentication) {
+        FollowResponseDto response = this.followService.unfollow(userId, authentication.getName());
+        return ResponseEntity.ok().body(ApiResponseDto.success(response));
+    }
 }
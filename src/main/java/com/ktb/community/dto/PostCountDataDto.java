@@ -0,0 +1,18 @@
+package com.ktb.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 화면용 게시글 카운트 (Count 엔티티의 연관 게시글/작성자를 읽지 않도록 값만 조회)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCountDataDto {
+    private Long id;
+    private Long viewCount;
+    private Long likeCount;
+    private Long commentCount;
+}
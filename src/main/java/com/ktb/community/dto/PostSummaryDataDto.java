@@ -0,0 +1,21 @@
+package com.ktb.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis에 캐싱하는 게시글 목록용 요약 (자주 바뀌는 카운트와 작성자 정보는 제외)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryDataDto {
+    private Long id;
+    private String title;
+    private String content;
+    private Long userId;
+    private LocalDateTime createdAt;
+}
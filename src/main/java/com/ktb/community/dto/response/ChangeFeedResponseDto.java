@@ -0,0 +1,21 @@
+package com.ktb.community.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponseDto {
+    private List<ChangeResponseDto> changes;
+    // 다음 요청의 since 값
+    private Long cursor;
+    @JsonProperty("has_more")
+    private boolean hasMore;
+    // true면 로컬 데이터를 버리고 전체를 다시 받은 뒤 cursor부터 이어서 동기화
+    private boolean reset;
+}
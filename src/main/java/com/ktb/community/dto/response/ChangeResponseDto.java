@@ -0,0 +1,20 @@
+package com.ktb.community.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeResponseDto {
+    private Long seq;
+    // POST, COMMENT, LIKE
+    private String type;
+    // UPSERT면 다시 조회, DELETE면 로컬에서 제거
+    private String operation;
+    private Long id;
+    @JsonProperty("post_id")
+    private Long postId;
+}
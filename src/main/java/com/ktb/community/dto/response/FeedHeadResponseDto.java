@@ -0,0 +1,20 @@
+package com.ktb.community.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedHeadResponseDto {
+    // since 이후 생성된 게시글 수
+    @JsonProperty("new_count")
+    private int newCount;
+    @JsonProperty("latest_id")
+    private Long latestId;
+    // true면 실제 새 게시글 수는 new_count 이상 (오래된 cursor)
+    @JsonProperty("has_more")
+    private boolean hasMore;
+}
@@ -0,0 +1,16 @@
+package com.ktb.community.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowResponseDto {
+    @JsonProperty("user_id")
+    private Long userId;
+    @JsonProperty("is_following")
+    private boolean isFollowing;
+}
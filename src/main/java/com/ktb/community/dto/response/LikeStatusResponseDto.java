@@ -0,0 +1,20 @@
+package com.ktb.community.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStatusResponseDto {
+    // 중복이 제거된 요청 ID (bitmap의 비트 순서)
+    private List<Long> ids;
+    // ids[i]를 좋아요 했다면 i번째 비트가 1 (바이트 i / 8의 하위 비트부터, Base64 인코딩)
+    private String bitmap;
+    @JsonProperty("liked_count")
+    private int likedCount;
+}
@@ -0,0 +1,14 @@
+package com.ktb.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveCountResponseDto {
+    private Long postId;
+    private Long likes;
+    private Long comments;
+}
@@ -0,0 +1,15 @@
+package com.ktb.community.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NicknameSuggestionResponseDto {
+    @JsonProperty("user_id")
+    private Long userId;
+    private String nickname;
+}
@@ -0,0 +1,19 @@
+package com.ktb.community.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostBatchResponseDto {
+    // 요청한 순서대로 정렬된 게시글 (없거나 삭제된 게시글은 제외)
+    private List<PostResponseDto> posts;
+    // 없거나 삭제된 게시글 ID
+    @JsonProperty("missing_ids")
+    private List<Long> missingIds;
+}
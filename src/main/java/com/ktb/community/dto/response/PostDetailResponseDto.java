@@ -23,9 +23,15 @@ public class PostDetailResponseDto {
     @JsonProperty("is_liked")
     private boolean isLiked;
     private Long views;
+    // 전체 기간 순 조회자 수 (HyperLogLog 근사값, 집계할 수 없으면 null)
+    @JsonProperty("unique_viewers")
+    private Long uniqueViewers;
     private Long comments;
     private Long likes;
     @JsonProperty("created_at")
     private LocalDateTime createdAt;
     private List<String> images;
+    // 내용이 비슷한 게시글 (미리 계산된 목록, 유사도 순)
+    @JsonProperty("related_posts")
+    private List<RelatedPostResponseDto> relatedPosts;
 }
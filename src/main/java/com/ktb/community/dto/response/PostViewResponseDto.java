@@ -0,0 +1,13 @@
+package com.ktb.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostViewResponseDto {
+    private PostDetailResponseDto post;
+    private CursorCommentResponseDto<CommentResponseDto> comments;
+}
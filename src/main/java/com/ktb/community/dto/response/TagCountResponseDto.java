@@ -0,0 +1,14 @@
+package com.ktb.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCountResponseDto {
+    private String tag;
+    // 집계 기간 동안 이 태그가 붙은 게시글 수
+    private Long posts;
+}
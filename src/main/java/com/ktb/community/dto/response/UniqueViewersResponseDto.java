@@ -0,0 +1,20 @@
+package com.ktb.community.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniqueViewersResponseDto {
+    @JsonProperty("post_id")
+    private Long postId;
+    private long today;
+    @JsonProperty("last_7_days")
+    private long last7Days;
+    @JsonProperty("last_30_days")
+    private long last30Days;
+    private long total;
+}
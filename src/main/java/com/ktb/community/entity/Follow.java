@@ -0,0 +1,44 @@
+package com.ktb.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "follow", indexes = {
+        // 팔로워 목록 조회용 (PK는 follower_id가 앞이라 followee 기준 조회에 쓸 수 없음)
+        @Index(name = "idx_follow_followee", columnList = "followee_id, follower_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Follow {
+
+    @EmbeddedId
+    private FollowPK id;
+
+    // 팔로우 하는 사용자
+    @MapsId("followerId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "follower_id")
+    private User follower;
+
+    // 팔로우 당하는 사용자
+    @MapsId("followeeId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "followee_id")
+    private User followee;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+}
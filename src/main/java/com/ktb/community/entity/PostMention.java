@@ -0,0 +1,38 @@
+package com.ktb.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 제목/본문의 @닉네임 (나를 언급한 게시글 목록용)
+ *
+ * 작성 시점의 닉네임으로 사용자를 찾아 ID로 저장하므로 나중에 닉네임을 바꿔도 유지됨
+ */
+@Entity
+@Table(name = "post_mention", indexes = {
+        // 게시글 수정/삭제 시 그 게시글의 언급 조회용
+        @Index(name = "idx_post_mention_post", columnList = "post_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostMention {
+
+    @EmbeddedId
+    private PostMentionPK id;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public PostMention(Long userId, Long postId) {
+        this.id = new PostMentionPK(userId, postId);
+    }
+}
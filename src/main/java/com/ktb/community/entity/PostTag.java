@@ -0,0 +1,41 @@
+package com.ktb.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 제목/본문의 #태그 (태그별 게시글 목록용)
+ *
+ * 게시글에서 추출한 값이므로 게시글 수정 시 다시 맞추고, 게시글 삭제 시 함께 지움
+ * PK가 (tag, post_id) 순서라 태그별 최신순 keyset 조회는 PK로 처리됨
+ */
+@Entity
+@Table(name = "post_tag", indexes = {
+        // 게시글 수정/삭제 시 그 게시글의 태그 조회용
+        @Index(name = "idx_post_tag_post", columnList = "post_id"),
+        // 인기 태그 집계용 (최근 기간만 읽음)
+        @Index(name = "idx_post_tag_created", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTag {
+
+    @EmbeddedId
+    private PostTagPK id;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public PostTag(String tag, Long postId) {
+        this.id = new PostTagPK(tag, postId);
+    }
+}
@@ -4,6 +4,7 @@ import com.ktb.community.dto.response.ApiResponseDto;
 import com.ktb.community.exception.custom.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -119,6 +120,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponseDto.error(e.getMessage()));
     }
 
+    @ExceptionHandler(DuplicateContentException.class)
+    public ResponseEntity<ApiResponseDto<?>> handleDuplicateContentException(DuplicateContentException e) {
+        System.err.println("[DuplicateContentException] " + e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponseDto.error(e.getMessage()));
+    }
+
+    @ExceptionHandler(BannedContentException.class)
+    public ResponseEntity<ApiResponseDto<?>> handleBannedContentException(BannedContentException e) {
+        System.err.println("[BannedContentException] " + e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseDto.error(e.getMessage()));
+    }
+
     @ExceptionHandler(InvalidImageKeyException.class)
     public ResponseEntity<ApiResponseDto<?>> handleInvalidImageKeyException(InvalidImageKeyException e) {
         System.err.println("[InvalidImageKeyException] " + e.getMessage());
@@ -140,9 +153,22 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(RateLimitExceededException.class)
     public ResponseEntity<ApiResponseDto<?>> handleRateLimitExceededException(RateLimitExceededException e) {
         System.err.println("[RateLimitExceededException] " + e.getMessage());
+        if (e.getRetryAfterSeconds() > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponseDto.error(e.getMessage()));
+        }
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ApiResponseDto.error(e.getMessage()));
     }
 
+    @ExceptionHandler(DependencyUnavailableException.class)
+    public ResponseEntity<ApiResponseDto<?>> handleDependencyUnavailableException(DependencyUnavailableException e) {
+        System.err.println("[DependencyUnavailableException] " + e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponseDto.error(e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponseDto<?>> handleGeneralException(Exception e) {
         System.err.println("=== Unexpected Exception Occurred ===");
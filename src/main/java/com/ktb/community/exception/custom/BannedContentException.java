@@ -0,0 +1,7 @@
+package com.ktb.community.exception.custom;
+
+public class BannedContentException extends RuntimeException {
+    public BannedContentException(String message) {
+        super(message);
+    }
+}
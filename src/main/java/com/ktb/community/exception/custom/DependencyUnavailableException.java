@@ -0,0 +1,7 @@
+package com.ktb.community.exception.custom;
+
+public class DependencyUnavailableException extends RuntimeException {
+    public DependencyUnavailableException(String message) {
+        super(message);
+    }
+}
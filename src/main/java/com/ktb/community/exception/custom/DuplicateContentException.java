@@ -0,0 +1,7 @@
+package com.ktb.community.exception.custom;
+
+public class DuplicateContentException extends RuntimeException {
+    public DuplicateContentException(String message) {
+        super(message);
+    }
+}
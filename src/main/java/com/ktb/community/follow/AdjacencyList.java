@@ -0,0 +1,94 @@
+package com.ktb.community.follow;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+
+/**
+ * 정렬된 사용자 ID 목록 (팔로워 / 팔로잉)
+ *
+ * 메모리에서는 long[] (객체 없이 ID당 8바이트, contains는 이진 탐색),
+ * Redis에는 오름차순 ID의 차이(delta)를 varint로 인코딩해 저장 (가까운 ID가 많으면 ID당 1~3바이트)
+ */
+public final class AdjacencyList {
+
+    private static final AdjacencyList EMPTY = new AdjacencyList(new long[0]);
+
+    private final long[] ids;
+
+    private AdjacencyList(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static AdjacencyList empty() {
+        return EMPTY;
+    }
+
+    public static AdjacencyList of(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new AdjacencyList(sorted);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public long get(int index) {
+        return ids[index];
+    }
+
+    public long[] toArray() {
+        return ids.clone();
+    }
+
+    public String encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.length * 2);
+        long previous = 0;
+        for (long id : ids) {
+            long delta = id - previous;
+            previous = id;
+            while ((delta & ~0x7FL) != 0) {
+                out.write((int) ((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            out.write((int) delta);
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    public static AdjacencyList decode(String encoded) {
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        long[] buffer = new long[bytes.length];
+        int count = 0;
+        long previous = 0;
+        int i = 0;
+        while (i < bytes.length) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (i >= bytes.length || shift > 63) {
+                    throw new IllegalArgumentException("Malformed adjacency list");
+                }
+                b = bytes[i++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            buffer[count++] = previous;
+        }
+        return count == 0 ? EMPTY : new AdjacencyList(Arrays.copyOf(buffer, count));
+    }
+}
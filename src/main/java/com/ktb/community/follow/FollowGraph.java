@@ -0,0 +1,80 @@
+package com.ktb.community.follow;
+
+import com.ktb.community.redis.RedisHandler;
+import com.ktb.community.repository.FollowRepository;
+import com.ktb.community.resilience.ResilienceRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 팔로우 관계 조회 (사용자별 팔로잉 / 팔로워 ID 목록)
+ *
+ * DB에서 읽은 목록을 AdjacencyList로 인코딩해 Redis 문자열 하나에 저장하므로
+ * 팔로워가 수만 명이어도 GET 한 번 + 디코딩으로 조회함
+ * 팔로우 / 언팔로우가 커밋되면 invalidate()로 두 사용자의 목록을 지우고, 다음 조회 때 다시 채움
+ */
+@Component
+public class FollowGraph {
+    private static final Logger log = LoggerFactory.getLogger(FollowGraph.class);
+
+    private static final String FOLLOWEES_PREFIX = "follow:out:";
+    private static final String FOLLOWERS_PREFIX = "follow:in:";
+
+    private final RedisHandler redisHandler;
+    private final FollowRepository followRepository;
+    private final ResilienceRegistry resilienceRegistry;
+    private final Duration ttl;
+
+    @Autowired
+    public FollowGraph(RedisHandler redisHandler, FollowRepository followRepository, ResilienceRegistry resilienceRegistry,
+                       @Value("${follow.adjacency.ttl-hours:24}") long ttlHours) {
+        this.redisHandler = redisHandler;
+        this.followRepository = followRepository;
+        this.resilienceRegistry = resilienceRegistry;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * userId가 팔로우하는 사용자
+     */
+    public AdjacencyList followees(Long userId) {
+        return load(FOLLOWEES_PREFIX + userId, () -> this.followRepository.findFolloweeIds(userId));
+    }
+
+    /**
+     * userId를 팔로우하는 사용자
+     */
+    public AdjacencyList followers(Long userId) {
+        return load(FOLLOWERS_PREFIX + userId, () -> this.followRepository.findFollowerIds(userId));
+    }
+
+    /**
+     * 팔로우 관계가 바뀐 경우 (커밋 후 호출)
+     */
+    public void invalidate(Long followerId, Long followeeId) {
+        redisHandler.executeOperation(() -> redisHandler.getRedisTemplate()
+                .delete(List.of(FOLLOWEES_PREFIX + followerId, FOLLOWERS_PREFIX + followeeId)));
+    }
+
+    private AdjacencyList load(String key, Supplier<List<Long>> query) {
+        Object cached = redisHandler.executeQuery(() -> redisHandler.getValueOperations().get(key));
+        if (cached != null) {
+            try {
+                return AdjacencyList.decode(String.valueOf(cached));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring unreadable adjacency list: {}", key);
+            }
+        }
+
+        AdjacencyList list = AdjacencyList.of(this.resilienceRegistry.mysql().call(query));
+        redisHandler.executeOperation(() -> redisHandler.getValueOperations().set(key, list.encode(), ttl));
+        return list;
+    }
+}
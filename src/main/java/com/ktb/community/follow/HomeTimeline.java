@@ -0,0 +1,298 @@
+package com.ktb.community.follow;
+
+import com.ktb.community.redis.RedisHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 팔로잉 피드 타임라인 (Redis sorted set, score = 게시글 ID)
+ *
+ * - 일반 작성자: 게시글이 생성되면 팔로워 각각의 home 타임라인에 ID를 넣음 (fan-out-on-write)
+ * - 팔로워가 많은 작성자(celebrity): 작성자 타임라인에만 넣고, 읽을 때 home 타임라인과 합침 (fan-out-on-read)
+ *
+ * home 타임라인은 최근 capacity개만 유지하고 TTL이 지나면 사라지므로, 오래 접속하지 않은 사용자에게는 메모리를 쓰지 않음
+ * ready 키가 없으면 호출자가 DB에서 읽은 ID로 rebuild()함
+ * fan-out은 ready(또는 재구성 중) 키가 있는 home 타임라인에만 넣음 (없는 사용자는 다음 조회 때 DB에서 채워짐)
+ */
+@Component
+public class HomeTimeline {
+
+    private static final String HOME_PREFIX = "home:";
+    private static final String READY_SUFFIX = ":ready";
+    private static final String REBUILDING_SUFFIX = ":rebuilding";
+    private static final String AUTHOR_PREFIX = "author:posts:";
+    private static final String CELEBRITIES_KEY = "follow:celebrities";
+    // DB 조회부터 rebuild()까지 걸릴 수 있는 최대 시간
+    private static final Duration REBUILDING_TTL = Duration.ofMinutes(1);
+
+    // KEYS = 팔로워 home 타임라인 키, ARGV[1] = 게시글 ID, ARGV[2] = capacity, ARGV[3] = TTL(초)
+    // ready 또는 재구성 중 키가 있는 타임라인에만 넣고 넣은 개수를 반환
+    private static final String FAN_OUT_SCRIPT = """
+            local pushed = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('EXISTS', key .. ':ready', key .. ':rebuilding') > 0 then
+                    redis.call('ZADD', key, ARGV[1], ARGV[1])
+                    redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[2]) + 1))
+                    redis.call('EXPIRE', key, ARGV[3])
+                    pushed = pushed + 1
+                end
+            end
+            return pushed
+            """;
+
+    private final RedisHandler redisHandler;
+    private final int capacity;
+    private final int authorCapacity;
+    private final Duration ttl;
+    private final DefaultRedisScript<Long> fanOutScript = new DefaultRedisScript<>(FAN_OUT_SCRIPT, Long.class);
+
+    @Autowired
+    public HomeTimeline(RedisHandler redisHandler,
+                        @Value("${follow.timeline.capacity:800}") int capacity,
+                        @Value("${follow.timeline.author-capacity:200}") int authorCapacity,
+                        @Value("${follow.timeline.ttl-days:7}") long ttlDays) {
+        this.redisHandler = redisHandler;
+        this.capacity = capacity;
+        this.authorCapacity = authorCapacity;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int authorCapacity() {
+        return authorCapacity;
+    }
+
+    /**
+     * 일반 작성자의 게시글을 팔로워 home 타임라인에 넣음 (스크립트 한 번)
+     * 타임라인이 없는(오래 접속하지 않은) 팔로워에게 넣으면 ready가 없는 부분 타임라인만 메모리를 차지하므로 건너뜀
+     */
+    public boolean fanOut(Collection<Long> followerIds, Long postId) {
+        if (followerIds.isEmpty()) {
+            return true;
+        }
+        List<String> keys = followerIds.stream().map(HomeTimeline::homeKey).toList();
+        return redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().execute(fanOutScript, keys,
+                String.valueOf(postId), String.valueOf(capacity), String.valueOf(ttl.toSeconds()))) != null;
+    }
+
+    /**
+     * celebrity 작성자의 게시글을 작성자 타임라인에 넣음
+     */
+    public void recordPost(Long authorId, Long postId) {
+        redisHandler.executeOperation(() -> {
+            ZSetOperations<String, Object> zSet = redisHandler.getZSetOperations();
+            zSet.add(authorKey(authorId), String.valueOf(postId), postId);
+            zSet.removeRange(authorKey(authorId), 0, -(authorCapacity + 1L));
+        });
+    }
+
+    /**
+     * 게시글이 삭제된 경우. home 타임라인에 남은 ID는 요약 조회 때 걸러지므로 작성자 타임라인에서만 지움
+     */
+    public void removePost(Long authorId, Long postId) {
+        redisHandler.executeOperation(() -> redisHandler.getZSetOperations().remove(authorKey(authorId), String.valueOf(postId)));
+    }
+
+    /**
+     * 작성자를 celebrity로 전환. 작성자 타임라인을 DB에서 읽은 최근 게시글로 먼저 채운 뒤 표시함
+     * 한 번 전환되면 되돌리지 않음 (되돌리면 그동안의 게시글이 팔로워 home 타임라인에 없어 빠짐)
+     */
+    public boolean markCelebrity(Long authorId, List<Long> recentPostIds) {
+        return redisHandler.executeOperation(() -> {
+            if (!recentPostIds.isEmpty()) {
+                redisHandler.getZSetOperations().add(authorKey(authorId), tuples(recentPostIds));
+                redisHandler.getZSetOperations().removeRange(authorKey(authorId), 0, -(authorCapacity + 1L));
+            }
+            redisHandler.getRedisTemplate().opsForSet().add(CELEBRITIES_KEY, String.valueOf(authorId));
+        }) == 1;
+    }
+
+    /**
+     * @return Redis를 사용할 수 없으면 null
+     */
+    public Boolean isCelebrity(Long authorId) {
+        return redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().opsForSet().isMember(CELEBRITIES_KEY, String.valueOf(authorId)));
+    }
+
+    /**
+     * @return Redis를 사용할 수 없으면 null
+     */
+    public Set<Long> celebrities() {
+        Set<Object> members = redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().opsForSet().members(CELEBRITIES_KEY));
+        if (members == null) {
+            return null;
+        }
+        Set<Long> ids = new HashSet<>();
+        for (Object member : members) {
+            ids.add(Long.parseLong(String.valueOf(member)));
+        }
+        return ids;
+    }
+
+    /**
+     * home 타임라인과 celebrity 작성자 타임라인에서 cursor보다 오래된 게시글 ID를 최신순으로 최대 limit개 조회
+     * 모든 조회를 하나의 pipeline으로 보내고, 결과를 중복 없이 병합함
+     *
+     * 잘려나간(capacity에 도달한) 타임라인이 limit개를 채우지 못했다면 그보다 오래된 게시글은 알 수 없으므로,
+     * 그 타임라인의 마지막 ID보다 오래된 ID는 결과에서 빼고 truncated로 표시함
+     *
+     * @return Redis를 사용할 수 없으면 null
+     */
+    public Slice read(Long userId, Long cursor, int limit, Collection<Long> celebrityIds) {
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor - 1;
+        List<Long> authors = List.copyOf(celebrityIds);
+        List<Object> results = redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.hasKey(homeKey(userId) + READY_SUFFIX);
+                ops.opsForZSet().reverseRangeByScore(homeKey(userId), Double.NEGATIVE_INFINITY, max, 0, limit);
+                ops.opsForZSet().zCard(homeKey(userId));
+                for (Long authorId : authors) {
+                    ops.opsForZSet().reverseRangeByScore(authorKey(authorId), Double.NEGATIVE_INFINITY, max, 0, limit);
+                    ops.opsForZSet().zCard(authorKey(authorId));
+                }
+                return null;
+            }
+        }));
+        if (results == null || results.size() != 3 + authors.size() * 2) {
+            return null;
+        }
+
+        boolean ready = Boolean.TRUE.equals(results.get(0));
+        List<List<Long>> sources = new ArrayList<>(authors.size() + 1);
+        // 이 값보다 작은 ID는 잘려나간 타임라인에 있었을 수 있으므로 확실하지 않음
+        long floor = Long.MIN_VALUE;
+        for (int i = 1; i < results.size(); i += 2) {
+            List<Long> ids = ids(results.get(i));
+            long size = results.get(i + 1) instanceof Long count ? count : 0L;
+            // 작성자 타임라인이 없으면(Redis 메모리 정리 등) 그 작성자의 게시글은 전혀 알 수 없음
+            boolean truncated = i == 1 ? size >= capacity : size == 0 || size >= authorCapacity;
+            if (truncated && ids.size() < limit) {
+                floor = Math.max(floor, ids.isEmpty() ? Long.MAX_VALUE : ids.getLast());
+            }
+            sources.add(ids);
+        }
+
+        List<Long> merged = merge(sources, limit);
+        long cutoff = floor;
+        List<Long> safe = merged.stream().filter(id -> id >= cutoff).toList();
+        return new Slice(ready, safe, floor != Long.MIN_VALUE);
+    }
+
+    /**
+     * DB에서 최근 게시글을 읽기 전에 호출. 그 사이 커밋된 게시글도 fan-out으로 들어오도록 재구성 중으로 표시함
+     */
+    public void beginRebuild(Long userId) {
+        redisHandler.executeOperation(() -> redisHandler.getValueOperations()
+                .set(homeKey(userId) + REBUILDING_SUFFIX, "1", REBUILDING_TTL));
+    }
+
+    /**
+     * DB에서 읽은 팔로잉 게시글 ID로 home 타임라인을 채움 (그 사이 fan-out된 ID와 합침)
+     */
+    public boolean rebuild(Long userId, List<Long> postIds) {
+        String key = homeKey(userId);
+        return redisHandler.executeOperation(() -> {
+            if (!postIds.isEmpty()) {
+                redisHandler.getZSetOperations().add(key, tuples(postIds));
+                redisHandler.getZSetOperations().removeRange(key, 0, -(capacity + 1L));
+                redisHandler.getRedisTemplate().expire(key, ttl);
+            }
+            // ready가 home 타임라인보다 먼저 만료되도록 같은 TTL로 설정 (fan-out이 home의 TTL만 연장함)
+            redisHandler.getValueOperations().set(key + READY_SUFFIX, "1", ttl);
+            redisHandler.getRedisTemplate().delete(key + REBUILDING_SUFFIX);
+        }) == 1;
+    }
+
+    /**
+     * 팔로우 / 언팔로우 후 home 타임라인을 지워 다음 조회 때 새 팔로잉 목록으로 다시 채우게 함
+     */
+    public void invalidate(Long userId) {
+        redisHandler.executeOperation(() -> redisHandler.getRedisTemplate()
+                .delete(List.of(homeKey(userId) + READY_SUFFIX, homeKey(userId))));
+    }
+
+    /**
+     * 최신순으로 정렬된 목록들을 중복 없이 병합 (k-way merge)
+     */
+    static List<Long> merge(List<List<Long>> sources, int limit) {
+        int[] positions = new int[sources.size()];
+        List<Long> merged = new ArrayList<>(limit);
+        long last = Long.MAX_VALUE;
+        while (merged.size() < limit) {
+            int best = -1;
+            long bestId = Long.MIN_VALUE;
+            for (int s = 0; s < sources.size(); s++) {
+                List<Long> source = sources.get(s);
+                // 이미 넣은 ID와 같거나 큰 값은 건너뜀 (중복)
+                while (positions[s] < source.size() && source.get(positions[s]) >= last) {
+                    positions[s]++;
+                }
+                if (positions[s] < source.size() && source.get(positions[s]) > bestId) {
+                    best = s;
+                    bestId = source.get(positions[s]);
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            merged.add(bestId);
+            positions[best]++;
+            last = bestId;
+        }
+        return merged;
+    }
+
+    private static List<Long> ids(Object value) {
+        List<Long> ids = new ArrayList<>();
+        if (value instanceof Collection<?> values) {
+            for (Object id : values) {
+                ids.add(Long.parseLong(String.valueOf(id)));
+            }
+        }
+        return ids;
+    }
+
+    private static Set<ZSetOperations.TypedTuple<Object>> tuples(List<Long> ids) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+        for (Long id : ids) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(id), (double) id));
+        }
+        return tuples;
+    }
+
+    private static String homeKey(Long userId) {
+        return HOME_PREFIX + userId;
+    }
+
+    private static String authorKey(Long authorId) {
+        return AUTHOR_PREFIX + authorId;
+    }
+
+    /**
+     * @param ready home 타임라인이 채워져 있는지 (false면 rebuild 필요)
+     * @param ids 최신순 게시글 ID
+     * @param truncated true면 ids보다 오래된 게시글이 DB에 있을 수 있음
+     */
+    public record Slice(boolean ready, List<Long> ids, boolean truncated) {
+    }
+}
@@ -0,0 +1,380 @@
+package com.ktb.community.live;
+
+import com.ktb.community.dto.response.LiveCountResponseDto;
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+import com.ktb.community.redis.RedisHandler;
+import com.ktb.community.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요/댓글 수를 SSE로 밀어주는 구독 허브
+ *
+ * 1. 쓰기 경로(LikeService, CommentService)는 커밋 후 최신 카운트를 outbox에 기록 (같은 게시글은 마지막 값만 남음)
+ * 2. flush 주기마다 outbox를 메시지 하나로 묶어 Redis 채널에 발행 (노드당 주기마다 최대 1회)
+ * 3. 모든 노드는 채널을 구독해 inbox에 모으고, 다음 flush 때 구독자별로 변경된 게시글을 이벤트 하나로 전송
+ *
+ * 따라서 구독자는 게시글마다 flush 주기당 최대 한 번의 갱신만 받음.
+ * SseEmitter는 비동기 요청이라 대기 중인 구독자는 스레드를 점유하지 않고, 전송할 때만 전송 전용 executor를 잠깐 사용함.
+ * Redis 발행이 실패하면 이 노드의 구독자에게만이라도 전달함
+ */
+@Component
+public class LiveCountHub {
+    private static final Logger log = LoggerFactory.getLogger(LiveCountHub.class);
+
+    // 모든 노드가 구독하는 Redis 채널
+    public static final String CHANNEL = "live:counts";
+
+    private final RedisHandler redisHandler;
+    private final Executor sendExecutor;
+    private final long flushIntervalMillis;
+    private final long heartbeatNanos;
+    private final long emitterTimeoutMillis;
+    private final int maxSubscribers;
+    private final int maxPostsPerSubscriber;
+
+    // 이 노드에서 커밋된 변경 (다음 flush 때 Redis로 발행)
+    private final Map<Long, LiveCountResponseDto> outbox = new ConcurrentHashMap<>();
+    // Redis로 받은 변경 (다음 flush 때 구독자에게 전달)
+    private final Map<Long, LiveCountResponseDto> inbox = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // executor가 가득 차서 이번 flush에 전송하지 못한 구독자 (다음 flush에 재시도)
+    private final Set<Subscriber> deferred = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder relayFailures = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder eventsSent = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private final TaskScheduler scheduler;
+    private ScheduledFuture<?> flushTask;
+
+    @Autowired
+    public LiveCountHub(RedisHandler redisHandler,
+                        @Qualifier("liveCountExecutor") Executor sendExecutor,
+                        @Qualifier("backgroundTaskScheduler") TaskScheduler scheduler,
+                        @Value("${live-counts.flush-interval-millis:1000}") long flushIntervalMillis,
+                        @Value("${live-counts.heartbeat-seconds:25}") long heartbeatSeconds,
+                        @Value("${live-counts.emitter-timeout-minutes:30}") long emitterTimeoutMinutes,
+                        @Value("${live-counts.max-subscribers:50000}") int maxSubscribers,
+                        @Value("${live-counts.max-posts-per-subscriber:100}") int maxPostsPerSubscriber) {
+        this.redisHandler = redisHandler;
+        this.sendExecutor = sendExecutor;
+        this.scheduler = scheduler;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.heartbeatNanos = Duration.ofSeconds(heartbeatSeconds).toNanos();
+        this.emitterTimeoutMillis = Duration.ofMinutes(emitterTimeoutMinutes).toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.maxPostsPerSubscriber = maxPostsPerSubscriber;
+    }
+
+    @PostConstruct
+    public void start() {
+        Duration interval = Duration.ofMillis(flushIntervalMillis);
+        flushTask = scheduler.scheduleWithFixedDelay(this::flushSafely, Instant.now().plus(interval), interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        // 연결을 닫아두면 클라이언트(EventSource)가 다른 노드로 재연결함
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * 게시글 목록(화면에 보이는 게시글들)의 카운트 변경을 구독
+     */
+    public SseEmitter subscribe(List<Long> postIds) {
+        List<Long> ids = normalize(postIds);
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        register(emitter, ids);
+        return emitter;
+    }
+
+    Subscriber register(SseEmitter emitter, List<Long> ids) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            rejected.increment();
+            throw new DependencyUnavailableException("Too many live count subscribers");
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, ids);
+        subscribers.add(subscriber);
+        for (Long id : ids) {
+            subscribersByPost.compute(id, (key, set) -> {
+                Set<Subscriber> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+                target.add(subscriber);
+                return target;
+            });
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscriber));
+        return subscriber;
+    }
+
+    /**
+     * 좋아요/댓글 수가 바뀐 경우 호출. 커밋 후에 outbox에 기록하므로 롤백된 값은 전송되지 않음
+     */
+    public void countsChanged(Long postId, Long likeCount, Long commentCount) {
+        LiveCountResponseDto count = new LiveCountResponseDto(postId, likeCount, commentCount);
+        AfterCommit.run(() -> outbox.put(postId, count));
+    }
+
+    /**
+     * Redis 채널로 받은 메시지 (자기 노드가 발행한 메시지 포함)
+     */
+    public void onRelayMessage(String message) {
+        for (LiveCountResponseDto count : decode(message)) {
+            inbox.put(count.getPostId(), count);
+            received.increment();
+        }
+    }
+
+    void flush() {
+        publishOutbox();
+        deliverInbox();
+    }
+
+    public Stats stats() {
+        return new Stats(subscriberCount.get(), subscribersByPost.size(), published.sum(), relayFailures.sum(),
+                received.sum(), eventsSent.sum(), sendFailures.sum(), rejected.sum());
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 이후 스케줄이 모두 취소되므로 여기서 처리
+            log.error("live count flush failed", e);
+        }
+    }
+
+    private void publishOutbox() {
+        List<LiveCountResponseDto> batch = drain(outbox);
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (redisHandler.publish(CHANNEL, encode(batch)) == 1) {
+            published.add(batch.size());
+            return;
+        }
+        relayFailures.increment();
+        for (LiveCountResponseDto count : batch) {
+            inbox.put(count.getPostId(), count);
+        }
+    }
+
+    private void deliverInbox() {
+        Set<Subscriber> ready = new HashSet<>(drain(deferred));
+
+        for (LiveCountResponseDto count : drain(inbox)) {
+            Set<Subscriber> watching = subscribersByPost.get(count.getPostId());
+            if (watching == null) {
+                continue;
+            }
+            for (Subscriber subscriber : watching) {
+                subscriber.pending.put(count.getPostId(), count);
+                ready.add(subscriber);
+            }
+        }
+
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (now - subscriber.lastSentAt >= heartbeatNanos) {
+                ready.add(subscriber);
+            }
+        }
+
+        for (Subscriber subscriber : ready) {
+            dispatch(subscriber);
+        }
+    }
+
+    private void dispatch(Subscriber subscriber) {
+        // 이미 전송 중이면 그 작업이 끝나면서 남은 변경까지 이어서 보냄
+        if (subscriber.closed.get() || !subscriber.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> send(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false);
+            deferred.add(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            while (true) {
+                List<LiveCountResponseDto> updates = drain(subscriber.pending);
+                if (!updates.isEmpty()) {
+                    subscriber.emitter.send(SseEmitter.event().name("counts").data(updates));
+                    subscriber.lastSentAt = System.nanoTime();
+                    eventsSent.increment();
+                } else if (System.nanoTime() - subscriber.lastSentAt >= heartbeatNanos) {
+                    // 프록시가 유휴 연결을 끊지 않도록 주석 이벤트 전송 (끊긴 연결도 여기서 발견됨)
+                    subscriber.emitter.send(SseEmitter.event().comment("ping"));
+                    subscriber.lastSentAt = System.nanoTime();
+                }
+
+                subscriber.sending.set(false);
+                if (subscriber.pending.isEmpty() || !subscriber.sending.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+            sendFailures.increment();
+            subscriber.sending.set(false);
+            unsubscribe(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        deferred.remove(subscriber);
+        for (Long id : subscriber.postIds) {
+            subscribersByPost.computeIfPresent(id, (key, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        subscriberCount.decrementAndGet();
+    }
+
+    private List<Long> normalize(List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        LinkedHashSet<Long> unique = new LinkedHashSet<>();
+        for (Long id : postIds) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("ids must be positive numbers");
+            }
+            unique.add(id);
+        }
+        if (unique.size() > maxPostsPerSubscriber) {
+            throw new IllegalArgumentException("Too many ids. Maximum is " + maxPostsPerSubscriber);
+        }
+        return new ArrayList<>(unique);
+    }
+
+    private static <K, V> List<V> drain(Map<K, V> map) {
+        List<V> values = new ArrayList<>();
+        for (K key : map.keySet()) {
+            V value = map.remove(key);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static <T> List<T> drain(Set<T> set) {
+        List<T> values = new ArrayList<>();
+        for (T value : set) {
+            if (set.remove(value)) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 메시지 형식: "postId:likes:comments,postId:likes:comments"
+     */
+    static String encode(List<LiveCountResponseDto> counts) {
+        StringBuilder sb = new StringBuilder();
+        for (LiveCountResponseDto count : counts) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(count.getPostId()).append(':').append(count.getLikes()).append(':').append(count.getComments());
+        }
+        return sb.toString();
+    }
+
+    static List<LiveCountResponseDto> decode(String message) {
+        List<LiveCountResponseDto> counts = new ArrayList<>();
+        if (message == null || message.isEmpty()) {
+            return counts;
+        }
+        for (String entry : message.split(",")) {
+            String[] parts = entry.split(":");
+            try {
+                counts.add(new LiveCountResponseDto(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.warn("Ignoring malformed live count entry: {}", entry);
+            }
+        }
+        return counts;
+    }
+
+    static final class Subscriber {
+        private final SseEmitter emitter;
+        private final List<Long> postIds;
+        // 아직 보내지 못한 변경 (같은 게시글은 마지막 값만 남음)
+        private final Map<Long, LiveCountResponseDto> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastSentAt = System.nanoTime();
+
+        private Subscriber(SseEmitter emitter, List<Long> postIds) {
+            this.emitter = emitter;
+            this.postIds = postIds;
+        }
+    }
+
+    /**
+     * @param subscribers 현재 연결된 구독자 수
+     * @param watchedPosts 구독자가 한 명 이상 있는 게시글 수
+     * @param published Redis로 발행한 카운트 변경 수 (coalescing 이후)
+     * @param relayFailures Redis 발행에 실패해 이 노드에만 전달한 횟수
+     * @param received Redis로 받은 카운트 변경 수
+     * @param eventsSent 구독자에게 보낸 이벤트 수
+     * @param sendFailures 전송 실패로 정리된 구독자 수
+     * @param rejected 구독자 한도를 넘어 거절한 연결 수
+     */
+    public record Stats(int subscribers, int watchedPosts, long published, long relayFailures,
+                        long received, long eventsSent, long sendFailures, long rejected) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.ktb.community.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+
+/**
+ * 설정된 엔드포인트에 대해 요청 수를 제한하는 인터셉터
+ * 컨트롤러 진입 전에 예외를 던지므로 GlobalExceptionHandler에서 429 + Retry-After로 응답됨
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    public RateLimitInterceptor(RateLimitProperties properties, RateLimiter rateLimiter) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, RateLimitProperties.Policy> entry : properties.getPolicies().entrySet()) {
+            RateLimitProperties.Policy policy = entry.getValue();
+            if (matches(policy, request.getMethod(), path)) {
+                rateLimiter.acquire(entry.getKey(), policy, currentUser(),
+                        clientIp(request.getHeader("X-Forwarded-For"), request.getRemoteAddr(), properties.getTrustedProxies()));
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(RateLimitProperties.Policy policy, String method, String path) {
+        if (policy.getMethod() != null && !policy.getMethod().equalsIgnoreCase(method)) {
+            return false;
+        }
+        return policy.getPath() != null && pathMatcher.match(policy.getPath(), path);
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * 클라이언트 IP
+     * 왼쪽 값들은 클라이언트가 마음대로 넣을 수 있으므로, 신뢰하는 프록시가 덧붙인 오른쪽 값만 사용
+     * (프록시가 1대면 마지막 값 = 로드밸런서에 직접 연결한 주소)
+     */
+    static String clientIp(String forwardedFor, String remoteAddr, int trustedProxies) {
+        if (trustedProxies <= 0 || !StringUtils.hasText(forwardedFor)) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        // 헤더가 예상보다 짧으면 프록시가 덧붙인 것 중 가장 왼쪽 값
+        return hops[Math.max(0, hops.length - trustedProxies)].trim();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ktb.community.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 여러 서버에서 같은 한도를 공유하려면 Redis sliding window로 한 번 더 확인
+    private boolean redisSync = false;
+
+    // 로컬 버킷 저장소의 stripe 수와 stripe당 최대 키 수
+    private int stripes = 16;
+    private int maxKeysPerStripe = 10000;
+
+    // 앞단에서 X-Forwarded-For에 주소를 덧붙이는 신뢰할 수 있는 프록시(로드밸런서) 수
+    // 클라이언트가 보낸 X-Forwarded-For 값은 믿을 수 없으므로 오른쪽에서 이 수만큼 떨어진 값을 클라이언트 IP로 사용 (0이면 헤더 무시)
+    // 앞단 프록시 없이 포트를 바로 여는 경우(docker-compose 기본 구성) 헤더 전체를 클라이언트가 쓰므로 반드시 0이어야 함
+    // 로드밸런서/리버스 프록시 뒤에 두고, 그 프록시만 이 서버에 접근할 수 있을 때 프록시 수만큼 올림
+    private int trustedProxies = 0;
+
+    // 엔드포인트별 정책 (이름 -> 정책)
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // context-path(/api)를 제외한 Ant 스타일 경로 (예: /posts/*/comments)
+        private String path;
+        private String method;
+        // 버킷 크기 (한 번에 허용하는 최대 요청 수)
+        private long capacity;
+        // refillPeriodSeconds 동안 capacity만큼 다시 채워짐
+        private long refillPeriodSeconds = 60;
+        private Scope scope = Scope.USER;
+    }
+
+    public enum Scope {
+        // 로그인 사용자 기준 (비로그인 요청은 IP 기준)
+        USER,
+        // 클라이언트 IP 기준
+        IP,
+        // 사용자와 IP 버킷을 모두 통과해야 함
+        USER_AND_IP
+    }
+}
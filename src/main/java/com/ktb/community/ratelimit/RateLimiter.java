@@ -0,0 +1,72 @@
+package com.ktb.community.ratelimit;
+
+import com.ktb.community.exception.custom.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimiter {
+    private final RateLimitProperties properties;
+    private final RedisSlidingWindowLimiter redisLimiter;
+    private final TokenBucketStore store;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, RedisSlidingWindowLimiter redisLimiter) {
+        this.properties = properties;
+        this.redisLimiter = redisLimiter;
+        this.store = new TokenBucketStore(properties.getStripes(), properties.getMaxKeysPerStripe());
+    }
+
+    /**
+     * 정책에 맞는 버킷에서 토큰을 소비하고, 한도를 넘으면 RateLimitExceededException 발생
+     *
+     * @param policyName 정책 이름 (버킷 키 prefix)
+     * @param policy 적용할 정책
+     * @param userKey 로그인 사용자 식별자 (없으면 null)
+     * @param clientIp 클라이언트 IP
+     */
+    public void acquire(String policyName, RateLimitProperties.Policy policy, String userKey, String clientIp) {
+        RateLimitProperties.Scope scope = policy.getScope();
+        String ipKey = policyName + ":ip:" + clientIp;
+
+        if (scope == RateLimitProperties.Scope.IP || userKey == null) {
+            acquireBuckets(List.of(ipKey), policy);
+            return;
+        }
+        String userKeyName = policyName + ":user:" + userKey;
+        if (scope == RateLimitProperties.Scope.USER_AND_IP) {
+            // 두 버킷을 모두 확인한 뒤에 소비 (IP에서 거부된 요청이 사용자 토큰을 쓰지 않도록)
+            acquireBuckets(List.of(userKeyName, ipKey), policy);
+        } else {
+            acquireBuckets(List.of(userKeyName), policy);
+        }
+    }
+
+    public int localBucketCount() {
+        return store.size();
+    }
+
+    private void acquireBuckets(List<String> keys, RateLimitProperties.Policy policy) {
+        long periodNanos = TimeUnit.SECONDS.toNanos(policy.getRefillPeriodSeconds());
+
+        long waitNanos = store.tryAcquireAll(keys, policy.getCapacity(), periodNanos);
+        if (waitNanos > 0) {
+            throw exceeded(TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+
+        if (properties.isRedisSync()) {
+            long waitMillis = redisLimiter.tryAcquire(keys, policy.getCapacity(), TimeUnit.SECONDS.toMillis(policy.getRefillPeriodSeconds()));
+            if (waitMillis > 0) {
+                throw exceeded(waitMillis);
+            }
+        }
+    }
+
+    private RateLimitExceededException exceeded(long waitMillis) {
+        long retryAfterSeconds = Math.max(1, (waitMillis + 999) / 1000);
+        return new RateLimitExceededException("Too many requests. Please try again later.", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ktb.community.ratelimit;
+
+import com.ktb.community.resilience.ResilienceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 서버가 같은 한도를 공유하기 위한 Redis sliding window log
+ * ZSET에 요청 시각을 기록하고, 창 밖의 기록은 지운 뒤 개수를 세는 작업을 Lua 스크립트 하나로 원자적으로 처리
+ * 키가 여러 개(사용자와 IP)면 모두 한도 안일 때만 모든 키에 기록함
+ */
+@Slf4j
+@Component
+public class RedisSlidingWindowLimiter {
+
+    // KEYS = 키들, ARGV[1] = 현재 시각(ms), ARGV[2] = 창 크기(ms), ARGV[3] = 한도, ARGV[4] = 요청 고유값
+    // 허용되면 0, 거부되면 한도를 넘은 키의 가장 오래된 기록이 창 밖으로 나갈 때까지 남은 시간(ms) 중 최댓값
+    private static final String SCRIPT = """
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limit = tonumber(ARGV[3])
+            local wait = 0
+            for _, key in ipairs(KEYS) do
+                redis.call('ZREMRANGEBYSCORE', key, 0, now - window)
+                if redis.call('ZCARD', key) >= limit then
+                    local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                    wait = math.max(wait, 1, tonumber(oldest[2]) + window - now)
+                end
+            end
+            if wait > 0 then
+                return wait
+            end
+            for _, key in ipairs(KEYS) do
+                redis.call('ZADD', key, now, ARGV[4])
+                redis.call('PEXPIRE', key, window)
+            end
+            return 0
+            """;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ResilienceRegistry resilienceRegistry;
+    private final DefaultRedisScript<Long> script = new DefaultRedisScript<>(SCRIPT, Long.class);
+
+    @Autowired
+    public RedisSlidingWindowLimiter(RedisTemplate<String, Object> redisTemplate, ResilienceRegistry resilienceRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.resilienceRegistry = resilienceRegistry;
+    }
+
+    /**
+     * @return 허용되면 0, 거부되면 재시도까지 남은 시간(ms). Redis 장애 시에는 허용(0)
+     */
+    public long tryAcquire(List<String> keys, long limit, long windowMillis) {
+        List<String> redisKeys = keys.stream().map(key -> "rate_limit:" + key).toList();
+        try {
+            // circuit이 열려 있으면 Redis를 기다리지 않고 바로 로컬 버킷으로 처리
+            Long result = resilienceRegistry.redis().call(() -> redisTemplate.execute(script, redisKeys,
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(windowMillis),
+                    String.valueOf(limit),
+                    UUID.randomUUID().toString()));
+            return result == null ? 0 : result;
+        } catch (Exception e) {
+            // Redis가 죽었다고 모든 요청을 막을 수는 없으므로 로컬 버킷 결과만 사용
+            log.warn("Redis rate limit check failed, falling back to local bucket : {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.ktb.community.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 키별 token bucket을 메모리에 보관하는 저장소
+ *
+ * - 키 해시로 stripe를 나눠 stripe마다 독립된 맵을 사용 (정리 작업이 전체를 막지 않도록)
+ * - 버킷 상태는 불변 객체로 두고 CAS로 교체하므로 lock이 없음
+ * - stripe마다 키 수 상한이 있음. 가득 차면 사용되지 않은 버킷을 지우고, 그래도 모자라면 가장 오래 사용되지 않은 버킷부터
+ *   상한의 90%까지 지움 (정리 작업이 새 키마다 반복되지 않도록 여유를 둠)
+ */
+public class TokenBucketStore {
+
+    private final Map<String, AtomicReference<Bucket>>[] stripes;
+    private final int maxKeysPerStripe;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketStore(int stripeCount, int maxKeysPerStripe) {
+        this.stripes = new Map[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.maxKeysPerStripe = maxKeysPerStripe;
+    }
+
+    /**
+     * 토큰 하나를 소비
+     *
+     * @param key 버킷 키 (예: login:ip:1.2.3.4)
+     * @param capacity 버킷 크기
+     * @param refillPeriodNanos capacity만큼 채워지는 데 걸리는 시간
+     * @return 허용되면 0, 거부되면 토큰이 다시 생길 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key, long capacity, long refillPeriodNanos) {
+        return tryAcquire(key, capacity, refillPeriodNanos, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long capacity, long refillPeriodNanos, long now) {
+        double refillPerNano = (double) capacity / refillPeriodNanos;
+        Map<String, AtomicReference<Bucket>> stripe = stripeOf(key);
+
+        AtomicReference<Bucket> ref = stripe.get(key);
+        if (ref == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                evict(stripe, now);
+            }
+            ref = stripe.computeIfAbsent(key, k -> new AtomicReference<>(new Bucket(capacity, now, refillPeriodNanos)));
+        }
+
+        while (true) {
+            Bucket current = ref.get();
+            long elapsed = Math.max(0, now - current.updatedAt());
+            double tokens = Math.min(capacity, current.tokens() + elapsed * refillPerNano);
+
+            if (tokens < 1.0) {
+                return (long) Math.ceil((1.0 - tokens) / refillPerNano);
+            }
+            if (ref.compareAndSet(current, new Bucket(tokens - 1.0, Math.max(now, current.updatedAt()), refillPeriodNanos))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 여러 버킷(예: 사용자와 IP)에서 토큰을 하나씩 소비. 하나라도 거부되면 어느 버킷의 토큰도 쓰지 않음
+     *
+     * @return 허용되면 0, 거부되면 모든 버킷에 토큰이 생길 때까지 남은 시간(ns)
+     */
+    public long tryAcquireAll(List<String> keys, long capacity, long refillPeriodNanos) {
+        return tryAcquireAll(keys, capacity, refillPeriodNanos, System.nanoTime());
+    }
+
+    long tryAcquireAll(List<String> keys, long capacity, long refillPeriodNanos, long now) {
+        // 먼저 모든 버킷에 토큰이 있는지 확인 (없는 버킷은 가득 찬 것으로 봄)
+        long wait = 0;
+        for (String key : keys) {
+            wait = Math.max(wait, waitNanos(key, capacity, refillPeriodNanos, now));
+        }
+        if (wait > 0) {
+            return wait;
+        }
+        // 확인과 소비 사이에 다른 요청이 토큰을 가져갔으면 이미 소비한 토큰을 돌려놓음
+        for (int i = 0; i < keys.size(); i++) {
+            wait = tryAcquire(keys.get(i), capacity, refillPeriodNanos, now);
+            if (wait > 0) {
+                for (int j = 0; j < i; j++) {
+                    release(keys.get(j), capacity);
+                }
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, AtomicReference<Bucket>> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private long waitNanos(String key, long capacity, long refillPeriodNanos, long now) {
+        AtomicReference<Bucket> ref = stripeOf(key).get(key);
+        if (ref == null) {
+            return 0;
+        }
+        double refillPerNano = (double) capacity / refillPeriodNanos;
+        Bucket current = ref.get();
+        double tokens = Math.min(capacity, current.tokens() + Math.max(0, now - current.updatedAt()) * refillPerNano);
+        return tokens < 1.0 ? (long) Math.ceil((1.0 - tokens) / refillPerNano) : 0;
+    }
+
+    private void release(String key, long capacity) {
+        AtomicReference<Bucket> ref = stripeOf(key).get(key);
+        if (ref == null) {
+            return;
+        }
+        while (true) {
+            Bucket current = ref.get();
+            Bucket released = new Bucket(Math.min(capacity, current.tokens() + 1.0), current.updatedAt(), current.refillPeriodNanos());
+            if (ref.compareAndSet(current, released)) {
+                return;
+            }
+        }
+    }
+
+    private Map<String, AtomicReference<Bucket>> stripeOf(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[(h & Integer.MAX_VALUE) % stripes.length];
+    }
+
+    private void evict(Map<String, AtomicReference<Bucket>> stripe, long now) {
+        // 같은 stripe의 정리는 한 스레드만 (기다린 스레드는 이미 정리된 stripe를 보고 바로 나감)
+        synchronized (stripe) {
+            if (stripe.size() < maxKeysPerStripe) {
+                return;
+            }
+            // 자기 정책의 한 주기 이상 사용되지 않은 버킷은 이미 가득 찼으므로 지워도 동작이 같음
+            stripe.entrySet().removeIf(e -> e.getValue().get().isIdle(now));
+
+            // 모두 사용 중이면 (예: 출발 IP를 계속 바꾸는 요청) 가장 오래 사용되지 않은 버킷부터 지움
+            // 지워진 키는 다음 요청에 가득 찬 버킷으로 다시 시작하지만, 맵이 끝없이 커지는 것보다 나음
+            int target = maxKeysPerStripe - Math.max(1, maxKeysPerStripe / 10);
+            if (stripe.size() <= target) {
+                return;
+            }
+            // 정렬 중에 값이 바뀌지 않도록 마지막 사용 시각을 먼저 복사
+            List<Candidate> candidates = new ArrayList<>(stripe.size());
+            stripe.forEach((key, ref) -> candidates.add(new Candidate(key, ref, ref.get().updatedAt())));
+            candidates.sort(Comparator.comparingLong(Candidate::updatedAt));
+            for (int i = 0; i < candidates.size() - target; i++) {
+                stripe.remove(candidates.get(i).key(), candidates.get(i).ref());
+            }
+        }
+    }
+
+    private record Candidate(String key, AtomicReference<Bucket> ref, long updatedAt) {
+    }
+
+    /**
+     * @param refillPeriodNanos 이 버킷을 만든 정책의 주기 (stripe에는 여러 정책의 버킷이 섞여 있음)
+     */
+    private record Bucket(double tokens, long updatedAt, long refillPeriodNanos) {
+        boolean isIdle(long now) {
+            return now - updatedAt >= refillPeriodNanos;
+        }
+    }
+}
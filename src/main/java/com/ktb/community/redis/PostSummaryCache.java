@@ -0,0 +1,108 @@
+package com.ktb.community.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.community.dto.PostSummaryDataDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 피드에 쓰는 게시글 요약 캐시 (Redis, JSON 문자열)
+ * 제목/본문이 바뀌거나 게시글이 삭제되면 커밋 후 evict()로 지움
+ */
+@Component
+public class PostSummaryCache {
+    private static final Logger log = LoggerFactory.getLogger(PostSummaryCache.class);
+
+    private static final String KEY_PREFIX = "post:summary:";
+
+    private final RedisHandler redisHandler;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    @Autowired
+    public PostSummaryCache(RedisHandler redisHandler, ObjectMapper objectMapper,
+                            @Value("${feed.summary.ttl-minutes:10}") long ttlMinutes) {
+        this.redisHandler = redisHandler;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /**
+     * MGET 한 번으로 조회. 없거나 읽을 수 없는 항목은 결과에서 빠짐 (Redis 장애 시 빈 Map)
+     */
+    public Map<Long, PostSummaryDataDto> getAll(List<Long> postIds) {
+        Map<Long, PostSummaryDataDto> result = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+
+        List<String> keys = postIds.stream().map(PostSummaryCache::key).toList();
+        List<Object> values = redisHandler.executeQuery(() -> redisHandler.getValueOperations().multiGet(keys));
+        if (values == null) {
+            return result;
+        }
+
+        for (int i = 0; i < postIds.size() && i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                result.put(postIds.get(i), objectMapper.readValue(String.valueOf(value), PostSummaryDataDto.class));
+            } catch (JsonProcessingException e) {
+                log.warn("Ignoring unreadable post summary: {}", postIds.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 요약을 pipeline 한 번으로 저장
+     */
+    public void putAll(Collection<PostSummaryDataDto> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        for (PostSummaryDataDto summary : summaries) {
+            try {
+                values.put(key(summary.getId()), objectMapper.writeValueAsString(summary));
+            } catch (JsonProcessingException e) {
+                log.warn("Skipping post summary that cannot be serialized: {}", summary.getId());
+            }
+        }
+
+        redisHandler.executeOperation(() -> redisHandler.getRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                values.forEach((key, value) -> ops.opsForValue().set(key, value, ttl));
+                return null;
+            }
+        }));
+    }
+
+    public void evict(Long postId) {
+        redisHandler.executeOperation(() -> redisHandler.getRedisTemplate().delete(key(postId)));
+    }
+
+    private static String key(Long postId) {
+        return KEY_PREFIX + postId;
+    }
+}
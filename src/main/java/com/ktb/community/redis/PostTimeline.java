@@ -0,0 +1,155 @@
+package com.ktb.community.redis;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 기본 피드용 전역 타임라인 (Redis sorted set, score = 게시글 ID)
+ *
+ * 게시글 ID는 생성 순서대로 증가하므로 ID를 score로 쓰면 생성 시각 순서와 같고, 피드 cursor(ID)로 바로 범위 조회 가능
+ * 최근 capacity개만 유지하고, 그보다 오래된 cursor는 호출자가 DB로 조회해야 함
+ * 잘라낸 게시글이 있거나 DB에서 capacity개를 꽉 채워 읽었으면 has-older 키를 남김
+ * (삭제로 크기가 줄어도 더 오래된 게시글이 DB에 있다는 사실은 바뀌지 않으므로 크기로 판단하지 않음)
+ *
+ * Redis가 비워진 경우(재시작, flush)에는 ready 키가 없으므로 호출자가 rebuild()로 다시 채움
+ */
+@Component
+public class PostTimeline {
+
+    private static final String KEY = "feed:timeline";
+    private static final String READY_KEY = "feed:timeline:ready";
+    private static final String HAS_OLDER_KEY = "feed:timeline:has-older";
+
+    private final RedisHandler redisHandler;
+    private final int capacity;
+    // 한 노드에서 여러 요청이 동시에 DB로 재구성하지 않도록 함
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Autowired
+    public PostTimeline(RedisHandler redisHandler, @Value("${feed.timeline.capacity:1000}") int capacity) {
+        this.redisHandler = redisHandler;
+        this.capacity = capacity;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 게시글이 생성된 경우 (커밋 후 호출)
+     */
+    public void add(Long postId) {
+        redisHandler.executeOperation(() -> {
+            ZSetOperations<String, Object> zSet = redisHandler.getZSetOperations();
+            zSet.add(KEY, String.valueOf(postId), postId);
+            trim(zSet);
+        });
+    }
+
+    /**
+     * 게시글이 삭제된 경우 (커밋 후 호출)
+     */
+    public void remove(Long postId) {
+        redisHandler.executeOperation(() -> redisHandler.getZSetOperations().remove(KEY, String.valueOf(postId)));
+    }
+
+    /**
+     * cursor보다 오래된 게시글 ID를 최신순으로 최대 limit개 조회
+     * ready 확인, 범위 조회, has-older 확인을 하나의 pipeline으로 보냄
+     *
+     * @return Redis를 사용할 수 없으면 null
+     */
+    public Slice read(Long cursor, int limit) {
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor - 1;
+        List<Object> results = redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.hasKey(READY_KEY);
+                ops.opsForZSet().reverseRangeByScore(KEY, Double.NEGATIVE_INFINITY, max, 0, limit);
+                ops.hasKey(HAS_OLDER_KEY);
+                return null;
+            }
+        }));
+        if (results == null || results.size() != 3) {
+            return null;
+        }
+
+        boolean ready = Boolean.TRUE.equals(results.get(0));
+        List<Long> ids = new ArrayList<>();
+        if (results.get(1) instanceof Collection<?> values) {
+            for (Object value : values) {
+                ids.add(Long.parseLong(String.valueOf(value)));
+            }
+        }
+        return new Slice(ready, ids, Boolean.TRUE.equals(results.get(2)));
+    }
+
+    /**
+     * DB에서 읽은 최근 게시글 ID로 타임라인을 다시 채움
+     * 그 사이 add()된 ID는 그대로 두고 합침 (ZADD는 중복을 무시)
+     *
+     * @return 다른 요청이 이미 재구성 중이거나 Redis에 쓰지 못하면 false
+     */
+    public boolean rebuild(Supplier<List<Long>> recentIds) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            List<Long> ids = recentIds.get();
+            return redisHandler.executeOperation(() -> {
+                ZSetOperations<String, Object> zSet = redisHandler.getZSetOperations();
+                if (!ids.isEmpty()) {
+                    Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+                    for (Long id : ids) {
+                        tuples.add(new DefaultTypedTuple<>(String.valueOf(id), (double) id));
+                    }
+                    zSet.add(KEY, tuples);
+                    trim(zSet);
+                }
+                if (ids.size() >= capacity) {
+                    // DB에 더 오래된 게시글이 남아있을 수 있음
+                    markHasOlder();
+                }
+                redisHandler.getValueOperations().set(READY_KEY, "1");
+            }) == 1;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void trim(ZSetOperations<String, Object> zSet) {
+        // score 오름차순 rank 기준이므로 가장 큰(최근) capacity개만 남김
+        Long removed = zSet.removeRange(KEY, 0, -(capacity + 1L));
+        if (removed != null && removed > 0) {
+            markHasOlder();
+        }
+    }
+
+    private void markHasOlder() {
+        redisHandler.getValueOperations().set(HAS_OLDER_KEY, "1");
+    }
+
+    /**
+     * @param ready 타임라인이 채워져 있는지 (false면 rebuild 필요)
+     * @param ids 최신순 게시글 ID
+     * @param truncated true면 타임라인보다 오래된 게시글이 DB에 있을 수 있음
+     */
+    public record Slice(boolean ready, List<Long> ids, boolean truncated) {
+    }
+}
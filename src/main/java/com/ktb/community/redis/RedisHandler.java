@@ -1,19 +1,25 @@
 package com.ktb.community.redis;
 
 import com.ktb.community.config.RedisConfig;
+import com.ktb.community.resilience.ResilienceRegistry;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Supplier;
+
 @Component
 @RequiredArgsConstructor
 public class RedisHandler {
     private static final Logger log = LoggerFactory.getLogger(RedisHandler.class);
     private final RedisConfig redisConfig;
+    private final ResilienceRegistry resilienceRegistry;
 
     public ListOperations<String, Object> getListOperations() {
         return redisConfig.redisTemplate().opsForList();
@@ -23,13 +29,40 @@ public class RedisHandler {
         return redisConfig.redisTemplate().opsForValue();
     }
 
+    public ZSetOperations<String, Object> getZSetOperations() {
+        return redisConfig.redisTemplate().opsForZSet();
+    }
+
+    public RedisTemplate<String, Object> getRedisTemplate() {
+        return redisConfig.redisTemplate();
+    }
+
     public int executeOperation(Runnable operation) {
         try {
-            operation.run();
+            resilienceRegistry.redis().run(operation);
             return 1;
         } catch (Exception e) {
             log.error(String.valueOf(e));
             return 0;
         }
     }
+
+    /**
+     * Pub/Sub 채널에 메시지 발행. 성공 시 1, 실패 시 0 반환
+     */
+    public int publish(String channel, String message) {
+        return executeOperation(() -> redisConfig.redisTemplate().convertAndSend(channel, message));
+    }
+
+    /**
+     * 조회 작업 실행. Redis 장애(circuit open 포함) 시 null 반환
+     */
+    public <T> T executeQuery(Supplier<T> query) {
+        try {
+            return resilienceRegistry.redis().call(query);
+        } catch (Exception e) {
+            log.error(String.valueOf(e));
+            return null;
+        }
+    }
 }
@@ -29,9 +29,10 @@ public class RedisSingleDataServiceImpl implements RedisSingleDataService {
 
     @Override
     public String getSingleData(String key) {
-        if (redisHandler.getValueOperations().get(key) == null) return "";
+        Object value = redisHandler.executeQuery(() -> redisHandler.getValueOperations().get(key));
+        if (value == null) return "";
 
-        return String.valueOf(redisHandler.getValueOperations().get(key));
+        return String.valueOf(value);
     }
 
     @Override
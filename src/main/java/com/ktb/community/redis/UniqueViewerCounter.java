@@ -0,0 +1,134 @@
+package com.ktb.community.redis;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 게시글별 순 조회자 수 (Redis HyperLogLog)
+ *
+ * 사용자 ID를 그대로 저장하지 않고 HyperLogLog에 넣으므로 키 하나가 최대 12KB(조회자가 적으면 수백 바이트),
+ * 오차는 약 0.8%. 같은 사용자가 여러 번 조회해도 한 번만 집계됨
+ *
+ * - post:viewers:{id}:yyyyMMdd 일별 sketch (retention-days 후 만료)
+ * - post:viewers:{id} 전체 기간 sketch (조회될 때마다 TTL 연장)
+ * 최근 7일/30일은 일별 sketch를 PFCOUNT 한 번으로 합쳐서 계산 (Redis가 합집합을 계산하므로 중복 없음)
+ * 같은 게시글의 키는 hash tag({id})로 같은 slot에 두므로 cluster에서도 여러 키를 한 번에 PFCOUNT 가능
+ */
+@Component
+public class UniqueViewerCounter {
+
+    private static final String KEY_PREFIX = "post:viewers:";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisHandler redisHandler;
+    private final Clock clock;
+    private final int retentionDays;
+    private final Duration totalTtl;
+
+    @Autowired
+    public UniqueViewerCounter(RedisHandler redisHandler,
+                               @Value("${unique-viewers.retention-days:31}") int retentionDays,
+                               @Value("${unique-viewers.total-ttl-days:400}") long totalTtlDays) {
+        this(redisHandler, Clock.systemUTC(), retentionDays, totalTtlDays);
+    }
+
+    UniqueViewerCounter(RedisHandler redisHandler, Clock clock, int retentionDays, long totalTtlDays) {
+        this.redisHandler = redisHandler;
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+        this.totalTtl = Duration.ofDays(totalTtlDays);
+    }
+
+    /**
+     * 조회자를 기록하고 전체 기간 순 조회자 수를 반환 (pipeline 한 번)
+     *
+     * @return Redis를 사용할 수 없으면 null
+     */
+    public Long recordAndCount(Long postId, Long userId) {
+        String dayKey = dayKey(postId, LocalDate.now(clock));
+        String totalKey = totalKey(postId);
+        String member = String.valueOf(userId);
+        List<Object> results = redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForHyperLogLog().add(dayKey, member);
+                ops.expire(dayKey, Duration.ofDays(retentionDays + 1L));
+                ops.opsForHyperLogLog().add(totalKey, member);
+                ops.expire(totalKey, totalTtl);
+                ops.opsForHyperLogLog().size(totalKey);
+                return null;
+            }
+        }));
+        if (results == null || results.size() != 5) {
+            return null;
+        }
+        return results.get(4) instanceof Long count ? count : null;
+    }
+
+    /**
+     * 오늘 / 최근 7일 / 최근 30일 / 전체 기간 순 조회자 수 (pipeline 한 번)
+     *
+     * @return Redis를 사용할 수 없으면 null
+     */
+    public Windows count(Long postId) {
+        LocalDate today = LocalDate.now(clock);
+        String[] week = dayKeys(postId, today, 7);
+        String[] month = dayKeys(postId, today, Math.min(30, retentionDays));
+        List<Object> results = redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForHyperLogLog().size(week[0]);
+                ops.opsForHyperLogLog().size(week);
+                ops.opsForHyperLogLog().size(month);
+                ops.opsForHyperLogLog().size(totalKey(postId));
+                return null;
+            }
+        }));
+        if (results == null || results.size() != 4) {
+            return null;
+        }
+        return new Windows(value(results.get(0)), value(results.get(1)), value(results.get(2)), value(results.get(3)));
+    }
+
+    private String[] dayKeys(Long postId, LocalDate today, int days) {
+        return IntStream.range(0, days)
+                .mapToObj(offset -> dayKey(postId, today.minusDays(offset)))
+                .toArray(String[]::new);
+    }
+
+    private static long value(Object result) {
+        return result instanceof Long count ? count : 0L;
+    }
+
+    static String dayKey(Long postId, LocalDate day) {
+        return totalKey(postId) + ":" + day.format(DAY);
+    }
+
+    static String totalKey(Long postId) {
+        return KEY_PREFIX + "{" + postId + "}";
+    }
+
+    /**
+     * @param today 오늘(UTC) 순 조회자 수
+     * @param last7Days 오늘 포함 최근 7일
+     * @param last30Days 오늘 포함 최근 30일
+     * @param total 전체 기간
+     */
+    public record Windows(long today, long last7Days, long last30Days, long total) {
+    }
+}
@@ -3,12 +3,14 @@ package com.ktb.community.repository;
 import com.ktb.community.entity.Comment;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.User;
+import com.ktb.community.search.CommentText;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -25,4 +27,9 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByUser(User user);
 
     List<Comment> findByPostIn(List<Post> postList);
+
+    // 검색 색인 초기화용: since 이후 생성/수정/삭제된 댓글을 ID 순서로 나눠서 조회 (삭제된 댓글도 포함)
+    @Query("select new com.ktb.community.search.CommentText(c.id, c.post.id, c.content, c.deletedAt) from Comment c " +
+            "where c.id > :afterId and coalesce(c.updatedAt, c.createdAt) >= :since order by c.id asc")
+    List<CommentText> findTextsChangedSince(@Param("afterId") Long afterId, @Param("since") LocalDateTime since, Pageable pageable);
 }
@@ -1,11 +1,17 @@
 package com.ktb.community.repository;
 
+import com.ktb.community.dto.PostCountDataDto;
 import com.ktb.community.entity.Count;
 import com.ktb.community.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +20,15 @@ public interface CountRepository extends JpaRepository<Count, Long> {
     Optional<Count> findByPostId(Long postId);
 
     List<Count> findByPostIn(List<Post> postList);
+
+    // Count의 게시글(@OneToOne, EAGER)과 그 작성자를 함께 읽지 않도록 카운트 값만 조회
+    @Query("select new com.ktb.community.dto.PostCountDataDto(c.id, c.viewCount, c.likeCount, c.commentCount) " +
+            "from Count c where c.id in :ids")
+    List<PostCountDataDto> findCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 메모리에 모아둔 조회수를 한 번에 반영 (엔티티를 읽지 않고 UPDATE 한 번)
+    @Transactional
+    @Modifying
+    @Query("update Count c set c.viewCount = c.viewCount + :delta where c.id = :postId")
+    int addViewCount(@Param("postId") Long postId, @Param("delta") long delta);
 }
@@ -0,0 +1,25 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.entity.Follow;
+import com.ktb.community.entity.FollowPK;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, FollowPK> {
+    // 사용자가 팔로우하는 사용자 ID (오름차순)
+    @Query("select f.id.followeeId from Follow f where f.id.followerId = :userId and f.deletedAt is null order by f.id.followeeId")
+    List<Long> findFolloweeIds(@Param("userId") Long userId);
+
+    // 사용자를 팔로우하는 사용자 ID (오름차순)
+    @Query("select f.id.followerId from Follow f where f.id.followeeId = :userId and f.deletedAt is null order by f.id.followerId")
+    List<Long> findFollowerIds(@Param("userId") Long userId);
+
+    // 팔로워 수 (celebrity 전환 기준 확인용, 목록을 읽지 않음)
+    @Query("select count(f) from Follow f where f.id.followeeId = :userId and f.deletedAt is null")
+    long countFollowers(@Param("userId") Long userId);
+}
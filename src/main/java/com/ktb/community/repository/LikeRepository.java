@@ -7,9 +7,15 @@ import com.ktb.community.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface LikeRepository extends JpaRepository<Like, LikePK> {
     boolean existsByIdAndDeletedAtIsNull(LikePK pk);
 
     boolean existsByUserAndPostAndDeletedAtIsNull(User user, Post post);
+
+    // 한 사용자가 여러 게시글 중 좋아요 한 것을 한 번의 IN 쿼리로 조회
+    List<Like> findByIdUserIdAndIdPostIdInAndDeletedAtIsNull(Long userId, Collection<Long> postIds);
 }
@@ -0,0 +1,31 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.entity.PostMention;
+import com.ktb.community.entity.PostMentionPK;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostMentionRepository extends JpaRepository<PostMention, PostMentionPK> {
+    @Query("select m.id.userId from PostMention m where m.id.postId = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    // 사용자를 언급한 게시글 ID (cursor보다 작은 것부터 최신순, PK 범위 조회)
+    @Query("select m.id.postId from PostMention m where m.id.userId = :userId and m.id.postId < :cursor order by m.id.postId desc")
+    List<Long> findPostIdsByUser(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("delete from PostMention m where m.id.postId = :postId and m.id.userId in :userIds")
+    int deleteMentions(@Param("postId") Long postId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from PostMention m where m.id.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
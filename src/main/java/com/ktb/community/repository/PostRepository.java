@@ -2,12 +2,15 @@ package com.ktb.community.repository;
 
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.User;
+import com.ktb.community.search.PostText;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +25,28 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query("select p from Post p join fetch p.user where p.id = :postId")
     Optional<Post> findByWithUser(@Param("postId") Long postId);
+
+    boolean existsByIdAndDeletedAtIsNull(Long postId);
+
+    // 다건 조회용: 작성자까지 한 번의 IN 쿼리로 조회
+    @Query("select p from Post p join fetch p.user where p.id in :postIds and p.deletedAt is null")
+    List<Post> findAllByIdInWithUser(@Param("postIds") Collection<Long> postIds);
+
+    // 피드 head 인덱스 초기화용: 최근 게시글 ID만 조회
+    @Query("select p.id from Post p where p.deletedAt is null order by p.id desc")
+    List<Long> findRecentIds(Pageable pageable);
+
+    // 팔로잉 피드용: 여러 작성자의 게시글 ID를 cursor 이전부터 최신순으로 조회
+    @Query("select p.id from Post p where p.user.id in :userIds and p.id < :cursor and p.deletedAt is null order by p.id desc")
+    List<Long> findIdsByUserIdInBefore(@Param("userIds") Collection<Long> userIds, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 검색 색인 초기화용: since 이후 생성/수정/삭제된 게시글을 ID 순서로 나눠서 조회 (삭제된 게시글도 포함)
+    @Query("select new com.ktb.community.search.PostText(p.id, p.title, p.content, p.deletedAt) from Post p " +
+            "where p.id > :afterId and coalesce(p.updatedAt, p.createdAt) >= :since order by p.id asc")
+    List<PostText> findTextsChangedSince(@Param("afterId") Long afterId, @Param("since") LocalDateTime since, Pageable pageable);
+
+    // 관련 게시글 색인 초기화용: before보다 작은 ID의 게시글을 최신순으로 조회
+    @Query("select new com.ktb.community.search.PostText(p.id, p.title, p.content, p.deletedAt) from Post p " +
+            "where p.id < :before and p.deletedAt is null order by p.id desc")
+    List<PostText> findTextsBefore(@Param("before") Long before, Pageable pageable);
 }
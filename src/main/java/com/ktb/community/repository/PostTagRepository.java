@@ -0,0 +1,36 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.entity.PostTag;
+import com.ktb.community.entity.PostTagPK;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostTagRepository extends JpaRepository<PostTag, PostTagPK> {
+    @Query("select t.id.tag from PostTag t where t.id.postId = :postId")
+    List<String> findTagsByPostId(@Param("postId") Long postId);
+
+    // 태그가 붙은 게시글 ID (cursor보다 작은 것부터 최신순, PK 범위 조회)
+    @Query("select t.id.postId from PostTag t where t.id.tag = :tag and t.id.postId < :cursor order by t.id.postId desc")
+    List<Long> findPostIdsByTag(@Param("tag") String tag, @Param("cursor") Long cursor, Pageable pageable);
+
+    // since 이후에 붙은 태그별 게시글 수 (많은 순), 결과는 [tag, count]
+    @Query("select t.id.tag, count(t) from PostTag t where t.createdAt >= :since group by t.id.tag order by count(t) desc, t.id.tag")
+    List<Object[]> countTagsSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Modifying
+    @Query("delete from PostTag t where t.id.postId = :postId and t.id.tag in :tags")
+    int deleteTags(@Param("postId") Long postId, @Param("tags") Collection<String> tags);
+
+    @Modifying
+    @Query("delete from PostTag t where t.id.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
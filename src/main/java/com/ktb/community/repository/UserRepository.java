@@ -1,9 +1,16 @@
 package com.ktb.community.repository;
 
+import com.ktb.community.cache.UserIdentity;
 import com.ktb.community.entity.User;
+import com.ktb.community.search.UserNickname;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +22,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByNicknameAndIdNot(String nickname, Long id);
 
     Optional<User> findByEmail(String email);
+
+    List<User> findAllByNicknameIn(Collection<String> nicknames);
+
+    // 닉네임 색인 초기화용: 탈퇴하지 않은 사용자를 ID 순서로 나눠서 조회
+    @Query("select new com.ktb.community.search.UserNickname(u.id, u.nickname) from User u " +
+            "where u.id > :afterId and u.deletedAt is null order by u.id asc")
+    List<UserNickname> findNicknamesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 이메일 Bloom filter 초기화용: 모든 사용자를 ID 순서로 나눠서 조회 (existsByEmail과 같게 탈퇴한 사용자도 포함)
+    @Query("select new com.ktb.community.cache.UserIdentity(u.id, u.email) from User u " +
+            "where u.id > :afterId order by u.id asc")
+    List<UserIdentity> findIdentitiesAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
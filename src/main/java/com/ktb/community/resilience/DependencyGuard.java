@@ -0,0 +1,134 @@
+package com.ktb.community.resilience;
+
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성(S3, Redis, MySQL) 호출을 감싸는 bulkhead + circuit breaker
+ *
+ * - bulkhead: 의존성별 동시 호출 수를 semaphore로 제한해 느린 의존성 하나가 요청 스레드를 모두 잡지 않도록 함
+ * - circuit breaker: 실패나 deadline 초과가 많으면 호출하지 않고 바로 DependencyUnavailableException
+ * 실제 호출 timeout은 각 클라이언트 설정(S3 apiCallTimeout, Lettuce commandTimeout, JDBC query timeout)으로 걸고,
+ * 여기서는 deadline을 넘긴 호출을 실패로 집계함
+ */
+public class DependencyGuard {
+
+    private final String name;
+    private final Semaphore bulkhead;
+    private final long maxWaitNanos;
+    private final long deadlineNanos;
+    private final CircuitBreaker circuitBreaker;
+    private final Predicate<Throwable> isFailure;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private final LongAdder bulkheadRejected = new LongAdder();
+    private final LongAdder circuitRejected = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * @param name 의존성 이름
+     * @param maxConcurrentCalls 최대 동시 호출 수
+     * @param maxWait bulkhead 자리를 기다리는 최대 시간
+     * @param deadline 호출 하나의 deadline (넘기면 실패로 집계)
+     * @param circuitBreaker circuit breaker
+     * @param isFailure 의존성 장애로 볼 예외 (비즈니스 예외는 제외)
+     */
+    public DependencyGuard(String name, int maxConcurrentCalls, Duration maxWait, Duration deadline,
+                           CircuitBreaker circuitBreaker, Predicate<Throwable> isFailure) {
+        this.name = name;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.deadlineNanos = deadline.toNanos();
+        this.circuitBreaker = circuitBreaker;
+        this.isFailure = isFailure;
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        if (!acquireBulkhead()) {
+            bulkheadRejected.increment();
+            throw new DependencyUnavailableException(name + " is busy. Please try again later.");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitRejected.increment();
+                throw new DependencyUnavailableException(name + " is temporarily unavailable. Please try again later.");
+            }
+
+            long start = System.nanoTime();
+            try {
+                T result = supplier.get();
+                record(System.nanoTime() - start, null);
+                return result;
+            } catch (RuntimeException e) {
+                record(System.nanoTime() - start, e);
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public void run(Runnable runnable) {
+        call(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Stats stats() {
+        long callCount = calls.sum();
+        double averageMillis = callCount == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / callCount;
+        return new Stats(circuitBreaker.getState().name(), callCount, failures.sum(), slowCalls.sum(),
+                bulkheadRejected.sum(), circuitRejected.sum(), bulkhead.availablePermits(), averageMillis);
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(long elapsedNanos, RuntimeException error) {
+        calls.increment();
+        totalNanos.add(elapsedNanos);
+
+        if (error != null && isFailure.test(error)) {
+            failures.increment();
+            circuitBreaker.onFailure();
+        } else if (elapsedNanos > deadlineNanos) {
+            slowCalls.increment();
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    /**
+     * @param state circuit breaker 상태
+     * @param calls 실제 호출 수
+     * @param failures 장애로 집계된 실패 수
+     * @param slowCalls deadline을 넘긴 호출 수
+     * @param bulkheadRejected 동시 호출 한도로 거절된 수
+     * @param circuitRejected circuit이 열려 있어 거절된 수
+     * @param availablePermits 남은 동시 호출 자리
+     * @param averageMillis 평균 호출 시간(ms)
+     */
+    public record Stats(String state, long calls, long failures, long slowCalls, long bulkheadRejected,
+                        long circuitRejected, int availablePermits, double averageMillis) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.ktb.community.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "resilience")
+@Getter
+@Setter
+public class ResilienceProperties {
+
+    // 의존성 이름(s3, redis, mysql) -> 설정. 없는 항목은 기본값 사용
+    private Map<String, Settings> dependencies = new LinkedHashMap<>();
+
+    public Settings settingsFor(String name) {
+        return dependencies.getOrDefault(name, new Settings());
+    }
+
+    @Getter
+    @Setter
+    public static class Settings {
+        private int maxConcurrentCalls = 20;
+        private long maxWaitMillis = 100;
+        private long deadlineMillis = 2000;
+        private int slidingWindowSize = 50;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 50;
+        private long openDurationSeconds = 10;
+        private int halfOpenCalls = 3;
+    }
+}
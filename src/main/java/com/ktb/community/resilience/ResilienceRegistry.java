@@ -0,0 +1,65 @@
+package com.ktb.community.resilience;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+@Component
+public class ResilienceRegistry {
+    private final DependencyGuard s3;
+    private final DependencyGuard redis;
+    private final DependencyGuard mysql;
+
+    @Autowired
+    public ResilienceRegistry(ResilienceProperties properties) {
+        this.s3 = create("s3", properties, e -> e instanceof SdkException);
+        // Redis는 RedisTemplate이 던지는 모든 예외를 장애로 봄
+        this.redis = create("redis", properties, e -> true);
+        this.mysql = create("mysql", properties, e -> e instanceof DataAccessException);
+    }
+
+    public DependencyGuard s3() {
+        return s3;
+    }
+
+    public DependencyGuard redis() {
+        return redis;
+    }
+
+    public DependencyGuard mysql() {
+        return mysql;
+    }
+
+    public Map<String, DependencyGuard.Stats> stats() {
+        Map<String, DependencyGuard.Stats> stats = new LinkedHashMap<>();
+        for (DependencyGuard guard : new DependencyGuard[]{s3, redis, mysql}) {
+            stats.put(guard.getName(), guard.stats());
+        }
+        return stats;
+    }
+
+    private DependencyGuard create(String name, ResilienceProperties properties, Predicate<Throwable> isFailure) {
+        ResilienceProperties.Settings settings = properties.settingsFor(name);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                settings.getSlidingWindowSize(),
+                settings.getMinimumCalls(),
+                settings.getFailureRateThreshold(),
+                Duration.ofSeconds(settings.getOpenDurationSeconds()),
+                settings.getHalfOpenCalls()
+        );
+        return new DependencyGuard(
+                name,
+                settings.getMaxConcurrentCalls(),
+                Duration.ofMillis(settings.getMaxWaitMillis()),
+                Duration.ofMillis(settings.getDeadlineMillis()),
+                circuitBreaker,
+                isFailure
+        );
+    }
+}
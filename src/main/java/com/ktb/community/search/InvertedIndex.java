@@ -0,0 +1,403 @@
+package com.ktb.community.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 게시글(제목 + 본문)과 댓글의 역색인
+ *
+ * 문서(게시글 또는 댓글)는 색인할 때마다 새 번호(ordinal)를 받고, posting list에는 번호를 뒤에 붙이기만 함
+ * 수정은 이전 번호를 삭제 표시하고 새 번호로 다시 색인하며, 삭제 표시된 번호는 검색할 때 건너뜀
+ * 삭제 표시가 쌓이면 compact()로 살아 있는 문서만 남기고 번호를 다시 매김
+ *
+ * 검색은 검색어의 모든 단어를 포함한 문서만 찾고(AND) BM25로 점수를 매김
+ * - 게시글 문서: 제목 단어는 titleWeight배로 셈
+ * - 댓글 문서: 점수에 commentWeight를 곱해서 해당 게시글의 점수로 씀
+ * - 게시글 하나에 여러 문서가 일치하면 가장 높은 점수를 씀
+ *
+ * 동기화하지 않음. SearchIndex의 잠금 안에서만 사용
+ */
+final class InvertedIndex {
+
+    static final byte POST = 0;
+    static final byte COMMENT = 1;
+
+    private static final int MAGIC = 0x4B54_4258;
+    private static final int VERSION = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+            .thenComparingLong(Hit::postId);
+
+    private final int titleWeight;
+    private final double commentWeight;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> postOrdinals = new HashMap<>();
+    private final Map<Long, Integer> commentOrdinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    // ordinal별 문서 정보
+    private byte[] kinds = new byte[1024];
+    private long[] ids = new long[1024];
+    private long[] postIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int nextOrdinal;
+
+    private int liveDocuments;
+    private long liveLength;
+
+    InvertedIndex(int titleWeight, double commentWeight) {
+        this.titleWeight = titleWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    void putPost(long postId, String title, String content) {
+        kill(postOrdinals.remove(postId));
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = accumulate(NgramTokenizer.tokenize(title), titleWeight, frequencies)
+                + accumulate(NgramTokenizer.tokenize(content), 1, frequencies);
+        postOrdinals.put(postId, append(POST, postId, postId, length, frequencies));
+    }
+
+    /**
+     * 게시글과 게시글의 댓글을 모두 삭제 표시
+     */
+    void removePost(long postId) {
+        if (kill(postOrdinals.remove(postId))) {
+            for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+                if (kinds[ordinal] == COMMENT && postIds[ordinal] == postId) {
+                    commentOrdinals.remove(ids[ordinal]);
+                    kill(ordinal);
+                }
+            }
+        }
+    }
+
+    /**
+     * 게시글이 색인되어 있지 않으면(삭제됨) 무시
+     */
+    void putComment(long commentId, long postId, String content) {
+        kill(commentOrdinals.remove(commentId));
+        if (!postOrdinals.containsKey(postId)) {
+            return;
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = accumulate(NgramTokenizer.tokenize(content), 1, frequencies);
+        commentOrdinals.put(commentId, append(COMMENT, commentId, postId, length, frequencies));
+    }
+
+    void removeComment(long commentId) {
+        kill(commentOrdinals.remove(commentId));
+    }
+
+    /**
+     * 점수가 높은 순서로 최대 limit개의 게시글 (점수가 같으면 최신 게시글 먼저)
+     */
+    List<Hit> search(String query, int limit) {
+        List<PostingList> lists = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(NgramTokenizer.tokenize(query))) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        if (lists.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // 짧은 목록부터 교집합을 구해야 후보가 빨리 줄어듦
+        lists.sort(Comparator.comparingInt(PostingList::count));
+
+        double averageLength = liveDocuments == 0 ? 1 : Math.max(1, (double) liveLength / liveDocuments);
+        int[] candidates = null;
+        double[] scores = null;
+        int size = 0;
+        for (PostingList list : lists) {
+            int[] matched = new int[candidates == null ? list.count() : size];
+            int[] frequencies = new int[matched.length];
+            double[] carried = new double[matched.length];
+            int kept = 0;
+            int documentFrequency = 0;
+            int cursor = 0;
+            PostingList.Reader reader = list.reader();
+            while (reader.next()) {
+                int ordinal = reader.ordinal();
+                if (!live.get(ordinal)) {
+                    continue;
+                }
+                documentFrequency++;
+                if (candidates == null) {
+                    matched[kept] = ordinal;
+                    frequencies[kept++] = reader.frequency();
+                    continue;
+                }
+                while (cursor < size && candidates[cursor] < ordinal) {
+                    cursor++;
+                }
+                if (cursor < size && candidates[cursor] == ordinal) {
+                    matched[kept] = ordinal;
+                    frequencies[kept] = reader.frequency();
+                    carried[kept++] = scores[cursor++];
+                }
+            }
+
+            // 전체 목록을 읽어야 살아 있는 문서 수(df)를 알 수 있으므로 점수는 마지막에 더함
+            double idf = Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            for (int i = 0; i < kept; i++) {
+                double tf = frequencies[i];
+                double norm = K1 * (1 - B + B * lengths[matched[i]] / averageLength);
+                carried[i] += idf * tf * (K1 + 1) / (tf + norm);
+            }
+            candidates = matched;
+            scores = carried;
+            size = kept;
+            if (size == 0) {
+                return List.of();
+            }
+        }
+
+        Map<Long, Double> best = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            int ordinal = candidates[i];
+            double score = kinds[ordinal] == COMMENT ? scores[i] * commentWeight : scores[i];
+            best.merge(postIds[ordinal], score, Math::max);
+        }
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING);
+        best.forEach((postId, score) -> {
+            top.add(new Hit(postId, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING.reversed());
+        return hits;
+    }
+
+    /**
+     * 삭제 표시된 문서 비율이 deadRatio 이상인지
+     */
+    boolean needsCompaction(double deadRatio, int minDead) {
+        int dead = nextOrdinal - liveDocuments;
+        return dead >= minDead && dead >= nextOrdinal * deadRatio;
+    }
+
+    /**
+     * 살아 있는 문서만 남기고 번호를 0부터 다시 매김 (순서는 유지되므로 posting list는 그대로 오름차순)
+     */
+    void compact() {
+        int[] remap = liveRemap();
+        int renumbered = 0;
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            kinds[renumbered] = kinds[ordinal];
+            ids[renumbered] = ids[ordinal];
+            postIds[renumbered] = postIds[ordinal];
+            lengths[renumbered] = lengths[ordinal];
+            renumbered++;
+        }
+
+        Iterator<Map.Entry<String, PostingList>> iterator = postings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PostingList> entry = iterator.next();
+            PostingList compacted = remapped(entry.getValue(), remap);
+            if (compacted.count() == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+
+        nextOrdinal = renumbered;
+        live.clear();
+        live.set(0, renumbered);
+        rebuildOrdinalMaps();
+    }
+
+    // 살아 있는 문서의 새 번호 (삭제 표시된 문서는 -1)
+    private int[] liveRemap() {
+        int[] remap = new int[nextOrdinal];
+        Arrays.fill(remap, -1);
+        int renumbered = 0;
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            remap[ordinal] = renumbered++;
+        }
+        return remap;
+    }
+
+    private static PostingList remapped(PostingList list, int[] remap) {
+        PostingList compacted = new PostingList();
+        PostingList.Reader reader = list.reader();
+        while (reader.next()) {
+            int ordinal = remap[reader.ordinal()];
+            if (ordinal >= 0) {
+                compacted.add(ordinal, reader.frequency());
+            }
+        }
+        return compacted;
+    }
+
+    Stats stats() {
+        long bytes = 0;
+        long entries = 0;
+        for (PostingList list : postings.values()) {
+            bytes += list.bytes();
+            entries += list.count();
+        }
+        return new Stats(liveDocuments, nextOrdinal - liveDocuments, postings.size(), entries, bytes);
+    }
+
+    /**
+     * 살아 있는 문서만 번호를 0부터 다시 매겨서 기록 (compact()한 뒤 기록한 것과 같은 내용)
+     * 색인을 바꾸지 않으므로 검색과 함께 read lock 안에서 호출할 수 있음
+     */
+    void writeTo(DataOutput out) throws IOException {
+        int[] remap = liveRemap();
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(liveDocuments);
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            out.writeByte(kinds[ordinal]);
+            out.writeLong(ids[ordinal]);
+            out.writeLong(postIds[ordinal]);
+            out.writeInt(lengths[ordinal]);
+        }
+
+        // 삭제된 문서만 가리키던 term은 빠져야 하므로 개수를 쓰기 전에 먼저 다시 인코딩
+        Map<String, PostingList> terms = new LinkedHashMap<>();
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList list = remapped(entry.getValue(), remap);
+            if (list.count() > 0) {
+                terms.put(entry.getKey(), list);
+            }
+        }
+        out.writeInt(terms.size());
+        for (Map.Entry<String, PostingList> entry : terms.entrySet()) {
+            byte[] bytes = entry.getValue().toByteArray();
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().count());
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * writeTo()로 기록한 색인을 읽음. 형식이 맞지 않으면 IllegalArgumentException
+     */
+    static InvertedIndex readFrom(DataInput in, int titleWeight, double commentWeight) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IllegalArgumentException("Unsupported search snapshot");
+        }
+        InvertedIndex index = new InvertedIndex(titleWeight, commentWeight);
+        int documents = in.readInt();
+        if (documents < 0) {
+            throw new IllegalArgumentException("Malformed search snapshot");
+        }
+        for (int ordinal = 0; ordinal < documents; ordinal++) {
+            byte kind = in.readByte();
+            long id = in.readLong();
+            long postId = in.readLong();
+            int length = in.readInt();
+            if ((kind != POST && kind != COMMENT) || length < 0) {
+                throw new IllegalArgumentException("Malformed search snapshot");
+            }
+            index.register(kind, id, postId, length);
+        }
+        int terms = in.readInt();
+        for (int i = 0; i < terms; i++) {
+            String term = in.readUTF();
+            int count = in.readInt();
+            int length = in.readInt();
+            if (count < 1 || length < 0 || length > count * 10) {
+                throw new IllegalArgumentException("Malformed search snapshot");
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            PostingList list = PostingList.restore(bytes, count);
+            if (list.lastOrdinal() >= documents) {
+                throw new IllegalArgumentException("Malformed search snapshot");
+            }
+            index.postings.put(term, list);
+        }
+        index.rebuildOrdinalMaps();
+        return index;
+    }
+
+    private int append(byte kind, long id, long postId, int length, Map<String, Integer> frequencies) {
+        int ordinal = register(kind, id, postId, length);
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new PostingList()).add(ordinal, frequency));
+        return ordinal;
+    }
+
+    private int register(byte kind, long id, long postId, int length) {
+        int ordinal = nextOrdinal++;
+        if (ordinal == kinds.length) {
+            int capacity = kinds.length * 2;
+            kinds = Arrays.copyOf(kinds, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            postIds = Arrays.copyOf(postIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        kinds[ordinal] = kind;
+        ids[ordinal] = id;
+        postIds[ordinal] = postId;
+        lengths[ordinal] = length;
+        live.set(ordinal);
+        liveDocuments++;
+        liveLength += length;
+        return ordinal;
+    }
+
+    private boolean kill(Integer ordinal) {
+        if (ordinal == null || !live.get(ordinal)) {
+            return false;
+        }
+        live.clear(ordinal);
+        liveDocuments--;
+        liveLength -= lengths[ordinal];
+        return true;
+    }
+
+    private void rebuildOrdinalMaps() {
+        postOrdinals.clear();
+        commentOrdinals.clear();
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            (kinds[ordinal] == POST ? postOrdinals : commentOrdinals).put(ids[ordinal], ordinal);
+        }
+    }
+
+    private static int accumulate(List<String> tokens, int weight, Map<String, Integer> frequencies) {
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    /**
+     * @param postId 게시글 ID (댓글이 일치한 경우에도 댓글이 달린 게시글)
+     * @param score BM25 점수
+     */
+    record Hit(long postId, double score) {
+    }
+
+    /**
+     * @param documents 검색되는 문서 수 (게시글 + 댓글)
+     * @param deadDocuments 삭제 표시만 되어 있고 아직 compact()되지 않은 문서 수
+     * @param terms 단어 수
+     * @param postings posting 항목 수
+     * @param postingBytes posting list가 차지하는 바이트
+     */
+    record Stats(int documents, int deadDocuments, int terms, long postings, long postingBytes) {
+    }
+}
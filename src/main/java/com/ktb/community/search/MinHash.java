@@ -0,0 +1,74 @@
+package com.ktb.community.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * MinHash 서명
+ *
+ * 해시 함수마다 집합 원소의 최솟값을 모은 배열. 두 서명에서 같은 위치의 값이 같을 확률이 두 집합의 Jaccard 유사도와 같으므로,
+ * 집합 전체를 비교하지 않고 서명 크기만큼만 비교해서 유사도를 추정함 (서명 64개면 오차 약 ±0.06)
+ */
+final class MinHash {
+
+    private static final long[] SEEDS = new long[256];
+
+    static {
+        long state = 0x5DEECE66DL;
+        for (int i = 0; i < SEEDS.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(state);
+        }
+    }
+
+    private MinHash() {
+    }
+
+    static int[] signature(Collection<String> shingles, int size) {
+        if (size > SEEDS.length) {
+            throw new IllegalArgumentException("signature size must be at most " + SEEDS.length);
+        }
+        int[] signature = new int[size];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long base = hash(shingle);
+            for (int i = 0; i < size; i++) {
+                int value = (int) (mix(base ^ SEEDS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 같은 위치의 값이 같은 비율 (Jaccard 유사도 추정값)
+     */
+    static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    // FNV-1a 64비트
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
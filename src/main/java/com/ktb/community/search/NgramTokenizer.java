@@ -0,0 +1,78 @@
+package com.ktb.community.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토큰 분리
+ *
+ * 한국어는 조사/어미가 붙어서("커뮤니티에서", "커뮤니티를") 공백 단위로 자르면 같은 단어를 찾지 못하므로,
+ * 한글/한자/가나 구간은 글자 2개씩 겹쳐서 자름 (bigram). "커뮤니티" -> 커뮤, 뮤니, 니티
+ * 그 외(영문/숫자)는 단어 단위로 자름
+ *
+ * 문서와 검색어를 같은 방식으로 자르므로 검색어의 bigram이 모두 들어 있는 문서를 찾으면 부분 문자열 검색과 비슷해짐
+ * (위치는 저장하지 않으므로 bigram이 떨어져 있어도 일치로 봄)
+ */
+public final class NgramTokenizer {
+
+    // 너무 긴 단어(URL, 반복 문자 등)는 검색에 쓸모가 없고 사전만 키우므로 자름
+    static final int MAX_WORD_LENGTH = 32;
+
+    private NgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int runStart = -1;
+        boolean runIsCjk = false;
+        int index = 0;
+        while (index < normalized.length()) {
+            int codePoint = normalized.codePointAt(index);
+            boolean wordChar = Character.isLetterOrDigit(codePoint);
+            boolean cjk = wordChar && isCjk(codePoint);
+            if (runStart >= 0 && (!wordChar || cjk != runIsCjk)) {
+                emit(normalized.substring(runStart, index), runIsCjk, tokens);
+                runStart = -1;
+            }
+            if (wordChar && runStart < 0) {
+                runStart = index;
+                runIsCjk = cjk;
+            }
+            index += Character.charCount(codePoint);
+        }
+        if (runStart >= 0) {
+            emit(normalized.substring(runStart), runIsCjk, tokens);
+        }
+        return tokens;
+    }
+
+    private static void emit(String run, boolean cjk, List<String> tokens) {
+        if (!cjk) {
+            tokens.add(run.length() > MAX_WORD_LENGTH ? run.substring(0, MAX_WORD_LENGTH) : run);
+            return;
+        }
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,345 @@
+package com.ktb.community.search;
+
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.resilience.ResilienceRegistry;
+import com.ktb.community.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 닉네임 자동완성 (접두사 검색)
+ *
+ * - 서버 시작 시 탈퇴하지 않은 사용자의 닉네임을 DB에서 읽어 NicknameTrie를 만듦
+ * - 가입/닉네임 변경/탈퇴는 커밋 후 변경분(추가/제거 목록)에 반영하고, 검색은 트라이와 변경분을 합쳐서 답함
+ * - 변경분이 max-pending-changes 이상이면 백그라운드에서 트라이를 새로 만든 뒤 교체.
+ *   만드는 동안 들어온 변경은 모아뒀다가 교체 후 다시 반영
+ * - 대소문자, 전각/반각 구분 없이 찾음 (NFKC + 소문자)
+ *
+ * 검색은 read lock, 변경은 write lock. 트라이를 만드는 동안에는 잠금을 잡지 않음
+ */
+@Component
+public class NicknameIndex {
+    private static final Logger log = LoggerFactory.getLogger(NicknameIndex.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final long BOOTSTRAP_RETRY_SECONDS = 30;
+
+    private final UserRepository userRepository;
+    private final ResilienceRegistry resilienceRegistry;
+    private final int maxPendingChanges;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NicknameTrie trie = NicknameTrie.empty();
+    // 트라이 이후의 변경분. added에 있는 키는 트라이의 같은 키를 덮어씀
+    private TreeMap<String, NicknameTrie.Entry> added = new TreeMap<>();
+    private Set<String> removed = new HashSet<>();
+    // 초기화 전이나 트라이를 새로 만드는 동안의 변경 (끝난 뒤 다시 반영)
+    private final List<Change> pending = new ArrayList<>();
+    private volatile boolean ready;
+    private boolean rebuilding;
+    private long rebuilds;
+
+    private final TaskScheduler scheduler;
+    private volatile boolean stopped;
+
+    @Autowired
+    public NicknameIndex(UserRepository userRepository, ResilienceRegistry resilienceRegistry,
+                         @Qualifier("backgroundTaskScheduler") TaskScheduler scheduler,
+                         @Value("${nickname-index.max-pending-changes:10000}") int maxPendingChanges) {
+        this.userRepository = userRepository;
+        this.resilienceRegistry = resilienceRegistry;
+        this.scheduler = scheduler;
+        this.maxPendingChanges = maxPendingChanges;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.schedule(this::bootstrapSafely, Instant.now());
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 가입한 경우 (커밋 후 반영)
+     */
+    public void add(Long userId, String nickname) {
+        AfterCommit.run(() -> apply(new Change(userId, null, nickname)));
+    }
+
+    /**
+     * 닉네임을 바꾼 경우 (커밋 후 반영)
+     */
+    public void rename(Long userId, String oldNickname, String newNickname) {
+        AfterCommit.run(() -> apply(new Change(userId, oldNickname, newNickname)));
+    }
+
+    /**
+     * 탈퇴한 경우 (커밋 후 반영)
+     */
+    public void remove(Long userId, String nickname) {
+        AfterCommit.run(() -> apply(new Change(userId, nickname, null)));
+    }
+
+    /**
+     * prefix로 시작하는 닉네임을 사전 순서로 최대 limit개
+     *
+     * @return 색인을 초기화하는 중이면 null
+     */
+    public List<NicknameTrie.Entry> suggest(String prefix, int limit) {
+        String key = key(prefix);
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return null;
+            }
+            List<NicknameTrie.Entry> fromTrie = trie.prefix(key, limit, k -> removed.contains(k) || added.containsKey(k));
+            if (added.isEmpty()) {
+                return fromTrie;
+            }
+            Iterator<NicknameTrie.Entry> fromChanges = added.subMap(key, true, key + Character.MAX_VALUE, false).values().iterator();
+            return merge(fromTrie.iterator(), fromChanges, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return new Stats(ready, trie.size() - removed.size() + added.size(), trie.nodes(), trie.arrayBytes(),
+                    added.size() + removed.size(), rebuilds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 키: 전각/반각과 대소문자 차이를 없앰
+     */
+    static String key(String nickname) {
+        return Normalizer.normalize(nickname, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pending.add(change);
+                return;
+            }
+            applyToChanges(change);
+            if (rebuilding) {
+                pending.add(change);
+            } else if (scheduler != null && added.size() + removed.size() >= maxPendingChanges) {
+                rebuilding = true;
+                scheduler.schedule(this::rebuildSafely, Instant.now());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyToChanges(Change change) {
+        if (change.oldNickname() != null) {
+            String key = key(change.oldNickname());
+            NicknameTrie.Entry entry = added.get(key);
+            if (entry != null && entry.userId() == change.userId()) {
+                added.remove(key);
+            }
+            if (trie.get(key) == change.userId()) {
+                removed.add(key);
+            }
+        }
+        if (change.newNickname() != null) {
+            String key = key(change.newNickname());
+            added.put(key, new NicknameTrie.Entry(key, change.userId(), change.newNickname()));
+        }
+    }
+
+    /**
+     * 트라이와 변경분을 합쳐서 새 트라이로 교체
+     */
+    void rebuild() {
+        NicknameTrie current;
+        List<NicknameTrie.Entry> changes;
+        Set<String> dropped;
+        lock.writeLock().lock();
+        try {
+            current = trie;
+            changes = new ArrayList<>(added.values());
+            dropped = new HashSet<>(removed);
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        List<NicknameTrie.Entry> kept = new ArrayList<>(current.size());
+        for (NicknameTrie.Entry entry : current.entries()) {
+            if (!dropped.contains(entry.key())) {
+                kept.add(entry);
+            }
+        }
+        NicknameTrie built = NicknameTrie.build(merge(kept.iterator(), changes.iterator(), Integer.MAX_VALUE));
+
+        lock.writeLock().lock();
+        try {
+            trie = built;
+            added = new TreeMap<>();
+            removed = new HashSet<>();
+            for (Change change : pending) {
+                applyToChanges(change);
+            }
+            pending.clear();
+            rebuilding = false;
+            rebuilds++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Nickname index rebuilt: {} users, {} nodes ({} ms)", built.size(), built.nodes(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Nickname index rebuild failed, keeping current trie and changes: {}", e.toString());
+            lock.writeLock().lock();
+            try {
+                // 모아둔 변경은 이미 현재 변경분에 반영되어 있음
+                pending.clear();
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    void bootstrap() {
+        long startedAt = System.currentTimeMillis();
+        List<UserNickname> users = new ArrayList<>();
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            List<UserNickname> batch = this.resilienceRegistry.mysql().call(
+                    () -> this.userRepository.findNicknamesAfter(cursor, PageRequest.of(0, BATCH_SIZE)));
+            users.addAll(batch);
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            afterId = batch.getLast().id();
+        }
+        load(users);
+        log.info("Nickname index ready: {} users ({} ms)", users.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 트라이를 처음 만들고, 그동안 모인 변경을 반영
+     * 키가 겹치면(대소문자만 다른 닉네임) 먼저 가입한 사용자를 남김
+     */
+    void load(List<UserNickname> users) {
+        List<NicknameTrie.Entry> entries = new ArrayList<>(users.size());
+        for (UserNickname user : users) {
+            if (user.nickname() != null && !user.nickname().isEmpty()) {
+                entries.add(new NicknameTrie.Entry(key(user.nickname()), user.id(), user.nickname()));
+            }
+        }
+        entries.sort(Comparator.comparing(NicknameTrie.Entry::key).thenComparingLong(NicknameTrie.Entry::userId));
+        List<NicknameTrie.Entry> unique = new ArrayList<>(entries.size());
+        for (NicknameTrie.Entry entry : entries) {
+            if (unique.isEmpty() || !unique.getLast().key().equals(entry.key())) {
+                unique.add(entry);
+            }
+        }
+        NicknameTrie built = NicknameTrie.build(unique);
+
+        lock.writeLock().lock();
+        try {
+            trie = built;
+            added = new TreeMap<>();
+            removed = new HashSet<>();
+            for (Change change : pending) {
+                applyToChanges(change);
+            }
+            pending.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void bootstrapSafely() {
+        try {
+            bootstrap();
+        } catch (RuntimeException e) {
+            log.warn("Nickname index bootstrap failed, retrying in {}s: {}", BOOTSTRAP_RETRY_SECONDS, e.toString());
+            if (!stopped) {
+                scheduler.schedule(this::bootstrapSafely, Instant.now().plusSeconds(BOOTSTRAP_RETRY_SECONDS));
+            }
+        }
+    }
+
+    // 키 순서로 정렬된 두 목록을 합침. 키가 같으면 second(변경분)를 사용
+    private static List<NicknameTrie.Entry> merge(Iterator<NicknameTrie.Entry> first, Iterator<NicknameTrie.Entry> second, int limit) {
+        List<NicknameTrie.Entry> result = new ArrayList<>();
+        NicknameTrie.Entry a = first.hasNext() ? first.next() : null;
+        NicknameTrie.Entry b = second.hasNext() ? second.next() : null;
+        while ((a != null || b != null) && result.size() < limit) {
+            int compare = a == null ? 1 : b == null ? -1 : a.key().compareTo(b.key());
+            if (compare < 0) {
+                result.add(a);
+                a = first.hasNext() ? first.next() : null;
+            } else {
+                result.add(b);
+                if (compare == 0) {
+                    a = first.hasNext() ? first.next() : null;
+                }
+                b = second.hasNext() ? second.next() : null;
+            }
+        }
+        return result;
+    }
+
+    private record Change(long userId, String oldNickname, String newNickname) {
+    }
+
+    /**
+     * @param ready 초기화(DB 조회)가 끝났는지
+     * @param users 검색되는 닉네임 수
+     * @param nodes 트라이 노드 수
+     * @param trieBytes 트라이 배열 크기 (대략)
+     * @param pendingChanges 트라이에 아직 합치지 않은 변경 수
+     * @param rebuilds 트라이를 새로 만든 횟수
+     */
+    public record Stats(boolean ready, int users, int nodes, long trieBytes, int pendingChanges, long rebuilds) {
+    }
+}
@@ -0,0 +1,271 @@
+package com.ktb.community.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 닉네임 접두사 검색용 압축 트라이 (읽기 전용)
+ *
+ * 정렬된 키로 한 번에 만들고, 노드를 객체 대신 배열로 저장함 (노드당 16바이트 + 라벨 글자)
+ * - 가지가 없는 구간은 한 노드의 라벨로 합침 (radix trie)
+ * - 노드 번호는 너비 우선 순서. 한 노드의 자식은 번호가 연속이고 첫 글자 순으로 정렬되어 있어 이진 탐색으로 찾음
+ * - 자식을 순서대로 깊이 우선으로 내려가면 키의 사전 순서가 되므로, 앞에서부터 limit개만 보고 멈출 수 있음
+ *
+ * 변경은 NicknameIndex가 따로 모았다가 주기적으로 새로 만듦
+ */
+public final class NicknameTrie {
+
+    private static final NicknameTrie EMPTY = build(List.of());
+
+    // 노드 i의 라벨은 labels[labelStart[i], labelStart[i + 1])
+    private final char[] labels;
+    private final int[] labelStart;
+    // 노드 i의 자식은 [childStart[i], childStart[i + 1])
+    private final int[] childStart;
+    // 노드에서 끝나는 키의 사용자 ID, 없으면 -1
+    private final long[] userIds;
+    // 화면에 보여줄 닉네임이 키(소문자)와 다를 때만 저장
+    private final String[] nicknames;
+    private final int size;
+
+    private NicknameTrie(char[] labels, int[] labelStart, int[] childStart, long[] userIds, String[] nicknames, int size) {
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.childStart = childStart;
+        this.userIds = userIds;
+        this.nicknames = nicknames;
+        this.size = size;
+    }
+
+    public static NicknameTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param entries 키 순서로 정렬되어 있고 키가 겹치지 않아야 함 (빈 키는 무시)
+     */
+    public static NicknameTrie build(List<Entry> entries) {
+        Builder builder = new Builder(entries);
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int nodes() {
+        return userIds.length;
+    }
+
+    /**
+     * 배열이 차지하는 대략적인 바이트 수 (배열 헤더와 nicknames에 따로 저장한 문자열은 제외)
+     */
+    public long arrayBytes() {
+        return (long) labels.length * Character.BYTES
+                + (long) (labelStart.length + childStart.length) * Integer.BYTES
+                + (long) userIds.length * Long.BYTES
+                + (long) nicknames.length * Integer.BYTES;
+    }
+
+    /**
+     * 키에 해당하는 사용자 ID, 없으면 -1
+     */
+    public long get(String key) {
+        Match match = descend(key);
+        return match != null && match.labelOffset() == labelLength(match.node()) ? userIds[match.node()] : -1;
+    }
+
+    /**
+     * key로 시작하는 항목을 사전 순서로 최대 limit개. skip이 true인 키는 건너뜀 (세지 않음)
+     */
+    public List<Entry> prefix(String key, int limit, Predicate<String> skip) {
+        List<Entry> result = new ArrayList<>(Math.min(limit, 16));
+        Match match = descend(key);
+        if (match == null || limit <= 0) {
+            return result;
+        }
+        StringBuilder path = new StringBuilder(key);
+        // 라벨 중간에서 끝났으면 라벨의 나머지를 붙여서 노드의 전체 키를 만듦
+        path.append(labels, labelStart[match.node()] + match.labelOffset(), labelLength(match.node()) - match.labelOffset());
+        collect(match.node(), path, limit, skip, result);
+        return result;
+    }
+
+    /**
+     * 모든 항목을 사전 순서로 (다시 만들 때 사용)
+     */
+    public List<Entry> entries() {
+        List<Entry> result = new ArrayList<>(size);
+        collect(0, new StringBuilder(), Integer.MAX_VALUE, key -> false, result);
+        return result;
+    }
+
+    private void collect(int node, StringBuilder path, int limit, Predicate<String> skip, List<Entry> result) {
+        if (userIds[node] >= 0) {
+            String key = path.toString();
+            if (!skip.test(key)) {
+                result.add(new Entry(key, userIds[node], nicknames[node] != null ? nicknames[node] : key));
+            }
+        }
+        for (int child = childStart[node]; child < childStart[node + 1] && result.size() < limit; child++) {
+            int length = path.length();
+            path.append(labels, labelStart[child], labelLength(child));
+            collect(child, path, limit, skip, result);
+            path.setLength(length);
+        }
+    }
+
+    /**
+     * key를 따라 내려간 위치 (key가 라벨 중간에서 끝나면 그 노드와 라벨 안의 위치). key로 시작하는 키가 없으면 null
+     */
+    private Match descend(String key) {
+        int node = 0;
+        int matched = 0;
+        while (matched < key.length()) {
+            int child = findChild(node, key.charAt(matched));
+            if (child < 0) {
+                return null;
+            }
+            int start = labelStart[child];
+            int length = labelLength(child);
+            for (int i = 0; i < length; i++) {
+                if (matched == key.length()) {
+                    return new Match(child, i);
+                }
+                if (labels[start + i] != key.charAt(matched)) {
+                    return null;
+                }
+                matched++;
+            }
+            node = child;
+        }
+        return new Match(node, labelLength(node));
+    }
+
+    private int findChild(int node, char c) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = labels[labelStart[mid]];
+            if (first < c) {
+                low = mid + 1;
+            } else if (first > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int labelLength(int node) {
+        return labelStart[node + 1] - labelStart[node];
+    }
+
+    private record Match(int node, int labelOffset) {
+    }
+
+    /**
+     * @param key 검색에 쓰는 키 (NicknameIndex.key로 정규화한 닉네임)
+     * @param nickname 실제 닉네임
+     */
+    public record Entry(String key, long userId, String nickname) {
+    }
+
+    /**
+     * 정렬된 키 구간을 너비 우선으로 나눠서 배열을 채움
+     * 구간 [low, high)의 키는 앞의 depth글자가 같고, 첫 키가 depth글자면 그 노드에서 끝나는 키
+     */
+    private static final class Builder {
+        private final List<Entry> entries;
+        private char[] labels;
+        private int labelCount;
+        private final int[] labelStart;
+        private final int[] childStart;
+        private final long[] userIds;
+        private final String[] nicknames;
+        private int nodeCount;
+
+        Builder(List<Entry> entries) {
+            this.entries = entries;
+            // radix trie의 노드 수는 (키 수 * 2 + 1)을 넘지 않음
+            int maxNodes = entries.size() * 2 + 1;
+            this.labels = new char[Math.max(16, entries.size() * 4)];
+            this.labelStart = new int[maxNodes + 1];
+            this.childStart = new int[maxNodes + 1];
+            this.userIds = new long[maxNodes];
+            this.nicknames = new String[maxNodes];
+        }
+
+        NicknameTrie build() {
+            int size = 0;
+            ArrayDeque<int[]> queue = new ArrayDeque<>();
+            // {low, high, depth}
+            queue.add(new int[]{0, entries.size(), 0});
+            nodeCount = 1;
+            labelStart[0] = 0;
+
+            for (int node = 0; node < nodeCount; node++) {
+                int[] range = queue.poll();
+                int low = range[0];
+                int high = range[1];
+                int depth = range[2];
+                userIds[node] = -1;
+
+                if (low < high && entries.get(low).key().length() == depth) {
+                    Entry entry = entries.get(low);
+                    if (depth > 0) {
+                        userIds[node] = entry.userId();
+                        nicknames[node] = entry.nickname().equals(entry.key()) ? null : entry.nickname();
+                        size++;
+                    }
+                    low++;
+                }
+
+                childStart[node] = nodeCount;
+                while (low < high) {
+                    String first = entries.get(low).key();
+                    char c = first.charAt(depth);
+                    int end = low + 1;
+                    while (end < high && entries.get(end).key().charAt(depth) == c) {
+                        end++;
+                    }
+                    // 정렬되어 있으므로 구간의 공통 접두사는 첫 키와 마지막 키의 공통 접두사
+                    int childDepth = commonPrefix(first, entries.get(end - 1).key(), depth + 1);
+                    appendLabel(first, depth, childDepth);
+                    labelStart[nodeCount + 1] = labelCount;
+                    queue.add(new int[]{low, end, childDepth});
+                    nodeCount++;
+                    low = end;
+                }
+            }
+            childStart[nodeCount] = nodeCount;
+
+            return new NicknameTrie(Arrays.copyOf(labels, labelCount), Arrays.copyOf(labelStart, nodeCount + 1),
+                    Arrays.copyOf(childStart, nodeCount + 1), Arrays.copyOf(userIds, nodeCount),
+                    Arrays.copyOf(nicknames, nodeCount), size);
+        }
+
+        private void appendLabel(String key, int from, int to) {
+            int length = to - from;
+            if (labelCount + length > labels.length) {
+                labels = Arrays.copyOf(labels, Math.max(labels.length * 2, labelCount + length));
+            }
+            key.getChars(from, to, labels, labelCount);
+            labelCount += length;
+        }
+
+        private static int commonPrefix(String a, String b, int from) {
+            int limit = Math.min(a.length(), b.length());
+            int i = from;
+            while (i < limit && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ktb.community.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인용 게시글 내용 (작성자 등 연관 엔티티 없이 조회)
+ *
+ * @param deletedAt null이 아니면 색인에서 제거
+ */
+public record PostText(Long id, String title, String content, LocalDateTime deletedAt) {
+}
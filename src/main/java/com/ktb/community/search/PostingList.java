@@ -0,0 +1,135 @@
+package com.ktb.community.search;
+
+import java.util.Arrays;
+
+/**
+ * 단어 하나의 posting list (문서 번호 + 단어 빈도)
+ *
+ * 문서 번호는 색인할 때마다 증가하므로 항상 뒤에 붙이기만 하면 오름차순이 유지됨
+ * 이전 번호와의 차이(delta)와 빈도를 varint로 저장하므로 항목당 보통 2~3바이트
+ * (int 배열 두 개로 두면 항목당 8바이트)
+ *
+ * 동기화하지 않음. InvertedIndex의 잠금 안에서만 사용
+ */
+final class PostingList {
+
+    private byte[] data;
+    private int length;
+    private int count;
+    private int lastOrdinal = -1;
+
+    PostingList() {
+        this.data = new byte[8];
+    }
+
+    private PostingList(byte[] data, int count, int lastOrdinal) {
+        this.data = data;
+        this.length = data.length;
+        this.count = count;
+        this.lastOrdinal = lastOrdinal;
+    }
+
+    /**
+     * 스냅샷에서 읽은 바이트로 복원 (항목을 한 번 읽어서 형식을 검증)
+     */
+    static PostingList restore(byte[] data, int count) {
+        PostingList list = new PostingList(data, count, -1);
+        Reader reader = list.reader();
+        int read = 0;
+        int previous = -1;
+        while (reader.next()) {
+            if (reader.ordinal() <= previous || reader.frequency() < 1) {
+                throw new IllegalArgumentException("Malformed posting list");
+            }
+            previous = reader.ordinal();
+            read++;
+        }
+        if (read != count) {
+            throw new IllegalArgumentException("Malformed posting list");
+        }
+        list.lastOrdinal = reader.ordinal();
+        return list;
+    }
+
+    void add(int ordinal, int frequency) {
+        if (ordinal <= lastOrdinal) {
+            throw new IllegalArgumentException("Ordinals must be appended in increasing order");
+        }
+        writeVarint(ordinal - lastOrdinal);
+        writeVarint(frequency);
+        lastOrdinal = ordinal;
+        count++;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int lastOrdinal() {
+        return lastOrdinal;
+    }
+
+    int bytes() {
+        return length;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(data, length);
+    }
+
+    Reader reader() {
+        return new Reader();
+    }
+
+    private void writeVarint(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * 앞에서부터 한 항목씩 복원
+     */
+    final class Reader {
+        private int position;
+        private int ordinal = -1;
+        private int frequency;
+
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            ordinal += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        int ordinal() {
+            return ordinal;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (position >= length || shift > 28) {
+                    throw new IllegalArgumentException("Malformed posting list");
+                }
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
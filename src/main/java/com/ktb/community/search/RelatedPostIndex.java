@@ -0,0 +1,319 @@
+package com.ktb.community.search;
+
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.resilience.ResilienceRegistry;
+import com.ktb.community.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 상세의 관련 게시글 목록
+ *
+ * 게시글마다 MinHash 서명(제목 + 본문의 n-gram 집합)을 만들고, 서명을 band로 나눠서 같은 band 값을 가진 게시글끼리 bucket에 묶음 (LSH)
+ * 같은 bucket에 들어간 게시글만 후보로 보고 서명으로 유사도를 계산하므로 전체 게시글과 비교하지 않음
+ *
+ * - 게시글 생성/수정 시(커밋 후) 그 게시글의 목록을 계산하고, 후보 게시글의 목록에도 새 게시글을 끼워 넣음
+ * - 조회는 미리 계산된 목록(최대 top-n개)을 그대로 읽음
+ * - 최근 max-posts개 게시글만 유지 (넘으면 ID가 가장 작은 게시글부터 제외)
+ * - 서버 시작 시 최근 게시글을 DB에서 채움 (그 사이의 생성/수정/삭제가 우선)
+ */
+@Component
+public class RelatedPostIndex {
+    private static final Logger log = LoggerFactory.getLogger(RelatedPostIndex.class);
+
+    static final int SIGNATURE_SIZE = 64;
+    // band당 2행 x 32 band: 유사도 0.3이면 약 95%, 0.1이면 약 27% 확률로 후보가 됨
+    static final int ROWS_PER_BAND = 2;
+    private static final int BANDS = SIGNATURE_SIZE / ROWS_PER_BAND;
+    // n-gram이 너무 적은 짧은 게시글은 우연히 겹치는 경우가 많으므로 제외
+    static final int MIN_SHINGLES = 3;
+    private static final int BATCH_SIZE = 500;
+    private static final long BOOTSTRAP_RETRY_SECONDS = 30;
+
+    private final PostRepository postRepository;
+    private final ResilienceRegistry resilienceRegistry;
+    private final int topN;
+    private final double minSimilarity;
+    private final int maxPosts;
+    private final int bucketCapacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final NavigableMap<Long, int[]> signatures = new TreeMap<>();
+    private final Map<Long, LinkedHashSet<Long>> buckets = new HashMap<>();
+    // 초기화 중에 삭제/수정된 게시글 (DB에서 읽은 이전 내용으로 덮어쓰지 않도록)
+    private final Set<Long> touchedDuringBootstrap = new HashSet<>();
+    private boolean bootstrapping = true;
+
+    // 조회는 잠금 없이 읽음
+    private final Map<Long, Neighbor[]> related = new ConcurrentHashMap<>();
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+
+    private final TaskScheduler scheduler;
+    private volatile boolean stopped;
+
+    @Autowired
+    public RelatedPostIndex(PostRepository postRepository, ResilienceRegistry resilienceRegistry,
+                            @Qualifier("backgroundTaskScheduler") TaskScheduler scheduler,
+                            @Value("${related.top-n:5}") int topN,
+                            @Value("${related.min-similarity:0.2}") double minSimilarity,
+                            @Value("${related.max-posts:50000}") int maxPosts,
+                            @Value("${related.bucket-capacity:100}") int bucketCapacity) {
+        this.postRepository = postRepository;
+        this.resilienceRegistry = resilienceRegistry;
+        this.scheduler = scheduler;
+        this.topN = topN;
+        this.minSimilarity = minSimilarity;
+        this.maxPosts = maxPosts;
+        this.bucketCapacity = bucketCapacity;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.schedule(this::bootstrapSafely, Instant.now());
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * 게시글이 생성/수정된 경우 (커밋 후 반영)
+     */
+    public void index(Long postId, String title, String content) {
+        AfterCommit.run(() -> put(postId, title, content, true));
+    }
+
+    /**
+     * 게시글이 삭제된 경우 (커밋 후 반영)
+     */
+    public void remove(Long postId) {
+        AfterCommit.run(() -> {
+            lock.lock();
+            try {
+                if (bootstrapping) {
+                    touchedDuringBootstrap.add(postId);
+                }
+                delete(postId);
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 미리 계산된 관련 게시글 (유사도가 높은 순서)
+     */
+    public List<Related> related(Long postId) {
+        Neighbor[] neighbors = related.get(postId);
+        if (neighbors == null) {
+            return List.of();
+        }
+        List<Related> result = new ArrayList<>(neighbors.length);
+        for (Neighbor neighbor : neighbors) {
+            // 목록에 남아 있어도 이미 제외된 게시글은 건너뜀
+            String title = titles.get(neighbor.postId());
+            if (title != null) {
+                result.add(new Related(neighbor.postId(), title, neighbor.similarity()));
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return titles.size();
+    }
+
+    void put(long postId, String title, String content, boolean live) {
+        Set<String> shingles = new HashSet<>(NgramTokenizer.tokenize(title));
+        shingles.addAll(NgramTokenizer.tokenize(content));
+        int[] signature = shingles.size() < MIN_SHINGLES ? null : MinHash.signature(shingles, SIGNATURE_SIZE);
+
+        lock.lock();
+        try {
+            if (bootstrapping) {
+                if (live) {
+                    touchedDuringBootstrap.add(postId);
+                } else if (touchedDuringBootstrap.contains(postId)) {
+                    return;
+                }
+            }
+            delete(postId);
+            if (signature == null) {
+                return;
+            }
+
+            Set<Long> candidates = new HashSet<>();
+            long[] keys = bandKeys(signature);
+            for (long key : keys) {
+                LinkedHashSet<Long> bucket = buckets.get(key);
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+
+            List<Neighbor> neighbors = new ArrayList<>();
+            for (Long candidate : candidates) {
+                double similarity = MinHash.similarity(signature, signatures.get(candidate));
+                if (similarity >= minSimilarity) {
+                    neighbors.add(new Neighbor(candidate, similarity));
+                    insert(candidate, new Neighbor(postId, similarity));
+                }
+            }
+            neighbors.sort(Neighbor.RANKING);
+            related.put(postId, neighbors.subList(0, Math.min(topN, neighbors.size())).toArray(Neighbor[]::new));
+
+            for (long key : keys) {
+                LinkedHashSet<Long> bucket = buckets.computeIfAbsent(key, k -> new LinkedHashSet<>());
+                bucket.add(postId);
+                if (bucket.size() > bucketCapacity) {
+                    // 흔한 문구로 bucket이 커지면 가장 먼저 들어온 게시글부터 후보에서 뺌
+                    Iterator<Long> eldest = bucket.iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            signatures.put(postId, signature);
+            titles.put(postId, title);
+
+            while (signatures.size() > maxPosts) {
+                delete(signatures.firstKey());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 잠금 안에서 호출
+    private void delete(long postId) {
+        int[] signature = signatures.remove(postId);
+        titles.remove(postId);
+        related.remove(postId);
+        if (signature == null) {
+            return;
+        }
+        Set<Long> neighbors = new HashSet<>();
+        for (long key : bandKeys(signature)) {
+            LinkedHashSet<Long> bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.remove(postId);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            } else {
+                neighbors.addAll(bucket);
+            }
+        }
+        for (Long neighbor : neighbors) {
+            Neighbor[] list = related.get(neighbor);
+            if (list != null) {
+                related.put(neighbor, Arrays.stream(list).filter(n -> n.postId() != postId).toArray(Neighbor[]::new));
+            }
+        }
+    }
+
+    // 잠금 안에서 호출. 목록이 가득 찼으면 가장 낮은 항목보다 높을 때만 들어감
+    private void insert(long postId, Neighbor candidate) {
+        Neighbor[] current = related.getOrDefault(postId, new Neighbor[0]);
+        if (current.length >= topN && Neighbor.RANKING.compare(candidate, current[current.length - 1]) >= 0) {
+            return;
+        }
+        List<Neighbor> next = new ArrayList<>(current.length + 1);
+        for (Neighbor neighbor : current) {
+            if (neighbor.postId() != candidate.postId()) {
+                next.add(neighbor);
+            }
+        }
+        next.add(candidate);
+        next.sort(Neighbor.RANKING);
+        related.put(postId, next.subList(0, Math.min(topN, next.size())).toArray(Neighbor[]::new));
+    }
+
+    private static long[] bandKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                key = key * 0x100000001B3L ^ signature[band * ROWS_PER_BAND + row];
+            }
+            keys[band] = MinHash.mix(key);
+        }
+        return keys;
+    }
+
+    void bootstrap() {
+        long before = Long.MAX_VALUE;
+        int loaded = 0;
+        while (loaded < maxPosts) {
+            long cursor = before;
+            List<PostText> posts = this.resilienceRegistry.mysql().call(
+                    () -> this.postRepository.findTextsBefore(cursor, PageRequest.of(0, BATCH_SIZE)));
+            for (PostText post : posts) {
+                put(post.id(), post.title(), post.content(), false);
+            }
+            loaded += posts.size();
+            if (posts.size() < BATCH_SIZE) {
+                break;
+            }
+            before = posts.getLast().id();
+        }
+
+        lock.lock();
+        try {
+            bootstrapping = false;
+            touchedDuringBootstrap.clear();
+        } finally {
+            lock.unlock();
+        }
+        log.info("Related post index ready: {} posts", size());
+    }
+
+    private void bootstrapSafely() {
+        try {
+            bootstrap();
+        } catch (RuntimeException e) {
+            log.warn("Related post index bootstrap failed, retrying in {}s: {}", BOOTSTRAP_RETRY_SECONDS, e.toString());
+            if (!stopped) {
+                scheduler.schedule(this::bootstrapSafely, Instant.now().plusSeconds(BOOTSTRAP_RETRY_SECONDS));
+            }
+        }
+    }
+
+    private record Neighbor(long postId, double similarity) {
+        // 유사도 내림차순, 같으면 최신 게시글 먼저
+        private static final Comparator<Neighbor> RANKING = Comparator.comparingDouble(Neighbor::similarity).reversed()
+                .thenComparing(Comparator.comparingLong(Neighbor::postId).reversed());
+    }
+
+    /**
+     * @param similarity 추정 Jaccard 유사도 (0 ~ 1)
+     */
+    public record Related(long postId, String title, double similarity) {
+    }
+}
@@ -0,0 +1,366 @@
+package com.ktb.community.search;
+
+import com.ktb.community.repository.CommentRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.resilience.ResilienceRegistry;
+import com.ktb.community.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 게시글/댓글 전문 검색 (메모리 역색인)
+ *
+ * - 게시글/댓글 생성, 수정, 삭제를 커밋 후에 바로 색인에 반영
+ * - 서버 시작 시 디스크 스냅샷을 읽고, 스냅샷 이후 변경된 게시글/댓글만 DB에서 다시 읽음 (스냅샷이 없으면 전체 색인)
+ *   초기화가 끝나기 전의 변경은 모아뒀다가 초기화 후 순서대로 반영
+ * - snapshot-interval마다 변경이 있었으면 스냅샷을 새로 씀 (임시 파일에 쓴 뒤 교체)
+ *
+ * 검색과 스냅샷 직렬화는 read lock, 변경은 write lock. 삭제 표시가 많아지면 변경하는 쪽에서 compact
+ */
+@Component
+public class SearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MIN_DEAD_FOR_COMPACTION = 1000;
+    private static final long BOOTSTRAP_RETRY_SECONDS = 30;
+    // 스냅샷 직전에 커밋됐지만 아직 반영되지 않은 변경과 서버 간 시계 차이를 덮기 위해 조금 앞부터 다시 읽음
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(5);
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ResilienceRegistry resilienceRegistry;
+    private final Path snapshotPath;
+    private final long snapshotIntervalMinutes;
+    private final double compactionDeadRatio;
+    private final int titleWeight;
+    private final double commentWeight;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<Consumer<InvertedIndex>> pending = new ConcurrentLinkedQueue<>();
+    private InvertedIndex index;
+    private volatile boolean ready;
+    // 변경은 write lock 안에서만 늘리지만, 스냅샷은 read lock 안에서 초기화하므로 atomic으로 둠
+    private final AtomicLong changesSinceSnapshot = new AtomicLong();
+
+    private final TaskScheduler scheduler;
+    private ScheduledFuture<?> snapshotTask;
+    private volatile boolean stopped;
+
+    @Autowired
+    public SearchIndex(PostRepository postRepository, CommentRepository commentRepository, ResilienceRegistry resilienceRegistry,
+                       @Qualifier("backgroundTaskScheduler") TaskScheduler scheduler,
+                       @Value("${search.snapshot-path:}") String snapshotPath,
+                       @Value("${search.snapshot-interval-minutes:10}") long snapshotIntervalMinutes,
+                       @Value("${search.compaction-dead-ratio:0.3}") double compactionDeadRatio,
+                       @Value("${search.title-weight:3}") int titleWeight,
+                       @Value("${search.comment-weight:0.5}") double commentWeight) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.resilienceRegistry = resilienceRegistry;
+        this.scheduler = scheduler;
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.snapshotIntervalMinutes = snapshotIntervalMinutes;
+        this.compactionDeadRatio = compactionDeadRatio;
+        this.titleWeight = titleWeight;
+        this.commentWeight = commentWeight;
+        this.index = new InvertedIndex(titleWeight, commentWeight);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.schedule(this::bootstrapSafely, Instant.now());
+        if (snapshotPath != null) {
+            Duration interval = Duration.ofMinutes(snapshotIntervalMinutes);
+            snapshotTask = scheduler.scheduleWithFixedDelay(this::snapshotSafely, Instant.now().plus(interval), interval);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (snapshotTask != null) {
+            snapshotTask.cancel(false);
+        }
+        snapshotSafely();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 게시글이 생성/수정된 경우 (커밋 후 반영)
+     */
+    public void indexPost(Long postId, String title, String content) {
+        AfterCommit.run(() -> apply(target -> target.putPost(postId, title, content)));
+    }
+
+    /**
+     * 게시글이 삭제된 경우 (커밋 후 반영). 게시글의 댓글도 검색되지 않음
+     */
+    public void removePost(Long postId) {
+        AfterCommit.run(() -> apply(target -> target.removePost(postId)));
+    }
+
+    /**
+     * 댓글이 생성/수정된 경우 (커밋 후 반영)
+     */
+    public void indexComment(Long commentId, Long postId, String content) {
+        AfterCommit.run(() -> apply(target -> target.putComment(commentId, postId, content)));
+    }
+
+    /**
+     * 댓글이 삭제된 경우 (커밋 후 반영)
+     */
+    public void removeComment(Long commentId) {
+        AfterCommit.run(() -> apply(target -> target.removeComment(commentId)));
+    }
+
+    /**
+     * 검색어와 일치하는 게시글 ID를 점수가 높은 순서로 최대 limit개
+     *
+     * @return 색인을 초기화하는 중이면 null
+     */
+    public List<Long> search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return null;
+            }
+            return index.search(query, limit).stream().map(InvertedIndex.Hit::postId).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            InvertedIndex.Stats stats = index.stats();
+            return new Stats(ready, stats.documents(), stats.deadDocuments(), stats.terms(), stats.postings(), stats.postingBytes());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<InvertedIndex> change) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pending.add(change);
+                return;
+            }
+            change.accept(index);
+            changesSinceSnapshot.incrementAndGet();
+            if (index.needsCompaction(compactionDeadRatio, MIN_DEAD_FOR_COMPACTION)) {
+                index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void bootstrap() {
+        long startedAt = System.currentTimeMillis();
+        Snapshot snapshot = readSnapshot();
+        InvertedIndex building = snapshot != null ? snapshot.index() : new InvertedIndex(titleWeight, commentWeight);
+        LocalDateTime since = snapshot != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshot.takenAt()), ZoneId.systemDefault()).minus(CATCH_UP_OVERLAP)
+                : BEGINNING;
+        int changed = catchUp(building, since);
+        building.compact();
+
+        lock.writeLock().lock();
+        try {
+            Consumer<InvertedIndex> change;
+            while ((change = pending.poll()) != null) {
+                change.accept(building);
+            }
+            index = building;
+            ready = true;
+            changesSinceSnapshot.set(snapshot == null ? Math.max(1, changed) : changed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index ready: {} documents, {} changes since {} ({} ms)",
+                building.stats().documents(), changed, snapshot != null ? "snapshot" : "empty index",
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private int catchUp(InvertedIndex building, LocalDateTime since) {
+        int changed = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            List<PostText> posts = this.resilienceRegistry.mysql().call(
+                    () -> this.postRepository.findTextsChangedSince(cursor, since, PageRequest.of(0, BATCH_SIZE)));
+            for (PostText post : posts) {
+                if (post.deletedAt() != null) {
+                    building.removePost(post.id());
+                } else {
+                    building.putPost(post.id(), post.title(), post.content());
+                }
+            }
+            changed += posts.size();
+            if (posts.size() < BATCH_SIZE) {
+                break;
+            }
+            afterId = posts.getLast().id();
+        }
+
+        // 게시글을 먼저 반영해야 댓글이 달린 게시글이 색인에 있음
+        afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            List<CommentText> comments = this.resilienceRegistry.mysql().call(
+                    () -> this.commentRepository.findTextsChangedSince(cursor, since, PageRequest.of(0, BATCH_SIZE)));
+            for (CommentText comment : comments) {
+                if (comment.deletedAt() != null) {
+                    building.removeComment(comment.id());
+                } else {
+                    building.putComment(comment.id(), comment.postId(), comment.content());
+                }
+            }
+            changed += comments.size();
+            if (comments.size() < BATCH_SIZE) {
+                break;
+            }
+            afterId = comments.getLast().id();
+        }
+        return changed;
+    }
+
+    private void bootstrapSafely() {
+        try {
+            bootstrap();
+        } catch (RuntimeException e) {
+            log.warn("Search index bootstrap failed, retrying in {}s: {}", BOOTSTRAP_RETRY_SECONDS, e.toString());
+            if (!stopped) {
+                scheduler.schedule(this::bootstrapSafely, Instant.now().plusSeconds(BOOTSTRAP_RETRY_SECONDS));
+            }
+        }
+    }
+
+    /**
+     * 변경이 있었으면 스냅샷을 새로 씀
+     * 직렬화는 read lock 안에서 하므로 그동안 검색은 계속되고 변경만 기다림. 파일 쓰기는 잠금 밖에서 함
+     */
+    void snapshot() throws IOException {
+        if (snapshotPath == null || !ready) {
+            return;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        lock.readLock().lock();
+        try {
+            if (changesSinceSnapshot.get() == 0) {
+                return;
+            }
+            CRC32 checksum = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(buffer, checksum));
+            out.writeLong(System.currentTimeMillis());
+            index.writeTo(out);
+            out.flush();
+            // 파일 끝의 checksum으로 중간에 잘리거나 손상된 스냅샷을 걸러냄
+            new DataOutputStream(buffer).writeLong(checksum.getValue());
+            changesSinceSnapshot.set(0);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Path directory = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, snapshotPath.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                buffer.writeTo(out);
+            }
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void snapshotSafely() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            // 다음 주기에 다시 씀
+            changesSinceSnapshot.incrementAndGet();
+            log.warn("Search index snapshot failed: {}", e.toString());
+        }
+    }
+
+    private Snapshot readSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(snapshotPath);
+            if (bytes.length < Long.BYTES * 2) {
+                throw new IllegalArgumentException("Truncated search snapshot");
+            }
+            int payload = bytes.length - Long.BYTES;
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, 0, payload);
+            if (ByteBuffer.wrap(bytes, payload, Long.BYTES).getLong() != checksum.getValue()) {
+                throw new IllegalArgumentException("Search snapshot checksum mismatch");
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, payload));
+            long takenAt = in.readLong();
+            return new Snapshot(takenAt, InvertedIndex.readFrom(in, titleWeight, commentWeight));
+        } catch (IOException | IllegalArgumentException e) {
+            // 손상되었거나 형식이 바뀐 스냅샷은 버리고 전체 색인
+            log.warn("Ignoring search index snapshot {}: {}", snapshotPath, e.toString());
+            return null;
+        }
+    }
+
+    private record Snapshot(long takenAt, InvertedIndex index) {
+    }
+
+    /**
+     * @param ready 초기화(스냅샷 + DB catch-up)가 끝났는지
+     * @param documents 검색되는 문서 수 (게시글 + 댓글)
+     * @param deadDocuments 삭제 표시만 되어 있고 아직 compact되지 않은 문서 수
+     * @param terms 단어 수
+     * @param postings posting 항목 수
+     * @param postingBytes 압축된 posting list 크기
+     */
+    public record Stats(boolean ready, int documents, int deadDocuments, int terms, long postings, long postingBytes) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.ktb.community.search;
+
+/**
+ * 닉네임 색인용 사용자 정보 (탈퇴하지 않은 사용자만 조회)
+ */
+public record UserNickname(Long id, String nickname) {
+}
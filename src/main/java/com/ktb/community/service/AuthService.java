@@ -11,6 +11,9 @@ import com.ktb.community.exception.custom.InvalidCredentialsException;
 import com.ktb.community.exception.custom.UserNotFoundException;
 import com.ktb.community.jwt.JwtUtil;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.cache.UserAvailabilityFilter;
+import com.ktb.community.search.NicknameIndex;
+import com.ktb.community.spam.ContentFilter;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,15 +34,21 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
     private final RefreshTokenService refreshTokenService;
+    private final ContentFilter contentFilter;
+    private final NicknameIndex nicknameIndex;
+    private final UserAvailabilityFilter userAvailabilityFilter;
 
     @Autowired
-    public AuthService(UserRepository userRepository, UserService userService, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, AuthenticationManager authenticationManager, RefreshTokenService refreshTokenService) {
+    public AuthService(UserRepository userRepository, UserService userService, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, AuthenticationManager authenticationManager, RefreshTokenService refreshTokenService, ContentFilter contentFilter, NicknameIndex nicknameIndex, UserAvailabilityFilter userAvailabilityFilter) {
         this.userRepository = userRepository;
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.authenticationManager = authenticationManager;
         this.refreshTokenService = refreshTokenService;
+        this.contentFilter = contentFilter;
+        this.nicknameIndex = nicknameIndex;
+        this.userAvailabilityFilter = userAvailabilityFilter;
     }
 
     public Long signUpUser(SignUpRequestDto signUpRequestDto) {
@@ -49,10 +58,12 @@ public class AuthService {
         }
 
         // email이 중복되는지 확인
+        // 다른 서버에서 방금 가입한 값은 이 서버의 Bloom filter에 없을 수 있으므로 가입할 때는 항상 DB로 확인
         if (this.userRepository.existsByEmail(signUpRequestDto.getEmail())) {
             throw new DuplicateEmailException("This email already exists");
         }
 
+        this.contentFilter.checkNickname(signUpRequestDto.getNickname());
         if (this.userRepository.existsByNickname(signUpRequestDto.getNickname())) {
             throw new IllegalArgumentException("This nickname is already exist");
         }
@@ -67,7 +78,10 @@ public class AuthService {
         user.setNickname(signUpRequestDto.getNickname());
         user.setProfileImage(signUpRequestDto.getProfileImage());
 
-        return this.userRepository.save(user).getId();
+        Long userId = this.userRepository.save(user).getId();
+        this.userAvailabilityFilter.addEmail(user.getEmail());
+        this.nicknameIndex.add(userId, user.getNickname());
+        return userId;
     }
 
     @Transactional
@@ -0,0 +1,38 @@
+package com.ktb.community.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 다건 조회 요청의 ID 목록 검증
+ */
+final class BatchIds {
+
+    private BatchIds() {
+    }
+
+    /**
+     * 중복을 제거하고(요청 순서 유지) 개수 제한을 확인
+     *
+     * @param ids 요청 ID 목록
+     * @param maxSize 허용하는 최대 개수
+     * @return 중복이 제거된 ID 목록
+     */
+    static List<Long> normalize(List<Long> ids, int maxSize) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        LinkedHashSet<Long> unique = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("ids must be positive numbers");
+            }
+            unique.add(id);
+        }
+        if (unique.size() > maxSize) {
+            throw new IllegalArgumentException("Too many ids. Maximum is " + maxSize);
+        }
+        return new ArrayList<>(unique);
+    }
+}
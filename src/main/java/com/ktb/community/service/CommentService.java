@@ -1,5 +1,12 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.ContentVersionIndex;
+import com.ktb.community.live.LiveCountHub;
+import com.ktb.community.search.SearchIndex;
+import com.ktb.community.spam.ContentFilter;
+import com.ktb.community.spam.NearDuplicateFilter;
+import com.ktb.community.sync.ChangeLog;
+import com.ktb.community.trending.TrendingIndex;
 import com.ktb.community.dto.request.CreateCommentRequestDto;
 import com.ktb.community.dto.request.UpdateCommentRequestDto;
 import com.ktb.community.dto.response.CommentResponseDto;
@@ -33,13 +40,27 @@ public class CommentService {
     UserRepository userRepository;
     JwtUtil jwtUtil;
     com.ktb.community.repository.CountRepository countRepository;
-
-    public CommentService(CommentRepository commentRepository, PostRepository postRepository, UserRepository userRepository, JwtUtil jwtUtil, com.ktb.community.repository.CountRepository countRepository) {
+    ContentVersionIndex contentVersionIndex;
+    LiveCountHub liveCountHub;
+    ChangeLog changeLog;
+    TrendingIndex trendingIndex;
+    SearchIndex searchIndex;
+    NearDuplicateFilter nearDuplicateFilter;
+    ContentFilter contentFilter;
+
+    public CommentService(CommentRepository commentRepository, PostRepository postRepository, UserRepository userRepository, JwtUtil jwtUtil, com.ktb.community.repository.CountRepository countRepository, ContentVersionIndex contentVersionIndex, LiveCountHub liveCountHub, ChangeLog changeLog, TrendingIndex trendingIndex, SearchIndex searchIndex, NearDuplicateFilter nearDuplicateFilter, ContentFilter contentFilter) {
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
         this.countRepository = countRepository;
+        this.contentVersionIndex = contentVersionIndex;
+        this.liveCountHub = liveCountHub;
+        this.changeLog = changeLog;
+        this.trendingIndex = trendingIndex;
+        this.searchIndex = searchIndex;
+        this.nearDuplicateFilter = nearDuplicateFilter;
+        this.contentFilter = contentFilter;
     }
 
 
@@ -48,6 +69,14 @@ public class CommentService {
         User user = this.userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
+        return getCommentList(postId, cursor, size, user);
+    }
+
+    /**
+     * 이미 조회한 사용자로 댓글 목록 조회 (게시글 화면 묶음 조회에서 사용자 조회를 공유하기 위함)
+     */
+    @Transactional
+    public CursorCommentResponseDto<CommentResponseDto> getCommentList(Long postId, Long cursor, int size, User user) {
         List<Comment> comments;
         Pageable pageable = PageRequest.of(0, size + 1);
 
@@ -85,6 +114,9 @@ public class CommentService {
                 .orElseThrow(() -> new PostNotFoundException("Not found post"));
         User user = this.userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("Not found user"));
+        this.contentFilter.checkContent(createCommentRequestDto.getContent());
+        NearDuplicateFilter.Fingerprint fingerprint = this.nearDuplicateFilter.inspect(NearDuplicateFilter.Kind.COMMENT,
+                user.getId(), postId, createCommentRequestDto.getContent());
 
         Comment comment = new Comment();
         comment.setContent(createCommentRequestDto.getContent());
@@ -97,6 +129,12 @@ public class CommentService {
         com.ktb.community.entity.Count count = this.countRepository.findByPostId(postId)
                 .orElseThrow(() -> new PostNotFoundException("Not found post count"));
         count.setCommentCount(count.getCommentCount() + 1);
+        this.contentVersionIndex.commentsChanged(postId);
+        this.liveCountHub.countsChanged(postId, count.getLikeCount(), count.getCommentCount());
+        this.changeLog.commentChanged(savedComment.getId(), postId);
+        this.trendingIndex.record(postId, user.getId(), TrendingIndex.Signal.COMMENT);
+        this.searchIndex.indexComment(savedComment.getId(), postId, savedComment.getContent());
+        this.nearDuplicateFilter.remember(fingerprint);
 
         return new CrudCommentResponseDto(savedComment.getId());
     }
@@ -112,8 +150,12 @@ public class CommentService {
         if (!user.getId().equals(comment.getUser().getId())) {
             throw new UnauthorizedException("You are not authorized to modify this comment");
         }
+        this.contentFilter.checkContent(updateCommentRequestDto.getContent());
 
         comment.setContent(updateCommentRequestDto.getContent());
+        this.contentVersionIndex.commentsChanged(comment.getPost().getId());
+        this.changeLog.commentChanged(comment.getId(), comment.getPost().getId());
+        this.searchIndex.indexComment(comment.getId(), comment.getPost().getId(), comment.getContent());
         // @Transactional에 의해 자동으로 UPDATE 쿼리 실행 (Dirty Checking)
         return new CrudCommentResponseDto(comment.getId());
     }
@@ -136,6 +178,10 @@ public class CommentService {
         com.ktb.community.entity.Count count = this.countRepository.findByPostId(comment.getPost().getId())
                 .orElseThrow(() -> new PostNotFoundException("Not found post count"));
         count.setCommentCount(count.getCommentCount() - 1);
+        this.contentVersionIndex.commentsChanged(comment.getPost().getId());
+        this.liveCountHub.countsChanged(comment.getPost().getId(), count.getLikeCount(), count.getCommentCount());
+        this.changeLog.commentDeleted(comment.getId(), comment.getPost().getId());
+        this.searchIndex.removeComment(comment.getId());
 
         // @Transactional에 의해 자동으로 UPDATE 쿼리 실행 (Dirty Checking)
 
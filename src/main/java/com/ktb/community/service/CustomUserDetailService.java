@@ -3,20 +3,34 @@ package com.ktb.community.service;
 import com.ktb.community.entity.User;
 import com.ktb.community.repository.UserRepository;
 import jakarta.validation.constraints.Email;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class CustomUserDetailService implements UserDetailsService {
     private final UserRepository userRepository;
+    // 관리자 권한(ROLE_ADMIN)을 주는 이메일 (소문자)
+    private final Set<String> adminEmails;
 
-    public CustomUserDetailService(UserRepository userRepository) {
+    public CustomUserDetailService(UserRepository userRepository, @Value("${admin.emails:}") String adminEmails) {
         this.userRepository = userRepository;
+        this.adminEmails = Arrays.stream(adminEmails.split(","))
+                .map(email -> email.strip().toLowerCase(Locale.ROOT))
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
     }
 
 
@@ -24,10 +38,14 @@ public class CustomUserDetailService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException("User not found with email : " + email));
         // DB의 유저 Entity를 Spring Security가 이해할 수 있는 UserDetails 객체로 변환
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (adminEmails.contains(user.getEmail().toLowerCase(Locale.ROOT))) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
         return new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
                 user.getPassword(),
-                new ArrayList<>()
+                authorities
         );
     }
 }
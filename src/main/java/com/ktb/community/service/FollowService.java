@@ -0,0 +1,211 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.FollowResponseDto;
+import com.ktb.community.entity.Follow;
+import com.ktb.community.entity.FollowPK;
+import com.ktb.community.entity.User;
+import com.ktb.community.exception.custom.UserNotFoundException;
+import com.ktb.community.follow.AdjacencyList;
+import com.ktb.community.follow.FollowGraph;
+import com.ktb.community.follow.HomeTimeline;
+import com.ktb.community.repository.FollowRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.resilience.ResilienceRegistry;
+import com.ktb.community.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+public class FollowService {
+    private static final Logger log = LoggerFactory.getLogger(FollowService.class);
+
+    // fan-out pipeline 한 번에 넣는 팔로워 수
+    static final int FAN_OUT_BATCH = 1000;
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final FollowGraph followGraph;
+    private final HomeTimeline homeTimeline;
+    private final ResilienceRegistry resilienceRegistry;
+    private final Executor fanOutExecutor;
+    private final int celebrityThreshold;
+
+    @Autowired
+    public FollowService(FollowRepository followRepository, UserRepository userRepository, PostRepository postRepository,
+                         FollowGraph followGraph, HomeTimeline homeTimeline, ResilienceRegistry resilienceRegistry,
+                         @Qualifier("timelineFanOutExecutor") Executor fanOutExecutor,
+                         @Value("${follow.celebrity-threshold:10000}") int celebrityThreshold) {
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.followGraph = followGraph;
+        this.homeTimeline = homeTimeline;
+        this.resilienceRegistry = resilienceRegistry;
+        this.fanOutExecutor = fanOutExecutor;
+        this.celebrityThreshold = celebrityThreshold;
+    }
+
+    @Transactional
+    public FollowResponseDto follow(Long followeeId, String email) {
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        if (user.getId().equals(followeeId)) {
+            throw new IllegalArgumentException("Cannot follow yourself");
+        }
+        User followee = this.userRepository.findById(followeeId)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+
+        FollowPK pk = new FollowPK(user.getId(), followeeId);
+        Follow follow = this.followRepository.findById(pk).orElse(null);
+        if (follow == null) {
+            follow = new Follow();
+            follow.setId(pk);
+            follow.setFollower(user);
+            follow.setFollowee(followee);
+            this.followRepository.save(follow);
+        } else if (follow.getDeletedAt() != null) {
+            // 언팔로우했던 관계 복구
+            follow.setDeletedAt(null);
+        } else {
+            // 이미 팔로우 중
+            return new FollowResponseDto(followeeId, true);
+        }
+
+        AfterCommit.run(() -> {
+            relationChanged(user.getId(), followeeId);
+            // 한 번 전환되면 유지되므로 이미 celebrity면 세지 않음 (Redis를 쓸 수 없으면 전환도 할 수 없으므로 건너뜀)
+            // 팔로워 목록 전체 대신 개수만 조회
+            if (Boolean.FALSE.equals(this.homeTimeline.isCelebrity(followeeId))
+                    && this.resilienceRegistry.mysql().call(() -> this.followRepository.countFollowers(followeeId)) >= this.celebrityThreshold) {
+                markCelebrity(followeeId);
+            }
+        });
+        return new FollowResponseDto(followeeId, true);
+    }
+
+    @Transactional
+    public FollowResponseDto unfollow(Long followeeId, String email) {
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        Follow follow = this.followRepository.findById(new FollowPK(user.getId(), followeeId)).orElse(null);
+        if (follow != null && follow.getDeletedAt() == null) {
+            follow.setDeletedAt(LocalDateTime.now());
+            AfterCommit.run(() -> relationChanged(user.getId(), followeeId));
+        }
+        return new FollowResponseDto(followeeId, false);
+    }
+
+    /**
+     * 게시글이 생성된 경우 (커밋 후 호출)
+     * 팔로워 목록 조회와 fan-out은 전용 executor에서 실행하므로 게시글 작성 응답을 늦추지 않음
+     */
+    public void onPostCreated(Long authorId, Long postId) {
+        try {
+            this.fanOutExecutor.execute(() -> distribute(authorId, postId));
+        } catch (RejectedExecutionException e) {
+            // 건너뛰면 팔로워 타임라인에서 게시글이 빠지므로 호출 스레드에서 실행
+            distribute(authorId, postId);
+        }
+    }
+
+    /**
+     * 게시글이 삭제된 경우 (커밋 후 호출)
+     */
+    public void onPostRemoved(Long authorId, Long postId) {
+        this.homeTimeline.removePost(authorId, postId);
+    }
+
+    /**
+     * 팔로잉 피드의 게시글 ID를 최신순으로 최대 limit개 조회
+     * home 타임라인과 celebrity 작성자 타임라인을 병합하고, Redis를 쓸 수 없거나 cursor가 타임라인 범위를 벗어나면 DB에서 조회
+     */
+    public List<Long> timelineIds(Long userId, Long cursor, int limit) {
+        AdjacencyList followees = this.followGraph.followees(userId);
+        if (followees.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> celebrities = this.homeTimeline.celebrities();
+        HomeTimeline.Slice slice = null;
+        if (celebrities != null) {
+            List<Long> celebrityFollowees = celebrities.stream().filter(followees::contains).toList();
+            slice = this.homeTimeline.read(userId, cursor, limit, celebrityFollowees);
+            if (slice != null && !slice.ready()) {
+                this.homeTimeline.beginRebuild(userId);
+                List<Long> recentIds = this.resilienceRegistry.mysql().call(() -> this.postRepository.findIdsByUserIdInBefore(
+                        ids(followees), Long.MAX_VALUE, PageRequest.of(0, this.homeTimeline.capacity())));
+                slice = this.homeTimeline.rebuild(userId, recentIds)
+                        ? this.homeTimeline.read(userId, cursor, limit, celebrityFollowees)
+                        : null;
+            }
+        }
+
+        if (slice == null || !slice.ready() || (slice.ids().size() < limit && slice.truncated())) {
+            return this.resilienceRegistry.mysql().call(() -> this.postRepository.findIdsByUserIdInBefore(
+                    ids(followees), cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, limit)));
+        }
+        return slice.ids();
+    }
+
+    private void distribute(Long authorId, Long postId) {
+        Set<Long> celebrities = this.homeTimeline.celebrities();
+        if (celebrities != null && celebrities.contains(authorId)) {
+            this.homeTimeline.recordPost(authorId, postId);
+            return;
+        }
+
+        AdjacencyList followers = this.followGraph.followers(authorId);
+        if (followers.size() >= this.celebrityThreshold) {
+            // 방금 만든 게시글도 DB에서 함께 읽어 작성자 타임라인에 들어감
+            markCelebrity(authorId);
+            return;
+        }
+
+        List<Long> batch = new ArrayList<>(Math.min(followers.size(), FAN_OUT_BATCH));
+        for (int i = 0; i < followers.size(); i++) {
+            batch.add(followers.get(i));
+            if (batch.size() == FAN_OUT_BATCH || i == followers.size() - 1) {
+                if (!this.homeTimeline.fanOut(batch, postId)) {
+                    log.warn("Timeline fan-out failed for post {}", postId);
+                    return;
+                }
+                batch = new ArrayList<>(FAN_OUT_BATCH);
+            }
+        }
+    }
+
+    private void markCelebrity(Long authorId) {
+        List<Long> recentIds = this.resilienceRegistry.mysql().call(() -> this.postRepository.findIdsByUserIdInBefore(
+                List.of(authorId), Long.MAX_VALUE, PageRequest.of(0, this.homeTimeline.authorCapacity())));
+        this.homeTimeline.markCelebrity(authorId, recentIds);
+    }
+
+    private void relationChanged(Long followerId, Long followeeId) {
+        this.followGraph.invalidate(followerId, followeeId);
+        // 팔로잉 목록이 바뀌었으므로 다음 조회 때 home 타임라인을 다시 채움
+        this.homeTimeline.invalidate(followerId);
+    }
+
+    private static List<Long> ids(AdjacencyList list) {
+        List<Long> ids = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            ids.add(list.get(i));
+        }
+        return ids;
+    }
+}
@@ -1,6 +1,11 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.ContentVersionIndex;
+import com.ktb.community.live.LiveCountHub;
+import com.ktb.community.sync.ChangeLog;
+import com.ktb.community.trending.TrendingIndex;
 import com.ktb.community.dto.response.LikeResponseDto;
+import com.ktb.community.dto.response.LikeStatusResponseDto;
 import com.ktb.community.entity.*;
 import com.ktb.community.exception.custom.NotExistLikeException;
 import com.ktb.community.exception.custom.PostNotFoundException;
@@ -15,24 +20,42 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class LikeService {
+    // 좋아요 여부 다건 조회에서 한 번에 받을 수 있는 최대 게시글 수
+    static final int MAX_LIKE_STATUS_IDS = 500;
+
     private final JwtUtil jwtUtil;
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CountRepository countRepository;
+    private final ContentVersionIndex contentVersionIndex;
+    private final LiveCountHub liveCountHub;
+    private final ChangeLog changeLog;
+    private final TrendingIndex trendingIndex;
 
 
     @Autowired
-    public LikeService(JwtUtil jwtUtil, LikeRepository likeRepository, UserRepository userRepository, PostRepository postRepository, CountRepository countRepository) {
+    public LikeService(JwtUtil jwtUtil, LikeRepository likeRepository, UserRepository userRepository, PostRepository postRepository, CountRepository countRepository, ContentVersionIndex contentVersionIndex, LiveCountHub liveCountHub, ChangeLog changeLog, TrendingIndex trendingIndex) {
         this.jwtUtil = jwtUtil;
         this.likeRepository = likeRepository;
         this.userRepository = userRepository;
         this.postRepository = postRepository;
 
         this.countRepository = countRepository;
+        this.contentVersionIndex = contentVersionIndex;
+        this.liveCountHub = liveCountHub;
+        this.changeLog = changeLog;
+        this.trendingIndex = trendingIndex;
     }
 
     @Transactional
@@ -46,6 +69,10 @@ public class LikeService {
         LikePK pk = new LikePK(user.getId(), postId);
 
         Like like = this.likeRepository.findById(pk).orElse(null);
+        if (like != null && like.getDeletedAt() == null) {
+            // 이미 활성화된 좋아요 존재 → 카운트도 그대로이므로 ETag/SSE/변경 로그도 건드리지 않음
+            return new LikeResponseDto(postId, true);
+        }
 
         Count count = this.countRepository.findByPostId(postId)
                 .orElseThrow(() -> new PostNotFoundException("Not found post"));
@@ -58,12 +85,16 @@ public class LikeService {
             like.setPost(post);
             this.likeRepository.save(like);
             count.setLikeCount(count.getLikeCount() + 1);
-        } else if (like.getDeletedAt() != null) {
+            this.trendingIndex.record(postId, user.getId(), TrendingIndex.Signal.LIKE);
+        } else {
             // 삭제된 좋아요 복구
             like.setDeletedAt(null);
             count.setLikeCount(count.getLikeCount() + 1);
+            this.trendingIndex.record(postId, user.getId(), TrendingIndex.Signal.LIKE);
         }
-        // else: 이미 활성화된 좋아요 존재 → 아무 작업도 하지 않고 postId만 반환
+        this.contentVersionIndex.postChanged(postId);
+        this.liveCountHub.countsChanged(postId, count.getLikeCount(), count.getCommentCount());
+        this.changeLog.likeChanged(postId);
 
         return new LikeResponseDto(postId, true);
 
@@ -80,6 +111,9 @@ public class LikeService {
         Count count = countRepository.findByPostId(postId).orElseThrow(() -> new PostNotFoundException("Not found post"));
         like.setDeletedAt(LocalDateTime.now());
         count.setLikeCount(count.getLikeCount() - 1);
+        this.contentVersionIndex.postChanged(postId);
+        this.liveCountHub.countsChanged(postId, count.getLikeCount(), count.getCommentCount());
+        this.changeLog.likeChanged(postId);
 
         return new LikeResponseDto(postId, false);
     }
@@ -93,4 +127,45 @@ public class LikeService {
 
         return this.likeRepository.existsByIdAndDeletedAtIsNull(pk);
     }
+
+    /**
+     * 이미 조회한 사용자 ID로 좋아요 여부 확인 (사용자 재조회 없음)
+     */
+    @Transactional
+    public boolean isLikedBy(Long postId, Long userId) {
+        return this.likeRepository.existsByIdAndDeletedAtIsNull(new LikePK(userId, postId));
+    }
+
+    /**
+     * 여러 게시글 중 사용자가 좋아요 한 게시글 ID (쿼리 1번)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        return this.likeRepository.findByIdUserIdAndIdPostIdInAndDeletedAtIsNull(userId, postIds)
+                .stream()
+                .map(like -> like.getId().getPostId())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 여러 게시글의 좋아요 여부를 bitmap으로 반환
+     * 게시글 수와 관계없이 사용자 조회 1번 + 좋아요 조회 1번
+     */
+    @Transactional(readOnly = true)
+    public LikeStatusResponseDto getLikeStatus(List<Long> postIds, String email) {
+        List<Long> ids = BatchIds.normalize(postIds, MAX_LIKE_STATUS_IDS);
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+
+        Set<Long> liked = findLikedPostIds(user.getId(), ids);
+        BitSet bits = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (liked.contains(ids.get(i))) {
+                bits.set(i);
+            }
+        }
+        // toByteArray()는 뒤쪽의 0 바이트를 잘라내므로 길이를 맞춰줌
+        byte[] bytes = Arrays.copyOf(bits.toByteArray(), (ids.size() + 7) / 8);
+        return new LikeStatusResponseDto(ids, Base64.getEncoder().encodeToString(bytes), liked.size());
+    }
 }
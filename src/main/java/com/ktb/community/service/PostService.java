@@ -1,13 +1,35 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.ContentVersionIndex;
+import com.ktb.community.cache.FeedHeadIndex;
+import com.ktb.community.cache.HotPostCache;
+import com.ktb.community.cache.NegativePostCache;
+import com.ktb.community.cache.PostDetailCache;
+import com.ktb.community.cache.PostDetailSnapshot;
+import com.ktb.community.concurrency.FanOutExecutor;
+import com.ktb.community.dto.PostCountDataDto;
+import com.ktb.community.dto.PostSummaryDataDto;
 import com.ktb.community.dto.request.CreatePostRequestDto;
 import com.ktb.community.dto.request.ModifyPostRequestDto;
 import com.ktb.community.dto.response.*;
 import com.ktb.community.entity.*;
+import com.ktb.community.exception.custom.DependencyUnavailableException;
 import com.ktb.community.exception.custom.PostNotFoundException;
 import com.ktb.community.exception.custom.UnauthorizedException;
 import com.ktb.community.jwt.JwtUtil;
+import com.ktb.community.redis.PostSummaryCache;
+import com.ktb.community.redis.PostTimeline;
+import com.ktb.community.redis.UniqueViewerCounter;
 import com.ktb.community.repository.*;
+import com.ktb.community.resilience.ResilienceRegistry;
+import com.ktb.community.search.RelatedPostIndex;
+import com.ktb.community.search.SearchIndex;
+import com.ktb.community.spam.ContentFilter;
+import com.ktb.community.spam.NearDuplicateFilter;
+import com.ktb.community.tag.TagExtractor;
+import com.ktb.community.sync.ChangeLog;
+import com.ktb.community.trending.TrendingIndex;
+import com.ktb.community.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,7 +38,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,9 +56,35 @@ public class PostService {
     private final JwtUtil jwtUtil;
     private final ImageService imageService;
     private final LikeService likeService;
+    private final PostDetailCache postDetailCache;
+    private final NegativePostCache negativePostCache;
+    private final ResilienceRegistry resilienceRegistry;
+    private final FanOutExecutor fanOutExecutor;
+    private final ContentVersionIndex contentVersionIndex;
+    private final FeedHeadIndex feedHeadIndex;
+    private final ChangeLog changeLog;
+    private final PostTimeline postTimeline;
+    private final PostSummaryCache postSummaryCache;
+    private final FollowService followService;
+    private final TrendingIndex trendingIndex;
+    private final HotPostCache hotPostCache;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final SearchIndex searchIndex;
+    private final RelatedPostIndex relatedPostIndex;
+    private final NearDuplicateFilter nearDuplicateFilter;
+    private final ContentFilter contentFilter;
+    private final TagService tagService;
+
+    // 게시글 다건 조회에서 한 번에 받을 수 있는 최대 게시글 수
+    static final int MAX_BATCH_POSTS = 100;
+    // 인기 게시글은 상위 순위만 의미가 있으므로 이 순위까지만 페이지로 제공
+    static final int MAX_TRENDING_RANK = 1000;
+    // 검색 결과에서 넘겨볼 수 있는 최대 순위와 검색어 길이
+    static final int MAX_SEARCH_RESULTS = 1000;
+    static final int MAX_SEARCH_QUERY_LENGTH = 100;
 
     @Autowired
-    public PostService(PostRepository postRepository, CountRepository countRepository, ImageRepository imageRepository, CommentRepository commentRepository, UserRepository userRepository, JwtUtil jwtUtil, ImageService imageService, LikeService likeService) {
+    public PostService(PostRepository postRepository, CountRepository countRepository, ImageRepository imageRepository, CommentRepository commentRepository, UserRepository userRepository, JwtUtil jwtUtil, ImageService imageService, LikeService likeService, PostDetailCache postDetailCache, NegativePostCache negativePostCache, ResilienceRegistry resilienceRegistry, FanOutExecutor fanOutExecutor, ContentVersionIndex contentVersionIndex, FeedHeadIndex feedHeadIndex, ChangeLog changeLog, PostTimeline postTimeline, PostSummaryCache postSummaryCache, FollowService followService, TrendingIndex trendingIndex, HotPostCache hotPostCache, UniqueViewerCounter uniqueViewerCounter, SearchIndex searchIndex, RelatedPostIndex relatedPostIndex, NearDuplicateFilter nearDuplicateFilter, ContentFilter contentFilter, TagService tagService) {
         this.postRepository = postRepository;
         this.countRepository = countRepository;
         this.imageRepository = imageRepository;
@@ -41,17 +93,53 @@ public class PostService {
         this.jwtUtil = jwtUtil;
         this.imageService = imageService;
         this.likeService = likeService;
+        this.postDetailCache = postDetailCache;
+        this.negativePostCache = negativePostCache;
+        this.resilienceRegistry = resilienceRegistry;
+        this.fanOutExecutor = fanOutExecutor;
+        this.contentVersionIndex = contentVersionIndex;
+        this.feedHeadIndex = feedHeadIndex;
+        this.changeLog = changeLog;
+        this.postTimeline = postTimeline;
+        this.postSummaryCache = postSummaryCache;
+        this.followService = followService;
+        this.trendingIndex = trendingIndex;
+        this.hotPostCache = hotPostCache;
+        this.uniqueViewerCounter = uniqueViewerCounter;
+        this.searchIndex = searchIndex;
+        this.relatedPostIndex = relatedPostIndex;
+        this.nearDuplicateFilter = nearDuplicateFilter;
+        this.contentFilter = contentFilter;
+        this.tagService = tagService;
     }
 
     @Transactional
     public CrudPostResponseDto createPost(CreatePostRequestDto createPostRequestDto, String email) {
+        this.contentFilter.checkContent(createPostRequestDto.getTitle(), createPostRequestDto.getContent());
+        User user = this.userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("Users not found"));
+        // 같은 사용자의 최근 게시글과 거의 같은 내용이면 저장하지 않음 (DuplicateContentException)
+        NearDuplicateFilter.Fingerprint fingerprint = this.nearDuplicateFilter.inspect(NearDuplicateFilter.Kind.POST,
+                user.getId(), null, createPostRequestDto.getTitle() + "\n" + createPostRequestDto.getContent());
         Post post = new Post();
         post.setTitle(createPostRequestDto.getTitle());
         post.setContent(createPostRequestDto.getContent());
-        User user = this.userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("Users not found"));
         post.setUser(user);
 
         Post savedPost = this.postRepository.save(post);
+        this.contentVersionIndex.feedChanged();
+        AfterCommit.run(() -> {
+            // 생성 전에 조회되어 negative cache에 들어간 ID일 수 있으므로 제거
+            // 커밋 전에 지우면 그 사이의 조회가 다시 넣을 수 있으므로 커밋 후에 지움
+            this.negativePostCache.markCreated(savedPost.getId());
+            this.feedHeadIndex.add(savedPost.getId());
+            this.postTimeline.add(savedPost.getId());
+            this.followService.onPostCreated(user.getId(), savedPost.getId());
+        });
+        this.changeLog.postChanged(savedPost.getId());
+        this.searchIndex.indexPost(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
+        this.relatedPostIndex.index(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
+        this.nearDuplicateFilter.remember(fingerprint);
+        this.tagService.indexPost(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
 
         // imageKeys를 사용하여 S3 검증 후 DB 저장
         if (createPostRequestDto.getImageKeys() != null && !createPostRequestDto.getImageKeys().isEmpty()) {
@@ -68,8 +156,193 @@ public class PostService {
         return new CrudPostResponseDto(savedPost.getId());
     }
 
+    /**
+     * 피드 조회
+     * Redis 타임라인에서 게시글 ID를 읽고 요약은 Redis에서 한 번에 가져오며, 카운트/작성자/좋아요 여부만 ID로 일괄 조회
+     * 타임라인을 쓸 수 없거나(Redis 장애) cursor가 타임라인 범위를 벗어나면 DB에서 조회
+     */
     @Transactional
     public CursorPageResponseDto<PostResponseDto> getPostList(Long cursor, int size, String email) {
+        PostTimeline.Slice slice = this.postTimeline.read(cursor, size + 1);
+        if (slice != null && !slice.ready()) {
+            // Redis가 비워진 경우 최근 게시글 ID로 다시 채움
+            boolean rebuilt = this.postTimeline.rebuild(() -> this.resilienceRegistry.mysql().call(
+                    () -> this.postRepository.findRecentIds(PageRequest.of(0, this.postTimeline.capacity()))));
+            slice = rebuilt ? this.postTimeline.read(cursor, size + 1) : null;
+        }
+
+        if (slice == null || !slice.ready() || (slice.ids().size() <= size && slice.truncated())) {
+            return getPostListFromDatabase(cursor, size, email);
+        }
+        return getPostListFromTimeline(slice.ids(), size, email);
+    }
+
+    /**
+     * 팔로잉 피드 조회
+     * 팔로우한 사용자의 게시글 ID를 home 타임라인에서 읽고, 이후는 기본 피드와 같은 방식으로 일괄 조회
+     */
+    @Transactional
+    public CursorPageResponseDto<PostResponseDto> getFollowingFeed(Long cursor, int size, String email) {
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        List<Long> timelineIds = this.followService.timelineIds(user.getId(), cursor, size + 1);
+        return toFeedPage(timelineIds, size, user);
+    }
+
+    private CursorPageResponseDto<PostResponseDto> getPostListFromTimeline(List<Long> timelineIds, int size, String email) {
+        if (timelineIds.isEmpty()) {
+            return new CursorPageResponseDto<>(List.of(), null, false);
+        }
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        return toFeedPage(timelineIds, size, user);
+    }
+
+    /**
+     * 인기 게시글 조회
+     * 순위는 메모리의 TrendingIndex에서 읽고, 게시글 내용은 피드와 같은 방식으로 일괄 조회
+     *
+     * @param cursor 이전 페이지까지 받은 게시글 수 (첫 페이지는 null)
+     */
+    @Transactional
+    public CursorPageResponseDto<PostResponseDto> getTrendingPosts(Long cursor, int size, String email) {
+        int offset = cursor == null ? 0 : (int) Math.min(cursor, MAX_TRENDING_RANK);
+        int limit = Math.max(0, Math.min(size, MAX_TRENDING_RANK - offset));
+        List<Long> rankedIds = this.trendingIndex.page(offset, limit + 1);
+        boolean hasNext = rankedIds.size() > limit;
+        List<Long> ids = hasNext ? rankedIds.subList(0, limit) : rankedIds;
+        if (ids.isEmpty()) {
+            return new CursorPageResponseDto<>(List.of(), null, false);
+        }
+
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        // 순위는 요청 사이에 바뀔 수 있으므로 다음 페이지는 ID가 아닌 순위 위치로 이어감
+        return new CursorPageResponseDto<>(renderPosts(ids, user), (long) offset + ids.size(), hasNext);
+    }
+
+    /**
+     * 게시글 검색 (제목/본문/댓글)
+     * 순위는 메모리의 SearchIndex에서 읽고, 게시글 내용은 피드와 같은 방식으로 일괄 조회
+     *
+     * @param cursor 이전 페이지까지 받은 게시글 수 (첫 페이지는 null)
+     */
+    @Transactional
+    public CursorPageResponseDto<PostResponseDto> searchPosts(String query, Long cursor, int size, String email) {
+        String keyword = query == null ? "" : query.strip();
+        if (keyword.isEmpty()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (keyword.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+
+        int offset = cursor == null ? 0 : (int) Math.min(cursor, MAX_SEARCH_RESULTS);
+        int limit = Math.max(0, Math.min(size, MAX_SEARCH_RESULTS - offset));
+        List<Long> rankedIds = this.searchIndex.search(keyword, offset + limit + 1);
+        if (rankedIds == null) {
+            throw new DependencyUnavailableException("Search index is warming up. Please try again later.");
+        }
+        List<Long> window = rankedIds.subList(Math.min(offset, rankedIds.size()), rankedIds.size());
+        boolean hasNext = window.size() > limit;
+        List<Long> ids = hasNext ? window.subList(0, limit) : window;
+        if (ids.isEmpty()) {
+            return new CursorPageResponseDto<>(List.of(), null, false);
+        }
+
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        // 색인은 요청 사이에 바뀔 수 있으므로 다음 페이지는 ID가 아닌 순위 위치로 이어감
+        return new CursorPageResponseDto<>(renderPosts(ids, user), (long) offset + ids.size(), hasNext);
+    }
+
+    /**
+     * 태그별 게시글 조회 (최신순)
+     * 태그 색인(post_tag)에서 ID만 keyset으로 읽고, 게시글 내용은 피드와 같은 방식으로 일괄 조회
+     */
+    @Transactional
+    public CursorPageResponseDto<PostResponseDto> getPostsByTag(String tag, Long cursor, int size, String email) {
+        String normalized = TagExtractor.normalizeTag(tag);
+        if (normalized == null) {
+            throw new IllegalArgumentException("Invalid tag");
+        }
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        return toFeedPage(this.tagService.postIdsByTag(normalized, cursor, size + 1), size, user);
+    }
+
+    /**
+     * 나를 언급(@닉네임)한 게시글 조회 (최신순)
+     */
+    @Transactional
+    public CursorPageResponseDto<PostResponseDto> getMentionedPosts(Long cursor, int size, String email) {
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        return toFeedPage(this.tagService.mentionedPostIds(user.getId(), cursor, size + 1), size, user);
+    }
+
+    private CursorPageResponseDto<PostResponseDto> toFeedPage(List<Long> timelineIds, int size, User user) {
+        boolean hasNext = timelineIds.size() > size;
+        List<Long> ids = hasNext ? timelineIds.subList(0, size) : timelineIds;
+        if (ids.isEmpty()) {
+            return new CursorPageResponseDto<>(List.of(), null, false);
+        }
+
+        // 삭제되어 빠진 게시글이 있어도 다음 페이지는 타임라인 기준으로 이어감
+        return new CursorPageResponseDto<>(renderPosts(ids, user), ids.getLast(), hasNext);
+    }
+
+    /**
+     * 게시글 ID 순서대로 목록 항목을 만듦. 요약은 캐시에서, 작성자/카운트/좋아요 여부는 ID로 일괄 조회
+     * 삭제된 게시글은 결과에서 빠짐
+     */
+    private List<PostResponseDto> renderPosts(List<Long> ids, User user) {
+        this.hotPostCache.recordImpressions(ids);
+        Map<Long, PostSummaryDataDto> summaries = new HashMap<>(this.postSummaryCache.getAll(ids));
+        List<Long> missingIds = ids.stream().filter(id -> !summaries.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            // 삭제된 게시글은 여기서 빠지므로 결과에도 나오지 않음
+            List<PostSummaryDataDto> loaded = this.postRepository.findAllByIdInWithUser(missingIds).stream()
+                    .map(post -> new PostSummaryDataDto(post.getId(), post.getTitle(), post.getContent(),
+                            post.getUser().getId(), post.getCreatedAt()))
+                    .toList();
+            loaded.forEach(summary -> summaries.put(summary.getId(), summary));
+            this.postSummaryCache.putAll(loaded);
+        }
+
+        Set<Long> userIds = summaries.values().stream().map(PostSummaryDataDto::getUserId).collect(Collectors.toSet());
+        Map<Long, User> authorById = this.userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        // Count의 ID는 게시글 ID와 같음 (@MapsId)
+        Map<Long, PostCountDataDto> countByPostId = this.countRepository.findCountsByIdIn(summaries.keySet()).stream()
+                .collect(Collectors.toMap(PostCountDataDto::getId, Function.identity()));
+        Set<Long> liked = this.likeService.findLikedPostIds(user.getId(), summaries.keySet());
+
+        List<PostResponseDto> postContent = new ArrayList<>();
+        for (Long id : ids) {
+            PostSummaryDataDto summary = summaries.get(id);
+            User author = summary != null ? authorById.get(summary.getUserId()) : null;
+            if (author == null) {
+                continue;
+            }
+            PostCountDataDto count = countByPostId.get(id);
+            postContent.add(PostResponseDto.builder()
+                    .id(id)
+                    .title(summary.getTitle())
+                    .content(summary.getContent())
+                    .author(author.getNickname())
+                    .profileImage(author.getProfileImage())
+                    .createdAt(summary.getCreatedAt())
+                    .isLiked(liked.contains(id))
+                    .views(count != null ? count.getViewCount() : 0L)
+                    .likes(count != null ? count.getLikeCount() : 0L)
+                    .comments(count != null ? count.getCommentCount() : 0L)
+                    .build());
+        }
+        return postContent;
+    }
+
+    private CursorPageResponseDto<PostResponseDto> getPostListFromDatabase(Long cursor, int size, String email) {
         Pageable pageable = PageRequest.of(0, size + 1);
 
         List<Post> posts;
@@ -109,44 +382,213 @@ public class PostService {
         return new CursorPageResponseDto<>(postContent, nextCursor, hasNext);
     }
 
+    /**
+     * 피드 polling용: since(클라이언트가 가진 가장 최근 게시글 ID) 이후 새 게시글 수
+     * 서버 시작 후 첫 호출에서만 최근 ID를 DB에서 채우고, 이후에는 메모리 인덱스만 사용
+     */
+    public FeedHeadResponseDto getFeedHead(Long since) {
+        this.feedHeadIndex.initializeIfNeeded(() -> this.resilienceRegistry.mysql().call(
+                () -> this.postRepository.findRecentIds(PageRequest.of(0, this.feedHeadIndex.capacity()))));
+
+        FeedHeadIndex.Head head = this.feedHeadIndex.countNewerThan(since);
+        return new FeedHeadResponseDto(head.newCount(), head.latestId(), head.saturated());
+    }
+
+    /**
+     * 게시글 다건 조회 (알림 목록, 스크롤 위치 복원 등)
+     * 게시글 수와 관계없이 사용자 1번 + 게시글 1번 + Count 1번 + 좋아요 1번, 총 4번의 쿼리로 조회
+     *
+     * @param postIds 조회할 게시글 ID (최대 MAX_BATCH_POSTS개)
+     * @param email 요청 사용자
+     * @return 요청 순서대로 정렬된 게시글과 없거나 삭제된 게시글 ID
+     */
+    @Transactional(readOnly = true)
+    public PostBatchResponseDto getPostsByIds(List<Long> postIds, String email) {
+        List<Long> ids = BatchIds.normalize(postIds, MAX_BATCH_POSTS);
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        List<Post> posts = this.postRepository.findAllByIdInWithUser(ids);
+        if (posts.isEmpty()) {
+            return new PostBatchResponseDto(List.of(), ids);
+        }
+
+        Map<Long, Post> postById = posts.stream().collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<Long, Count> countByPostId = this.countRepository.findByPostIn(posts).stream()
+                .collect(Collectors.toMap(Count::getId, Function.identity()));
+        Set<Long> liked = this.likeService.findLikedPostIds(user.getId(), postById.keySet());
+
+        List<PostResponseDto> result = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Post post = postById.get(id);
+            if (post == null) {
+                missingIds.add(id);
+                continue;
+            }
+            Count count = countByPostId.get(id);
+            result.add(PostResponseDto.builder()
+                    .id(post.getId())
+                    .title(post.getTitle())
+                    .content(post.getContent())
+                    .author(post.getUser().getNickname())
+                    .profileImage(post.getUser().getProfileImage())
+                    .createdAt(post.getCreatedAt())
+                    .isLiked(liked.contains(id))
+                    .views(count != null ? count.getViewCount() : 0L)
+                    .likes(count != null ? count.getLikeCount() : 0L)
+                    .comments(count != null ? count.getCommentCount() : 0L)
+                    .build());
+        }
+        return new PostBatchResponseDto(result, missingIds);
+    }
+
     @Transactional
     public PostDetailResponseDto getPostContent(Long postId, String email) {
+        // 없는 게시글이나 삭제된 게시글이라면 사용자 조회도 하지 않고 404
+        rejectKnownDeadPost(postId);
         User user = this.userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Post post = this.postRepository.findByWithUser(postId).orElseThrow(() -> new PostNotFoundException("Not found post"));
+        return getPostContent(postId, user);
+    }
 
-        List<String> imageUrls = this.imageRepository.findByPostIdAndDeletedAtIsNullOrderByDisplayOrderAsc(post.getId())
-                .stream()
-                .map(Image::getUrl)
-                .toList();
+    /**
+     * 이미 조회한 사용자로 게시글 상세 조회 (게시글 화면 묶음 조회에서 사용자 조회를 공유하기 위함)
+     * 호출하는 쪽에서 사용자를 조회하기 전에 rejectKnownDeadPost를 먼저 호출해야 함
+     */
+    @Transactional
+    public PostDetailResponseDto getPostContent(Long postId, User user) {
+        // 조회가 몰리는 게시글은 고정된 스냅샷과 카운트로 응답 (조회수는 모아서 반영)
+        HotPostCache.Pinned pinned = this.hotPostCache.lookup(postId);
+        if (pinned != null) {
+            boolean isLiked = this.likeService.isLikedBy(postId, user.getId());
+            pinned.recordView();
+            this.trendingIndex.record(postId, user.getId(), TrendingIndex.Signal.VIEW);
+            Long uniqueViewers = this.uniqueViewerCounter.recordAndCount(postId, user.getId());
+            return toDetailResponse(pinned.snapshot(), user, isLiked, pinned.views(), uniqueViewers, pinned.likes(), pinned.comments());
+        }
 
-        // Private 버킷: Presigned Download URL 생성
-        List<String> presignedDownloadUrls = imageService.generateDownloadUrls(imageUrls);
+        // 게시글/작성자/이미지는 캐시에서, 동시에 들어온 miss는 하나의 로드로 합쳐짐
+        // DB가 느리거나 circuit이 열려 있으면 이전 스냅샷을 대신 사용
+        PostDetailSnapshot snapshot = this.postDetailCache.get(postId,
+                id -> this.resilienceRegistry.mysql().call(() -> loadPostDetailSnapshot(id)));
+
+        boolean isLiked;
+        Count count;
+        Long uniqueViewers;
+
+        // JDBC 조회는 트랜잭션의 커넥션을 쓰도록 요청 스레드에서만 실행하고, Redis 기록만 동시에 실행
+        // (트랜잭션을 잡은 채 다른 스레드에서 커넥션을 또 빌리면 pool이 고갈됐을 때 서로 기다리며 멈춤)
+        try (FanOutExecutor.Scope scope = this.fanOutExecutor.open()) {
+            // 게시글이 있는 것을 확인한 뒤에 기록 (없는 게시글 ID로 sketch가 생기지 않도록)
+            FanOutExecutor.Subtask<Long> viewersTask = scope.fork(() -> this.uniqueViewerCounter.recordAndCount(postId, user.getId()));
 
-        Count count = this.countRepository.findByPostId(post.getId()).orElse(null);
+            isLiked = this.likeService.isLikedBy(postId, user.getId());
+            count = this.countRepository.findByPostId(postId).orElse(null);
 
-        // 조회수 증가
+            scope.join();
+            uniqueViewers = viewersTask.get();
+        }
+
+        // 게시글이 살아있는 것을 확인한 뒤에만 조회수 증가
         if (count != null) {
             count.setViewCount(count.getViewCount() + 1);
+            this.hotPostCache.offer(snapshot, count);
         }
+        this.trendingIndex.record(postId, user.getId(), TrendingIndex.Signal.VIEW);
+
+        return toDetailResponse(snapshot, user, isLiked,
+                count != null ? count.getViewCount() : 0L,
+                uniqueViewers,
+                count != null ? count.getLikeCount() : 0L,
+                count != null ? count.getCommentCount() : 0L);
+    }
 
-        boolean isLiked = this.likeService.checkLike(postId, email);
+    private PostDetailResponseDto toDetailResponse(PostDetailSnapshot snapshot, User user, boolean isLiked,
+                                                   long views, Long uniqueViewers, long likes, long comments) {
         return PostDetailResponseDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .author(post.getUser().getNickname())
-                .isMine(user.getId().equals(post.getUser().getId()))
-                .images(presignedDownloadUrls)  // Presigned URL 반환
-                .createdAt(post.getCreatedAt())
+                .id(snapshot.postId())
+                .title(snapshot.title())
+                .content(snapshot.content())
+                .author(snapshot.authorNickname())
+                .isMine(user.getId().equals(snapshot.authorId()))
+                .images(snapshot.images())  // Presigned URL 반환
+                .createdAt(snapshot.createdAt())
                 .isLiked(isLiked)
-                .views(count != null ? count.getViewCount() : 0L)
-                .likes(count != null ? count.getLikeCount() : 0L)
-                .comments(count != null ? count.getCommentCount() : 0L)
+                .views(views)
+                .uniqueViewers(uniqueViewers)
+                .likes(likes)
+                .comments(comments)
+                .relatedPosts(this.relatedPostIndex.related(snapshot.postId()).stream()
+                        .map(related -> new RelatedPostResponseDto(related.postId(), related.title()))
+                        .toList())
                 .build();
     }
 
+    /**
+     * 기간별 순 조회자 수 (오늘 / 최근 7일 / 최근 30일 / 전체)
+     */
+    public UniqueViewersResponseDto getUniqueViewers(Long postId) {
+        rejectKnownDeadPost(postId);
+        if (!this.postRepository.existsByIdAndDeletedAtIsNull(postId)) {
+            throw new PostNotFoundException("Not found post");
+        }
+
+        UniqueViewerCounter.Windows windows = this.uniqueViewerCounter.count(postId);
+        if (windows == null) {
+            throw new DependencyUnavailableException("Unique viewer counts are temporarily unavailable");
+        }
+        return new UniqueViewersResponseDto(postId, windows.today(), windows.last7Days(), windows.last30Days(), windows.total());
+    }
+
+    /**
+     * 이미 없는 것으로 알려진 게시글이면 PostNotFoundException (어떤 DB 조회보다 먼저 호출)
+     */
+    public void rejectKnownDeadPost(Long postId) {
+        switch (this.negativePostCache.lookup(postId)) {
+            case DEAD -> throw new PostNotFoundException("Not found post");
+            case MAYBE_DEAD -> {
+                // Bloom filter는 false positive가 있으므로 PK 조회로만 한 번 더 확인
+                boolean alive = this.postRepository.existsByIdAndDeletedAtIsNull(postId);
+                this.negativePostCache.recordBloomCheck(postId, !alive);
+                if (!alive) {
+                    throw new PostNotFoundException("Not found post");
+                }
+            }
+            case UNKNOWN -> {
+            }
+        }
+    }
+
+    private PostDetailSnapshot loadPostDetailSnapshot(Long postId) {
+        // 트랜잭션 안에서 호출되므로 같은 커넥션으로 차례대로 조회
+        Post post = this.postRepository.findByWithUser(postId)
+                .filter(found -> found.getDeletedAt() == null)
+                .orElseThrow(() -> {
+                    this.negativePostCache.recordDatabaseMiss();
+                    this.negativePostCache.markDead(postId);
+                    return new PostNotFoundException("Not found post");
+                });
+        List<String> imageUrls = this.imageRepository.findByPostIdAndDeletedAtIsNullOrderByDisplayOrderAsc(postId)
+                .stream()
+                .map(Image::getUrl)
+                .toList();
+
+        // Private 버킷: Presigned Download URL 생성
+        List<String> presignedDownloadUrls = imageService.generateDownloadUrls(imageUrls);
+
+        return new PostDetailSnapshot(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getUser().getId(),
+                post.getUser().getNickname(),
+                post.getCreatedAt(),
+                presignedDownloadUrls
+        );
+    }
+
 
     @Transactional(readOnly = false)
     public CrudPostResponseDto modifyPostContent(Long postId, String email, ModifyPostRequestDto modifyPostRequestDto) {
@@ -160,6 +602,7 @@ public class PostService {
         if (!user.getId().equals(post.getUser().getId())) {
             throw new UnauthorizedException("You are not authorized to modify this post");
         }
+        this.contentFilter.checkContent(modifyPostRequestDto.getTitle(), modifyPostRequestDto.getContent());
 
         // null이 아닌 필드만 업데이트
         if (modifyPostRequestDto.getTitle() != null) {
@@ -263,6 +706,17 @@ public class PostService {
             }
         }
 
+        AfterCommit.run(() -> {
+            this.postDetailCache.invalidate(postId);
+            this.postSummaryCache.evict(postId);
+            this.hotPostCache.invalidate(postId);
+        });
+        this.contentVersionIndex.postChanged(postId);
+        this.changeLog.postChanged(postId);
+        this.searchIndex.indexPost(postId, post.getTitle(), post.getContent());
+        this.relatedPostIndex.index(postId, post.getTitle(), post.getContent());
+        this.tagService.indexPost(postId, post.getTitle(), post.getContent());
+
         // @Transactional에 의해 자동으로 UPDATE 쿼리 실행 (Dirty Checking)
         return new CrudPostResponseDto(post.getId());
     }
@@ -287,6 +741,23 @@ public class PostService {
         List<Comment> comments = this.commentRepository.findByPostId(postId);
         comments.forEach(comment -> comment.setDeletedAt(LocalDateTime.now()));
 
+        AfterCommit.run(() -> {
+            this.postDetailCache.invalidate(postId);
+            this.negativePostCache.markDead(postId);
+            this.feedHeadIndex.remove(postId);
+            this.postTimeline.remove(postId);
+            this.postSummaryCache.evict(postId);
+            this.followService.onPostRemoved(user.getId(), postId);
+            this.trendingIndex.remove(postId);
+            this.hotPostCache.invalidate(postId);
+        });
+        this.contentVersionIndex.postChanged(postId);
+        // 댓글은 게시글과 함께 지워지므로 게시글 삭제 기록 하나로 충분함
+        this.changeLog.postDeleted(postId);
+        this.searchIndex.removePost(postId);
+        this.relatedPostIndex.remove(postId);
+        this.tagService.removePost(postId);
+
         return new CrudPostResponseDto(postId);
     }
 }
@@ -0,0 +1,43 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.CommentResponseDto;
+import com.ktb.community.dto.response.CursorCommentResponseDto;
+import com.ktb.community.dto.response.PostDetailResponseDto;
+import com.ktb.community.dto.response.PostViewResponseDto;
+import com.ktb.community.entity.User;
+import com.ktb.community.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 화면을 여는 데 필요한 데이터(게시글 상세 + 댓글 첫 페이지)를 한 번에 조회
+ * 사용자 조회와 트랜잭션을 한 번만 사용하고, 클라이언트의 왕복 요청도 한 번으로 줄임
+ */
+@Service
+public class PostViewService {
+    private final PostService postService;
+    private final CommentService commentService;
+    private final UserRepository userRepository;
+
+    @Autowired
+    public PostViewService(PostService postService, CommentService commentService, UserRepository userRepository) {
+        this.postService = postService;
+        this.commentService = commentService;
+        this.userRepository = userRepository;
+    }
+
+    @Transactional
+    public PostViewResponseDto getPostView(Long postId, int commentSize, String email) {
+        // 없는 게시글이나 삭제된 게시글이라면 사용자 조회도 하지 않고 404
+        this.postService.rejectKnownDeadPost(postId);
+        User user = this.userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        // 게시글이 없으면 여기서 404가 나므로 댓글은 조회하지 않음
+        PostDetailResponseDto post = this.postService.getPostContent(postId, user);
+        CursorCommentResponseDto<CommentResponseDto> comments = this.commentService.getCommentList(postId, null, commentSize, user);
+
+        return new PostViewResponseDto(post, comments);
+    }
+}
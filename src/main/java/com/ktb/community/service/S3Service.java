@@ -1,6 +1,8 @@
 package com.ktb.community.service;
 
 import com.ktb.community.config.S3Config;
+import com.ktb.community.resilience.DependencyGuard;
+import com.ktb.community.resilience.ResilienceRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -20,12 +22,14 @@ public class S3Service {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final S3Config s3Config;
+    private final DependencyGuard s3Guard;
 
     @Autowired
-    public S3Service(S3Client s3Client, S3Presigner s3Presigner, S3Config s3Config) {
+    public S3Service(S3Client s3Client, S3Presigner s3Presigner, S3Config s3Config, ResilienceRegistry resilienceRegistry) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
         this.s3Config = s3Config;
+        this.s3Guard = resilienceRegistry.s3();
     }
 
     /**
@@ -81,17 +85,19 @@ public class S3Service {
      * @return 존재하면 true, 아니면 false
      */
     public boolean doesObjectExist(String imageKey) {
-        try {
-            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
-                    .bucket(s3Config.getBucketName())
-                    .key(imageKey)
-                    .build();
-
-            s3Client.headObject(headObjectRequest);
-            return true;
-        } catch (NoSuchKeyException e) {
-            return false;
-        }
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(s3Config.getBucketName())
+                .key(imageKey)
+                .build();
+
+        return s3Guard.call(() -> {
+            try {
+                s3Client.headObject(headObjectRequest);
+                return true;
+            } catch (NoSuchKeyException e) {
+                return false;
+            }
+        });
     }
 
     /**
@@ -105,7 +111,7 @@ public class S3Service {
                 .key(imageKey)
                 .build();
 
-        s3Client.deleteObject(deleteObjectRequest);
+        s3Guard.run(() -> s3Client.deleteObject(deleteObjectRequest));
     }
 
     /**
@@ -0,0 +1,42 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.ChangeFeedResponseDto;
+import com.ktb.community.dto.response.ChangeResponseDto;
+import com.ktb.community.sync.ChangeLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SyncService {
+    private final ChangeLog changeLog;
+
+    // 한 번에 받을 수 있는 최대 변경 수
+    static final int MAX_CHANGES = 1000;
+
+    @Autowired
+    public SyncService(ChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * 클라이언트가 마지막으로 받은 seq 이후의 변경 조회 (DB 조회 없음)
+     * 클라이언트는 UPSERT된 게시글/댓글만 다건 조회 API로 다시 받고, DELETE는 로컬에서 지움
+     *
+     * @param since 이전 응답의 cursor (처음이면 0 → reset)
+     * @param limit 최대 변경 수
+     */
+    public ChangeFeedResponseDto getChanges(long since, int limit) {
+        if (limit <= 0 || limit > MAX_CHANGES) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_CHANGES);
+        }
+
+        ChangeLog.Page page = this.changeLog.changesSince(since, limit);
+        List<ChangeResponseDto> changes = page.changes().stream()
+                .map(change -> new ChangeResponseDto(change.seq(), change.type().name(), change.operation().name(),
+                        change.id(), change.postId()))
+                .toList();
+        return new ChangeFeedResponseDto(changes, page.cursor(), page.hasMore(), page.reset());
+    }
+}
@@ -0,0 +1,177 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.TagCountResponseDto;
+import com.ktb.community.entity.PostMention;
+import com.ktb.community.entity.PostTag;
+import com.ktb.community.entity.User;
+import com.ktb.community.repository.PostMentionRepository;
+import com.ktb.community.repository.PostTagRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.resilience.ResilienceRegistry;
+import com.ktb.community.tag.TagExtractor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글의 #태그, @닉네임 색인
+ *
+ * - 게시글 작성/수정 시 제목과 본문에서 추출해서 post_tag, post_mention을 새 내용에 맞춤 (바뀐 것만 추가/삭제)
+ * - 게시글 삭제 시 함께 지우므로 태그별 목록에 삭제된 게시글이 남지 않음
+ * - 인기 태그는 최근 window-hours 동안 붙은 태그를 post_tag에서 집계하고 refresh-seconds 동안 재사용
+ *
+ * 색인 변경은 게시글과 같은 트랜잭션에서 실행되므로 PostService의 @Transactional 안에서 호출
+ */
+@Service
+public class TagService {
+    private static final Logger log = LoggerFactory.getLogger(TagService.class);
+
+    private final PostTagRepository postTagRepository;
+    private final PostMentionRepository postMentionRepository;
+    private final UserRepository userRepository;
+    private final ResilienceRegistry resilienceRegistry;
+    private final long trendingWindowHours;
+    private final long trendingRefreshMillis;
+    private final int trendingSize;
+
+    private volatile TrendingSnapshot trending;
+
+    @Autowired
+    public TagService(PostTagRepository postTagRepository, PostMentionRepository postMentionRepository,
+                      UserRepository userRepository, ResilienceRegistry resilienceRegistry,
+                      @Value("${tags.trending.window-hours:24}") long trendingWindowHours,
+                      @Value("${tags.trending.refresh-seconds:60}") long trendingRefreshSeconds,
+                      @Value("${tags.trending.size:10}") int trendingSize) {
+        this.postTagRepository = postTagRepository;
+        this.postMentionRepository = postMentionRepository;
+        this.userRepository = userRepository;
+        this.resilienceRegistry = resilienceRegistry;
+        this.trendingWindowHours = trendingWindowHours;
+        this.trendingRefreshMillis = trendingRefreshSeconds * 1000;
+        this.trendingSize = trendingSize;
+    }
+
+    /**
+     * 게시글이 생성/수정된 경우
+     */
+    public void indexPost(Long postId, String title, String content) {
+        Set<String> tags = TagExtractor.tags(title, content);
+        Set<String> currentTags = new HashSet<>(this.postTagRepository.findTagsByPostId(postId));
+        Set<String> removedTags = new HashSet<>(currentTags);
+        removedTags.removeAll(tags);
+        if (!removedTags.isEmpty()) {
+            this.postTagRepository.deleteTags(postId, removedTags);
+        }
+        List<PostTag> addedTags = tags.stream()
+                .filter(tag -> !currentTags.contains(tag))
+                .map(tag -> new PostTag(tag, postId))
+                .toList();
+        if (!addedTags.isEmpty()) {
+            this.postTagRepository.saveAll(addedTags);
+        }
+
+        Set<Long> mentioned = resolveMentions(TagExtractor.mentions(title, content));
+        Set<Long> currentMentions = new HashSet<>(this.postMentionRepository.findUserIdsByPostId(postId));
+        Set<Long> removedMentions = new HashSet<>(currentMentions);
+        removedMentions.removeAll(mentioned);
+        if (!removedMentions.isEmpty()) {
+            this.postMentionRepository.deleteMentions(postId, removedMentions);
+        }
+        List<PostMention> addedMentions = mentioned.stream()
+                .filter(userId -> !currentMentions.contains(userId))
+                .map(userId -> new PostMention(userId, postId))
+                .toList();
+        if (!addedMentions.isEmpty()) {
+            this.postMentionRepository.saveAll(addedMentions);
+        }
+    }
+
+    /**
+     * 게시글이 삭제된 경우
+     */
+    public void removePost(Long postId) {
+        this.postTagRepository.deleteByPostId(postId);
+        this.postMentionRepository.deleteByPostId(postId);
+    }
+
+    /**
+     * 태그가 붙은 게시글 ID (cursor보다 작은 ID부터 최신순으로 최대 limit개)
+     */
+    public List<Long> postIdsByTag(String tag, Long cursor, int limit) {
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        return this.resilienceRegistry.mysql().call(
+                () -> this.postTagRepository.findPostIdsByTag(tag, before, PageRequest.of(0, limit)));
+    }
+
+    /**
+     * 사용자를 언급한 게시글 ID (cursor보다 작은 ID부터 최신순으로 최대 limit개)
+     */
+    public List<Long> mentionedPostIds(Long userId, Long cursor, int limit) {
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        return this.resilienceRegistry.mysql().call(
+                () -> this.postMentionRepository.findPostIdsByUser(userId, before, PageRequest.of(0, limit)));
+    }
+
+    /**
+     * 최근 window-hours 동안 많이 붙은 태그
+     * 집계에 실패하면 이전 결과를 그대로 돌려줌 (처음이면 예외)
+     */
+    public List<TagCountResponseDto> trendingTags() {
+        TrendingSnapshot current = this.trending;
+        long now = System.currentTimeMillis();
+        if (current != null && now - current.loadedAt() < this.trendingRefreshMillis) {
+            return current.tags();
+        }
+        try {
+            LocalDateTime since = LocalDateTime.now().minusHours(this.trendingWindowHours);
+            List<TagCountResponseDto> tags = this.resilienceRegistry.mysql().call(
+                    () -> this.postTagRepository.countTagsSince(since, PageRequest.of(0, this.trendingSize))).stream()
+                    .map(row -> new TagCountResponseDto((String) row[0], ((Number) row[1]).longValue()))
+                    .toList();
+            this.trending = new TrendingSnapshot(tags, now);
+            return tags;
+        } catch (RuntimeException e) {
+            if (current == null) {
+                throw e;
+            }
+            log.warn("Trending tags refresh failed, serving previous result: {}", e.toString());
+            return current.tags();
+        }
+    }
+
+    // 언급 문자열마다 실제로 있는 가장 긴 닉네임의 사용자 (없으면 무시)
+    private Set<Long> resolveMentions(Set<String> mentions) {
+        if (mentions.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> candidates = new LinkedHashSet<>();
+        mentions.forEach(mention -> candidates.addAll(TagExtractor.nicknameCandidates(mention)));
+        Map<String, Long> userIdByNickname = this.userRepository.findAllByNicknameIn(candidates).stream()
+                .collect(Collectors.toMap(User::getNickname, User::getId, (a, b) -> a));
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (String mention : mentions) {
+            TagExtractor.nicknameCandidates(mention).stream()
+                    .map(userIdByNickname::get)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .ifPresent(userIds::add);
+        }
+        return userIds;
+    }
+
+    private record TrendingSnapshot(List<TagCountResponseDto> tags, long loadedAt) {
+    }
+}
@@ -1,20 +1,29 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.ContentVersionIndex;
+import com.ktb.community.cache.PostDetailCache;
+import com.ktb.community.cache.UserAvailabilityFilter;
 import com.ktb.community.dto.request.ChangePasswordRequestDto;
 import com.ktb.community.dto.request.ModifyNicknameRequestDto;
 import com.ktb.community.dto.response.AvailabilityResponseDto;
 import com.ktb.community.dto.response.CrudUserResponseDto;
+import com.ktb.community.dto.response.NicknameSuggestionResponseDto;
 import com.ktb.community.dto.response.UserInfoResponseDto;
 import com.ktb.community.entity.Comment;
 import com.ktb.community.entity.Count;
 import com.ktb.community.entity.Post;
 import com.ktb.community.entity.User;
+import com.ktb.community.exception.custom.DependencyUnavailableException;
 import com.ktb.community.exception.custom.DuplicateNicknameException;
 import com.ktb.community.exception.custom.InvalidNicknameException;
 import com.ktb.community.exception.custom.InvalidPasswordException;
 import com.ktb.community.exception.custom.UserNotFoundException;
 import com.ktb.community.jwt.JwtUtil;
 import com.ktb.community.repository.*;
+import com.ktb.community.search.NicknameIndex;
+import com.ktb.community.search.NicknameTrie;
+import com.ktb.community.spam.ContentFilter;
+import com.ktb.community.util.AfterCommit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -37,9 +46,19 @@ public class UserService {
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
     private final ImageService imageService;
+    private final ContentVersionIndex contentVersionIndex;
+    private final PostDetailCache postDetailCache;
+    private final ContentFilter contentFilter;
+    private final NicknameIndex nicknameIndex;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+
+    // 닉네임 자동완성 한 번에 돌려주는 최대 개수
+    static final int MAX_NICKNAME_SUGGESTIONS = 20;
+    // 닉네임 최대 길이보다 긴 접두사는 일치하는 닉네임이 없음
+    static final int MAX_NICKNAME_LENGTH = 15;
 
     @Autowired
-    public UserService(UserRepository userRepository, PostRepository postRepository, CommentRepository commentRepository, CountRepository countRepository, ImageRepository imageRepository, LikeRepository likeRepository, RefreshRepository refreshRepository, JwtUtil jwtUtil, PasswordEncoder passwordEncoder, ImageService imageService) {
+    public UserService(UserRepository userRepository, PostRepository postRepository, CommentRepository commentRepository, CountRepository countRepository, ImageRepository imageRepository, LikeRepository likeRepository, RefreshRepository refreshRepository, JwtUtil jwtUtil, PasswordEncoder passwordEncoder, ImageService imageService, ContentVersionIndex contentVersionIndex, PostDetailCache postDetailCache, ContentFilter contentFilter, NicknameIndex nicknameIndex, UserAvailabilityFilter userAvailabilityFilter) {
         this.userRepository = userRepository;
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
@@ -50,10 +69,16 @@ public class UserService {
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
         this.imageService = imageService;
+        this.contentVersionIndex = contentVersionIndex;
+        this.postDetailCache = postDetailCache;
+        this.contentFilter = contentFilter;
+        this.nicknameIndex = nicknameIndex;
+        this.userAvailabilityFilter = userAvailabilityFilter;
     }
 
     public AvailabilityResponseDto checkDuplicateEmail(String email) {
-        return new AvailabilityResponseDto(!this.userRepository.existsByEmail(email));
+        // 입력할 때마다 호출되므로 Bloom filter가 없다고 하면 DB를 조회하지 않음
+        return new AvailabilityResponseDto(!this.userAvailabilityFilter.emailTaken(email, () -> this.userRepository.existsByEmail(email)));
     }
 
     public AvailabilityResponseDto checkValidityPassword(String password) {
@@ -76,6 +101,28 @@ public class UserService {
         return new UserInfoResponseDto(user.getEmail(), user.getNickname(), profileImageUrl);
     }
 
+    /**
+     * 닉네임 자동완성 (prefix로 시작하는 닉네임, 사전 순서)
+     * 입력할 때마다 호출되므로 DB 대신 메모리 색인(NicknameIndex)에서 찾음
+     */
+    public List<NicknameSuggestionResponseDto> suggestNicknames(String prefix, int size) {
+        String keyword = prefix == null ? "" : prefix.strip();
+        if (keyword.isEmpty()) {
+            throw new IllegalArgumentException("Prefix must not be blank");
+        }
+        if (keyword.length() > MAX_NICKNAME_LENGTH) {
+            return List.of();
+        }
+
+        List<NicknameTrie.Entry> entries = this.nicknameIndex.suggest(keyword, Math.min(size, MAX_NICKNAME_SUGGESTIONS));
+        if (entries == null) {
+            throw new DependencyUnavailableException("Nickname index is warming up. Please try again later.");
+        }
+        return entries.stream()
+                .map(entry -> new NicknameSuggestionResponseDto(entry.userId(), entry.nickname()))
+                .toList();
+    }
+
     @Transactional
     public CrudUserResponseDto changeNickname(String email, ModifyNicknameRequestDto modifyNicknameRequestDto) {
         User user = this.userRepository.findByEmail(email)
@@ -86,12 +133,20 @@ public class UserService {
         if (user.getNickname().equals(newNickname)) {
             throw new InvalidNicknameException("Same nickname is not acceptable");
         }
+        this.contentFilter.checkNickname(newNickname);
 
         if (this.userRepository.existsByNicknameAndIdNot(newNickname, user.getId())) {
             throw new DuplicateNicknameException("This nickname is already in use");
         }
 
+        String oldNickname = user.getNickname();
         user.setNickname(newNickname);
+        this.nicknameIndex.rename(user.getId(), oldNickname, newNickname);
+
+        // 게시글 상세 스냅샷에 작성자 닉네임이 들어있으므로 비우고, 모든 ETag를 무효화
+        // 닉네임 변경은 드물기 때문에 전체 무효화로 충분함
+        AfterCommit.run(this.postDetailCache::invalidateAll);
+        this.contentVersionIndex.usersChanged();
         return new CrudUserResponseDto(user.getId());
     }
 
@@ -134,6 +189,7 @@ public class UserService {
 //        String imageUrl = imageService.confirmProfileImageUpload(imageKey, user);
         String imageUrl = imageService.confirmProfileImageUpload(imageKey);
         user.setProfileImage(imageUrl);
+        this.contentVersionIndex.usersChanged();
 
         return new CrudUserResponseDto(user.getId());
     }
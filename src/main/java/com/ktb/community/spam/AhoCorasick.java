@@ -0,0 +1,171 @@
+package com.ktb.community.spam;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 단어를 한 번에 찾는 Aho-Corasick 오토마톤
+ *
+ * 단어 목록으로 trie를 만들고 실패 링크(일치가 끊겼을 때 이어서 볼 가장 긴 접미사 상태)를 붙여서
+ * 입력을 한 번만 훑으면 모든 단어를 찾음. 단어 수와 관계없이 입력 길이에 비례하는 시간이 걸림
+ *
+ * 만든 뒤에는 바뀌지 않으며 상태 전이를 원시 타입 배열에 저장함
+ * - 상태 s의 전이: edgeChars/edgeTargets의 [edgeStart[s], edgeStart[s + 1]) 구간 (문자 순으로 정렬, 이진 탐색)
+ * - fail[s]: 실패 링크
+ * - match[s]: 이 상태에서 끝나는 단어 번호 (실패 링크를 따라 끝나는 단어 포함, 없으면 -1)
+ */
+public final class AhoCorasick {
+
+    private static final int ROOT = 0;
+
+    private final String[] terms;
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final int[] match;
+
+    private AhoCorasick(String[] terms, int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] fail, int[] match) {
+        this.terms = terms;
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.match = match;
+    }
+
+    /**
+     * 빈 문자열은 무시하고, 같은 단어는 한 번만 넣음
+     */
+    public static AhoCorasick compile(Collection<String> words) {
+        // 만드는 동안에만 상태마다 TreeMap을 사용하고, 끝나면 배열로 옮김
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        List<String> terms = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(-1);
+
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                Integer next = children.get(state).get(word.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(word.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    terminal.add(-1);
+                }
+                state = next;
+            }
+            if (terminal.get(state) < 0) {
+                terminal.set(state, terms.size());
+                terms.add(word);
+            }
+        }
+
+        int states = children.size();
+        int[] edgeStart = new int[states + 1];
+        char[] edgeChars = new char[states - 1];
+        int[] edgeTargets = new int[states - 1];
+        int edge = 0;
+        for (int state = 0; state < states; state++) {
+            edgeStart[state] = edge;
+            for (Map.Entry<Character, Integer> child : children.get(state).entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge] = child.getValue();
+                edge++;
+            }
+        }
+        edgeStart[states] = edge;
+
+        // 너비 우선으로 실패 링크 계산 (부모의 실패 링크가 먼저 계산되어 있어야 함)
+        int[] fail = new int[states];
+        int[] match = new int[states];
+        for (int state = 0; state < states; state++) {
+            match[state] = terminal.get(state);
+        }
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            fail[edgeTargets[e]] = ROOT;
+            queue.add(edgeTargets[e]);
+        }
+        AhoCorasick automaton = new AhoCorasick(terms.toArray(String[]::new), edgeStart, edgeChars, edgeTargets, fail, match);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTargets[e];
+                fail[child] = automaton.next(fail[state], edgeChars[e]);
+                if (match[child] < 0) {
+                    match[child] = match[fail[child]];
+                }
+                queue.add(child);
+            }
+        }
+        return automaton;
+    }
+
+    /**
+     * 입력에 들어 있는 단어 하나의 번호 (가장 먼저 끝나는 단어, 없으면 -1)
+     */
+    public int find(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (match[state] >= 0) {
+                return match[state];
+            }
+        }
+        return -1;
+    }
+
+    public String term(int index) {
+        return terms[index];
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    public int states() {
+        return fail.length;
+    }
+
+    // 전이가 없으면 실패 링크를 따라 올라감 (루트에서도 없으면 루트)
+    private int next(int state, char c) {
+        while (true) {
+            int target = transition(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int transition(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char value = edgeChars[mid];
+            if (value < c) {
+                low = mid + 1;
+            } else if (value > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+}
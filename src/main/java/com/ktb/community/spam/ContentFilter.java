@@ -0,0 +1,158 @@
+package com.ktb.community.spam;
+
+import com.ktb.community.exception.custom.BannedContentException;
+import com.ktb.community.exception.custom.InvalidNicknameException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 금지어가 들어간 게시글/댓글/닉네임을 거부
+ *
+ * - 금지어 파일(한 줄에 하나, #으로 시작하면 주석)을 Aho-Corasick 오토마톤으로 만들어 입력을 한 번만 훑음
+ * - 파일이 바뀌면(수정 시각/크기) 백그라운드에서 새 오토마톤을 만든 뒤 참조만 바꿈.
+ *   검사 중인 요청은 이전 오토마톤을 그대로 쓰므로 잠금이나 멈춤이 없음
+ * - 읽기에 실패하면 이전 목록을 유지하고, 파일이 없으면 빈 목록
+ * - 전각/반각, 대소문자 차이로 피해가지 않도록 금지어와 입력을 같은 방식으로 정규화(NFKC + 소문자)
+ */
+@Component
+public class ContentFilter {
+    private static final Logger log = LoggerFactory.getLogger(ContentFilter.class);
+
+    private final Path termsPath;
+    private final long reloadIntervalSeconds;
+
+    private volatile Snapshot snapshot = new Snapshot(AhoCorasick.compile(List.of()), null, 0);
+    private final LongAdder rejected = new LongAdder();
+    private final TaskScheduler scheduler;
+    private ScheduledFuture<?> reloadTask;
+
+    @Autowired
+    public ContentFilter(@Value("${content-filter.terms-path:./config/banned-terms.txt}") String termsPath,
+                         @Value("${content-filter.reload-interval-seconds:30}") long reloadIntervalSeconds,
+                         @Qualifier("backgroundTaskScheduler") TaskScheduler scheduler) {
+        this.termsPath = Path.of(termsPath);
+        this.reloadIntervalSeconds = reloadIntervalSeconds;
+        this.scheduler = scheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        reload();
+        Duration interval = Duration.ofSeconds(reloadIntervalSeconds);
+        reloadTask = scheduler.scheduleWithFixedDelay(this::reload, Instant.now().plus(interval), interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (reloadTask != null) {
+            reloadTask.cancel(false);
+        }
+    }
+
+    /**
+     * 게시글 제목/본문, 댓글 (null은 건너뜀)
+     */
+    public void checkContent(String... texts) {
+        for (String text : texts) {
+            if (text != null && contains(text)) {
+                throw new BannedContentException("Content contains a banned term.");
+            }
+        }
+    }
+
+    public void checkNickname(String nickname) {
+        if (nickname != null && contains(nickname)) {
+            throw new InvalidNicknameException("This nickname contains a banned term");
+        }
+    }
+
+    public Stats stats() {
+        Snapshot current = this.snapshot;
+        return new Stats(current.automaton().size(), current.automaton().states(), rejected.sum());
+    }
+
+    private boolean contains(String text) {
+        AhoCorasick automaton = this.snapshot.automaton();
+        if (automaton.size() == 0) {
+            return false;
+        }
+        int term = automaton.find(normalize(text));
+        if (term < 0) {
+            return false;
+        }
+        rejected.increment();
+        log.debug("Banned term matched: {}", automaton.term(term));
+        return true;
+    }
+
+    /**
+     * 파일이 바뀐 경우에만 다시 만듦 (시작할 때와 스케줄러 스레드에서 호출)
+     */
+    void reload() {
+        Snapshot current = this.snapshot;
+        try {
+            if (!Files.exists(termsPath)) {
+                if (current.modifiedAt() != null) {
+                    log.warn("Banned terms file {} removed, filter disabled", termsPath);
+                    this.snapshot = new Snapshot(AhoCorasick.compile(List.of()), null, 0);
+                }
+                return;
+            }
+            Long modifiedAt = Files.getLastModifiedTime(termsPath).toMillis();
+            long size = Files.size(termsPath);
+            if (modifiedAt.equals(current.modifiedAt()) && size == current.size()) {
+                return;
+            }
+            List<String> terms = new ArrayList<>();
+            for (String line : Files.readAllLines(termsPath, StandardCharsets.UTF_8)) {
+                String term = normalize(line.strip());
+                if (!term.isEmpty() && !term.startsWith("#")) {
+                    terms.add(term);
+                }
+            }
+            AhoCorasick automaton = AhoCorasick.compile(terms);
+            this.snapshot = new Snapshot(automaton, modifiedAt, size);
+            log.info("Banned terms loaded from {}: {} terms, {} states", termsPath, automaton.size(), automaton.states());
+        } catch (NoSuchFileException e) {
+            // 확인한 직후에 지워진 경우, 다음 주기에 반영
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load banned terms from {}, keeping previous list: {}", termsPath, e.toString());
+        }
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(AhoCorasick automaton, Long modifiedAt, long size) {
+    }
+
+    /**
+     * @param terms 금지어 수
+     * @param states 오토마톤 상태 수
+     * @param rejected 금지어 때문에 거부한 횟수
+     */
+    public record Stats(int terms, int states, long rejected) {
+    }
+}
@@ -0,0 +1,306 @@
+package com.ktb.community.spam;
+
+import com.ktb.community.exception.custom.DuplicateContentException;
+import com.ktb.community.search.NgramTokenizer;
+import com.ktb.community.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 같은 사용자가 최근에 올린 게시글/댓글과 거의 같은 내용의 글을 거부 (DB 조회 없음)
+ *
+ * - 최근 window 동안 저장된 글의 SimHash를 메모리에 유지
+ * - 게시글은 작성자별로, 댓글은 작성자와 게시글별로만 비교함
+ *   (공지 인용이나 "저도 궁금합니다" 같은 글은 다른 사용자끼리는 정상적으로도 겹치므로 거부하지 않음)
+ * - 64비트를 8비트씩 8개 band로 나눠 band 값별로 색인. 해밍 거리가 7 이하인 두 값은 적어도 한 band가 같으므로(비둘기집 원리)
+ *   같은 band 값을 가진 글만 비교하면 됨 (짧은 글은 한두 단어만 바꿔도 6~7비트가 달라지므로 band를 잘게 나눔)
+ * - SimHash가 가까워도 우연히 겹칠 수 있으므로 n-gram 집합의 Jaccard 유사도로 한 번 더 확인하고,
+ *   확인에서 걸러진 경우를 false positive로 집계 (/admin/spam)
+ * - action이 FLAG면 거부하지 않고 로그와 집계만 남김 (임계값 조정용)
+ *
+ * 인사말처럼 짧은 글은 정상적으로도 겹치므로 min-tokens보다 짧으면 검사하지 않음
+ */
+@Component
+public class NearDuplicateFilter {
+    private static final Logger log = LoggerFactory.getLogger(NearDuplicateFilter.class);
+
+    public enum Kind {
+        POST,
+        COMMENT
+    }
+
+    public enum Action {
+        REJECT,
+        FLAG
+    }
+
+    private static final int BANDS = 8;
+    private static final int BAND_BITS = 64 / BANDS;
+    // Jaccard 확인용으로 보관하는 n-gram 해시 수 (가장 작은 값부터, bottom-k)
+    static final int SAMPLE_SIZE = 256;
+
+    private final boolean enabled;
+    private final Action action;
+    private final long windowMillis;
+    private final int maxDistance;
+    private final int minTokens;
+    private final double minSimilarity;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Entry> recent = new ArrayDeque<>();
+    private final Map<Long, List<Entry>> bands = new HashMap<>();
+
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder candidates = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    @Autowired
+    public NearDuplicateFilter(@Value("${spam.near-duplicate.enabled:true}") boolean enabled,
+                               @Value("${spam.near-duplicate.action:REJECT}") Action action,
+                               @Value("${spam.near-duplicate.window-seconds:600}") long windowSeconds,
+                               @Value("${spam.near-duplicate.max-distance:7}") int maxDistance,
+                               @Value("${spam.near-duplicate.min-tokens:10}") int minTokens,
+                               @Value("${spam.near-duplicate.min-similarity:0.7}") double minSimilarity,
+                               @Value("${spam.near-duplicate.max-entries:20000}") int maxEntries) {
+        this(System::currentTimeMillis, enabled, action, windowSeconds, maxDistance, minTokens, minSimilarity, maxEntries);
+    }
+
+    NearDuplicateFilter(LongSupplier clock, boolean enabled, Action action, long windowSeconds, int maxDistance,
+                        int minTokens, double minSimilarity, int maxEntries) {
+        if (maxDistance >= BANDS) {
+            throw new IllegalArgumentException("max-distance must be less than " + BANDS);
+        }
+        this.clock = clock;
+        this.enabled = enabled;
+        this.action = action;
+        this.windowMillis = windowSeconds * 1000;
+        this.maxDistance = maxDistance;
+        this.minTokens = minTokens;
+        this.minSimilarity = minSimilarity;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 저장하기 전에 호출. 같은 사용자의 최근 글과 거의 같으면 DuplicateContentException (FLAG면 기록만)
+     *
+     * @param authorId 작성자
+     * @param postId 댓글이 달린 게시글 (게시글이면 null)
+     * @return 저장 후 remember()에 넘길 지문 (검사하지 않은 경우 null)
+     */
+    public Fingerprint inspect(Kind kind, Long authorId, Long postId, String text) {
+        if (!enabled) {
+            return null;
+        }
+        List<String> tokens = NgramTokenizer.tokenize(text);
+        if (tokens.size() < minTokens) {
+            skipped.increment();
+            return null;
+        }
+        Fingerprint fingerprint = new Fingerprint(kind, authorId, postId == null ? 0L : postId,
+                SimHash.fingerprint(tokens), sample(tokens));
+        checked.increment();
+
+        Match match = findMatch(fingerprint);
+        if (match != null) {
+            duplicates.increment();
+            if (action == Action.REJECT) {
+                throw new DuplicateContentException("Similar content was posted recently. Please wait before posting it again.");
+            }
+            log.warn("Near-duplicate {} flagged (distance {}, similarity {})", kind, match.distance(), match.similarity());
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 저장한 글의 지문을 기록 (커밋 후). 롤백된 글이 다시 시도할 때 자기 자신과 겹치지 않도록 커밋 후에만 기록
+     */
+    public void remember(Fingerprint fingerprint) {
+        if (fingerprint == null) {
+            return;
+        }
+        AfterCommit.run(() -> add(fingerprint));
+    }
+
+    public Stats stats() {
+        long candidateCount = candidates.sum();
+        long falsePositiveCount = falsePositives.sum();
+        lock.lock();
+        int tracked;
+        try {
+            tracked = recent.size();
+        } finally {
+            lock.unlock();
+        }
+        return new Stats(action, checked.sum(), skipped.sum(), candidateCount, duplicates.sum(), falsePositiveCount,
+                candidateCount == 0 ? 0 : (double) falsePositiveCount / candidateCount, tracked);
+    }
+
+    private Match findMatch(Fingerprint fingerprint) {
+        lock.lock();
+        try {
+            expire();
+            Match best = null;
+            boolean candidate = false;
+            for (long key : bandKeys(fingerprint)) {
+                for (Entry entry : bands.getOrDefault(key, List.of())) {
+                    // 다른 범위의 band 키가 우연히 같을 수 있음
+                    if (!entry.fingerprint.sameScope(fingerprint)) {
+                        continue;
+                    }
+                    int distance = SimHash.distance(fingerprint.hash(), entry.fingerprint.hash());
+                    if (distance > maxDistance) {
+                        continue;
+                    }
+                    candidate = true;
+                    double similarity = similarity(fingerprint.sample(), entry.fingerprint.sample());
+                    if (similarity >= minSimilarity && (best == null || similarity > best.similarity())) {
+                        best = new Match(distance, similarity);
+                    }
+                }
+            }
+            if (candidate) {
+                candidates.increment();
+                if (best == null) {
+                    falsePositives.increment();
+                }
+            }
+            return best;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(Fingerprint fingerprint) {
+        lock.lock();
+        try {
+            Entry entry = new Entry(fingerprint, clock.getAsLong());
+            recent.addLast(entry);
+            for (long key : bandKeys(fingerprint)) {
+                bands.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+            }
+            expire();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 잠금 안에서 호출
+    private void expire() {
+        long cutoff = clock.getAsLong() - windowMillis;
+        while (!recent.isEmpty() && (recent.peekFirst().recordedAt < cutoff || recent.size() > maxEntries)) {
+            Entry expired = recent.pollFirst();
+            for (long key : bandKeys(expired.fingerprint)) {
+                List<Entry> bucket = bands.get(key);
+                bucket.remove(expired);
+                if (bucket.isEmpty()) {
+                    bands.remove(key);
+                }
+            }
+        }
+    }
+
+    // 종류/작성자/게시글이 같은 글끼리만 비교하도록 범위도 키에 섞음
+    private static long[] bandKeys(Fingerprint fingerprint) {
+        long scope = mix(mix(fingerprint.kind().ordinal(), fingerprint.authorId()), fingerprint.postId());
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long value = (fingerprint.hash() >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1);
+            keys[band] = mix(scope, ((long) band << BAND_BITS) | value);
+        }
+        return keys;
+    }
+
+    // 두 값을 하나의 64비트 해시로 (murmur3 finalizer)
+    private static long mix(long a, long b) {
+        long h = a * 0x9E3779B97F4A7C15L + b;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // 중복 없는 n-gram 해시 중 가장 작은 SAMPLE_SIZE개 (정렬됨)
+    private static int[] sample(List<String> tokens) {
+        int[] hashes = tokens.stream().mapToInt(token -> (int) (SimHash.hash(token) >>> 32)).distinct().sorted().toArray();
+        return hashes.length > SAMPLE_SIZE ? Arrays.copyOf(hashes, SAMPLE_SIZE) : hashes;
+    }
+
+    /**
+     * 두 bottom-k 표본으로 Jaccard 유사도 추정 (두 집합이 모두 표본 크기 이하면 정확한 값)
+     * 합집합의 가장 작은 k개 중 양쪽에 모두 있는 비율
+     */
+    static double similarity(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int seen = 0;
+        int both = 0;
+        while (seen < SAMPLE_SIZE && (i < a.length || j < b.length)) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                i++;
+            } else if (i >= a.length || b[j] < a[i]) {
+                j++;
+            } else {
+                both++;
+                i++;
+                j++;
+            }
+            seen++;
+        }
+        return seen == 0 ? 0 : (double) both / seen;
+    }
+
+    /**
+     * @param postId 댓글이 달린 게시글 (게시글이면 0)
+     */
+    public record Fingerprint(Kind kind, long authorId, long postId, long hash, int[] sample) {
+        boolean sameScope(Fingerprint other) {
+            return kind == other.kind && authorId == other.authorId && postId == other.postId;
+        }
+    }
+
+    private record Match(int distance, double similarity) {
+    }
+
+    private static final class Entry {
+        private final Fingerprint fingerprint;
+        private final long recordedAt;
+
+        private Entry(Fingerprint fingerprint, long recordedAt) {
+            this.fingerprint = fingerprint;
+            this.recordedAt = recordedAt;
+        }
+    }
+
+    /**
+     * @param checked 검사한 글 수
+     * @param skipped 짧아서 검사하지 않은 글 수
+     * @param candidates SimHash 거리로 후보가 있었던 글 수
+     * @param duplicates Jaccard 확인까지 통과해서 거부(또는 FLAG)된 글 수
+     * @param falsePositives 후보는 있었지만 Jaccard 확인에서 걸러진 글 수
+     * @param falsePositiveRate falsePositives / candidates
+     * @param tracked 현재 기억하고 있는 지문 수
+     */
+    public record Stats(Action action, long checked, long skipped, long candidates, long duplicates,
+                        long falsePositives, double falsePositiveRate, int tracked) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.ktb.community.spam;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 64비트 SimHash
+ *
+ * 단어마다 64비트 해시를 만들고, 비트 위치마다 1이면 +빈도, 0이면 -빈도를 더한 뒤 부호로 비트를 정함
+ * 내용이 조금만 바뀌면 몇 비트만 달라지므로 해밍 거리(다른 비트 수)로 비슷한 글을 찾음
+ */
+public final class SimHash {
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(List<String> tokens) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int[] weights = new int[64];
+        frequencies.forEach((token, frequency) -> {
+            long hash = hash(token);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) != 0 ? frequency : -frequency;
+            }
+        });
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // FNV-1a 64비트 + SplitMix64 finalizer (FNV만으로는 짧은 문자열의 상위 비트가 고르게 섞이지 않음)
+    static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,234 @@
+package com.ktb.community.sync;
+
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+import com.ktb.community.redis.RedisHandler;
+import com.ktb.community.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글/댓글/좋아요 변경 기록 (delta sync용)
+ *
+ * - 커밋 후에 순번(seq)을 붙이므로 seq 순서 = 커밋 순서. 클라이언트가 마지막으로 받은 seq 이후만 가져가면 누락이 없음
+ * - 같은 대상의 이전 기록은 새 기록이 들어올 때 지움 (compaction). 클라이언트는 최신 상태만 다시 조회하면 되므로 중간 기록은 필요 없음
+ * - 한도를 넘으면 가장 오래된 기록부터 버리고, 그보다 오래된 seq로 요청한 클라이언트에게는 reset(전체 재조회)을 알림
+ *
+ * 요청마다 다른 노드가 응답할 수 있으므로 기록은 Redis에 두고 모든 노드가 같은 seq를 사용함
+ * - sync:seq: 마지막 seq (INCR). 키가 없으면 현재 시각(ms) * 1000에서 시작하므로 Redis 데이터가 사라져도 줄어들지 않음
+ * - sync:changes: 대상("POST:1") → seq인 ZSET. 같은 대상을 다시 ZADD하면 점수만 바뀌어 compaction이 됨
+ * - sync:change_data: 대상 → "작업 게시글ID" HASH
+ * - sync:floor: 이 값보다 작은 seq는 버려졌거나 알 수 없음
+ *
+ * Redis 장애로 기록하지 못한 변경이 있으면, 다음 기록 때 floor를 새 seq로 올려서 그 이전 cursor를 가진 클라이언트가 reset하도록 함
+ * (Lua의 숫자는 double이라 큰 seq를 그대로 인자로 넘기면 지수 표기가 될 수 있으므로 정수 문자열로 바꿔서 사용)
+ */
+@Component
+public class ChangeLog {
+    private static final Logger log = LoggerFactory.getLogger(ChangeLog.class);
+
+    public enum EntityType {
+        POST,
+        COMMENT,
+        // 좋아요 수 / 좋아요 여부 변경 (id는 게시글 ID)
+        LIKE
+    }
+
+    public enum Operation {
+        UPSERT,
+        DELETE
+    }
+
+    private static final List<String> KEYS = List.of("sync:seq", "sync:changes", "sync:change_data", "sync:floor");
+
+    // 처음 사용하는 경우(또는 Redis 데이터가 사라진 경우) seq와 floor를 현재 시각 기준으로 시작
+    private static final String INIT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[1])
+                redis.call('SET', KEYS[4], ARGV[1])
+                redis.call('DEL', KEYS[2], KEYS[3])
+            end
+            """;
+
+    // ARGV[1] = 시작 seq, ARGV[2] = 대상, ARGV[3] = "작업 게시글ID", ARGV[4] = 최대 기록 수, ARGV[5] = 이전 기록 누락 여부(1/0)
+    // 새 seq 반환
+    private static final String APPEND = INIT + """
+            local seq = redis.call('INCR', KEYS[1])
+            local seqText = string.format('%d', seq)
+            if ARGV[5] == '1' then
+                redis.call('SET', KEYS[4], seqText)
+            end
+            redis.call('ZADD', KEYS[2], seqText, ARGV[2])
+            redis.call('HSET', KEYS[3], ARGV[2], ARGV[3])
+            local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[4])
+            if excess > 0 then
+                local evicted = redis.call('ZPOPMIN', KEYS[2], excess)
+                for i = 1, #evicted, 2 do
+                    redis.call('HDEL', KEYS[3], evicted[i])
+                end
+                local newest = string.format('%d', tonumber(evicted[#evicted]))
+                if tonumber(newest) > tonumber(redis.call('GET', KEYS[4])) then
+                    redis.call('SET', KEYS[4], newest)
+                end
+            end
+            return seq
+            """;
+
+    // ARGV[1] = 시작 seq, ARGV[2] = since, ARGV[3] = 최대 개수
+    // {reset(1/0), 마지막 seq, 대상, seq, 데이터, 대상, seq, 데이터, ...} (최대 개수 + 1개까지 반환해서 hasMore 판단)
+    private static final String READ = INIT + """
+            local last = redis.call('GET', KEYS[1])
+            if tonumber(ARGV[2]) < tonumber(redis.call('GET', KEYS[4])) then
+                return {'1', last}
+            end
+            local entries = redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. ARGV[2], '+inf', 'WITHSCORES', 'LIMIT', 0, tonumber(ARGV[3]) + 1)
+            local result = {'0', last}
+            for i = 1, #entries, 2 do
+                table.insert(result, entries[i])
+                table.insert(result, entries[i + 1])
+                table.insert(result, redis.call('HGET', KEYS[3], entries[i]) or '')
+            end
+            return result
+            """;
+
+    private final RedisHandler redisHandler;
+    private final int maxEntries;
+    private final LongSupplier now;
+    private final DefaultRedisScript<Long> appendScript = new DefaultRedisScript<>(APPEND, Long.class);
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> readScript = new DefaultRedisScript<>(READ, List.class);
+
+    // Redis 장애로 기록하지 못한 변경이 있는지
+    private volatile boolean lost;
+
+    @Autowired
+    public ChangeLog(RedisHandler redisHandler, @Value("${sync.change-log.max-entries:100000}") int maxEntries) {
+        this(redisHandler, maxEntries, System::currentTimeMillis);
+    }
+
+    ChangeLog(RedisHandler redisHandler, int maxEntries, LongSupplier now) {
+        this.redisHandler = redisHandler;
+        this.maxEntries = maxEntries;
+        this.now = now;
+    }
+
+    public void postChanged(Long postId) {
+        record(EntityType.POST, Operation.UPSERT, postId, postId);
+    }
+
+    public void postDeleted(Long postId) {
+        record(EntityType.POST, Operation.DELETE, postId, postId);
+    }
+
+    public void commentChanged(Long commentId, Long postId) {
+        record(EntityType.COMMENT, Operation.UPSERT, commentId, postId);
+    }
+
+    public void commentDeleted(Long commentId, Long postId) {
+        record(EntityType.COMMENT, Operation.DELETE, commentId, postId);
+    }
+
+    public void likeChanged(Long postId) {
+        record(EntityType.LIKE, Operation.UPSERT, postId, postId);
+    }
+
+    /**
+     * since 이후의 변경을 seq 순서대로 최대 limit개 반환
+     */
+    public Page changesSince(long since, int limit) {
+        List<?> result = redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().execute(readScript, KEYS,
+                startSeq(), String.valueOf(since), String.valueOf(limit)));
+        if (result == null || result.size() < 2) {
+            throw new DependencyUnavailableException("Change feed is temporarily unavailable. Please try again later.");
+        }
+
+        if ("1".equals(String.valueOf(result.get(0)))) {
+            // 중간 기록이 없으므로 전체를 다시 받은 뒤 현재 seq부터 이어가야 함
+            return new Page(List.of(), parseSeq(result.get(1)), false, true);
+        }
+
+        List<Change> changes = new ArrayList<>(Math.min(limit, (result.size() - 2) / 3));
+        long cursor = since;
+        for (int i = 2; i + 2 < result.size(); i += 3) {
+            if (changes.size() == limit) {
+                return new Page(changes, cursor, true, false);
+            }
+            Change change = parseChange(String.valueOf(result.get(i)), parseSeq(result.get(i + 1)), String.valueOf(result.get(i + 2)));
+            if (change != null) {
+                changes.add(change);
+            }
+            cursor = parseSeq(result.get(i + 1));
+        }
+        return new Page(changes, cursor, false, false);
+    }
+
+    private void record(EntityType type, Operation operation, Long id, Long postId) {
+        AfterCommit.run(() -> append(type, operation, id, postId));
+    }
+
+    private void append(EntityType type, Operation operation, Long id, Long postId) {
+        boolean gap = lost;
+        Long seq = redisHandler.executeQuery(() -> redisHandler.getRedisTemplate().execute(appendScript, KEYS,
+                startSeq(), type.name() + ":" + id, operation.name() + " " + postId, String.valueOf(maxEntries), gap ? "1" : "0"));
+        if (seq == null) {
+            // 이 변경은 클라이언트에 전달되지 않으므로, 다음 기록 때 이전 cursor를 모두 reset 처리
+            log.warn("Failed to record change {}:{}, clients will be reset on the next change", type, id);
+            lost = true;
+        } else if (gap) {
+            lost = false;
+        }
+    }
+
+    private String startSeq() {
+        return String.valueOf(now.getAsLong() * 1000);
+    }
+
+    // ZSET 점수는 double 표기("1.7e+15")로 올 수 있음
+    private static long parseSeq(Object value) {
+        return (long) Double.parseDouble(String.valueOf(value));
+    }
+
+    // 대상("POST:1")과 데이터("UPSERT 1")로 변경 복원. 형식이 맞지 않으면 null
+    static Change parseChange(String target, long seq, String data) {
+        int colon = target.indexOf(':');
+        int space = data.indexOf(' ');
+        if (colon < 0 || space < 0) {
+            return null;
+        }
+        try {
+            return new Change(seq,
+                    EntityType.valueOf(target.substring(0, colon)),
+                    Operation.valueOf(data.substring(0, space)),
+                    Long.parseLong(target.substring(colon + 1)),
+                    Long.parseLong(data.substring(space + 1)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param seq 변경 순번
+     * @param type 변경 대상
+     * @param operation UPSERT면 다시 조회, DELETE면 로컬에서 제거
+     * @param id 대상 ID (LIKE는 게시글 ID)
+     * @param postId 대상이 속한 게시글 ID
+     */
+    public record Change(long seq, EntityType type, Operation operation, long id, long postId) {
+    }
+
+    /**
+     * @param changes since 이후의 변경
+     * @param cursor 다음 요청의 since
+     * @param hasMore limit 때문에 남은 변경이 있는지
+     * @param reset true면 로컬 데이터를 버리고 전체를 다시 받아야 함
+     */
+    public record Page(List<Change> changes, long cursor, boolean hasMore, boolean reset) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.ktb.community.tag;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글에서 #태그와 @닉네임 추출
+ *
+ * - 태그: # 뒤의 문자/숫자/언더바. 문자가 하나도 없으면(#1 같은 번호) 제외, 소문자로 통일
+ * - 언급: @ 뒤의 닉네임에 쓸 수 있는 문자열 (한글, 영문, 숫자, 언더바)
+ *   뒤에 붙은 호칭/조사는 정해진 목록에 있는 것만 떼어냄 ("@김철수님" → 김철수, "@김철수" → 김철은 아님)
+ * - 단어 중간의 #, @는 무시 (URL의 #section, 이메일 주소, &#123; 같은 HTML 엔티티)
+ */
+public final class TagExtractor {
+
+    static final int MAX_TAG_LENGTH = 30;
+    static final int MAX_TAGS = 10;
+    static final int MAX_MENTIONS = 10;
+    static final int MIN_NICKNAME_LENGTH = 2;
+    static final int MAX_NICKNAME_LENGTH = 15;
+
+    private static final Pattern TAG = Pattern.compile("(?<![\\p{L}\\p{N}_&#])#([\\p{L}\\p{N}_]+)");
+    private static final Pattern MENTION = Pattern.compile("(?<![\\p{L}\\p{N}_.@])@([a-zA-Z가-힣0-9_]+)");
+    private static final Pattern LETTER = Pattern.compile("\\p{L}");
+
+    private static final List<String> HONORIFICS = List.of("님", "씨", "선배", "선배님");
+    private static final List<String> PARTICLES = List.of(
+            "이", "가", "은", "는", "을", "를", "의", "도", "만", "와", "과", "랑", "이랑",
+            "에게", "한테", "께", "께서", "아", "야");
+    // 닉네임 뒤에 붙을 수 있는 말: 호칭, 조사, 호칭 + 조사 ("님께", "씨가"). 짧은 것부터 (후보는 긴 것부터)
+    private static final List<String> SUFFIXES = suffixes();
+
+    private TagExtractor() {
+    }
+
+    /**
+     * 정규화된 태그 (처음 나온 순서, 최대 MAX_TAGS개)
+     */
+    public static Set<String> tags(String... texts) {
+        Set<String> tags = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            Matcher matcher = TAG.matcher(Normalizer.normalize(text, Normalizer.Form.NFKC));
+            while (matcher.find() && tags.size() < MAX_TAGS) {
+                String tag = normalizeTag(matcher.group(1));
+                if (tag != null) {
+                    tags.add(tag);
+                }
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * 태그 조회 경로의 값도 같은 방식으로 정규화 (앞의 #은 있어도 됨). 태그로 쓸 수 없으면 null
+     */
+    public static String normalizeTag(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String tag = Normalizer.normalize(raw.strip(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        if (tag.startsWith("#")) {
+            tag = tag.substring(1);
+        }
+        if (tag.isEmpty() || tag.length() > MAX_TAG_LENGTH
+                || !tag.chars().allMatch(c -> Character.isLetterOrDigit(c) || c == '_')
+                || !LETTER.matcher(tag).find()) {
+            return null;
+        }
+        return tag;
+    }
+
+    /**
+     * @ 뒤의 문자열 (처음 나온 순서, 최대 MAX_MENTIONS개)
+     * "@닉네임님"처럼 조사/호칭이 붙을 수 있으므로 그대로 돌려주고, 실제 닉네임은 nicknameCandidates로 찾음
+     */
+    public static Set<String> mentions(String... texts) {
+        Set<String> mentions = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            Matcher matcher = MENTION.matcher(Normalizer.normalize(text, Normalizer.Form.NFKC));
+            while (matcher.find() && mentions.size() < MAX_MENTIONS) {
+                String mention = matcher.group(1);
+                if (mention.length() >= MIN_NICKNAME_LENGTH) {
+                    mentions.add(mention.substring(0, Math.min(mention.length(), MAX_NICKNAME_LENGTH)));
+                }
+            }
+        }
+        return mentions;
+    }
+
+    /**
+     * 언급 문자열이 가리킬 수 있는 닉네임 (긴 것부터)
+     * 언급 문자열 그대로와, 끝의 호칭/조사를 뗀 것만 후보로 봄 (임의의 접두사는 다른 사용자일 수 있으므로 제외)
+     */
+    public static List<String> nicknameCandidates(String mention) {
+        List<String> candidates = new ArrayList<>();
+        candidates.add(mention);
+        for (String suffix : SUFFIXES) {
+            if (mention.endsWith(suffix) && mention.length() - suffix.length() >= MIN_NICKNAME_LENGTH) {
+                candidates.add(mention.substring(0, mention.length() - suffix.length()));
+            }
+        }
+        return candidates;
+    }
+
+    private static List<String> suffixes() {
+        Set<String> suffixes = new LinkedHashSet<>(HONORIFICS);
+        suffixes.addAll(PARTICLES);
+        for (String honorific : HONORIFICS) {
+            for (String particle : PARTICLES) {
+                suffixes.add(honorific + particle);
+            }
+        }
+        List<String> sorted = new ArrayList<>(suffixes);
+        sorted.sort(Comparator.comparingInt(String::length));
+        return List.copyOf(sorted);
+    }
+}
@@ -0,0 +1,208 @@
+package com.ktb.community.trending;
+
+import com.ktb.community.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.LongSupplier;
+
+/**
+ * 인기 게시글 순위 (시간에 따라 감소하는 점수)
+ *
+ * 이벤트 점수는 half-life마다 절반이 되도록 감소시키는데, 모든 점수를 주기적으로 다시 계산하지 않기 위해
+ * 기준 시각(landmark)에서 멀수록 이벤트 가중치를 키워서 더함 (forward decay)
+ *   score = Σ weight * 2^((eventTime - landmark) / halfLife)
+ * 현재 시각의 감소 계수는 모든 게시글에 똑같이 곱해지므로 순위에 영향을 주지 않음
+ * 값이 커지면 overflow가 나므로 로그 값(ln score)으로 저장하고, 더할 때만 log-sum-exp로 계산
+ *
+ * 순위는 ConcurrentSkipListSet(점수 내림차순)이라 조회는 잠금 없이 앞에서부터 읽음
+ * 게시글 수가 한도를 넘으면 점수가 가장 낮은 게시글부터 버림
+ *
+ * 새로고침이나 좋아요 취소 후 다시 좋아요로 한 사용자가 점수를 계속 올리지 못하도록,
+ * 같은 사용자의 같은 게시글/이벤트는 dedupe-window 안에서 한 번만 반영함
+ * (현재 구간과 직전 구간의 집합 두 개를 번갈아 쓰므로 실제로는 window ~ 2 * window 동안 중복으로 봄)
+ */
+@Component
+public class TrendingIndex {
+
+    public enum Signal {
+        VIEW,
+        LIKE,
+        COMMENT
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::logScore).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+    private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final long landmark;
+    // 1ms당 ln(score) 증가량 = ln2 / halfLife
+    private final double decayPerMillis;
+    private final int maxEntries;
+    private final double[] logWeights = new double[Signal.values().length];
+
+    // 최근에 반영한 (이벤트, 사용자, 게시글)의 해시
+    private final long dedupeWindowMillis;
+    private final int maxRecentEvents;
+    private volatile Set<Long> recent = ConcurrentHashMap.newKeySet();
+    private volatile Set<Long> previousRecent = ConcurrentHashMap.newKeySet();
+    private volatile long recentStartedAt;
+
+    @Autowired
+    public TrendingIndex(@Value("${trending.half-life-minutes:360}") long halfLifeMinutes,
+                         @Value("${trending.max-entries:10000}") int maxEntries,
+                         @Value("${trending.weight.view:1}") double viewWeight,
+                         @Value("${trending.weight.like:5}") double likeWeight,
+                         @Value("${trending.weight.comment:10}") double commentWeight,
+                         @Value("${trending.dedupe-window-minutes:60}") long dedupeWindowMinutes,
+                         @Value("${trending.dedupe-max-events:200000}") int maxRecentEvents) {
+        this(System::currentTimeMillis, halfLifeMinutes, maxEntries, viewWeight, likeWeight, commentWeight,
+                dedupeWindowMinutes, maxRecentEvents);
+    }
+
+    TrendingIndex(LongSupplier clock, long halfLifeMinutes, int maxEntries,
+                  double viewWeight, double likeWeight, double commentWeight,
+                  long dedupeWindowMinutes, int maxRecentEvents) {
+        this.clock = clock;
+        this.dedupeWindowMillis = dedupeWindowMinutes * 60_000L;
+        this.maxRecentEvents = maxRecentEvents;
+        this.recentStartedAt = clock.getAsLong();
+        this.landmark = clock.getAsLong();
+        this.decayPerMillis = Math.log(2) / (halfLifeMinutes * 60_000.0);
+        this.maxEntries = maxEntries;
+        this.logWeights[Signal.VIEW.ordinal()] = Math.log(viewWeight);
+        this.logWeights[Signal.LIKE.ordinal()] = Math.log(likeWeight);
+        this.logWeights[Signal.COMMENT.ordinal()] = Math.log(commentWeight);
+    }
+
+    /**
+     * 조회 / 좋아요 / 댓글 이벤트 반영 (커밋 후). 같은 사용자의 같은 이벤트는 dedupe-window 안에서 한 번만 반영
+     */
+    public void record(Long postId, Long userId, Signal signal) {
+        AfterCommit.run(() -> {
+            if (firstInWindow(postId, userId, signal)) {
+                add(postId, signal);
+            }
+        });
+    }
+
+    /**
+     * 게시글이 삭제된 경우 (커밋 후 호출)
+     */
+    public void remove(Long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    /**
+     * 순위 offset부터 최대 limit개의 게시글 ID
+     */
+    public List<Long> page(int offset, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        Iterator<Entry> iterator = ranking.iterator();
+        int skipped = 0;
+        while (iterator.hasNext() && ids.size() < limit) {
+            Entry entry = iterator.next();
+            if (skipped++ < offset) {
+                continue;
+            }
+            ids.add(entry.postId());
+        }
+        return ids;
+    }
+
+    /**
+     * 현재 시각 기준으로 감소된 점수 (순위에 없으면 0)
+     */
+    public double score(Long postId) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            return 0;
+        }
+        return Math.exp(entry.logScore() - elapsed());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void add(Long postId, Signal signal) {
+        double contribution = logWeights[signal.ordinal()] + elapsed();
+        entries.compute(postId, (id, previous) -> {
+            Entry next;
+            if (previous == null) {
+                next = new Entry(contribution, id);
+            } else {
+                ranking.remove(previous);
+                next = new Entry(logSum(previous.logScore(), contribution), id);
+            }
+            ranking.add(next);
+            return next;
+        });
+
+        while (entries.size() > maxEntries) {
+            Entry lowest = ranking.pollLast();
+            if (lowest == null) {
+                break;
+            }
+            // 그 사이 점수가 갱신됐다면 새 값이 남아 있으므로 지우지 않음
+            entries.remove(lowest.postId(), lowest);
+        }
+    }
+
+    private boolean firstInWindow(Long postId, Long userId, Signal signal) {
+        long now = clock.getAsLong();
+        if (now - recentStartedAt >= dedupeWindowMillis || recent.size() >= maxRecentEvents) {
+            rotate(now);
+        }
+        long key = mix(mix(postId) ^ userId) * Signal.values().length + signal.ordinal();
+        return !previousRecent.contains(key) && recent.add(key);
+    }
+
+    // 구간이 지났거나 집합이 가득 차면 새 구간 시작 (가득 차서 넘어간 경우는 중복으로 보는 기간이 짧아짐)
+    private synchronized void rotate(long now) {
+        if (now - recentStartedAt < dedupeWindowMillis && recent.size() < maxRecentEvents) {
+            return;
+        }
+        previousRecent = recent;
+        recent = ConcurrentHashMap.newKeySet();
+        recentStartedAt = now;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private double elapsed() {
+        return (clock.getAsLong() - landmark) * decayPerMillis;
+    }
+
+    // ln(e^a + e^b)를 overflow 없이 계산
+    private static double logSum(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private record Entry(double logScore, long postId) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.ktb.community.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 실행할 작업 등록
+ *
+ * 커밋 전에 캐시/인덱스를 바꾸면 동시에 들어온 조회가 이전 값을 다시 올리거나,
+ * 롤백된 변경이 메모리에만 남을 수 있으므로 커밋 이후에 반영함
+ * 트랜잭션 밖에서 호출하면 바로 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
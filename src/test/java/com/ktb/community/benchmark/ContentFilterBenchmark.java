@@ -0,0 +1,106 @@
+package com.ktb.community.benchmark;
+
+import com.ktb.community.spam.AhoCorasick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 금지어 검사: 단어마다 String.contains를 호출하는 방식과 Aho-Corasick 오토마톤 비교
+ *
+ * 금지어 수를 늘려가며 게시글 본문 크기(약 2,000자)의 글을 검사하는 시간을 잼
+ * - 대부분의 글에는 금지어가 없으므로(전체를 끝까지 봐야 함) 금지어가 없는 글로 측정
+ * - 워밍업 후 같은 입력을 반복해서 글 하나당 평균 시간을 출력하고, 두 방식의 결과가 같은지 확인
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("금지어 검사 벤치마크 (contains vs Aho-Corasick)")
+public class ContentFilterBenchmark {
+
+    private static final int[] TERM_COUNTS = {100, 1_000, 5_000, 20_000};
+    private static final int TEXTS = 200;
+    private static final int TEXT_LENGTH = 2_000;
+    private static final long MEASURE_NANOS = 1_000_000_000L;
+
+    @Test
+    @DisplayName("금지어 수에 따른 글 하나당 검사 시간")
+    void compare() {
+        Random random = new Random(7);
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < TEXTS; i++) {
+            texts.add(hangul(random, TEXT_LENGTH));
+        }
+
+        System.out.printf("%8s %14s %16s %9s %8s%n", "terms", "naive(us/op)", "automaton(us/op)", "speedup", "states");
+        for (int termCount : TERM_COUNTS) {
+            List<String> terms = new ArrayList<>();
+            for (int i = 0; i < termCount; i++) {
+                // 3~6글자 단어. 무작위 한글은 본문에 거의 나오지 않으므로 본문을 끝까지 봐야 함
+                terms.add(hangul(random, 3 + random.nextInt(4)));
+            }
+            AhoCorasick automaton = AhoCorasick.compile(terms);
+            Predicate<String> naive = text -> {
+                for (String term : terms) {
+                    if (text.contains(term)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+            Predicate<String> compiled = text -> automaton.find(text) >= 0;
+
+            for (String text : texts) {
+                assertThat(compiled.test(text)).isEqualTo(naive.test(text));
+            }
+
+            double naiveMicros = measure(naive, texts);
+            double automatonMicros = measure(compiled, texts);
+            System.out.printf("%8d %14.1f %16.1f %8.1fx %8d%n",
+                    termCount, naiveMicros, automatonMicros, naiveMicros / automatonMicros, automaton.states());
+        }
+    }
+
+    // 워밍업(JIT) 후 MEASURE_NANOS 동안 반복해서 글 하나당 평균 시간(us)
+    private static double measure(Predicate<String> check, List<String> texts) {
+        int sink = 0;
+        long warmupEnd = System.nanoTime() + MEASURE_NANOS / 2;
+        while (System.nanoTime() < warmupEnd) {
+            for (String text : texts) {
+                sink += check.test(text) ? 1 : 0;
+            }
+        }
+
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (String text : texts) {
+                sink += check.test(text) ? 1 : 0;
+            }
+            operations += texts.size();
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASURE_NANOS);
+
+        // 결과를 사용해서 JIT가 검사를 없애지 않도록 함
+        if (sink == Integer.MIN_VALUE) {
+            System.out.println(sink);
+        }
+        return elapsed / 1_000.0 / operations;
+    }
+
+    private static String hangul(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(i > 0 && random.nextInt(6) == 0 ? ' ' : (char) ('가' + random.nextInt(11_172)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,144 @@
+package com.ktb.community.benchmark;
+
+import com.ktb.community.search.NicknameTrie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 닉네임 자동완성: 사용자 100만 명일 때 압축 트라이와 TreeMap<String, Long>의 메모리/검색 시간 비교
+ *
+ * - 닉네임은 절반은 한글(2~6글자), 절반은 영문 소문자/숫자(4~12글자)로 무작위 생성
+ *   실제 닉네임은 공통 접두사가 더 많으므로 트라이 쪽 결과는 보수적인 값
+ * - 메모리는 GC 후 힙 사용량의 차이로 잼 (TreeMap은 닉네임 문자열도 따로 가짐)
+ * - 검색은 1~3글자 무작위 접두사로 상위 10개를 찾는 시간
+ *
+ * 실행: ./gradlew benchmark (-Xmx512m)
+ */
+@Tag("benchmark")
+@DisplayName("닉네임 자동완성 벤치마크 (압축 트라이 vs TreeMap)")
+public class NicknameTrieBenchmark {
+
+    private static final int USERS = 1_000_000;
+    private static final int PREFIXES = 10_000;
+    private static final int LIMIT = 10;
+    private static final long MEASURE_NANOS = 1_000_000_000L;
+
+    @Test
+    @DisplayName("사용자 100만 명의 메모리와 상위 10개 검색 시간")
+    void compare() {
+        Random random = new Random(7);
+        List<NicknameTrie.Entry> entries = nicknames(random);
+        List<String> prefixes = new ArrayList<>();
+        for (int i = 0; i < PREFIXES; i++) {
+            String key = entries.get(random.nextInt(entries.size())).key();
+            prefixes.add(key.substring(0, Math.min(key.length(), 1 + random.nextInt(3))));
+        }
+
+        long before = usedHeap();
+        NicknameTrie trie = NicknameTrie.build(entries);
+        long trieBytes = usedHeap() - before;
+
+        before = usedHeap();
+        TreeMap<String, Long> map = new TreeMap<>();
+        for (NicknameTrie.Entry entry : entries) {
+            map.put(new String(entry.key()), entry.userId());
+        }
+        long mapBytes = usedHeap() - before;
+
+        for (int i = 0; i < 1_000; i++) {
+            String prefix = prefixes.get(i);
+            List<String> expected = map.subMap(prefix, prefix + Character.MAX_VALUE).keySet().stream().limit(LIMIT).toList();
+            assertThat(trie.prefix(prefix, LIMIT, key -> false)).extracting(NicknameTrie.Entry::key).isEqualTo(expected);
+        }
+
+        double trieMicros = measure(prefixes, prefix -> trie.prefix(prefix, LIMIT, key -> false).size());
+        double mapMicros = measure(prefixes, prefix -> {
+            int count = 0;
+            for (Map.Entry<String, Long> entry : map.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+                if (++count == LIMIT) {
+                    break;
+                }
+            }
+            return count;
+        });
+
+        System.out.printf("users=%d, trie nodes=%d, trie arrays=%.1f MB%n", trie.size(), trie.nodes(), trie.arrayBytes() / 1e6);
+        System.out.printf("%10s %12s %12s%n", "", "heap(MB)", "top10(us/op)");
+        System.out.printf("%10s %12.1f %12.2f%n", "trie", trieBytes / 1e6, trieMicros);
+        System.out.printf("%10s %12.1f %12.2f%n", "TreeMap", mapBytes / 1e6, mapMicros);
+    }
+
+    private static List<NicknameTrie.Entry> nicknames(Random random) {
+        TreeMap<String, Long> sorted = new TreeMap<>();
+        while (sorted.size() < USERS) {
+            String nickname = random.nextBoolean() ? hangul(random, 2 + random.nextInt(5)) : alphanumeric(random, 4 + random.nextInt(9));
+            sorted.putIfAbsent(nickname, (long) sorted.size() + 1);
+        }
+        List<NicknameTrie.Entry> entries = new ArrayList<>(USERS);
+        sorted.forEach((nickname, id) -> entries.add(new NicknameTrie.Entry(nickname, id, nickname)));
+        return entries;
+    }
+
+    // 워밍업(JIT) 후 MEASURE_NANOS 동안 반복해서 검색 한 번당 평균 시간(us)
+    private static double measure(List<String> prefixes, ToIntFunction<String> search) {
+        int sink = 0;
+        long warmupEnd = System.nanoTime() + MEASURE_NANOS / 2;
+        while (System.nanoTime() < warmupEnd) {
+            for (String prefix : prefixes) {
+                sink += search.applyAsInt(prefix);
+            }
+        }
+
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (String prefix : prefixes) {
+                sink += search.applyAsInt(prefix);
+            }
+            operations += prefixes.size();
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASURE_NANOS);
+
+        // 결과를 사용해서 JIT가 검색을 없애지 않도록 함
+        if (sink == Integer.MIN_VALUE) {
+            System.out.println(sink);
+        }
+        return elapsed / 1_000.0 / operations;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 받침 없는 음절 399개 안에서 골라서 한글 닉네임끼리 접두사가 겹치도록 함
+    private static String hangul(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('가' + random.nextInt(399) * 28));
+        }
+        return builder.toString();
+    }
+
+    private static String alphanumeric(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(i > 0 && random.nextInt(4) == 0 ? (char) ('0' + random.nextInt(10)) : (char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package com.ktb.community.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 풀(Tomcat 기본 200개)과 가상 스레드의 합성(synthetic) 부하 모델
+ *
+ * 애플리케이션을 띄우지 않고, 요청 하나를 게시글 조회와 비슷한 블로킹 대기(Thread.sleep)로 흉내냄
+ * - Redis 조회 1ms
+ * - DB 쿼리 2ms (application.yml의 Hikari maximum-pool-size와 같은 10개 커넥션을 공유)
+ * - S3 headObject 30ms
+ * 같은 JVM, 같은 힙(-Xmx512m, build.gradle의 benchmark 태스크)에서 순서대로 실행하고
+ * 처리량, 지연 시간 분포, 최대 힙 사용량을 출력함
+ *
+ * 스레드 모델의 차이(대기 중 스레드 비용, pinning)만 보여주며 실제 엔드포인트의 성능 수치가 아님
+ * (직렬화, 필터, JPA, 실제 네트워크 지연은 포함되지 않음)
+ * 실제 설정을 바꾸기 전에는 애플리케이션을 띄우고 VIRTUAL_THREADS_ENABLED를 바꿔가며 실제 API로 부하를 걸어 확인할 것
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("플랫폼 스레드 vs 가상 스레드 합성 부하 모델")
+public class VirtualThreadLoadBenchmark {
+
+    private static final int REQUESTS = 20_000;
+    private static final int PINNED_REQUESTS = 500;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    // application.yml의 spring.datasource.hikari.maximum-pool-size
+    private static final int DB_POOL_SIZE = 10;
+
+    @Test
+    @DisplayName("같은 힙에서 처리량과 지연 시간 비교")
+    void compare() throws Exception {
+        // 워밍업
+        run("warmup", Executors.newVirtualThreadPerTaskExecutor(), 2_000, false);
+
+        List<Result> results = List.of(
+                run("platform(200)", Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), REQUESTS, false),
+                run("virtual", Executors.newVirtualThreadPerTaskExecutor(), REQUESTS, false),
+                // synchronized 안에서 블로킹하면 carrier 스레드가 고정되어 동시성이 코어 수로 떨어짐
+                run("virtual+pinned", Executors.newVirtualThreadPerTaskExecutor(), PINNED_REQUESTS, true)
+        );
+
+        System.out.printf("%-16s %9s %10s %9s %9s %9s %10s%n",
+                "mode", "requests", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "heap(MB)");
+        for (Result result : results) {
+            System.out.printf("%-16s %9d %10.0f %9.1f %9.1f %9.1f %10.1f%n",
+                    result.mode(), result.requests(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.maxMillis(), result.peakHeapMb());
+        }
+
+        for (Result result : results) {
+            assertThat(result.completed()).isEqualTo(result.requests());
+        }
+    }
+
+    private Result run(String mode, ExecutorService executor, int requests, boolean pinned) throws Exception {
+        System.gc();
+        resetPeakHeap();
+
+        Semaphore dbPool = new Semaphore(DB_POOL_SIZE, true);
+        long[] latencies = new long[requests];
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            long submittedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    handleRequest(dbPool, pinned);
+                } finally {
+                    latencies[index] = System.nanoTime() - submittedAt;
+                    done.countDown();
+                }
+            });
+        }
+        boolean finished = done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        executor.shutdownNow();
+
+        long completed = finished ? requests : requests - done.getCount();
+        Arrays.sort(latencies);
+        return new Result(mode, requests, completed,
+                requests / (elapsed / 1_000_000_000.0),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000.0,
+                peakHeapMb());
+    }
+
+    private void handleRequest(Semaphore dbPool, boolean pinned) {
+        try {
+            // Redis
+            Thread.sleep(1);
+
+            // DB (커넥션 풀 크기만큼만 동시에 실행)
+            dbPool.acquire();
+            try {
+                Thread.sleep(2);
+            } finally {
+                dbPool.release();
+            }
+
+            // S3
+            if (pinned) {
+                Object lock = new Object();
+                synchronized (lock) {
+                    Thread.sleep(30);
+                }
+            } else {
+                Thread.sleep(30);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private double peakHeapMb() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak / (1024.0 * 1024.0);
+    }
+
+    private record Result(String mode, int requests, long completed, double throughput,
+                          double p50Millis, double p99Millis, double maxMillis, double peakHeapMb) {
+    }
+}
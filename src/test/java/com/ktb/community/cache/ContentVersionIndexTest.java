@@ -0,0 +1,149 @@
+package com.ktb.community.cache;
+
+import com.ktb.community.redis.RedisHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ContentVersionIndex 테스트")
+public class ContentVersionIndexTest {
+
+    @Test
+    @DisplayName("변경이 없으면 같은 weak ETag를 반환")
+    void etag_WithoutChange_IsStable() {
+        // given
+        ContentVersionIndex index = new ContentVersionIndex(mock(RedisHandler.class), 100, 30);
+
+        // when
+        String first = index.postETag(1L, "test@test.com");
+        String second = index.postETag(1L, "test@test.com");
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).startsWith("W/\"");
+    }
+
+    @Test
+    @DisplayName("게시글이 바뀌면 해당 게시글과 피드의 ETag만 바뀜")
+    void postChanged_ChangesPostAndFeedETag() {
+        // given
+        ContentVersionIndex index = new ContentVersionIndex(mock(RedisHandler.class), 100, 30);
+        String post = index.postETag(1L, "test@test.com");
+        String otherPost = index.postETag(2L, "test@test.com");
+        String comments = index.commentsETag(1L, null, 5, "test@test.com");
+        String feed = index.feedETag(null, 20, "test@test.com");
+
+        // when
+        index.postChanged(1L);
+
+        // then
+        assertThat(index.postETag(1L, "test@test.com")).isNotEqualTo(post);
+        assertThat(index.feedETag(null, 20, "test@test.com")).isNotEqualTo(feed);
+        assertThat(index.postETag(2L, "test@test.com")).isEqualTo(otherPost);
+        assertThat(index.commentsETag(1L, null, 5, "test@test.com")).isEqualTo(comments);
+    }
+
+    @Test
+    @DisplayName("댓글이 바뀌면 댓글, 게시글, 게시글 화면 ETag가 모두 바뀜")
+    void commentsChanged_ChangesCommentsPostAndViewETag() {
+        // given
+        ContentVersionIndex index = new ContentVersionIndex(mock(RedisHandler.class), 100, 30);
+        String post = index.postETag(1L, "test@test.com");
+        String comments = index.commentsETag(1L, null, 5, "test@test.com");
+        String view = index.postViewETag(1L, 5, "test@test.com");
+
+        // when
+        index.commentsChanged(1L);
+
+        // then
+        assertThat(index.postETag(1L, "test@test.com")).isNotEqualTo(post);
+        assertThat(index.commentsETag(1L, null, 5, "test@test.com")).isNotEqualTo(comments);
+        assertThat(index.postViewETag(1L, 5, "test@test.com")).isNotEqualTo(view);
+    }
+
+    @Test
+    @DisplayName("사용자 정보가 바뀌면 모든 ETag가 바뀜")
+    void usersChanged_ChangesEveryETag() {
+        // given
+        ContentVersionIndex index = new ContentVersionIndex(mock(RedisHandler.class), 100, 30);
+        String post = index.postETag(1L, "test@test.com");
+        String feed = index.feedETag(null, 20, "test@test.com");
+
+        // when
+        index.usersChanged();
+
+        // then
+        assertThat(index.postETag(1L, "test@test.com")).isNotEqualTo(post);
+        assertThat(index.feedETag(null, 20, "test@test.com")).isNotEqualTo(feed);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부가 사용자마다 다르므로 요청 사용자마다 ETag가 다름")
+    void etag_DiffersPerViewer() {
+        // given
+        ContentVersionIndex index = new ContentVersionIndex(mock(RedisHandler.class), 100, 30);
+
+        // when & then
+        assertThat(index.postETag(1L, "a@test.com")).isNotEqualTo(index.postETag(1L, "b@test.com"));
+    }
+
+    @Test
+    @DisplayName("변경을 다른 노드에 발행하고, 다른 노드가 발행한 변경도 반영함")
+    void relay_AppliesChangesFromOtherNodes() {
+        // given
+        RedisHandler redisHandler = mock(RedisHandler.class);
+        ContentVersionIndex index = new ContentVersionIndex(redisHandler, 100, 30);
+        String post = index.postETag(1L, "test@test.com");
+        String comments = index.commentsETag(1L, null, 5, "test@test.com");
+        String feed = index.feedETag(null, 20, "test@test.com");
+
+        // when
+        index.postChanged(2L);
+        index.onRelayMessage("other-node C 1");
+
+        // then
+        verify(redisHandler).publish(eq(ContentVersionIndex.CHANNEL), endsWith(" P 2"));
+        assertThat(index.postETag(1L, "test@test.com")).isNotEqualTo(post);
+        assertThat(index.commentsETag(1L, null, 5, "test@test.com")).isNotEqualTo(comments);
+        assertThat(index.feedETag(null, 20, "test@test.com")).isNotEqualTo(feed);
+    }
+
+    @Test
+    @DisplayName("내용이 그대로여도 max-age 구간이 바뀌면 ETag가 바뀜 (Presigned URL 만료)")
+    void etag_ChangesAfterMaxAge() {
+        // given
+        AtomicLong now = new AtomicLong(Duration.ofMinutes(30).toMillis());
+        ContentVersionIndex index = new ContentVersionIndex(mock(RedisHandler.class), 100, Duration.ofMinutes(30), now::get);
+        String post = index.postETag(1L, "test@test.com");
+
+        // when & then
+        now.addAndGet(Duration.ofMinutes(29).toMillis());
+        assertThat(index.postETag(1L, "test@test.com")).isEqualTo(post);
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        assertThat(index.postETag(1L, "test@test.com")).isNotEqualTo(post);
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 epoch가 바뀌어 기존 ETag가 모두 무효화")
+    void overflow_InvalidatesAllETags() {
+        // given
+        ContentVersionIndex index = new ContentVersionIndex(mock(RedisHandler.class), 2, 30);
+        index.postChanged(1L);
+        index.postChanged(2L);
+        String post = index.postETag(1L, "test@test.com");
+
+        // when
+        index.postChanged(3L);
+
+        // then
+        assertThat(index.postETag(1L, "test@test.com")).isNotEqualTo(post);
+    }
+}
@@ -0,0 +1,136 @@
+package com.ktb.community.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FeedHeadIndex 테스트")
+public class FeedHeadIndexTest {
+
+    @Test
+    @DisplayName("cursor 이후 생성된 게시글 수를 반환")
+    void countNewerThan_CountsPostsAfterCursor() {
+        // given
+        FeedHeadIndex index = new FeedHeadIndex(8);
+        index.initialize(List.of(3L, 2L, 1L));
+        index.add(4L);
+        index.add(5L);
+
+        // when
+        FeedHeadIndex.Head head = index.countNewerThan(3L);
+
+        // then
+        assertThat(head.newCount()).isEqualTo(2);
+        assertThat(head.latestId()).isEqualTo(5L);
+        assertThat(head.saturated()).isFalse();
+        assertThat(index.countNewerThan(5L).newCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 새 게시글 수에서 제외")
+    void remove_ExcludesDeletedPost() {
+        // given
+        FeedHeadIndex index = new FeedHeadIndex(8);
+        index.initialize(List.of(1L));
+        index.add(2L);
+        index.add(3L);
+
+        // when
+        index.remove(3L);
+
+        // then
+        assertThat(index.countNewerThan(1L).newCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ring에서 밀려난 범위의 cursor는 saturated로 표시")
+    void countNewerThan_OlderThanRing_IsSaturated() {
+        // given
+        FeedHeadIndex index = new FeedHeadIndex(4);
+        index.initialize(List.of());
+        for (long id = 1; id <= 6; id++) {
+            index.add(id);
+        }
+
+        // when
+        FeedHeadIndex.Head head = index.countNewerThan(1L);
+
+        // then
+        assertThat(head.newCount()).isEqualTo(4);
+        assertThat(head.saturated()).isTrue();
+        assertThat(index.countNewerThan(2L).saturated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("초기화 전에 추가된 ID와 DB에서 읽은 ID를 합침")
+    void initialize_MergesIdsAddedBefore() {
+        // given
+        FeedHeadIndex index = new FeedHeadIndex(4);
+        index.add(10L);
+
+        // when
+        index.initialize(List.of(9L, 8L, 7L, 6L));
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.countNewerThan(7L).newCount()).isEqualTo(3);
+        assertThat(index.countNewerThan(6L).saturated()).isFalse();
+        assertThat(index.countNewerThan(5L).saturated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 동안 삭제된 게시글은 초기화할 때 다시 넣지 않음")
+    void initialize_SkipsIdsRemovedBefore() {
+        // given
+        FeedHeadIndex index = new FeedHeadIndex(8);
+
+        // when
+        index.initializeIfNeeded(() -> {
+            // DB는 삭제 전의 목록을 읽었지만 그 사이 삭제가 커밋됨
+            index.remove(3L);
+            return List.of(3L, 2L, 1L);
+        });
+
+        // then
+        assertThat(index.countNewerThan(0L).newCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 첫 조회는 한 번만 DB를 읽음")
+    void initializeIfNeeded_LoadsOnce() throws Exception {
+        // given
+        FeedHeadIndex index = new FeedHeadIndex(8);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                index.initializeIfNeeded(() -> {
+                    loads.incrementAndGet();
+                    return List.of(2L, 1L);
+                });
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(index.countNewerThan(0L).newCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ktb.community.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HeavyHitters 테스트")
+public class HeavyHittersTest {
+
+    @Test
+    @DisplayName("많이 기록된 키가 상위에 오고 추정값은 실제 값 이상")
+    void top_ReturnsMostFrequentKeys() {
+        HeavyHitters hitters = new HeavyHitters(4, 1024, 8);
+        // 긴 꼬리: 1000개 키가 한 번씩, 상위 3개 키는 여러 번
+        for (long key = 1000; key < 2000; key++) {
+            hitters.record(key);
+        }
+        for (int i = 0; i < 300; i++) {
+            hitters.record(1L);
+        }
+        for (int i = 0; i < 200; i++) {
+            hitters.record(2L);
+        }
+        for (int i = 0; i < 100; i++) {
+            hitters.record(3L);
+        }
+
+        List<HeavyHitters.Hitter> top = hitters.top(3);
+
+        assertThat(top).extracting(HeavyHitters.Hitter::key).containsExactly(1L, 2L, 3L);
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("decay 후 조회가 멈춘 키는 새로 많이 조회된 키에 밀려남")
+    void decay_CoolsDownOldKeys() {
+        HeavyHitters hitters = new HeavyHitters(4, 1024, 2);
+        for (int i = 0; i < 64; i++) {
+            hitters.record(1L);
+            hitters.record(2L);
+        }
+
+        for (int round = 0; round < 4; round++) {
+            hitters.decay();
+        }
+        for (int i = 0; i < 20; i++) {
+            hitters.record(3L);
+        }
+
+        assertThat(hitters.top(1)).extracting(HeavyHitters.Hitter::key).containsExactly(3L);
+        assertThat(hitters.top(2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("decay로 0이 된 후보는 제거")
+    void decay_RemovesZeroedCandidates() {
+        HeavyHitters hitters = new HeavyHitters(4, 1024, 4);
+        hitters.record(1L);
+
+        hitters.decay();
+
+        assertThat(hitters.top(4)).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.ktb.community.cache;
+
+import com.ktb.community.entity.Count;
+import com.ktb.community.repository.CountRepository;
+import com.ktb.community.resilience.ResilienceProperties;
+import com.ktb.community.resilience.ResilienceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("HotPostCache 테스트")
+public class HotPostCacheTest {
+
+    private static final int MIN_HITS = 5;
+
+    private CountRepository countRepository;
+    private HotPostCache cache;
+
+    @BeforeEach
+    void setUp() {
+        countRepository = mock(CountRepository.class);
+        when(countRepository.findAllById(anyList())).thenReturn(List.of());
+        // refresh 한 번마다 decay하도록 설정 (decay-seconds 1 / refresh-millis 1000)
+        cache = new HotPostCache(countRepository, new ResilienceRegistry(new ResilienceProperties()), null,
+                2, MIN_HITS, 1000, 1, 256, 30);
+    }
+
+    @Test
+    @DisplayName("상위 게시글만 고정되고, 고정된 게시글의 조회수는 모았다가 한 번에 반영")
+    void hotPost_IsPinnedAndViewsAreBatched() {
+        // given: 1번은 기준 이상, 2번은 기준 미만
+        for (int i = 0; i < MIN_HITS * 4; i++) {
+            cache.lookup(1L);
+        }
+        cache.lookup(2L);
+        cache.refresh();
+
+        cache.offer(snapshot(1L), count(1L, 100L));
+        cache.offer(snapshot(2L), count(2L, 10L));
+
+        // when
+        HotPostCache.Pinned pinned = cache.lookup(1L);
+        pinned.recordView();
+        pinned.recordView();
+
+        // then
+        assertThat(cache.lookup(2L)).isNull();
+        assertThat(pinned.views()).isEqualTo(102L);
+        verify(countRepository, never()).addViewCount(anyLong(), anyLong());
+
+        cache.refresh();
+        verify(countRepository).addViewCount(1L, 2L);
+        assertThat(cache.stats().flushedViews()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("조회가 줄어든 게시글은 고정 해제되고 남은 조회수도 반영")
+    void coolPost_IsDemoted() {
+        // given
+        for (int i = 0; i < MIN_HITS * 2; i++) {
+            cache.lookup(1L);
+        }
+        cache.refresh();
+        cache.offer(snapshot(1L), count(1L, 0L));
+        HotPostCache.Pinned pinned = cache.lookup(1L);
+        assertThat(pinned).isNotNull();
+
+        // when: 조회 없이 decay되면 기준 아래로 내려가 고정 해제
+        cache.refresh();
+        // 해제 직전에 고정된 항목을 받은 요청의 조회수
+        pinned.recordView();
+        cache.refresh();
+
+        // then
+        assertThat(cache.lookup(1L)).isNull();
+        verify(countRepository).addViewCount(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("수정된 게시글은 고정 해제")
+    void invalidate_Unpins() {
+        for (int i = 0; i < MIN_HITS * 4; i++) {
+            cache.lookup(1L);
+        }
+        cache.refresh();
+        cache.offer(snapshot(1L), count(1L, 0L));
+
+        cache.invalidate(1L);
+
+        assertThat(cache.lookup(1L)).isNull();
+    }
+
+    private PostDetailSnapshot snapshot(Long postId) {
+        return new PostDetailSnapshot(postId, "Title", "Content", 1L, "author", LocalDateTime.now(), List.of());
+    }
+
+    private Count count(Long postId, Long views) {
+        Count count = new Count();
+        count.setId(postId);
+        count.setViewCount(views);
+        count.setLikeCount(0L);
+        count.setCommentCount(0L);
+        return count;
+    }
+}
@@ -0,0 +1,187 @@
+package com.ktb.community.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlightCache 테스트")
+public class SingleFlightCacheTest {
+
+    @Test
+    @DisplayName("동시에 들어온 miss는 하나의 로드를 공유")
+    void concurrentMisses_ShareOneLoad() throws Exception {
+        // given
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(Runnable::run, Duration.ofSeconds(30), Duration.ZERO, 0, 100);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(pool.submit(() -> cache.get(1L, key -> {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "post-" + key;
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 캐시된 값을 반환")
+    void get_WithinTtl_ReturnsCachedValue() {
+        // given
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(Runnable::run, Duration.ofSeconds(30), Duration.ZERO, 0, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, key -> "v" + loads.incrementAndGet());
+        String second = cache.get(1L, key -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(second).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stale 구간에서는 이전 값을 반환하고 백그라운드에서 갱신")
+    void get_WithinStaleWindow_ReturnsStaleAndRefreshes() throws Exception {
+        // given
+        List<Runnable> scheduled = new ArrayList<>();
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(scheduled::add, Duration.ofMillis(1), Duration.ofSeconds(30), 0, 100);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, key -> "v" + loads.incrementAndGet());
+        Thread.sleep(5);
+
+        // when
+        String stale = cache.get(1L, key -> "v" + loads.incrementAndGet());
+        String staleAgain = cache.get(1L, key -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(stale).isEqualTo("v1");
+        assertThat(staleAgain).isEqualTo("v1");
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.get(0).run();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 로드")
+    void invalidate_ForcesReload() {
+        // given
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(Runnable::run, Duration.ofSeconds(30), Duration.ofSeconds(30), 0, 100);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, key -> "v" + loads.incrementAndGet());
+
+        // when
+        cache.invalidate(1L);
+        String reloaded = cache.get(1L, key -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(reloaded).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("로드 중 발생한 예외는 그대로 전달되고 캐싱되지 않음")
+    void loaderException_IsPropagatedAndNotCached() {
+        // given
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(Runnable::run, Duration.ofSeconds(30), Duration.ZERO, 0, 100);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L, key -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(cache.get(1L, key -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("일시적 장애로 로드가 실패하면 이전 값을 반환")
+    void transientFailure_ServesStaleValue() throws Exception {
+        // given
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(Runnable::run, Duration.ofMillis(1), Duration.ZERO, 0, 100) {
+            @Override
+            protected boolean isTransientFailure(RuntimeException e) {
+                return e instanceof IllegalStateException;
+            }
+        };
+        cache.get(1L, key -> "v1");
+        Thread.sleep(5);
+
+        // when
+        String value = cache.get(1L, key -> {
+            throw new IllegalStateException("db down");
+        });
+
+        // then
+        assertThat(value).isEqualTo("v1");
+        assertThat(cache.stats().staleOnError()).isEqualTo(1);
+        assertThatThrownBy(() -> cache.get(2L, key -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래 조회되지 않은 항목부터 지움")
+    void get_Full_EvictsLeastRecentlyUsed() {
+        // given (stripe당 2개, 0/16/32는 같은 stripe)
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(Runnable::run, Duration.ofSeconds(30), Duration.ZERO, 0, 32);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(0L, key -> "v" + loads.incrementAndGet());
+        cache.get(16L, key -> "v" + loads.incrementAndGet());
+        cache.get(0L, key -> "v" + loads.incrementAndGet());
+
+        // when
+        cache.get(32L, key -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.get(0L, key -> "reloaded")).isEqualTo("v1");
+        assertThat(cache.get(16L, key -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    @DisplayName("로드 중에 무효화되면 로드 결과를 저장하지 않음")
+    void invalidate_DuringLoad_DiscardsResult() {
+        // given
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(Runnable::run, Duration.ofSeconds(30), Duration.ZERO, 0, 100);
+
+        // when
+        String loaded = cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "old";
+        });
+
+        // then
+        assertThat(loaded).isEqualTo("old");
+        assertThat(cache.get(1L, key -> "new")).isEqualTo("new");
+    }
+}
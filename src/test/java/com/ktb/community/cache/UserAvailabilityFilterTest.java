@@ -0,0 +1,78 @@
+package com.ktb.community.cache;
+
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.resilience.ResilienceProperties;
+import com.ktb.community.resilience.ResilienceRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UserAvailabilityFilter 테스트")
+public class UserAvailabilityFilterTest {
+
+    // 사용자 테이블에 danny@example.com만 있는 상태로 초기화
+    private UserAvailabilityFilter filter() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findIdentitiesAfter(anyLong(), any()))
+                .thenReturn(List.of(new UserIdentity(1L, "danny@example.com")));
+        UserAvailabilityFilter filter = new UserAvailabilityFilter(userRepository,
+                new ResilienceRegistry(new ResilienceProperties()), null, 1_000, 0.01);
+        filter.bootstrap();
+        return filter;
+    }
+
+    @Test
+    @DisplayName("Bloom filter에 없으면 DB를 조회하지 않고, 있을 수도 있으면 DB 결과를 따름")
+    void taken_OnlyPossiblePositivesHitDatabase() {
+        UserAvailabilityFilter filter = filter();
+        AtomicInteger queries = new AtomicInteger();
+
+        assertThat(filter.emailTaken("new@example.com", () -> queries.incrementAndGet() < 0)).isFalse();
+        assertThat(queries.get()).isZero();
+
+        assertThat(filter.emailTaken("danny@example.com", () -> queries.incrementAndGet() > 0)).isTrue();
+        assertThat(queries.get()).isEqualTo(1);
+
+        // Bloom filter는 있다고 했지만 DB에는 없는 경우 (false positive로 집계)
+        assertThat(filter.emailTaken("Danny@example.com", () -> false)).isFalse();
+        assertThat(filter.stats().falsePositives()).isEqualTo(1);
+        assertThat(filter.stats().skipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대소문자/전각/악센트만 다른 값은 DB로 확인")
+    void taken_EquivalentKeysGoToDatabase() {
+        UserAvailabilityFilter filter = filter();
+        filter.addEmail("café@example.com");
+
+        assertThat(filter.emailTaken("dANNY@example.com", () -> true)).isTrue();
+        assertThat(filter.emailTaken("ＤＡＮＮＹ@example.com", () -> true)).isTrue();
+        assertThat(filter.emailTaken(" DANNY@example.com", () -> true)).isTrue();
+        assertThat(filter.emailTaken("CAFE@example.com", () -> true)).isTrue();
+        assertThat(filter.stats().skipped()).isZero();
+    }
+
+    @Test
+    @DisplayName("초기화 전에는 항상 DB로 확인하고, 그동안의 가입도 반영됨")
+    void taken_BeforeBootstrap_UsesDatabase() {
+        UserAvailabilityFilter filter = new UserAvailabilityFilter(mock(UserRepository.class),
+                new ResilienceRegistry(new ResilienceProperties()), null, 1_000, 0.01);
+        filter.addEmail("early@example.com");
+
+        assertThat(filter.emailTaken("new@example.com", () -> true)).isTrue();
+        assertThat(filter.isReady()).isFalse();
+
+        filter.bootstrap();
+
+        assertThat(filter.emailTaken("early@example.com", () -> true)).isTrue();
+        assertThat(filter.emailTaken("new@example.com", () -> true)).isFalse();
+    }
+}
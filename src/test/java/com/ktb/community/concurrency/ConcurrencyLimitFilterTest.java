@@ -0,0 +1,22 @@
+package com.ktb.community.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter 테스트")
+public class ConcurrencyLimitFilterTest {
+
+    @Test
+    @DisplayName("일반 요청의 2xx와 실패만 지연 시간 샘플로 사용")
+    void isLatencySample_OnlyRegularSuccessAndFailures() {
+        assertThat(ConcurrencyLimitFilter.isLatencySample(false, false, 200)).isTrue();
+        assertThat(ConcurrencyLimitFilter.isLatencySample(false, true, 503)).isTrue();
+
+        // /health 같은 우선순위 요청, /posts/head 같은 메모리 응답 경로, 304, 404는 DB를 거치지 않아 rtt_noload를 왜곡함
+        assertThat(ConcurrencyLimitFilter.isLatencySample(true, false, 200)).isFalse();
+        assertThat(ConcurrencyLimitFilter.isLatencySample(false, false, 304)).isFalse();
+        assertThat(ConcurrencyLimitFilter.isLatencySample(false, false, 404)).isFalse();
+    }
+}
@@ -0,0 +1,97 @@
+package com.ktb.community.concurrency;
+
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FanOutExecutor 테스트")
+public class FanOutExecutorTest {
+
+    private final FanOutExecutor fanOutExecutor = new FanOutExecutor(1000);
+
+    @AfterEach
+    void tearDown() {
+        fanOutExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("하위 작업은 동시에 실행되어 가장 느린 작업 시간만큼 걸림")
+    void fork_RunsConcurrently() {
+        // given
+        long start = System.nanoTime();
+
+        // when
+        String result;
+        try (FanOutExecutor.Scope scope = fanOutExecutor.open()) {
+            FanOutExecutor.Subtask<String> a = scope.fork(() -> sleepAndReturn(200, "a"));
+            FanOutExecutor.Subtask<String> b = scope.fork(() -> sleepAndReturn(200, "b"));
+            scope.join();
+            result = a.get() + b.get();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(result).isEqualTo("ab");
+        assertThat(elapsedMillis).isLessThan(380);
+    }
+
+    @Test
+    @DisplayName("하나가 실패하면 그 예외를 던지고 나머지 작업은 취소")
+    void fork_FailureCancelsSiblings() throws Exception {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // when & then
+        try (FanOutExecutor.Scope scope = fanOutExecutor.open()) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("deadline을 넘기면 DependencyUnavailableException")
+    void join_DeadlineExceeded_ThrowsException() {
+        // given
+        FanOutExecutor shortDeadline = new FanOutExecutor(50);
+
+        // when & then
+        try (FanOutExecutor.Scope scope = shortDeadline.open()) {
+            scope.fork(() -> sleepAndReturn(1000, "slow"));
+
+            assertThatThrownBy(scope::join)
+                    .isInstanceOf(DependencyUnavailableException.class);
+        } finally {
+            shortDeadline.shutdown();
+        }
+    }
+
+    private String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
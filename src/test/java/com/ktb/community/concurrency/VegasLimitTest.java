@@ -0,0 +1,70 @@
+package com.ktb.community.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VegasLimit 테스트")
+public class VegasLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("지연 시간이 최소값 근처라면 한도를 늘림")
+    void onSample_LowLatency_IncreasesLimit() {
+        // given
+        VegasLimit limit = new VegasLimit(20, 10, 200, 0);
+        limit.onSample(10 * MS, 20, false);
+
+        // when
+        limit.onSample(10 * MS, 20, false);
+
+        // then
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 크게 늘어나면 한도를 줄임")
+    void onSample_HighLatency_DecreasesLimit() {
+        // given
+        VegasLimit limit = new VegasLimit(100, 10, 200, 0);
+        limit.onSample(10 * MS, 100, false);
+
+        // when
+        limit.onSample(100 * MS, 100, false);
+
+        // then
+        assertThat(limit.getLimit()).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("오류가 나면 한도를 줄이고 최소값 아래로는 내려가지 않음")
+    void onSample_Dropped_DecreasesUntilMinLimit() {
+        // given
+        VegasLimit limit = new VegasLimit(15, 10, 200, 0);
+        limit.onSample(10 * MS, 15, false);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(20 * MS, 15, true);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않을 때는 한도를 늘리지 않음")
+    void onSample_AppLimited_KeepsLimit() {
+        // given
+        VegasLimit limit = new VegasLimit(100, 10, 200, 0);
+        limit.onSample(10 * MS, 5, false);
+
+        // when
+        limit.onSample(10 * MS, 5, false);
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ktb.community.follow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdjacencyList 테스트")
+public class AdjacencyListTest {
+
+    @Test
+    @DisplayName("ID를 오름차순으로 정렬하고 중복을 제거")
+    void of_SortsAndDeduplicates() {
+        AdjacencyList list = AdjacencyList.of(List.of(30L, 10L, 20L, 10L));
+
+        assertThat(list.toArray()).containsExactly(10L, 20L, 30L);
+        assertThat(list.contains(20L)).isTrue();
+        assertThat(list.contains(25L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("인코딩한 목록을 그대로 복원")
+    void encode_RoundTrips() {
+        AdjacencyList list = AdjacencyList.of(List.of(1L, 2L, 130L, 70_000L, Long.MAX_VALUE));
+
+        AdjacencyList decoded = AdjacencyList.decode(list.encode());
+
+        assertThat(decoded.toArray()).containsExactly(list.toArray());
+        assertThat(AdjacencyList.decode(AdjacencyList.empty().encode()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("가까운 ID는 ID당 1바이트로 인코딩")
+    void encode_DenseIdsAreCompact() {
+        List<Long> ids = LongStream.rangeClosed(1_000_000, 1_000_999).boxed().toList();
+
+        byte[] bytes = Base64.getDecoder().decode(AdjacencyList.of(ids).encode());
+
+        // 첫 ID만 여러 바이트, 나머지는 차이가 1이므로 1바이트씩
+        assertThat(bytes.length).isEqualTo(3 + 999);
+    }
+
+    @Test
+    @DisplayName("잘린 데이터는 읽지 않음")
+    void decode_Malformed_ThrowsException() {
+        // 다음 바이트가 있다고 표시한 채 끝남
+        String truncated = Base64.getEncoder().encodeToString(new byte[]{(byte) 0x81});
+
+        assertThatThrownBy(() -> AdjacencyList.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
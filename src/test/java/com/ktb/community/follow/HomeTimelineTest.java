@@ -0,0 +1,32 @@
+package com.ktb.community.follow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HomeTimeline 테스트")
+public class HomeTimelineTest {
+
+    @Test
+    @DisplayName("여러 타임라인을 최신순으로 중복 없이 병합")
+    void merge_DeduplicatesInDescendingOrder() {
+        List<List<Long>> sources = List.of(
+                List.of(10L, 7L, 3L),
+                List.of(9L, 7L, 2L),
+                List.of(8L));
+
+        assertThat(HomeTimeline.merge(sources, 10)).containsExactly(10L, 9L, 8L, 7L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("limit개까지만 병합")
+    void merge_StopsAtLimit() {
+        List<List<Long>> sources = List.of(List.of(6L, 4L, 2L), List.of(5L, 3L, 1L));
+
+        assertThat(HomeTimeline.merge(sources, 3)).containsExactly(6L, 5L, 4L);
+        assertThat(HomeTimeline.merge(List.of(List.of(), List.of()), 3)).isEmpty();
+    }
+}
@@ -0,0 +1,152 @@
+package com.ktb.community.live;
+
+import com.ktb.community.dto.response.LiveCountResponseDto;
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+import com.ktb.community.redis.RedisHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LiveCountHub 테스트")
+public class LiveCountHubTest {
+
+    private RedisHandler redisHandler;
+    private LiveCountHub hub;
+
+    @BeforeEach
+    void setUp() {
+        redisHandler = mock(RedisHandler.class);
+        hub = new LiveCountHub(redisHandler, Runnable::run, null, 1000, 60, 30, 2, 100);
+    }
+
+    @Test
+    @DisplayName("같은 게시글의 여러 변경은 flush 한 번에 마지막 값 하나로 전송")
+    void countsChanged_CoalescesPerPost() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.register(emitter, List.of(1L));
+
+        // when
+        hub.countsChanged(1L, 1L, 0L);
+        hub.countsChanged(1L, 2L, 0L);
+        hub.countsChanged(1L, 3L, 1L);
+        hub.flush();
+
+        // then
+        assertThat(emitter.events).hasSize(1);
+        assertThat(emitter.events.get(0)).singleElement().satisfies(count -> {
+            assertThat(count.getPostId()).isEqualTo(1L);
+            assertThat(count.getLikes()).isEqualTo(3L);
+            assertThat(count.getComments()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("구독한 게시글의 변경만 전송")
+    void flush_SendsOnlyWatchedPosts() {
+        // given
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        hub.register(first, List.of(1L, 2L));
+        hub.register(second, List.of(3L));
+
+        // when
+        hub.countsChanged(1L, 5L, 0L);
+        hub.countsChanged(2L, 7L, 0L);
+        hub.flush();
+
+        // then
+        assertThat(first.events).hasSize(1);
+        assertThat(first.events.get(0)).extracting(LiveCountResponseDto::getPostId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 발행에 성공하면 채널로 돌아온 메시지를 받아 전송")
+    void publishedChanges_AreDeliveredFromRelay() {
+        // given
+        when(redisHandler.publish(eq(LiveCountHub.CHANNEL), anyString())).thenReturn(1);
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.register(emitter, List.of(1L));
+
+        // when
+        hub.countsChanged(1L, 4L, 2L);
+        hub.flush();
+
+        // then
+        verify(redisHandler).publish(LiveCountHub.CHANNEL, "1:4:2");
+        assertThat(emitter.events).isEmpty();
+
+        hub.onRelayMessage("1:4:2");
+        hub.flush();
+        assertThat(emitter.events).hasSize(1);
+        assertThat(hub.stats().published()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 항목은 건너뛰고 나머지를 해석")
+    void decode_SkipsMalformedEntries() {
+        // when
+        List<LiveCountResponseDto> counts = LiveCountHub.decode("1:2:3,broken,4:5:6");
+
+        // then
+        assertThat(counts).extracting(LiveCountResponseDto::getPostId).containsExactly(1L, 4L);
+        assertThat(LiveCountHub.encode(counts)).isEqualTo("1:2:3,4:5:6");
+    }
+
+    @Test
+    @DisplayName("구독자 한도를 넘으면 연결을 거절")
+    void register_OverLimit_ThrowsException() {
+        // given
+        hub.register(new RecordingEmitter(), List.of(1L));
+        hub.register(new RecordingEmitter(), List.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> hub.register(new RecordingEmitter(), List.of(1L)))
+                .isInstanceOf(DependencyUnavailableException.class);
+        assertThat(hub.stats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독 게시글 수 제한을 넘으면 예외 발생")
+    void subscribe_TooManyIds_ThrowsException() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 101; id++) {
+            ids.add(id);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> hub.subscribe(ids)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 실제 응답 대신 전송된 카운트 목록을 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<List<LiveCountResponseDto>> events = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof List<?> data) {
+                    events.add((List<LiveCountResponseDto>) data);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ktb.community.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitInterceptor 테스트")
+public class RateLimitInterceptorTest {
+
+    @Test
+    @DisplayName("클라이언트가 넣은 X-Forwarded-For 값은 무시하고 프록시가 덧붙인 값을 사용")
+    void clientIp_IgnoresSpoofedEntries() {
+        // 로드밸런서 1대: 마지막 값이 로드밸런서에 연결한 주소
+        assertThat(RateLimitInterceptor.clientIp("6.6.6.6, 7.7.7.7, 1.2.3.4", "10.0.0.1", 1)).isEqualTo("1.2.3.4");
+        assertThat(RateLimitInterceptor.clientIp("1.2.3.4", "10.0.0.1", 1)).isEqualTo("1.2.3.4");
+        // 프록시 2대 (CDN + 로드밸런서)
+        assertThat(RateLimitInterceptor.clientIp("6.6.6.6, 1.2.3.4, 172.16.0.9", "10.0.0.1", 2)).isEqualTo("1.2.3.4");
+        // 헤더가 예상보다 짧은 경우
+        assertThat(RateLimitInterceptor.clientIp("1.2.3.4", "10.0.0.1", 2)).isEqualTo("1.2.3.4");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시가 없거나 헤더가 없으면 연결 주소를 사용")
+    void clientIp_NoTrustedProxies_UsesRemoteAddr() {
+        assertThat(RateLimitInterceptor.clientIp("6.6.6.6", "10.0.0.1", 0)).isEqualTo("10.0.0.1");
+        assertThat(RateLimitInterceptor.clientIp(null, "10.0.0.1", 1)).isEqualTo("10.0.0.1");
+    }
+}
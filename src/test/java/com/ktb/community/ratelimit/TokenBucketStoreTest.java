@@ -0,0 +1,138 @@
+package com.ktb.community.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucketStore 테스트")
+public class TokenBucketStoreTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    @DisplayName("버킷 크기만큼은 허용하고 그 이후는 거부")
+    void tryAcquire_ExceedsCapacity_Rejected() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(4, 100);
+        long now = 1_000_000L;
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryAcquire("login:ip:1.1.1.1", 5, MINUTE, now)).isZero();
+        }
+        long wait = store.tryAcquire("login:ip:1.1.1.1", 5, MINUTE, now);
+        assertThat(wait).isPositive();
+        // 5개/분이므로 토큰 하나가 생기는 데 12초
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(wait)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워짐")
+    void tryAcquire_AfterRefill_Allowed() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(4, 100);
+        long now = 1_000_000L;
+        for (int i = 0; i < 5; i++) {
+            store.tryAcquire("key", 5, MINUTE, now);
+        }
+
+        // when
+        long later = now + TimeUnit.SECONDS.toNanos(12);
+
+        // then
+        assertThat(store.tryAcquire("key", 5, MINUTE, later)).isZero();
+        assertThat(store.tryAcquire("key", 5, MINUTE, later)).isPositive();
+    }
+
+    @Test
+    @DisplayName("키마다 독립된 버킷 사용")
+    void tryAcquire_DifferentKeys_Independent() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(4, 100);
+        long now = 1_000_000L;
+        store.tryAcquire("user:a", 1, MINUTE, now);
+
+        // when & then
+        assertThat(store.tryAcquire("user:a", 1, MINUTE, now)).isPositive();
+        assertThat(store.tryAcquire("user:b", 1, MINUTE, now)).isZero();
+    }
+
+    @Test
+    @DisplayName("stripe가 가득 차면 오래 사용되지 않은 버킷을 정리")
+    void tryAcquire_StripeFull_EvictsIdleBuckets() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(1, 10);
+        long now = 1_000_000L;
+        for (int i = 0; i < 10; i++) {
+            store.tryAcquire("key" + i, 5, MINUTE, now);
+        }
+
+        // when
+        store.tryAcquire("new-key", 5, MINUTE, now + MINUTE);
+
+        // then
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주기가 긴 정책의 버킷은 자기 주기가 지나기 전에는 정리하지 않음")
+    void tryAcquire_StripeFull_UsesEachBucketsOwnPeriod() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(1, 3);
+        long now = 1_000_000L;
+        store.tryAcquire("login:ip:1.1.1.1", 1, 60 * MINUTE, now);
+        store.tryAcquire("user:a", 5, MINUTE, now);
+        store.tryAcquire("user:b", 5, MINUTE, now);
+
+        // when
+        store.tryAcquire("user:c", 5, MINUTE, now + MINUTE);
+
+        // then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.tryAcquire("login:ip:1.1.1.1", 1, 60 * MINUTE, now + MINUTE)).isPositive();
+    }
+
+    @Test
+    @DisplayName("stripe가 가득 차고 모두 사용 중이면 가장 오래 사용되지 않은 버킷부터 정리해서 상한을 지킴")
+    void tryAcquire_StripeFullOfActiveBuckets_EvictsOldest() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(1, 10);
+        long now = 1_000_000L;
+        for (int i = 0; i < 10; i++) {
+            store.tryAcquire("login:ip:" + i, 5, MINUTE, now + i);
+        }
+
+        // when
+        for (int i = 10; i < 100; i++) {
+            store.tryAcquire("login:ip:" + i, 5, MINUTE, now + i);
+        }
+
+        // then
+        assertThat(store.size()).isLessThanOrEqualTo(10);
+        // 가장 최근 키는 남아 있음 (토큰 하나를 쓴 상태)
+        for (int i = 0; i < 4; i++) {
+            assertThat(store.tryAcquire("login:ip:99", 5, MINUTE, now + 99)).isZero();
+        }
+        assertThat(store.tryAcquire("login:ip:99", 5, MINUTE, now + 99)).isPositive();
+    }
+
+    @Test
+    @DisplayName("여러 버킷 중 하나라도 거부되면 다른 버킷의 토큰은 소비하지 않음")
+    void tryAcquireAll_OneBucketEmpty_DoesNotConsumeOthers() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(16, 1000);
+        long now = 1_000_000L;
+        store.tryAcquire("write:ip:1.1.1.1", 1, MINUTE, now);
+
+        // when
+        long wait = store.tryAcquireAll(List.of("write:user:a", "write:ip:1.1.1.1"), 1, MINUTE, now);
+
+        // then
+        assertThat(wait).isPositive();
+        assertThat(store.tryAcquire("write:user:a", 1, MINUTE, now)).isZero();
+    }
+}
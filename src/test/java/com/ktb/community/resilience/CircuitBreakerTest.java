@@ -0,0 +1,102 @@
+package com.ktb.community.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker 테스트")
+public class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("최소 호출 수 이전에는 실패해도 열리지 않음")
+    void belowMinimumCalls_StaysClosed() {
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(10, 5, 50, Duration.ofSeconds(10), 1);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패율이 임계값을 넘으면 열리고 호출을 거절")
+    void failureRateAboveThreshold_Opens() {
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 50, Duration.ofSeconds(10), 1);
+
+        // when
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 sliding window 밖으로 밀려남")
+    void oldOutcomes_SlideOutOfWindow() {
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 75, Duration.ofSeconds(10), 1);
+        breaker.onFailure();
+        breaker.onFailure();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess();
+        }
+        breaker.onFailure();
+        breaker.onFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("open 시간이 지나면 시험 호출을 허용하고, 성공하면 닫힘")
+    void afterOpenDuration_HalfOpenThenCloses() throws Exception {
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 50, Duration.ofMillis(10), 1);
+        breaker.onFailure();
+        breaker.onFailure();
+        Thread.sleep(20);
+
+        // when
+        boolean trial = breaker.tryAcquirePermission();
+        boolean second = breaker.tryAcquirePermission();
+        breaker.onSuccess();
+
+        // then
+        assertThat(trial).isTrue();
+        assertThat(second).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열림")
+    void halfOpenFailure_Reopens() throws Exception {
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 50, Duration.ofMillis(10), 1);
+        breaker.onFailure();
+        breaker.onFailure();
+        Thread.sleep(20);
+        breaker.tryAcquirePermission();
+
+        // when
+        breaker.onFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+}
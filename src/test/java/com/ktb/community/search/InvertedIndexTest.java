@@ -0,0 +1,140 @@
+package com.ktb.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InvertedIndex 테스트")
+public class InvertedIndexTest {
+
+    private static List<Long> ids(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::postId).toList();
+    }
+
+    private InvertedIndex sample() {
+        InvertedIndex index = new InvertedIndex(3, 0.5);
+        index.putPost(1L, "스프링 부트 질문", "커뮤니티에서 스프링을 배우고 있어요");
+        index.putPost(2L, "오늘 점심", "스프링 롤을 먹었다");
+        index.putPost(3L, "잡담", "아무 이야기");
+        index.putComment(10L, 3L, "스프링 부트 좋아요");
+        return index;
+    }
+
+    @Test
+    @DisplayName("모든 단어를 포함한 게시글만 찾고 제목 일치가 앞섬")
+    void search_RanksTitleMatchesFirst() {
+        InvertedIndex index = sample();
+
+        assertThat(ids(index.search("스프링", 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(index.search("스프링 부트", 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.search("커뮤니티", 10))).containsExactly(1L);
+        assertThat(index.search("없는단어", 10)).isEmpty();
+        assertThat(index.search("!!", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("limit만큼만 반환")
+    void search_RespectsLimit() {
+        assertThat(ids(sample().search("스프링", 2))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 내용으로는 찾을 수 없음")
+    void putPost_ReplacesPreviousContent() {
+        InvertedIndex index = sample();
+        index.putPost(1L, "수정된 제목", "내용 없음");
+
+        assertThat(ids(index.search("스프링 부트", 10))).containsExactly(3L);
+        assertThat(ids(index.search("수정", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("게시글을 삭제하면 댓글로도 찾을 수 없고, 삭제된 게시글의 새 댓글은 무시")
+    void removePost_RemovesCommentsToo() {
+        InvertedIndex index = sample();
+        index.removePost(3L);
+        index.putComment(11L, 3L, "스프링 부트");
+
+        assertThat(ids(index.search("스프링 부트", 10))).containsExactly(1L);
+        assertThat(index.stats().documents()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제")
+    void removeComment_RemovesMatch() {
+        InvertedIndex index = sample();
+        index.removeComment(10L);
+
+        assertThat(ids(index.search("좋아요", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("compact 후에도 검색 결과가 같고 삭제 표시가 사라짐")
+    void compact_KeepsResults() {
+        InvertedIndex index = sample();
+        index.putPost(2L, "오늘 저녁", "스프링 롤을 또 먹었다");
+        index.removeComment(10L);
+        List<Long> before = ids(index.search("스프링", 10));
+
+        assertThat(index.needsCompaction(0.3, 1)).isTrue();
+        index.compact();
+
+        assertThat(index.stats().deadDocuments()).isZero();
+        assertThat(ids(index.search("스프링", 10))).isEqualTo(before);
+        assertThat(index.needsCompaction(0.3, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 복원한 색인은 같은 결과를 반환하고 계속 갱신 가능")
+    void writeTo_RoundTrip() throws IOException {
+        InvertedIndex index = sample();
+        index.putPost(1L, "수정된 제목", "스프링 내용");
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(buffer));
+        // 기록은 색인을 바꾸지 않음 (read lock 안에서 호출됨)
+        assertThat(index.stats().deadDocuments()).isEqualTo(1);
+
+        InvertedIndex restored = InvertedIndex.readFrom(
+                new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())), 3, 0.5);
+
+        // 스냅샷에는 살아 있는 문서만 compact()한 것과 같은 번호로 기록됨
+        index.compact();
+        assertThat(restored.stats()).isEqualTo(index.stats());
+        assertThat(restored.search("스프링", 10)).isEqualTo(index.search("스프링", 10));
+        restored.putComment(11L, 2L, "점심 메뉴 추천");
+        assertThat(ids(restored.search("메뉴", 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("형식이 다른 스냅샷은 거부")
+    void readFrom_RejectsUnknownFormat() {
+        byte[] garbage = {0, 1, 2, 3, 4, 5, 6, 7};
+
+        assertThatThrownBy(() -> InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(garbage)), 3, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("posting list는 오름차순으로만 추가되고 delta + varint로 압축됨")
+    void postingList_CompressesDeltas() {
+        PostingList list = new PostingList();
+        for (int ordinal = 0; ordinal < 1000; ordinal++) {
+            list.add(ordinal * 3, 1);
+        }
+
+        // 차이(3)와 빈도(1)가 각각 1바이트
+        assertThat(list.bytes()).isEqualTo(2000);
+        PostingList restored = PostingList.restore(list.toByteArray(), list.count());
+        assertThat(restored.lastOrdinal()).isEqualTo(2997);
+        assertThatThrownBy(() -> list.add(10, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
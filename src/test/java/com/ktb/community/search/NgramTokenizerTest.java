@@ -0,0 +1,39 @@
+package com.ktb.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NgramTokenizer 테스트")
+public class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 bigram, 영문/숫자는 단어 단위로 자름")
+    void tokenize_MixedScripts() {
+        assertThat(NgramTokenizer.tokenize("커뮤니티에서 Spring Boot 3.5"))
+                .containsExactly("커뮤", "뮤니", "니티", "티에", "에서", "spring", "boot", "3", "5");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 검색어의 bigram을 모두 포함")
+    void tokenize_QueryIsSubsetOfInflectedWord() {
+        assertThat(NgramTokenizer.tokenize("커뮤니티를"))
+                .containsAll(NgramTokenizer.tokenize("커뮤니티"));
+    }
+
+    @Test
+    @DisplayName("한 글자 한글과 전각 문자도 처리")
+    void tokenize_SingleCharacterAndFullWidth() {
+        assertThat(NgramTokenizer.tokenize("글 ＡＢＣ")).containsExactly("글", "abc");
+        assertThat(NgramTokenizer.tokenize("  !!  ")).isEmpty();
+        assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("긴 단어는 최대 길이로 자름")
+    void tokenize_TruncatesLongWords() {
+        assertThat(NgramTokenizer.tokenize("a".repeat(100)))
+                .containsExactly("a".repeat(NgramTokenizer.MAX_WORD_LENGTH));
+    }
+}
@@ -0,0 +1,81 @@
+package com.ktb.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NicknameIndex 테스트")
+public class NicknameIndexTest {
+
+    // 부트스트랩(DB 조회)과 백그라운드 재생성은 실행하지 않음
+    private NicknameIndex index(UserNickname... users) {
+        NicknameIndex index = new NicknameIndex(null, null, null, 10_000);
+        index.load(List.of(users));
+        return index;
+    }
+
+    private static List<String> nicknames(List<NicknameTrie.Entry> entries) {
+        return entries.stream().map(NicknameTrie.Entry::nickname).toList();
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 찾고 원래 닉네임을 반환")
+    void suggest_IgnoresCase() {
+        NicknameIndex index = index(new UserNickname(1L, "Danny"), new UserNickname(2L, "dana"), new UserNickname(3L, "철수"));
+
+        assertThat(nicknames(index.suggest("DAN", 10))).containsExactly("dana", "Danny");
+        assertThat(nicknames(index.suggest("ｄａｎ", 10))).containsExactly("dana", "Danny");
+        assertThat(index.suggest("철", 10)).extracting(NicknameTrie.Entry::userId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("가입/변경/탈퇴가 재생성 전에도 검색에 반영됨")
+    void changes_VisibleBeforeRebuild() {
+        NicknameIndex index = index(new UserNickname(1L, "danny"), new UserNickname(2L, "dana"));
+
+        index.add(3L, "daniel");
+        index.rename(1L, "danny", "david");
+        index.remove(2L, "dana");
+
+        assertThat(nicknames(index.suggest("da", 10))).containsExactly("daniel", "david");
+        assertThat(index.stats().pendingChanges()).isEqualTo(4);
+
+        index.rebuild();
+
+        assertThat(nicknames(index.suggest("da", 10))).containsExactly("daniel", "david");
+        assertThat(index.stats().pendingChanges()).isZero();
+        assertThat(index.stats().users()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 예전 닉네임을 가져간 경우")
+    void rename_NicknameTakenOver() {
+        NicknameIndex index = index(new UserNickname(1L, "danny"));
+
+        index.rename(1L, "danny", "david");
+        index.add(2L, "danny");
+        // 늦게 도착한 1번 사용자의 탈퇴가 2번 사용자의 닉네임을 지우면 안 됨
+        index.remove(1L, "danny");
+
+        assertThat(index.suggest("danny", 10)).extracting(NicknameTrie.Entry::userId).containsExactly(2L);
+        index.rebuild();
+        assertThat(index.suggest("danny", 10)).extracting(NicknameTrie.Entry::userId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("초기화 전에는 null, 그동안의 변경은 초기화 후 반영")
+    void suggest_BeforeLoad_ReturnsNull() {
+        NicknameIndex index = new NicknameIndex(null, null, null, 10_000);
+        index.add(2L, "dana");
+
+        assertThat(index.suggest("da", 10)).isNull();
+
+        index.load(List.of(new UserNickname(1L, "danny")));
+
+        assertThat(nicknames(index.suggest("da", 10))).containsExactly("dana", "danny");
+        assertThat(index.isReady()).isTrue();
+    }
+}
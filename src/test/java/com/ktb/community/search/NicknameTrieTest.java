@@ -0,0 +1,93 @@
+package com.ktb.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NicknameTrie 테스트")
+public class NicknameTrieTest {
+
+    private static NicknameTrie trie(String... keys) {
+        List<NicknameTrie.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            entries.add(new NicknameTrie.Entry(keys[i], i + 1, keys[i]));
+        }
+        entries.sort((a, b) -> a.key().compareTo(b.key()));
+        return NicknameTrie.build(entries);
+    }
+
+    private static List<String> keys(List<NicknameTrie.Entry> entries) {
+        return entries.stream().map(NicknameTrie.Entry::key).toList();
+    }
+
+    @Test
+    @DisplayName("접두사로 시작하는 키를 사전 순서로 limit개까지")
+    void prefix_ReturnsSortedMatches() {
+        NicknameTrie trie = trie("dan", "danny", "dana", "daniel", "david", "김철수", "김철");
+
+        assertThat(keys(trie.prefix("dan", 10, key -> false))).containsExactly("dan", "dana", "daniel", "danny");
+        assertThat(keys(trie.prefix("da", 2, key -> false))).containsExactly("dan", "dana");
+        // 라벨 중간에서 끝나는 접두사
+        assertThat(keys(trie.prefix("dav", 10, key -> false))).containsExactly("david");
+        assertThat(keys(trie.prefix("김", 10, key -> false))).containsExactly("김철", "김철수");
+        assertThat(trie.prefix("dx", 10, key -> false)).isEmpty();
+        assertThat(trie.prefix("dannyboy", 10, key -> false)).isEmpty();
+        assertThat(trie.size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("건너뛴 키는 limit에 세지 않음")
+    void prefix_SkipsKeys() {
+        NicknameTrie trie = trie("dan", "dana", "daniel", "danny");
+
+        assertThat(keys(trie.prefix("dan", 2, key -> key.equals("dana")))).containsExactly("dan", "daniel");
+    }
+
+    @Test
+    @DisplayName("정확히 일치하는 키만 get으로 찾음")
+    void get_ExactMatchOnly() {
+        NicknameTrie trie = trie("dan", "danny");
+
+        assertThat(trie.get("danny")).isEqualTo(2L);
+        assertThat(trie.get("dan")).isEqualTo(1L);
+        assertThat(trie.get("dann")).isEqualTo(-1L);
+        assertThat(trie.get("d")).isEqualTo(-1L);
+        assertThat(NicknameTrie.empty().get("dan")).isEqualTo(-1L);
+        assertThat(NicknameTrie.empty().prefix("d", 10, key -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무작위 키에서 정렬된 맵과 결과가 같음")
+    void prefix_AgreesWithSortedMap() {
+        Random random = new Random(42);
+        TreeMap<String, Long> expected = new TreeMap<>();
+        while (expected.size() < 2_000) {
+            expected.put(randomKey(random, 2 + random.nextInt(6)), (long) expected.size());
+        }
+        List<NicknameTrie.Entry> entries = new ArrayList<>();
+        expected.forEach((key, id) -> entries.add(new NicknameTrie.Entry(key, id, key)));
+        NicknameTrie trie = NicknameTrie.build(entries);
+
+        assertThat(trie.entries()).isEqualTo(entries);
+        for (int i = 0; i < 500; i++) {
+            String prefix = randomKey(random, 1 + random.nextInt(3));
+            List<String> naive = expected.subMap(prefix, prefix + Character.MAX_VALUE).keySet().stream().limit(5).toList();
+            assertThat(keys(trie.prefix(prefix, 5, key -> false))).isEqualTo(naive);
+        }
+    }
+
+    // 작은 알파벳으로 만들어서 공통 접두사가 많이 생기도록 함
+    private static String randomKey(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ktb.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RelatedPostIndex 테스트")
+public class RelatedPostIndexTest {
+
+    private static final String SPRING = "스프링 부트에서 JPA 지연 로딩과 N+1 문제를 해결하는 방법을 정리했습니다. fetch join과 batch size 설정을 비교합니다.";
+    private static final String SPRING_SIMILAR = "스프링 부트에서 JPA 지연 로딩과 N+1 문제를 해결하는 방법 정리. fetch join과 batch size 설정 비교 후기";
+    private static final String COOKING = "오늘 저녁은 김치찌개를 끓였습니다. 돼지고기와 두부를 넣고 오래 끓이는 것이 포인트입니다.";
+
+    // 부트스트랩(DB 조회)은 실행하지 않음
+    private RelatedPostIndex index(int topN) {
+        return new RelatedPostIndex(null, null, null, topN, 0.2, 100, 100);
+    }
+
+    @Test
+    @DisplayName("비슷한 게시글끼리 서로의 관련 게시글이 됨")
+    void index_LinksSimilarPostsBothWays() {
+        RelatedPostIndex index = index(5);
+        index.index(1L, "JPA N+1 해결", SPRING);
+        index.index(2L, "김치찌개", COOKING);
+        index.index(3L, "JPA N+1 해결 후기", SPRING_SIMILAR);
+
+        assertThat(index.related(1L)).extracting(RelatedPostIndex.Related::postId).containsExactly(3L);
+        assertThat(index.related(3L)).extracting(RelatedPostIndex.Related::postId).containsExactly(1L);
+        assertThat(index.related(3L).getFirst().title()).isEqualTo("JPA N+1 해결");
+        assertThat(index.related(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정해서 내용이 달라지면 관련 게시글에서 빠짐")
+    void index_ModifiedPostIsRelinked() {
+        RelatedPostIndex index = index(5);
+        index.index(1L, "JPA N+1 해결", SPRING);
+        index.index(3L, "JPA N+1 해결 후기", SPRING_SIMILAR);
+
+        index.index(3L, "김치찌개 후기", COOKING);
+
+        assertThat(index.related(1L)).isEmpty();
+        assertThat(index.related(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 다른 게시글의 목록에서도 빠짐")
+    void remove_DropsFromNeighbors() {
+        RelatedPostIndex index = index(5);
+        index.index(1L, "JPA N+1 해결", SPRING);
+        index.index(3L, "JPA N+1 해결 후기", SPRING_SIMILAR);
+
+        index.remove(3L);
+
+        assertThat(index.related(1L)).isEmpty();
+        assertThat(index.related(3L)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록은 top-n개까지 유사도 순서로 유지")
+    void index_KeepsTopN() {
+        RelatedPostIndex index = index(1);
+        index.index(1L, "JPA N+1 해결", SPRING);
+        index.index(2L, "JPA 정리", SPRING + " 추가로 EntityGraph와 DTO 조회, 페이징과 컬렉션 fetch join의 한계, 2차 캐시 설정도 함께 다룹니다.");
+        index.index(3L, "JPA N+1 해결", SPRING);
+
+        assertThat(index.related(1L)).extracting(RelatedPostIndex.Related::postId).containsExactly(3L);
+        assertThat(index.related(1L).getFirst().similarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("너무 짧은 게시글은 색인하지 않음")
+    void index_SkipsTinyPosts() {
+        RelatedPostIndex index = index(5);
+        index.index(1L, "a", "b");
+
+        assertThat(index.size()).isZero();
+        assertThat(index.related(1L)).isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.UserAvailabilityFilter;
 import com.ktb.community.dto.request.LoginRequestDto;
 import com.ktb.community.dto.request.SignUpRequestDto;
 import com.ktb.community.dto.response.AvailabilityResponseDto;
@@ -9,6 +10,8 @@ import com.ktb.community.exception.custom.DuplicateEmailException;
 import com.ktb.community.exception.custom.UserNotFoundException;
 import com.ktb.community.jwt.JwtUtil;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.search.NicknameIndex;
+import com.ktb.community.spam.ContentFilter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +48,12 @@ public class AuthServiceTest {
     private AuthenticationManager authenticationManager;
     @Mock
     private RefreshTokenService refreshTokenService;
+    @Mock
+    private ContentFilter contentFilter;
+    @Mock
+    private NicknameIndex nicknameIndex;
+    @Mock
+    private UserAvailabilityFilter userAvailabilityFilter;
 
     @InjectMocks
     private AuthService authService;
@@ -99,6 +108,11 @@ public class AuthServiceTest {
             verify(userService).checkValidityPassword("password123!");
             verify(passwordEncoder).encode("password123!");
             verify(userRepository).save(any(User.class));
+            verify(nicknameIndex).add(1L, "testuser");
+            verify(userRepository).existsByEmail("test@example.com");
+            verify(userRepository).existsByNickname("testuser");
+            verify(userAvailabilityFilter, never()).emailTaken(anyString(), any());
+            verify(userAvailabilityFilter).addEmail("test@example.com");
         }
 
         @Test
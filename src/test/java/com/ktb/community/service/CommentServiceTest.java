@@ -1,5 +1,6 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.ContentVersionIndex;
 import com.ktb.community.dto.request.CreateCommentRequestDto;
 import com.ktb.community.dto.request.UpdateCommentRequestDto;
 import com.ktb.community.dto.response.CommentResponseDto;
@@ -13,9 +14,15 @@ import com.ktb.community.exception.custom.PostNotFoundException;
 import com.ktb.community.exception.custom.UnauthorizedException;
 import com.ktb.community.exception.custom.UserNotFoundException;
 import com.ktb.community.jwt.JwtUtil;
+import com.ktb.community.live.LiveCountHub;
 import com.ktb.community.repository.CommentRepository;
 import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.search.SearchIndex;
+import com.ktb.community.spam.ContentFilter;
+import com.ktb.community.spam.NearDuplicateFilter;
+import com.ktb.community.sync.ChangeLog;
+import com.ktb.community.trending.TrendingIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,6 +54,20 @@ public class CommentServiceTest {
     private UserRepository userRepository;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private ContentVersionIndex contentVersionIndex;
+    @Mock
+    private LiveCountHub liveCountHub;
+    @Mock
+    private ChangeLog changeLog;
+    @Mock
+    private TrendingIndex trendingIndex;
+    @Mock
+    private SearchIndex searchIndex;
+    @Mock
+    private NearDuplicateFilter nearDuplicateFilter;
+    @Mock
+    private ContentFilter contentFilter;
 
     @InjectMocks
     private CommentService commentService;
@@ -334,6 +355,9 @@ public class CommentServiceTest {
 
             User user = createUser(1L, email, "user1");
             Comment comment = createComment(1L, "Old Comment", user);
+            Post post = new Post();
+            post.setId(10L);
+            comment.setPost(post);
 
             when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
             when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
@@ -346,6 +370,7 @@ public class CommentServiceTest {
             assertThat(comment.getContent()).isEqualTo("Updated Comment");
             verify(userRepository).findByEmail(email);
             verify(commentRepository).findById(1L);
+            verify(searchIndex).indexComment(1L, 10L, "Updated Comment");
         }
 
         @Test
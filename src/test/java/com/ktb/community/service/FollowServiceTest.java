@@ -0,0 +1,336 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.FollowResponseDto;
+import com.ktb.community.entity.Follow;
+import com.ktb.community.entity.FollowPK;
+import com.ktb.community.entity.User;
+import com.ktb.community.exception.custom.UserNotFoundException;
+import com.ktb.community.follow.AdjacencyList;
+import com.ktb.community.follow.FollowGraph;
+import com.ktb.community.follow.HomeTimeline;
+import com.ktb.community.repository.FollowRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.resilience.ResilienceProperties;
+import com.ktb.community.resilience.ResilienceRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("FollowService 테스트")
+public class FollowServiceTest {
+
+    private static final int CELEBRITY_THRESHOLD = 3;
+
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private FollowGraph followGraph;
+    @Mock
+    private HomeTimeline homeTimeline;
+
+    private FollowService followService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        followService = new FollowService(followRepository, userRepository, postRepository, followGraph, homeTimeline,
+                new ResilienceRegistry(new ResilienceProperties()), Runnable::run, CELEBRITY_THRESHOLD);
+        when(homeTimeline.capacity()).thenReturn(800);
+        when(homeTimeline.authorCapacity()).thenReturn(200);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Nested
+    @DisplayName("팔로우 / 언팔로우 테스트")
+    class FollowTest {
+
+        @Test
+        @DisplayName("새로 팔로우하면 저장 후 팔로우 목록과 home 타임라인을 지움")
+        void follow_New_SavesAndInvalidates() {
+            // given
+            User user = createUser(1L, "test@example.com");
+            User followee = createUser(2L, "other@example.com");
+            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+            when(userRepository.findById(2L)).thenReturn(Optional.of(followee));
+            when(followRepository.findById(new FollowPK(1L, 2L))).thenReturn(Optional.empty());
+            when(homeTimeline.isCelebrity(2L)).thenReturn(false);
+            when(followRepository.countFollowers(2L)).thenReturn(1L);
+
+            // when
+            FollowResponseDto result = followService.follow(2L, "test@example.com");
+
+            // then
+            assertThat(result.getUserId()).isEqualTo(2L);
+            assertThat(result.isFollowing()).isTrue();
+            verify(followRepository).save(any(Follow.class));
+            verify(followGraph).invalidate(1L, 2L);
+            verify(homeTimeline).invalidate(1L);
+            verify(homeTimeline, never()).markCelebrity(anyLong(), anyList());
+        }
+
+        @Test
+        @DisplayName("팔로워 수가 기준에 도달하면 celebrity로 전환")
+        void follow_ReachesThreshold_MarksCelebrity() {
+            // given
+            User user = createUser(1L, "test@example.com");
+            User followee = createUser(2L, "other@example.com");
+            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+            when(userRepository.findById(2L)).thenReturn(Optional.of(followee));
+            when(followRepository.findById(new FollowPK(1L, 2L))).thenReturn(Optional.empty());
+            when(homeTimeline.isCelebrity(2L)).thenReturn(false);
+            when(followRepository.countFollowers(2L)).thenReturn(3L);
+            when(postRepository.findIdsByUserIdInBefore(eq(List.of(2L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .thenReturn(List.of(30L, 20L));
+
+            // when
+            followService.follow(2L, "test@example.com");
+
+            // then
+            verify(homeTimeline).markCelebrity(2L, List.of(30L, 20L));
+            verify(followGraph, never()).followers(anyLong());
+        }
+
+        @Test
+        @DisplayName("이미 celebrity인 사용자를 팔로우하면 팔로워 수를 세지 않음")
+        void follow_Celebrity_SkipsCount() {
+            // given
+            User user = createUser(1L, "test@example.com");
+            User followee = createUser(2L, "other@example.com");
+            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+            when(userRepository.findById(2L)).thenReturn(Optional.of(followee));
+            when(followRepository.findById(new FollowPK(1L, 2L))).thenReturn(Optional.empty());
+            when(homeTimeline.isCelebrity(2L)).thenReturn(true);
+
+            // when
+            followService.follow(2L, "test@example.com");
+
+            // then
+            verify(homeTimeline).invalidate(1L);
+            verify(followRepository, never()).countFollowers(anyLong());
+            verify(homeTimeline, never()).markCelebrity(anyLong(), anyList());
+        }
+
+        @Test
+        @DisplayName("이미 팔로우 중이면 아무것도 하지 않음")
+        void follow_AlreadyFollowing_NoOp() {
+            // given
+            User user = createUser(1L, "test@example.com");
+            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+            when(userRepository.findById(2L)).thenReturn(Optional.of(createUser(2L, "other@example.com")));
+            Follow follow = new Follow();
+            when(followRepository.findById(new FollowPK(1L, 2L))).thenReturn(Optional.of(follow));
+
+            // when
+            followService.follow(2L, "test@example.com");
+
+            // then
+            verify(followRepository, never()).save(any(Follow.class));
+            verify(followGraph, never()).invalidate(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("자기 자신은 팔로우할 수 없음")
+        void follow_Self_ThrowsException() {
+            // given
+            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(createUser(1L, "test@example.com")));
+
+            // when & then
+            assertThatThrownBy(() -> followService.follow(1L, "test@example.com"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(followRepository, never()).save(any(Follow.class));
+        }
+
+        @Test
+        @DisplayName("없는 사용자는 팔로우할 수 없음")
+        void follow_UnknownUser_ThrowsException() {
+            // given
+            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(createUser(1L, "test@example.com")));
+            when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> followService.follow(2L, "test@example.com"))
+                    .isInstanceOf(UserNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("언팔로우하면 soft delete 후 home 타임라인을 지움")
+        void unfollow_SoftDeletes() {
+            // given
+            when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(createUser(1L, "test@example.com")));
+            Follow follow = new Follow();
+            when(followRepository.findById(new FollowPK(1L, 2L))).thenReturn(Optional.of(follow));
+
+            // when
+            FollowResponseDto result = followService.unfollow(2L, "test@example.com");
+
+            // then
+            assertThat(result.isFollowing()).isFalse();
+            assertThat(follow.getDeletedAt()).isNotNull();
+            verify(followGraph).invalidate(1L, 2L);
+            verify(homeTimeline).invalidate(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 fan-out 테스트")
+    class FanOutTest {
+
+        @Test
+        @DisplayName("일반 작성자의 게시글은 팔로워 home 타임라인에 넣음")
+        void onPostCreated_NormalAuthor_FansOut() {
+            // given
+            when(homeTimeline.celebrities()).thenReturn(Set.of());
+            when(followGraph.followers(2L)).thenReturn(AdjacencyList.of(List.of(5L, 6L)));
+            when(homeTimeline.fanOut(anyCollection(), eq(100L))).thenReturn(true);
+
+            // when
+            followService.onPostCreated(2L, 100L);
+
+            // then
+            verify(homeTimeline).fanOut(List.of(5L, 6L), 100L);
+            verify(homeTimeline, never()).recordPost(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("celebrity의 게시글은 작성자 타임라인에만 넣음")
+        void onPostCreated_Celebrity_RecordsOnly() {
+            // given
+            when(homeTimeline.celebrities()).thenReturn(Set.of(2L));
+
+            // when
+            followService.onPostCreated(2L, 100L);
+
+            // then
+            verify(homeTimeline).recordPost(2L, 100L);
+            verify(homeTimeline, never()).fanOut(anyCollection(), anyLong());
+            verify(followGraph, never()).followers(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("팔로잉 피드 ID 조회 테스트")
+    class TimelineIdsTest {
+
+        @Test
+        @DisplayName("팔로우한 사용자가 없으면 빈 목록")
+        void timelineIds_NoFollowees_Empty() {
+            when(followGraph.followees(1L)).thenReturn(AdjacencyList.empty());
+
+            assertThat(followService.timelineIds(1L, null, 21)).isEmpty();
+            verify(homeTimeline, never()).read(anyLong(), any(), anyInt(), anyCollection());
+        }
+
+        @Test
+        @DisplayName("celebrity 팔로잉만 병합 대상으로 넘기고 타임라인 결과를 반환")
+        void timelineIds_FromTimeline() {
+            // given
+            when(followGraph.followees(1L)).thenReturn(AdjacencyList.of(List.of(2L, 3L)));
+            when(homeTimeline.celebrities()).thenReturn(Set.of(3L, 9L));
+            when(homeTimeline.read(1L, null, 3, List.of(3L)))
+                    .thenReturn(new HomeTimeline.Slice(true, List.of(12L, 11L, 10L), false));
+
+            // when
+            List<Long> ids = followService.timelineIds(1L, null, 3);
+
+            // then
+            assertThat(ids).containsExactly(12L, 11L, 10L);
+            verify(postRepository, never()).findIdsByUserIdInBefore(anyCollection(), anyLong(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("타임라인이 비어 있으면 DB에서 다시 채운 뒤 조회")
+        void timelineIds_NotReady_Rebuilds() {
+            // given
+            when(followGraph.followees(1L)).thenReturn(AdjacencyList.of(List.of(2L)));
+            when(homeTimeline.celebrities()).thenReturn(Set.of());
+            when(homeTimeline.read(1L, null, 3, List.of()))
+                    .thenReturn(new HomeTimeline.Slice(false, List.of(), false))
+                    .thenReturn(new HomeTimeline.Slice(true, List.of(8L), false));
+            when(postRepository.findIdsByUserIdInBefore(eq(List.of(2L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .thenReturn(List.of(8L));
+            when(homeTimeline.rebuild(1L, List.of(8L))).thenReturn(true);
+
+            // when
+            List<Long> ids = followService.timelineIds(1L, null, 3);
+
+            // then
+            assertThat(ids).containsExactly(8L);
+            // DB를 읽기 전에 재구성 중으로 표시해야 그 사이의 fan-out이 빠지지 않음
+            InOrder inOrder = inOrder(homeTimeline, postRepository);
+            inOrder.verify(homeTimeline).beginRebuild(1L);
+            inOrder.verify(postRepository).findIdsByUserIdInBefore(eq(List.of(2L)), eq(Long.MAX_VALUE), any(Pageable.class));
+            inOrder.verify(homeTimeline).rebuild(1L, List.of(8L));
+        }
+
+        @Test
+        @DisplayName("cursor가 타임라인 범위를 벗어나면 DB에서 조회")
+        void timelineIds_Truncated_FallsBackToDatabase() {
+            // given
+            when(followGraph.followees(1L)).thenReturn(AdjacencyList.of(List.of(2L)));
+            when(homeTimeline.celebrities()).thenReturn(Set.of());
+            when(homeTimeline.read(1L, 50L, 3, List.of())).thenReturn(new HomeTimeline.Slice(true, List.of(40L), true));
+            when(postRepository.findIdsByUserIdInBefore(eq(List.of(2L)), eq(50L), any(Pageable.class)))
+                    .thenReturn(List.of(40L, 30L, 20L));
+
+            // when
+            List<Long> ids = followService.timelineIds(1L, 50L, 3);
+
+            // then
+            assertThat(ids).containsExactly(40L, 30L, 20L);
+        }
+
+        @Test
+        @DisplayName("Redis를 쓸 수 없으면 DB에서 조회")
+        void timelineIds_RedisUnavailable_FallsBackToDatabase() {
+            // given
+            when(followGraph.followees(1L)).thenReturn(AdjacencyList.of(List.of(2L)));
+            when(homeTimeline.celebrities()).thenReturn(null);
+            when(postRepository.findIdsByUserIdInBefore(eq(List.of(2L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .thenReturn(List.of(5L));
+
+            // when
+            List<Long> ids = followService.timelineIds(1L, null, 3);
+
+            // then
+            assertThat(ids).containsExactly(5L);
+            verify(homeTimeline, never()).read(anyLong(), any(), anyInt(), anyCollection());
+        }
+    }
+
+    private User createUser(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -1,15 +1,20 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.ContentVersionIndex;
 import com.ktb.community.dto.response.LikeResponseDto;
+import com.ktb.community.dto.response.LikeStatusResponseDto;
 import com.ktb.community.entity.*;
 import com.ktb.community.exception.custom.NotExistLikeException;
 import com.ktb.community.exception.custom.PostNotFoundException;
 import com.ktb.community.exception.custom.UserNotFoundException;
 import com.ktb.community.jwt.JwtUtil;
+import com.ktb.community.live.LiveCountHub;
 import com.ktb.community.repository.CountRepository;
 import com.ktb.community.repository.LikeRepository;
 import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.sync.ChangeLog;
+import com.ktb.community.trending.TrendingIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +25,17 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayName("LikeService 테스트")
@@ -40,6 +51,14 @@ public class LikeServiceTest {
     private PostRepository postRepository;
     @Mock
     private CountRepository countRepository;
+    @Mock
+    private ContentVersionIndex contentVersionIndex;
+    @Mock
+    private LiveCountHub liveCountHub;
+    @Mock
+    private ChangeLog changeLog;
+    @Mock
+    private TrendingIndex trendingIndex;
 
     @InjectMocks
     private LikeService likeService;
@@ -90,6 +109,8 @@ public class LikeServiceTest {
             verify(likeRepository).findById(likePK);
             verify(likeRepository).save(any(Like.class));
             verify(countRepository).findByPostId(postId);
+            verify(liveCountHub).countsChanged(postId, 6L, 3L);
+            verify(trendingIndex).record(postId, user.getId(), TrendingIndex.Signal.LIKE);
         }
 
         @Test
@@ -163,6 +184,10 @@ public class LikeServiceTest {
             verify(postRepository).findById(postId);
             verify(likeRepository).findById(likePK);
             verify(likeRepository, never()).save(any(Like.class));
+            verify(contentVersionIndex, never()).postChanged(anyLong());
+            verify(liveCountHub, never()).countsChanged(anyLong(), anyLong(), anyLong());
+            verify(changeLog, never()).likeChanged(anyLong());
+            verify(trendingIndex, never()).record(anyLong(), anyLong(), any());
         }
 
         @Test
@@ -342,6 +367,68 @@ public class LikeServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("좋아요 여부 다건 조회 테스트")
+    class GetLikeStatusTest {
+
+        @Test
+        @DisplayName("요청 순서대로 좋아요 여부를 bitmap으로 반환")
+        void getLikeStatus_ReturnsBitmapInRequestOrder() {
+            // given
+            String email = "test@example.com";
+            User user = createUser(1L, email, "tester");
+
+            Like like2 = new Like();
+            like2.setId(new LikePK(1L, 2L));
+            Like like9 = new Like();
+            like9.setId(new LikePK(1L, 9L));
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(likeRepository.findByIdUserIdAndIdPostIdInAndDeletedAtIsNull(eq(1L), any()))
+                    .thenReturn(List.of(like2, like9));
+
+            // when
+            // ids: 5, 2, 7, 1, 4, 3, 6, 8, 9 -> 좋아요: 2(1번째), 9(8번째)
+            LikeStatusResponseDto result = likeService.getLikeStatus(List.of(5L, 2L, 7L, 1L, 4L, 3L, 6L, 8L, 9L), email);
+
+            // then
+            byte[] bitmap = Base64.getDecoder().decode(result.getBitmap());
+            assertThat(bitmap).containsExactly((byte) 0b0000_0010, (byte) 0b0000_0001);
+            assertThat(result.getLikedCount()).isEqualTo(2);
+            verify(userRepository, times(1)).findByEmail(email);
+            verify(likeRepository, never()).existsByIdAndDeletedAtIsNull(any());
+        }
+
+        @Test
+        @DisplayName("좋아요가 없어도 bitmap 길이는 요청 개수에 맞춤")
+        void getLikeStatus_NoLikes_ZeroFilledBitmap() {
+            // given
+            String email = "test@example.com";
+            User user = createUser(1L, email, "tester");
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(likeRepository.findByIdUserIdAndIdPostIdInAndDeletedAtIsNull(eq(1L), any())).thenReturn(List.of());
+
+            // when
+            LikeStatusResponseDto result = likeService.getLikeStatus(List.of(1L, 2L, 3L), email);
+
+            // then
+            assertThat(Base64.getDecoder().decode(result.getBitmap())).containsExactly((byte) 0);
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 예외 발생")
+        void getLikeStatus_TooManyIds_ThrowsException() {
+            // given
+            List<Long> ids = LongStream.rangeClosed(1, LikeService.MAX_LIKE_STATUS_IDS + 1).boxed().toList();
+
+            // when & then
+            assertThatThrownBy(() -> likeService.getLikeStatus(ids, "test@example.com"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(userRepository, never()).findByEmail(anyString());
+        }
+    }
+
     // Helper methods
     private User createUser(Long id, String email, String nickname) {
         User user = new User();
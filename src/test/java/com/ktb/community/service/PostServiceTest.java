@@ -1,16 +1,42 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.ContentVersionIndex;
+import com.ktb.community.cache.FeedHeadIndex;
+import com.ktb.community.cache.HotPostCache;
+import com.ktb.community.cache.NegativePostCache;
+import com.ktb.community.cache.PostDetailCache;
+import com.ktb.community.concurrency.FanOutExecutor;
 import com.ktb.community.dto.request.CreatePostRequestDto;
 import com.ktb.community.dto.request.ModifyPostRequestDto;
 import com.ktb.community.dto.response.CrudPostResponseDto;
 import com.ktb.community.dto.response.CursorPageResponseDto;
+import com.ktb.community.dto.response.FeedHeadResponseDto;
+import com.ktb.community.dto.response.PostBatchResponseDto;
 import com.ktb.community.dto.response.PostDetailResponseDto;
 import com.ktb.community.dto.response.PostResponseDto;
+import com.ktb.community.dto.response.RelatedPostResponseDto;
+import com.ktb.community.dto.response.UniqueViewersResponseDto;
 import com.ktb.community.entity.*;
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+import com.ktb.community.exception.custom.DuplicateContentException;
 import com.ktb.community.exception.custom.PostNotFoundException;
 import com.ktb.community.exception.custom.UnauthorizedException;
+import com.ktb.community.dto.PostCountDataDto;
+import com.ktb.community.dto.PostSummaryDataDto;
 import com.ktb.community.jwt.JwtUtil;
+import com.ktb.community.redis.PostSummaryCache;
+import com.ktb.community.redis.PostTimeline;
+import com.ktb.community.redis.RedisHandler;
+import com.ktb.community.redis.UniqueViewerCounter;
+import com.ktb.community.search.RelatedPostIndex;
+import com.ktb.community.search.SearchIndex;
+import com.ktb.community.spam.ContentFilter;
+import com.ktb.community.spam.NearDuplicateFilter;
 import com.ktb.community.repository.*;
+import com.ktb.community.resilience.ResilienceProperties;
+import com.ktb.community.resilience.ResilienceRegistry;
+import com.ktb.community.sync.ChangeLog;
+import com.ktb.community.trending.TrendingIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,13 +45,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Pageable;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,6 +81,42 @@ public class PostServiceTest {
     private ImageService imageService;
     @Mock
     private LikeService likeService;
+    @Spy
+    private PostDetailCache postDetailCache = new PostDetailCache(Runnable::run, 30, 30, 0, 100);
+    @Spy
+    private NegativePostCache negativePostCache = new NegativePostCache(30, 100, 1000, 0.01, 60);
+    @Spy
+    private ResilienceRegistry resilienceRegistry = new ResilienceRegistry(new ResilienceProperties());
+    @Spy
+    private FanOutExecutor fanOutExecutor = new FanOutExecutor(2000);
+    @Spy
+    private ContentVersionIndex contentVersionIndex = new ContentVersionIndex(mock(RedisHandler.class), 1000, 30);
+    @Spy
+    private FeedHeadIndex feedHeadIndex = new FeedHeadIndex(16);
+    @Spy
+    private ChangeLog changeLog = new ChangeLog(mock(RedisHandler.class), 1000);
+    @Mock
+    private PostTimeline postTimeline;
+    @Mock
+    private PostSummaryCache postSummaryCache;
+    @Mock
+    private FollowService followService;
+    @Mock
+    private TrendingIndex trendingIndex;
+    @Mock
+    private HotPostCache hotPostCache;
+    @Mock
+    private UniqueViewerCounter uniqueViewerCounter;
+    @Mock
+    private SearchIndex searchIndex;
+    @Mock
+    private RelatedPostIndex relatedPostIndex;
+    @Mock
+    private NearDuplicateFilter nearDuplicateFilter;
+    @Mock
+    private ContentFilter contentFilter;
+    @Mock
+    private TagService tagService;
 
     @InjectMocks
     private PostService postService;
@@ -101,6 +167,10 @@ public class PostServiceTest {
             verify(postRepository).save(any(Post.class));
             verify(countRepository).save(any(Count.class));
             verify(imageRepository, never()).saveAll(anyList());
+            verify(followService).onPostCreated(1L, 1L);
+            verify(searchIndex).indexPost(1L, "Test Title", "Test Content");
+            verify(relatedPostIndex).index(1L, "Test Title", "Test Content");
+            verify(tagService).indexPost(1L, "Test Title", "Test Content");
         }
 
         @Test
@@ -156,6 +226,28 @@ public class PostServiceTest {
             verify(userRepository).findByEmail(email);
             verify(postRepository, never()).save(any(Post.class));
         }
+
+        @Test
+        @DisplayName("최근 게시글과 거의 같은 내용이면 저장하지 않음")
+        void createPost_NearDuplicate_ThrowsException() {
+            // given
+            String email = "test@example.com";
+            CreatePostRequestDto requestDto = new CreatePostRequestDto("Test Title", "Test Content", List.of());
+            User user = new User();
+            user.setId(1L);
+            user.setEmail(email);
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(nearDuplicateFilter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, "Test Title\nTest Content"))
+                    .thenThrow(new DuplicateContentException("Similar content was posted recently. Please wait before posting it again."));
+
+            // when & then
+            assertThatThrownBy(() -> postService.createPost(requestDto, email))
+                    .isInstanceOf(DuplicateContentException.class);
+
+            verify(postRepository, never()).save(any(Post.class));
+            verify(nearDuplicateFilter, never()).remember(any());
+        }
     }
 
     @Nested
@@ -266,6 +358,112 @@ public class PostServiceTest {
             assertThat(result.getHasNext()).isFalse();
             //verify(userRepository).findByEmail(email);
         }
+
+        @Test
+        @DisplayName("타임라인에서 ID를 읽고 캐시에 없는 요약만 DB에서 조회")
+        void getPostList_FromTimeline_LoadsOnlyMissingSummaries() {
+            // given
+            String email = "test@example.com";
+            User user = new User();
+            user.setId(1L);
+            user.setNickname("author1");
+
+            when(postTimeline.read(null, 3)).thenReturn(new PostTimeline.Slice(true, List.of(5L, 4L, 3L), false));
+            when(postSummaryCache.getAll(List.of(5L, 4L)))
+                    .thenReturn(Map.of(5L, new PostSummaryDataDto(5L, "Title 5", "Content 5", 1L, LocalDateTime.now())));
+            when(postRepository.findAllByIdInWithUser(List.of(4L))).thenReturn(List.of(createPost(4L, "Title 4", "Content 4", user)));
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(userRepository.findAllById(anySet())).thenReturn(List.of(user));
+            when(countRepository.findCountsByIdIn(anySet())).thenReturn(List.of(new PostCountDataDto(5L, 50L, 7L, 1L)));
+            when(likeService.findLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of(4L));
+
+            // when
+            CursorPageResponseDto<PostResponseDto> result = postService.getPostList(null, 2, email);
+
+            // then
+            assertThat(result.getPosts()).extracting(PostResponseDto::getId).containsExactly(5L, 4L);
+            assertThat(result.getPosts().get(0).getViews()).isEqualTo(50L);
+            assertThat(result.getPosts().get(0).getAuthor()).isEqualTo("author1");
+            assertThat(result.getPosts().get(1).isLiked()).isTrue();
+            assertThat(result.getHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo(4L);
+            verify(postSummaryCache).putAll(anyList());
+            verify(postRepository, never()).findByDeletedAtIsNullOrderByCreatedAtDesc(any(Pageable.class));
+            verify(countRepository, never()).findByPostId(anyLong());
+        }
+
+        @Test
+        @DisplayName("cursor가 타임라인 범위를 벗어나면 DB에서 조회")
+        void getPostList_CursorBeyondTimeline_FallsBackToDatabase() {
+            // given
+            Long cursor = 3L;
+            String email = "test@example.com";
+            when(postTimeline.read(cursor, 6)).thenReturn(new PostTimeline.Slice(true, List.of(2L), true));
+            when(postRepository.findByIdLessThanAndDeletedAtIsNullOrderByCreatedAtDesc(eq(cursor), any(Pageable.class)))
+                    .thenReturn(List.of());
+
+            // when
+            CursorPageResponseDto<PostResponseDto> result = postService.getPostList(cursor, 5, email);
+
+            // then
+            assertThat(result.getPosts()).isEmpty();
+            verify(postRepository).findByIdLessThanAndDeletedAtIsNullOrderByCreatedAtDesc(eq(cursor), any(Pageable.class));
+            verify(postSummaryCache, never()).getAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("팔로잉 피드 조회 테스트")
+    class GetFollowingFeedTest {
+
+        @Test
+        @DisplayName("home 타임라인의 ID로 게시글 조회")
+        void getFollowingFeed_FromHomeTimeline() {
+            // given
+            String email = "test@example.com";
+            User user = new User();
+            user.setId(1L);
+            User author = new User();
+            author.setId(2L);
+            author.setNickname("author2");
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(followService.timelineIds(1L, null, 3)).thenReturn(List.of(9L, 7L));
+            when(postSummaryCache.getAll(List.of(9L, 7L))).thenReturn(Map.of(
+                    9L, new PostSummaryDataDto(9L, "Title 9", "Content 9", 2L, LocalDateTime.now()),
+                    7L, new PostSummaryDataDto(7L, "Title 7", "Content 7", 2L, LocalDateTime.now())));
+            when(userRepository.findAllById(anySet())).thenReturn(List.of(author));
+            when(countRepository.findCountsByIdIn(anySet())).thenReturn(List.of());
+            when(likeService.findLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of());
+
+            // when
+            CursorPageResponseDto<PostResponseDto> result = postService.getFollowingFeed(null, 2, email);
+
+            // then
+            assertThat(result.getPosts()).extracting(PostResponseDto::getId).containsExactly(9L, 7L);
+            assertThat(result.getPosts().get(0).getAuthor()).isEqualTo("author2");
+            assertThat(result.getHasNext()).isFalse();
+            verify(postTimeline, never()).read(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("팔로우한 사용자가 없으면 빈 페이지")
+        void getFollowingFeed_NoFollowees_ReturnsEmpty() {
+            // given
+            String email = "test@example.com";
+            User user = new User();
+            user.setId(1L);
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(followService.timelineIds(1L, null, 21)).thenReturn(List.of());
+
+            // when
+            CursorPageResponseDto<PostResponseDto> result = postService.getFollowingFeed(null, 20, email);
+
+            // then
+            assertThat(result.getPosts()).isEmpty();
+            assertThat(result.getNextCursor()).isNull();
+            verify(postSummaryCache, never()).getAll(anyList());
+        }
     }
 
     @Nested
@@ -292,6 +490,8 @@ public class PostServiceTest {
             when(imageRepository.findByPostIdAndDeletedAtIsNullOrderByDisplayOrderAsc(postId))
                     .thenReturn(List.of());
             when(countRepository.findByPostId(postId)).thenReturn(Optional.of(count));
+            when(uniqueViewerCounter.recordAndCount(postId, 1L)).thenReturn(7L);
+            when(relatedPostIndex.related(postId)).thenReturn(List.of(new RelatedPostIndex.Related(5L, "Similar", 0.8)));
 
             // when
             PostDetailResponseDto result = postService.getPostContent(postId, email);
@@ -300,8 +500,12 @@ public class PostServiceTest {
             assertThat(result.getId()).isEqualTo(postId);
             assertThat(result.getTitle()).isEqualTo("My Post");
             assertThat(result.isMine()).isTrue();
+            assertThat(result.getUniqueViewers()).isEqualTo(7L);
+            assertThat(result.getRelatedPosts()).extracting(RelatedPostResponseDto::getPostId).containsExactly(5L);
             verify(userRepository).findByEmail(email);
             verify(postRepository).findByWithUser(postId);
+            verify(hotPostCache).lookup(postId);
+            verify(hotPostCache).offer(any(), eq(count));
         }
 
         @Test
@@ -339,6 +543,68 @@ public class PostServiceTest {
             assertThat(result.getAuthor()).isEqualTo("author");
         }
 
+        @Test
+        @DisplayName("좋아요 여부는 이미 조회한 사용자 ID로 확인")
+        void getPostContent_Liked_UsesUserIdWithoutSecondLookup() {
+            // given
+            Long postId = 1L;
+            String email = "test@example.com";
+
+            User user = new User();
+            user.setId(1L);
+            user.setEmail(email);
+
+            Post post = createPost(postId, "My Post", "My Content", user);
+            Count count = createCount(postId, 10L, 5L, 2L);
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(postRepository.findByWithUser(postId)).thenReturn(Optional.of(post));
+            when(imageRepository.findByPostIdAndDeletedAtIsNullOrderByDisplayOrderAsc(postId))
+                    .thenReturn(List.of());
+            when(countRepository.findByPostId(postId)).thenReturn(Optional.of(count));
+            when(likeService.isLikedBy(postId, 1L)).thenReturn(true);
+
+            // when
+            PostDetailResponseDto result = postService.getPostContent(postId, email);
+
+            // then
+            assertThat(result.isLiked()).isTrue();
+            assertThat(result.getViews()).isEqualTo(11L);
+            verify(userRepository, times(1)).findByEmail(email);
+            verify(likeService, never()).checkLike(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("같은 게시글을 다시 조회하면 캐시된 스냅샷 사용")
+        void getPostContent_SecondRead_UsesCachedSnapshot() {
+            // given
+            Long postId = 1L;
+            String email = "test@example.com";
+
+            User user = new User();
+            user.setId(1L);
+            user.setEmail(email);
+
+            Post post = createPost(postId, "My Post", "My Content", user);
+            Count count = createCount(postId, 10L, 5L, 2L);
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(postRepository.findByWithUser(postId)).thenReturn(Optional.of(post));
+            when(imageRepository.findByPostIdAndDeletedAtIsNullOrderByDisplayOrderAsc(postId))
+                    .thenReturn(List.of());
+            when(countRepository.findByPostId(postId)).thenReturn(Optional.of(count));
+
+            // when
+            postService.getPostContent(postId, email);
+            PostDetailResponseDto result = postService.getPostContent(postId, email);
+
+            // then
+            assertThat(result.getTitle()).isEqualTo("My Post");
+            assertThat(result.getViews()).isEqualTo(12L);
+            verify(postRepository, times(1)).findByWithUser(postId);
+            verify(countRepository, times(2)).findByPostId(postId);
+        }
+
         @Test
         @DisplayName("게시글을 찾을 수 없는 경우 예외 발생")
         void getPostContent_PostNotFound_ThrowsException() {
@@ -361,6 +627,57 @@ public class PostServiceTest {
             verify(postRepository).findByWithUser(postId);
         }
 
+        @Test
+        @DisplayName("없는 게시글을 다시 조회하면 DB 조회 없이 예외 발생")
+        void getPostContent_PostNotFoundTwice_SecondIsAbsorbed() {
+            // given
+            Long postId = 999L;
+            String email = "test@example.com";
+
+            User user = new User();
+            user.setId(1L);
+            user.setEmail(email);
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(postRepository.findByWithUser(postId)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> postService.getPostContent(postId, email))
+                    .isInstanceOf(PostNotFoundException.class);
+            assertThatThrownBy(() -> postService.getPostContent(postId, email))
+                    .isInstanceOf(PostNotFoundException.class)
+                    .hasMessage("Not found post");
+
+            verify(postRepository, times(1)).findByWithUser(postId);
+            verify(userRepository, times(1)).findByEmail(email);
+            assertThat(negativePostCache.stats().absorbed()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("삭제된 게시글 조회 시 예외 발생")
+        void getPostContent_DeletedPost_ThrowsException() {
+            // given
+            Long postId = 1L;
+            String email = "test@example.com";
+
+            User user = new User();
+            user.setId(1L);
+            user.setEmail(email);
+
+            Post post = createPost(postId, "Deleted", "Deleted Content", user);
+            post.setDeletedAt(LocalDateTime.now());
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(postRepository.findByWithUser(postId)).thenReturn(Optional.of(post));
+
+            // when & then
+            assertThatThrownBy(() -> postService.getPostContent(postId, email))
+                    .isInstanceOf(PostNotFoundException.class)
+                    .hasMessage("Not found post");
+            verify(countRepository, never()).findByPostId(anyLong());
+            verify(uniqueViewerCounter, never()).recordAndCount(anyLong(), anyLong());
+        }
+
         @Test
         @DisplayName("사용자를 찾을 수 없는 경우 예외 발생")
         void getPostContent_UserNotFound_ThrowsException() {
@@ -380,6 +697,273 @@ public class PostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 다건 조회 테스트")
+    class GetPostsByIdsTest {
+
+        @Test
+        @DisplayName("요청 순서대로 반환하고 없는 게시글은 missing_ids로 반환")
+        void getPostsByIds_KeepsOrderAndReportsMissing() {
+            // given
+            String email = "test@example.com";
+            User user = new User();
+            user.setId(1L);
+            user.setEmail(email);
+
+            Post post1 = createPost(1L, "Post 1", "Content 1", user);
+            Post post3 = createPost(3L, "Post 3", "Content 3", user);
+            Count count1 = createCount(1L, 10L, 5L, 2L);
+            count1.setId(1L);
+            Count count3 = createCount(3L, 30L, 6L, 1L);
+            count3.setId(3L);
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(postRepository.findAllByIdInWithUser(List.of(3L, 2L, 1L))).thenReturn(List.of(post1, post3));
+            when(countRepository.findByPostIn(List.of(post1, post3))).thenReturn(List.of(count3, count1));
+            when(likeService.findLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of(3L));
+
+            // when
+            PostBatchResponseDto result = postService.getPostsByIds(List.of(3L, 2L, 1L, 3L), email);
+
+            // then
+            assertThat(result.getPosts()).extracting(PostResponseDto::getId).containsExactly(3L, 1L);
+            assertThat(result.getPosts().get(0).isLiked()).isTrue();
+            assertThat(result.getPosts().get(0).getViews()).isEqualTo(30L);
+            assertThat(result.getPosts().get(1).isLiked()).isFalse();
+            assertThat(result.getMissingIds()).containsExactly(2L);
+            verify(countRepository, never()).findByPostId(anyLong());
+            verify(likeService, never()).checkLike(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 예외 발생")
+        void getPostsByIds_TooManyIds_ThrowsException() {
+            // given
+            List<Long> ids = LongStream.rangeClosed(1, PostService.MAX_BATCH_POSTS + 1).boxed().toList();
+
+            // when & then
+            assertThatThrownBy(() -> postService.getPostsByIds(ids, "test@example.com"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(postRepository, never()).findAllByIdInWithUser(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("순 조회자 수 조회 테스트")
+    class GetUniqueViewersTest {
+
+        @Test
+        @DisplayName("기간별 순 조회자 수 반환")
+        void getUniqueViewers_Success() {
+            // given
+            when(postRepository.existsByIdAndDeletedAtIsNull(1L)).thenReturn(true);
+            when(uniqueViewerCounter.count(1L)).thenReturn(new UniqueViewerCounter.Windows(3, 20, 45, 120));
+
+            // when
+            UniqueViewersResponseDto result = postService.getUniqueViewers(1L);
+
+            // then
+            assertThat(result.getToday()).isEqualTo(3);
+            assertThat(result.getLast7Days()).isEqualTo(20);
+            assertThat(result.getLast30Days()).isEqualTo(45);
+            assertThat(result.getTotal()).isEqualTo(120);
+        }
+
+        @Test
+        @DisplayName("삭제된 게시글은 404")
+        void getUniqueViewers_DeletedPost_ThrowsException() {
+            when(postRepository.existsByIdAndDeletedAtIsNull(1L)).thenReturn(false);
+
+            assertThatThrownBy(() -> postService.getUniqueViewers(1L))
+                    .isInstanceOf(PostNotFoundException.class);
+            verify(uniqueViewerCounter, never()).count(anyLong());
+        }
+
+        @Test
+        @DisplayName("Redis를 쓸 수 없으면 503")
+        void getUniqueViewers_RedisUnavailable_ThrowsException() {
+            when(postRepository.existsByIdAndDeletedAtIsNull(1L)).thenReturn(true);
+            when(uniqueViewerCounter.count(1L)).thenReturn(null);
+
+            assertThatThrownBy(() -> postService.getUniqueViewers(1L))
+                    .isInstanceOf(DependencyUnavailableException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("인기 게시글 조회 테스트")
+    class GetTrendingPostsTest {
+
+        @Test
+        @DisplayName("순위 순서대로 조회하고 다음 cursor는 순위 위치")
+        void getTrendingPosts_ReturnsRankedPage() {
+            // given
+            String email = "test@example.com";
+            User user = new User();
+            user.setId(1L);
+            user.setNickname("author1");
+
+            when(trendingIndex.page(2, 3)).thenReturn(List.of(4L, 9L, 1L));
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(postSummaryCache.getAll(List.of(4L, 9L))).thenReturn(Map.of(
+                    4L, new PostSummaryDataDto(4L, "Title 4", "Content 4", 1L, LocalDateTime.now()),
+                    9L, new PostSummaryDataDto(9L, "Title 9", "Content 9", 1L, LocalDateTime.now())));
+            when(userRepository.findAllById(anySet())).thenReturn(List.of(user));
+            when(countRepository.findCountsByIdIn(anySet())).thenReturn(List.of());
+            when(likeService.findLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of());
+
+            // when
+            CursorPageResponseDto<PostResponseDto> result = postService.getTrendingPosts(2L, 2, email);
+
+            // then
+            assertThat(result.getPosts()).extracting(PostResponseDto::getId).containsExactly(4L, 9L);
+            assertThat(result.getNextCursor()).isEqualTo(4L);
+            assertThat(result.getHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("순위 한도를 넘은 cursor는 빈 페이지")
+        void getTrendingPosts_BeyondMaxRank_ReturnsEmpty() {
+            // given
+            when(trendingIndex.page(PostService.MAX_TRENDING_RANK, 1)).thenReturn(List.of());
+
+            // when
+            CursorPageResponseDto<PostResponseDto> result =
+                    postService.getTrendingPosts((long) PostService.MAX_TRENDING_RANK + 5, 20, "test@example.com");
+
+            // then
+            assertThat(result.getPosts()).isEmpty();
+            assertThat(result.getHasNext()).isFalse();
+            verify(userRepository, never()).findByEmail(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 검색 테스트")
+    class SearchPostsTest {
+
+        @Test
+        @DisplayName("관련도 순서대로 조회하고 다음 cursor는 순위 위치")
+        void searchPosts_ReturnsRankedPage() {
+            // given
+            String email = "test@example.com";
+            User user = new User();
+            user.setId(1L);
+            user.setNickname("author1");
+
+            when(searchIndex.search("스프링", 5)).thenReturn(List.of(7L, 3L, 8L, 2L, 5L));
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(postSummaryCache.getAll(List.of(8L, 2L))).thenReturn(Map.of(
+                    8L, new PostSummaryDataDto(8L, "스프링 질문", "Content 8", 1L, LocalDateTime.now()),
+                    2L, new PostSummaryDataDto(2L, "Title 2", "스프링 부트", 1L, LocalDateTime.now())));
+            when(userRepository.findAllById(anySet())).thenReturn(List.of(user));
+            when(countRepository.findCountsByIdIn(anySet())).thenReturn(List.of());
+            when(likeService.findLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of());
+
+            // when
+            CursorPageResponseDto<PostResponseDto> result = postService.searchPosts("  스프링 ", 2L, 2, email);
+
+            // then
+            assertThat(result.getPosts()).extracting(PostResponseDto::getId).containsExactly(8L, 2L);
+            assertThat(result.getNextCursor()).isEqualTo(4L);
+            assertThat(result.getHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("빈 검색어는 400")
+        void searchPosts_BlankQuery_ThrowsException() {
+            assertThatThrownBy(() -> postService.searchPosts("   ", null, 20, "test@example.com"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(searchIndex, never()).search(anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("색인을 초기화하는 중이면 503")
+        void searchPosts_IndexNotReady_ThrowsException() {
+            when(searchIndex.search("spring", 21)).thenReturn(null);
+
+            assertThatThrownBy(() -> postService.searchPosts("spring", null, 20, "test@example.com"))
+                    .isInstanceOf(DependencyUnavailableException.class);
+        }
+
+        @Test
+        @DisplayName("일치하는 게시글이 없으면 빈 페이지")
+        void searchPosts_NoMatch_ReturnsEmpty() {
+            when(searchIndex.search("spring", 21)).thenReturn(List.of());
+
+            CursorPageResponseDto<PostResponseDto> result = postService.searchPosts("spring", null, 20, "test@example.com");
+
+            assertThat(result.getPosts()).isEmpty();
+            assertThat(result.getHasNext()).isFalse();
+            verify(userRepository, never()).findByEmail(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("태그별 게시글 조회 테스트")
+    class GetPostsByTagTest {
+
+        @Test
+        @DisplayName("태그를 정규화해서 색인에서 ID를 읽고 다음 cursor는 마지막 게시글 ID")
+        void getPostsByTag_ReturnsKeysetPage() {
+            // given
+            String email = "test@example.com";
+            User user = new User();
+            user.setId(1L);
+            user.setNickname("author1");
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            when(tagService.postIdsByTag("spring", 10L, 3)).thenReturn(List.of(9L, 7L, 4L));
+            when(postSummaryCache.getAll(List.of(9L, 7L))).thenReturn(Map.of(
+                    9L, new PostSummaryDataDto(9L, "Title 9", "#Spring", 1L, LocalDateTime.now()),
+                    7L, new PostSummaryDataDto(7L, "Title 7", "#spring", 1L, LocalDateTime.now())));
+            when(userRepository.findAllById(anySet())).thenReturn(List.of(user));
+            when(countRepository.findCountsByIdIn(anySet())).thenReturn(List.of());
+            when(likeService.findLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of());
+
+            // when
+            CursorPageResponseDto<PostResponseDto> result = postService.getPostsByTag("#Spring", 10L, 2, email);
+
+            // then
+            assertThat(result.getPosts()).extracting(PostResponseDto::getId).containsExactly(9L, 7L);
+            assertThat(result.getNextCursor()).isEqualTo(7L);
+            assertThat(result.getHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("태그로 쓸 수 없는 값은 400")
+        void getPostsByTag_InvalidTag_ThrowsException() {
+            assertThatThrownBy(() -> postService.getPostsByTag("123", null, 20, "test@example.com"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(tagService, never()).postIdsByTag(anyString(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("새 게시글 수 조회 테스트")
+    class GetFeedHeadTest {
+
+        @Test
+        @DisplayName("첫 조회에서만 DB로 인덱스를 채우고 이후에는 DB를 조회하지 않음")
+        void getFeedHead_LoadsOnceThenServesFromMemory() {
+            // given
+            when(postRepository.findRecentIds(any(Pageable.class))).thenReturn(List.of(12L, 11L, 10L));
+
+            // when
+            FeedHeadResponseDto first = postService.getFeedHead(10L);
+            feedHeadIndex.add(13L);
+            FeedHeadResponseDto second = postService.getFeedHead(10L);
+            FeedHeadResponseDto upToDate = postService.getFeedHead(13L);
+
+            // then
+            assertThat(first.getNewCount()).isEqualTo(2);
+            assertThat(second.getNewCount()).isEqualTo(3);
+            assertThat(second.getLatestId()).isEqualTo(13L);
+            assertThat(upToDate.getNewCount()).isZero();
+            verify(postRepository, times(1)).findRecentIds(any(Pageable.class));
+        }
+    }
+
     @Nested
     @DisplayName("게시글 수정 테스트")
     class ModifyPostContentTest {
@@ -590,6 +1174,7 @@ public class PostServiceTest {
             verify(userRepository).findByEmail(email);
             verify(postRepository).findById(postId);
             verify(commentRepository).findByPostId(postId);
+            verify(tagService).removePost(postId);
         }
 
         @Test
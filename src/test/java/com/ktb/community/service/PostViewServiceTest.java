@@ -0,0 +1,115 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.CommentResponseDto;
+import com.ktb.community.dto.response.CursorCommentResponseDto;
+import com.ktb.community.dto.response.PostDetailResponseDto;
+import com.ktb.community.dto.response.PostViewResponseDto;
+import com.ktb.community.entity.User;
+import com.ktb.community.exception.custom.PostNotFoundException;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostViewService 테스트")
+public class PostViewServiceTest {
+
+    @Mock
+    private PostService postService;
+    @Mock
+    private CommentService commentService;
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PostViewService postViewService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("게시글 상세와 댓글 첫 페이지를 사용자 조회 한 번으로 함께 반환")
+    void getPostView_Success() {
+        // given
+        Long postId = 1L;
+        String email = "test@example.com";
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(email);
+
+        PostDetailResponseDto post = PostDetailResponseDto.builder().id(postId).title("title").build();
+        CursorCommentResponseDto<CommentResponseDto> comments = new CursorCommentResponseDto<>(List.of(), null, false);
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(postService.getPostContent(postId, user)).thenReturn(post);
+        when(commentService.getCommentList(postId, null, 5, user)).thenReturn(comments);
+
+        // when
+        PostViewResponseDto result = postViewService.getPostView(postId, 5, email);
+
+        // then
+        assertThat(result.getPost()).isSameAs(post);
+        assertThat(result.getComments()).isSameAs(comments);
+        verify(userRepository, times(1)).findByEmail(email);
+        verify(postService, never()).getPostContent(anyLong(), anyString());
+        verify(commentService, never()).getCommentList(anyLong(), any(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 댓글은 조회하지 않음")
+    void getPostView_PostNotFound_ThrowsException() {
+        // given
+        Long postId = 999L;
+        String email = "test@example.com";
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(email);
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(postService.getPostContent(postId, user)).thenThrow(new PostNotFoundException("Not found post"));
+
+        // when & then
+        assertThatThrownBy(() -> postViewService.getPostView(postId, 5, email))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(commentService, never()).getCommentList(anyLong(), any(), anyInt(), any(User.class));
+    }
+
+    @Test
+    @DisplayName("없는 것으로 알려진 게시글이면 사용자도 조회하지 않음")
+    void getPostView_KnownDeadPost_SkipsUserLookup() {
+        // given
+        Long postId = 999L;
+        doThrow(new PostNotFoundException("Not found post")).when(postService).rejectKnownDeadPost(postId);
+
+        // when & then
+        assertThatThrownBy(() -> postViewService.getPostView(postId, 5, "test@example.com"))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(postService, never()).getPostContent(anyLong(), any(User.class));
+    }
+}
@@ -0,0 +1,175 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.response.TagCountResponseDto;
+import com.ktb.community.entity.PostMention;
+import com.ktb.community.entity.PostTag;
+import com.ktb.community.entity.User;
+import com.ktb.community.repository.PostMentionRepository;
+import com.ktb.community.repository.PostTagRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.resilience.ResilienceProperties;
+import com.ktb.community.resilience.ResilienceRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TagService 테스트")
+public class TagServiceTest {
+
+    @Mock
+    private PostTagRepository postTagRepository;
+    @Mock
+    private PostMentionRepository postMentionRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private TagService tagService;
+
+    private AutoCloseable closeable;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        tagService = new TagService(postTagRepository, postMentionRepository, userRepository,
+                new ResilienceRegistry(new ResilienceProperties()), 24, 60, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    private static User createUser(Long id, String nickname) {
+        User user = new User();
+        user.setId(id);
+        user.setNickname(nickname);
+        return user;
+    }
+
+    @Nested
+    @DisplayName("게시글 색인 테스트")
+    class IndexPostTest {
+
+        @Test
+        @DisplayName("수정 시 빠진 태그는 지우고 새 태그만 추가")
+        @SuppressWarnings("unchecked")
+        void indexPost_DiffsTags() {
+            // given
+            when(postTagRepository.findTagsByPostId(1L)).thenReturn(List.of("spring", "java"));
+
+            // when
+            tagService.indexPost(1L, "#Spring 질문", "#JPA 관련입니다");
+
+            // then
+            verify(postTagRepository).deleteTags(1L, Set.of("java"));
+            ArgumentCaptor<List<PostTag>> saved = ArgumentCaptor.forClass(List.class);
+            verify(postTagRepository).saveAll(saved.capture());
+            assertThat(saved.getValue()).extracting(tag -> tag.getId().getTag()).containsExactly("jpa");
+        }
+
+        @Test
+        @DisplayName("태그가 그대로면 쓰지 않음")
+        void indexPost_Unchanged_NoWrites() {
+            when(postTagRepository.findTagsByPostId(1L)).thenReturn(List.of("spring"));
+
+            tagService.indexPost(1L, "제목", "#spring 내용");
+
+            verify(postTagRepository, never()).deleteTags(anyLong(), anyCollection());
+            verify(postTagRepository, never()).saveAll(anyCollection());
+            verify(userRepository, never()).findAllByNicknameIn(anyCollection());
+        }
+
+        @Test
+        @DisplayName("언급은 실제로 있는 가장 긴 닉네임의 사용자로 저장")
+        @SuppressWarnings("unchecked")
+        void indexPost_ResolvesMentions() {
+            // given
+            when(userRepository.findAllByNicknameIn(anyCollection())).thenReturn(List.of(
+                    createUser(2L, "김철수"), createUser(3L, "김철")));
+            when(postMentionRepository.findUserIdsByPostId(1L)).thenReturn(List.of(4L));
+
+            // when
+            tagService.indexPost(1L, "제목", "@김철수님 확인 부탁드려요 @없는사람");
+
+            // then
+            verify(postMentionRepository).deleteMentions(1L, Set.of(4L));
+            ArgumentCaptor<List<PostMention>> saved = ArgumentCaptor.forClass(List.class);
+            verify(postMentionRepository).saveAll(saved.capture());
+            assertThat(saved.getValue()).extracting(mention -> mention.getId().getUserId()).containsExactly(2L);
+            ArgumentCaptor<Collection<String>> candidates = ArgumentCaptor.forClass(Collection.class);
+            verify(userRepository).findAllByNicknameIn(candidates.capture());
+            assertThat(candidates.getValue()).containsExactly("김철수님", "김철수", "없는사람");
+        }
+
+        @Test
+        @DisplayName("게시글 삭제 시 태그와 언급을 함께 지움")
+        void removePost_DeletesAll() {
+            tagService.removePost(1L);
+
+            verify(postTagRepository).deleteByPostId(1L);
+            verify(postMentionRepository).deleteByPostId(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 테스트")
+    class QueryTest {
+
+        @Test
+        @DisplayName("첫 페이지는 가장 큰 ID부터")
+        void postIdsByTag_FirstPage() {
+            when(postTagRepository.findPostIdsByTag(eq("spring"), eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .thenReturn(List.of(5L, 3L));
+
+            assertThat(tagService.postIdsByTag("spring", null, 21)).containsExactly(5L, 3L);
+        }
+
+        @Test
+        @DisplayName("인기 태그는 refresh 시간 동안 다시 집계하지 않음")
+        void trendingTags_Cached() {
+            when(postTagRepository.countTagsSince(any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(List.<Object[]>of(new Object[]{"spring", 5L}, new Object[]{"jpa", 2L}));
+
+            List<TagCountResponseDto> first = tagService.trendingTags();
+            List<TagCountResponseDto> second = tagService.trendingTags();
+
+            assertThat(first).extracting(TagCountResponseDto::getTag).containsExactly("spring", "jpa");
+            assertThat(first).extracting(TagCountResponseDto::getPosts).containsExactly(5L, 2L);
+            assertThat(second).isSameAs(first);
+            verify(postTagRepository, times(1)).countTagsSince(any(LocalDateTime.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("집계에 실패하면 이전 결과를 돌려줌")
+        void trendingTags_FailureServesPrevious() {
+            TagService shortLived = new TagService(postTagRepository, postMentionRepository, userRepository,
+                    new ResilienceRegistry(new ResilienceProperties()), 24, 0, 10);
+            when(postTagRepository.countTagsSince(any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(List.<Object[]>of(new Object[]{"spring", 5L}))
+                    .thenThrow(new RuntimeException("db down"));
+
+            List<TagCountResponseDto> first = shortLived.trendingTags();
+            List<TagCountResponseDto> second = shortLived.trendingTags();
+
+            assertThat(second).isSameAs(first);
+        }
+    }
+}
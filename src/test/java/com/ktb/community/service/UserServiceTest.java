@@ -1,17 +1,25 @@
 package com.ktb.community.service;
 
+import com.ktb.community.cache.ContentVersionIndex;
+import com.ktb.community.cache.PostDetailCache;
+import com.ktb.community.cache.UserAvailabilityFilter;
 import com.ktb.community.dto.request.ChangePasswordRequestDto;
 import com.ktb.community.dto.request.ModifyNicknameRequestDto;
 import com.ktb.community.dto.response.AvailabilityResponseDto;
 import com.ktb.community.dto.response.CrudUserResponseDto;
+import com.ktb.community.dto.response.NicknameSuggestionResponseDto;
 import com.ktb.community.dto.response.UserInfoResponseDto;
 import com.ktb.community.entity.User;
+import com.ktb.community.exception.custom.DependencyUnavailableException;
 import com.ktb.community.exception.custom.DuplicateNicknameException;
 import com.ktb.community.exception.custom.InvalidNicknameException;
 import com.ktb.community.exception.custom.InvalidPasswordException;
 import com.ktb.community.exception.custom.UserNotFoundException;
 import com.ktb.community.jwt.JwtUtil;
 import com.ktb.community.repository.*;
+import com.ktb.community.search.NicknameIndex;
+import com.ktb.community.search.NicknameTrie;
+import com.ktb.community.spam.ContentFilter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +32,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,6 +62,16 @@ public class UserServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private ImageService imageService;
+    @Mock
+    private ContentVersionIndex contentVersionIndex;
+    @Mock
+    private PostDetailCache postDetailCache;
+    @Mock
+    private ContentFilter contentFilter;
+    @Mock
+    private NicknameIndex nicknameIndex;
+    @Mock
+    private UserAvailabilityFilter userAvailabilityFilter;
 
     @InjectMocks
     private UserService userService;
@@ -62,6 +81,9 @@ public class UserServiceTest {
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
+        // Bloom filter는 항상 "있을 수도 있음"으로 보고 DB 확인 결과를 그대로 사용
+        when(userAvailabilityFilter.emailTaken(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
     }
 
     @AfterEach
@@ -102,6 +124,21 @@ public class UserServiceTest {
             assertThat(result.getIsAvailable()).isFalse();
             verify(userRepository).existsByEmail(email);
         }
+
+        @Test
+        @DisplayName("Bloom filter에 없는 이메일은 DB 조회 없이 사용 가능")
+        void checkDuplicateEmail_NotInFilter_SkipsDatabase() {
+            // given
+            String email = "new@example.com";
+            when(userAvailabilityFilter.emailTaken(eq(email), any())).thenReturn(false);
+
+            // when
+            AvailabilityResponseDto result = userService.checkDuplicateEmail(email);
+
+            // then
+            assertThat(result.getIsAvailable()).isTrue();
+            verify(userRepository, never()).existsByEmail(anyString());
+        }
     }
 
     @Nested
@@ -274,6 +311,9 @@ public class UserServiceTest {
             assertThat(user.getNickname()).isEqualTo(newNickname);
             verify(userRepository).findByEmail(email);
             verify(userRepository).existsByNicknameAndIdNot(newNickname, 1L);
+            verify(postDetailCache).invalidateAll();
+            verify(contentVersionIndex).usersChanged();
+            verify(nicknameIndex).rename(1L, oldNickname, newNickname);
         }
 
         @Test
@@ -328,6 +368,33 @@ public class UserServiceTest {
             verify(userRepository).existsByNicknameAndIdNot(newNickname, 1L);
         }
 
+        @Test
+        @DisplayName("금지어가 들어간 닉네임으로 변경 시도 시 예외 발생")
+        void changeNickname_BannedTerm_ThrowsException() {
+            // given
+            String email = "test@example.com";
+            String newNickname = "bannednickname";
+
+            User user = new User();
+            user.setId(1L);
+            user.setEmail(email);
+            user.setNickname("oldnickname");
+
+            ModifyNicknameRequestDto requestDto = new ModifyNicknameRequestDto(newNickname);
+
+            when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+            doThrow(new InvalidNicknameException("This nickname contains a banned term"))
+                    .when(contentFilter).checkNickname(newNickname);
+
+            // when & then
+            assertThatThrownBy(() -> userService.changeNickname(email, requestDto))
+                    .isInstanceOf(InvalidNicknameException.class)
+                    .hasMessage("This nickname contains a banned term");
+
+            verify(userRepository, never()).existsByNicknameAndIdNot(anyString(), anyLong());
+            assertThat(user.getNickname()).isEqualTo("oldnickname");
+        }
+
         @Test
         @DisplayName("사용자를 찾을 수 없는 경우 예외 발생")
         void changeNickname_UserNotFound_ThrowsException() {
@@ -346,6 +413,49 @@ public class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("닉네임 자동완성 테스트")
+    class SuggestNicknamesTest {
+
+        @Test
+        @DisplayName("색인에서 찾은 닉네임을 반환하고 최대 개수를 제한")
+        void suggestNicknames_Success() {
+            // given
+            when(nicknameIndex.suggest("dan", UserService.MAX_NICKNAME_SUGGESTIONS)).thenReturn(List.of(
+                    new NicknameTrie.Entry("danny", 1L, "Danny"),
+                    new NicknameTrie.Entry("dansu", 2L, "dansu")));
+
+            // when
+            List<NicknameSuggestionResponseDto> result = userService.suggestNicknames(" dan ", 100);
+
+            // then
+            assertThat(result).extracting(NicknameSuggestionResponseDto::getNickname).containsExactly("Danny", "dansu");
+            assertThat(result).extracting(NicknameSuggestionResponseDto::getUserId).containsExactly(1L, 2L);
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("빈 접두사는 예외, 닉네임보다 긴 접두사는 빈 결과")
+        void suggestNicknames_InvalidPrefix() {
+            assertThatThrownBy(() -> userService.suggestNicknames("  ", 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(userService.suggestNicknames("a".repeat(16), 10)).isEmpty();
+
+            verifyNoInteractions(nicknameIndex);
+        }
+
+        @Test
+        @DisplayName("색인을 초기화하는 중이면 예외 발생")
+        void suggestNicknames_IndexWarmingUp_ThrowsException() {
+            // given
+            when(nicknameIndex.suggest("dan", 10)).thenReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> userService.suggestNicknames("dan", 10))
+                    .isInstanceOf(DependencyUnavailableException.class);
+        }
+    }
+
     @Nested
     @DisplayName("비밀번호 변경 테스트")
     class ChangePasswordTest {
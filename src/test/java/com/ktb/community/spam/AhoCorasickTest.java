@@ -0,0 +1,81 @@
+package com.ktb.community.spam;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AhoCorasick 테스트")
+public class AhoCorasickTest {
+
+    @Test
+    @DisplayName("입력 중간에 들어 있는 단어를 찾음")
+    void find_MatchesAnywhere() {
+        AhoCorasick automaton = AhoCorasick.compile(List.of("he", "she", "his", "hers"));
+
+        assertThat(automaton.term(automaton.find("ushers"))).isEqualTo("she");
+        assertThat(automaton.term(automaton.find("ahis"))).isEqualTo("his");
+        assertThat(automaton.find("hxsx")).isEqualTo(-1);
+        assertThat(automaton.find("")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("실패 링크를 따라 짧은 단어도 찾음")
+    void find_FollowsFailureLinks() {
+        // "abcd"를 따라가다 끊겨도 접미사 "bc"가 단어이면 찾아야 함
+        AhoCorasick automaton = AhoCorasick.compile(List.of("abcd", "bc"));
+
+        assertThat(automaton.term(automaton.find("abce"))).isEqualTo("bc");
+        assertThat(automaton.term(automaton.find("aabcd"))).isEqualTo("bc");
+    }
+
+    @Test
+    @DisplayName("한글 단어와 빈 목록")
+    void find_HangulAndEmpty() {
+        AhoCorasick automaton = AhoCorasick.compile(List.of("금지어", "", "금지어"));
+
+        assertThat(automaton.size()).isEqualTo(1);
+        assertThat(automaton.find("이 글에는 금지어가 있음")).isEqualTo(0);
+        assertThat(automaton.find("금지 어")).isEqualTo(-1);
+
+        AhoCorasick empty = AhoCorasick.compile(List.of());
+        assertThat(empty.size()).isZero();
+        assertThat(empty.states()).isEqualTo(1);
+        assertThat(empty.find("아무 글")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("무작위 입력에서 contains와 결과가 같음")
+    void find_AgreesWithNaiveScan() {
+        Random random = new Random(42);
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            terms.add(randomText(random, 2 + random.nextInt(4)));
+        }
+        AhoCorasick automaton = AhoCorasick.compile(terms);
+
+        for (int i = 0; i < 2_000; i++) {
+            String text = randomText(random, random.nextInt(40));
+            boolean expected = terms.stream().anyMatch(text::contains);
+            int found = automaton.find(text);
+
+            assertThat(found >= 0).isEqualTo(expected);
+            if (found >= 0) {
+                assertThat(text).contains(automaton.term(found));
+            }
+        }
+    }
+
+    // 작은 알파벳으로 만들어서 겹치는 접두사/접미사가 많이 생기도록 함
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.ktb.community.spam;
+
+import com.ktb.community.exception.custom.BannedContentException;
+import com.ktb.community.exception.custom.InvalidNicknameException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ContentFilter 테스트")
+public class ContentFilterTest {
+
+    @TempDir
+    Path directory;
+
+    private ContentFilter filter(Path terms) {
+        ContentFilter filter = new ContentFilter(terms.toString(), 30, null);
+        filter.reload();
+        return filter;
+    }
+
+    @Test
+    @DisplayName("금지어가 들어간 글과 닉네임을 거부")
+    void check_BannedTerm_Throws() throws IOException {
+        Path terms = directory.resolve("terms.txt");
+        Files.writeString(terms, "# 주석\n\n광고문구\nSPAM\n", StandardCharsets.UTF_8);
+        ContentFilter filter = filter(terms);
+
+        assertThatThrownBy(() -> filter.checkContent("제목", "여기 광고문구 있음"))
+                .isInstanceOf(BannedContentException.class);
+        // 대소문자와 전각 문자도 같은 단어로 봄
+        assertThatThrownBy(() -> filter.checkContent("ｓｐａｍ 메일"))
+                .isInstanceOf(BannedContentException.class);
+        assertThatThrownBy(() -> filter.checkNickname("spamKing"))
+                .isInstanceOf(InvalidNicknameException.class);
+        assertThatCode(() -> filter.checkContent("평범한 제목", null, "평범한 본문")).doesNotThrowAnyException();
+
+        assertThat(filter.stats().terms()).isEqualTo(2);
+        assertThat(filter.stats().rejected()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("파일이 바뀌면 다시 읽고, 지워지면 검사하지 않음")
+    void reload_FileChanged_SwapsAutomaton() throws IOException {
+        Path terms = directory.resolve("terms.txt");
+        Files.writeString(terms, "첫번째\n", StandardCharsets.UTF_8);
+        ContentFilter filter = filter(terms);
+        assertThatThrownBy(() -> filter.checkContent("첫번째 글")).isInstanceOf(BannedContentException.class);
+
+        Files.writeString(terms, "두번째\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(terms, FileTime.fromMillis(Files.getLastModifiedTime(terms).toMillis() + 1_000));
+        filter.reload();
+
+        assertThatCode(() -> filter.checkContent("첫번째 글")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> filter.checkContent("두번째 글")).isInstanceOf(BannedContentException.class);
+
+        Files.delete(terms);
+        filter.reload();
+
+        assertThatCode(() -> filter.checkContent("두번째 글")).doesNotThrowAnyException();
+        assertThat(filter.stats().terms()).isZero();
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 모든 글을 통과")
+    void check_NoFile_Passes() {
+        ContentFilter filter = filter(directory.resolve("missing.txt"));
+
+        assertThatCode(() -> filter.checkContent("아무 글")).doesNotThrowAnyException();
+        assertThatCode(() -> filter.checkNickname("아무닉네임")).doesNotThrowAnyException();
+    }
+}
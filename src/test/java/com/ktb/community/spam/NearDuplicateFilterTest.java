@@ -0,0 +1,131 @@
+package com.ktb.community.spam;
+
+import com.ktb.community.exception.custom.DuplicateContentException;
+import com.ktb.community.search.NgramTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NearDuplicateFilter 테스트")
+public class NearDuplicateFilterTest {
+
+    private static final String SPAM = "지금 바로 가입하면 포인트를 무료로 드립니다 아래 링크를 눌러서 이벤트에 참여하세요 선착순 마감";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private NearDuplicateFilter filter(NearDuplicateFilter.Action action) {
+        return new NearDuplicateFilter(now::get, true, action, 600, 7, 10, 0.7, 100);
+    }
+
+    @Test
+    @DisplayName("최근 글과 같은 내용이면 거부")
+    void inspect_SameContent_Rejects() {
+        NearDuplicateFilter filter = filter(NearDuplicateFilter.Action.REJECT);
+        filter.remember(filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM));
+
+        assertThatThrownBy(() -> filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM))
+                .isInstanceOf(DuplicateContentException.class);
+        // 공백만 바꾼 글도 같은 n-gram이므로 거부
+        assertThatThrownBy(() -> filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, "  " + SPAM.replace(" ", "  ") + "  "))
+                .isInstanceOf(DuplicateContentException.class);
+        // 단어 하나만 바꾼 글도 거부
+        assertThatThrownBy(() -> filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM.replace("무료로", "공짜로")))
+                .isInstanceOf(DuplicateContentException.class);
+
+        NearDuplicateFilter.Stats stats = filter.stats();
+        assertThat(stats.duplicates()).isEqualTo(3);
+        assertThat(stats.tracked()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내용이 다른 글과 종류가 다른 글은 통과")
+    void inspect_DifferentContent_Passes() {
+        NearDuplicateFilter filter = filter(NearDuplicateFilter.Action.REJECT);
+        filter.remember(filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM));
+
+        assertThat(filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null,
+                "오늘 스터디에서 트랜잭션 격리 수준과 잠금 방식에 대해 이야기했는데 정리해서 공유합니다")).isNotNull();
+        assertThat(filter.inspect(NearDuplicateFilter.Kind.COMMENT, 1L, 10L, SPAM)).isNotNull();
+        assertThat(filter.stats().duplicates()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 글이나 다른 게시글의 댓글과는 비교하지 않음")
+    void inspect_DifferentScope_Passes() {
+        NearDuplicateFilter filter = filter(NearDuplicateFilter.Action.REJECT);
+        filter.remember(filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM));
+        filter.remember(filter.inspect(NearDuplicateFilter.Kind.COMMENT, 1L, 10L, SPAM));
+
+        assertThat(filter.inspect(NearDuplicateFilter.Kind.POST, 2L, null, SPAM)).isNotNull();
+        assertThat(filter.inspect(NearDuplicateFilter.Kind.COMMENT, 2L, 10L, SPAM)).isNotNull();
+        assertThat(filter.inspect(NearDuplicateFilter.Kind.COMMENT, 1L, 11L, SPAM)).isNotNull();
+        assertThatThrownBy(() -> filter.inspect(NearDuplicateFilter.Kind.COMMENT, 1L, 10L, SPAM))
+                .isInstanceOf(DuplicateContentException.class);
+        assertThat(filter.stats().duplicates()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("window가 지난 글과는 비교하지 않음")
+    void inspect_AfterWindow_Passes() {
+        NearDuplicateFilter filter = filter(NearDuplicateFilter.Action.REJECT);
+        filter.remember(filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM));
+
+        now.addAndGet(601_000L);
+
+        assertThat(filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM)).isNotNull();
+        assertThat(filter.stats().tracked()).isZero();
+    }
+
+    @Test
+    @DisplayName("짧은 글은 검사하지 않음")
+    void inspect_ShortText_Skipped() {
+        NearDuplicateFilter filter = filter(NearDuplicateFilter.Action.REJECT);
+        filter.remember(filter.inspect(NearDuplicateFilter.Kind.COMMENT, 1L, 10L, "감사합니다"));
+
+        assertThat(filter.inspect(NearDuplicateFilter.Kind.COMMENT, 1L, 10L, "감사합니다")).isNull();
+        assertThat(filter.stats().skipped()).isEqualTo(2);
+        assertThat(filter.stats().tracked()).isZero();
+    }
+
+    @Test
+    @DisplayName("FLAG면 거부하지 않고 집계만 함")
+    void inspect_FlagMode_CountsOnly() {
+        NearDuplicateFilter filter = filter(NearDuplicateFilter.Action.FLAG);
+        filter.remember(filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM));
+
+        assertThat(filter.inspect(NearDuplicateFilter.Kind.POST, 1L, null, SPAM)).isNotNull();
+        assertThat(filter.stats().duplicates()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-distance가 band 수 이상이면 생성 실패")
+    void constructor_DistanceTooLarge_Throws() {
+        assertThatThrownBy(() -> new NearDuplicateFilter(now::get, true, NearDuplicateFilter.Action.REJECT, 600, 8, 10, 0.7, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("bottom-k 표본으로 Jaccard 유사도 계산")
+    void similarity_BottomK() {
+        assertThat(NearDuplicateFilter.similarity(new int[]{1, 2, 3, 4}, new int[]{1, 2, 3, 4})).isEqualTo(1.0);
+        assertThat(NearDuplicateFilter.similarity(new int[]{1, 2, 3}, new int[]{2, 3, 4})).isEqualTo(0.5);
+        assertThat(NearDuplicateFilter.similarity(new int[]{1, 2}, new int[]{3, 4})).isZero();
+    }
+
+    @Test
+    @DisplayName("SimHash는 비슷한 글일수록 해밍 거리가 작음")
+    void simHash_Distance() {
+        List<String> base = NgramTokenizer.tokenize(SPAM);
+        List<String> edited = NgramTokenizer.tokenize(SPAM + " 감사");
+        List<String> other = NgramTokenizer.tokenize("전혀 다른 주제의 글입니다 데이터베이스 인덱스 설계 이야기");
+
+        int near = SimHash.distance(SimHash.fingerprint(base), SimHash.fingerprint(edited));
+        int far = SimHash.distance(SimHash.fingerprint(base), SimHash.fingerprint(other));
+        assertThat(near).isLessThan(far);
+    }
+}
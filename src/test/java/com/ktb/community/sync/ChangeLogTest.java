@@ -0,0 +1,131 @@
+package com.ktb.community.sync;
+
+import com.ktb.community.exception.custom.DependencyUnavailableException;
+import com.ktb.community.redis.RedisHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ChangeLog 테스트")
+public class ChangeLogTest {
+
+    private RedisHandler redisHandler;
+    private ChangeLog changeLog;
+
+    // Redis 스크립트가 차례로 반환할 값과, 호출될 때 받은 인자
+    private final Queue<Object> results = new LinkedList<>();
+    private final List<Object[]> calls = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisHandler = mock(RedisHandler.class);
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        when(redisHandler.getRedisTemplate()).thenReturn(redisTemplate);
+        doAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get())
+                .when(redisHandler).executeQuery(any());
+        doAnswer(invocation -> {
+            calls.add(invocation.getArguments());
+            return results.poll();
+        }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        changeLog = new ChangeLog(redisHandler, 100, () -> 1L);
+    }
+
+    @Test
+    @DisplayName("floor보다 오래된 cursor는 reset과 현재 cursor를 받음")
+    void changesSince_FirstSync_Resets() {
+        // given
+        results.add(List.of("1", "1005"));
+
+        // when
+        ChangeLog.Page page = changeLog.changesSince(0, 10);
+
+        // then
+        assertThat(page.reset()).isTrue();
+        assertThat(page.changes()).isEmpty();
+        assertThat(page.cursor()).isEqualTo(1005L);
+    }
+
+    @Test
+    @DisplayName("cursor 이후의 변경을 seq 순서대로 반환")
+    void changesSince_ReturnsChangesAfterCursor() {
+        // given
+        results.add(List.of("0", "1003",
+                "POST:1", "1001", "UPSERT 1",
+                "COMMENT:10", "1002", "DELETE 1",
+                "LIKE:2", "1.003e3", "UPSERT 2"));
+
+        // when
+        ChangeLog.Page page = changeLog.changesSince(1000, 10);
+
+        // then
+        assertThat(page.reset()).isFalse();
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.cursor()).isEqualTo(1003L);
+        assertThat(page.changes()).extracting(ChangeLog.Change::type)
+                .containsExactly(ChangeLog.EntityType.POST, ChangeLog.EntityType.COMMENT, ChangeLog.EntityType.LIKE);
+        assertThat(page.changes().get(1).operation()).isEqualTo(ChangeLog.Operation.DELETE);
+        assertThat(page.changes().get(1).postId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("limit을 넘으면 hasMore와 이어받을 cursor를 반환")
+    void changesSince_OverLimit_HasMore() {
+        // given (스크립트는 limit + 1개까지 반환)
+        results.add(List.of("0", "1005",
+                "POST:1", "1001", "UPSERT 1",
+                "POST:2", "1002", "UPSERT 2",
+                "POST:3", "1003", "UPSERT 3"));
+
+        // when
+        ChangeLog.Page page = changeLog.changesSince(1000, 2);
+
+        // then
+        assertThat(page.changes()).extracting(ChangeLog.Change::id).containsExactly(1L, 2L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.cursor()).isEqualTo(1002L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 빈 결과 대신 503으로 알림")
+    void changesSince_RedisUnavailable_Throws() {
+        assertThatThrownBy(() -> changeLog.changesSince(1000, 10))
+                .isInstanceOf(DependencyUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("기록에 실패한 변경이 있으면 다음 기록 때 이전 cursor를 reset 처리")
+    void append_AfterFailedWrite_RaisesFloor() {
+        // given
+        results.add(null);
+        results.add(1001L);
+        results.add(1002L);
+
+        // when
+        changeLog.postChanged(1L);
+        changeLog.postChanged(2L);
+        changeLog.postChanged(3L);
+
+        // then
+        assertThat(calls).extracting(args -> args[args.length - 1]).containsExactly("0", "1", "0");
+        assertThat(calls.get(1)[3]).isEqualTo("POST:2");
+        assertThat(calls.get(1)[4]).isEqualTo("UPSERT 2");
+    }
+}
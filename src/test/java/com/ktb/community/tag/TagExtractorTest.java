@@ -0,0 +1,63 @@
+package com.ktb.community.tag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TagExtractor 테스트")
+public class TagExtractorTest {
+
+    @Test
+    @DisplayName("태그는 소문자로 통일하고 처음 나온 순서로 한 번씩")
+    void tags_NormalizesAndDeduplicates() {
+        assertThat(TagExtractor.tags("#Spring 질문", "오늘도 #스프링_부트 공부 #spring #ＪＰＡ"))
+                .containsExactly("spring", "스프링_부트", "jpa");
+    }
+
+    @Test
+    @DisplayName("단어 중간의 #, 숫자뿐인 태그는 무시")
+    void tags_IgnoresFragmentsAndNumbers() {
+        assertThat(TagExtractor.tags("https://example.com/docs#section &#123; 이슈 #42 C#")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("너무 긴 태그는 무시하고 최대 개수까지만")
+    void tags_Limits() {
+        assertThat(TagExtractor.tags("#" + "a".repeat(31))).isEmpty();
+
+        String many = IntStream.range(0, 15).mapToObj(i -> "#tag" + i).collect(Collectors.joining(" "));
+        assertThat(TagExtractor.tags(many)).hasSize(TagExtractor.MAX_TAGS).first().isEqualTo("tag0");
+    }
+
+    @Test
+    @DisplayName("조회 경로의 태그 정규화")
+    void normalizeTag() {
+        assertThat(TagExtractor.normalizeTag("#Spring")).isEqualTo("spring");
+        assertThat(TagExtractor.normalizeTag("스프링")).isEqualTo("스프링");
+        assertThat(TagExtractor.normalizeTag("123")).isNull();
+        assertThat(TagExtractor.normalizeTag("a b")).isNull();
+        assertThat(TagExtractor.normalizeTag("")).isNull();
+    }
+
+    @Test
+    @DisplayName("언급은 이메일 주소를 제외하고 닉네임 길이까지만")
+    void mentions_ExtractsNicknames() {
+        assertThat(TagExtractor.mentions("@danny 확인 부탁해요 @김철수님 (문의: help@example.com) @a"))
+                .containsExactly("danny", "김철수님");
+        assertThat(TagExtractor.mentions("@" + "a".repeat(20))).containsExactly("a".repeat(15));
+    }
+
+    @Test
+    @DisplayName("언급 문자열의 닉네임 후보는 그대로와 호칭/조사를 뗀 것, 긴 것부터")
+    void nicknameCandidates_StripsKnownSuffixes() {
+        assertThat(TagExtractor.nicknameCandidates("김철수님")).containsExactly("김철수님", "김철수");
+        assertThat(TagExtractor.nicknameCandidates("김철수님께")).containsExactly("김철수님께", "김철수님", "김철수");
+        assertThat(TagExtractor.nicknameCandidates("danny에게")).containsExactly("danny에게", "danny");
+        assertThat(TagExtractor.nicknameCandidates("김철수")).containsExactly("김철수");
+        assertThat(TagExtractor.nicknameCandidates("철이")).containsExactly("철이");
+    }
+}
@@ -0,0 +1,110 @@
+package com.ktb.community.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TrendingIndex 테스트")
+public class TrendingIndexTest {
+
+    private static final long HALF_LIFE_MINUTES = 60;
+    private static final long DEDUPE_WINDOW_MINUTES = 10;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private TrendingIndex index(int maxEntries) {
+        return new TrendingIndex(now::get, HALF_LIFE_MINUTES, maxEntries, 1, 5, 10, DEDUPE_WINDOW_MINUTES, 1000);
+    }
+
+    @Test
+    @DisplayName("가중치가 큰 이벤트를 받은 게시글이 앞에 옴")
+    void page_OrdersByWeightedScore() {
+        TrendingIndex index = index(100);
+        index.record(1L, 101L, TrendingIndex.Signal.VIEW);
+        index.record(1L, 102L, TrendingIndex.Signal.VIEW);
+        index.record(2L, 103L, TrendingIndex.Signal.LIKE);
+        index.record(3L, 104L, TrendingIndex.Signal.COMMENT);
+
+        assertThat(index.page(0, 10)).containsExactly(3L, 2L, 1L);
+        assertThat(index.page(1, 1)).containsExactly(2L);
+        assertThat(index.score(1L)).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("half-life가 지나면 점수가 절반이 되고 최근 이벤트가 앞섬")
+    void record_DecaysOlderEvents() {
+        TrendingIndex index = index(100);
+        index.record(1L, 105L, TrendingIndex.Signal.COMMENT);
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(HALF_LIFE_MINUTES));
+        assertThat(index.score(1L)).isCloseTo(5.0, within(1e-9));
+
+        // 한 시간 전 댓글(현재 5점)보다 지금 좋아요 두 번(10점)이 앞섬
+        index.record(2L, 106L, TrendingIndex.Signal.LIKE);
+        index.record(2L, 107L, TrendingIndex.Signal.LIKE);
+        assertThat(index.page(0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("오랜 시간이 지나도 점수가 overflow되지 않음")
+    void record_LongRunningDoesNotOverflow() {
+        TrendingIndex index = index(100);
+        now.addAndGet(TimeUnit.DAYS.toMillis(3650));
+        index.record(1L, 108L, TrendingIndex.Signal.VIEW);
+        index.record(1L, 109L, TrendingIndex.Signal.LIKE);
+
+        assertThat(index.score(1L)).isCloseTo(6.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 점수가 가장 낮은 게시글을 제외")
+    void record_EvictsLowestScore() {
+        TrendingIndex index = index(2);
+        index.record(1L, 110L, TrendingIndex.Signal.VIEW);
+        index.record(2L, 111L, TrendingIndex.Signal.LIKE);
+        index.record(3L, 112L, TrendingIndex.Signal.COMMENT);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.page(0, 10)).containsExactly(3L, 2L);
+        assertThat(index.score(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 순위에서 제외")
+    void remove_DropsPost() {
+        TrendingIndex index = index(100);
+        index.record(1L, 113L, TrendingIndex.Signal.LIKE);
+        index.record(2L, 114L, TrendingIndex.Signal.VIEW);
+
+        index.remove(1L);
+
+        assertThat(index.page(0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 같은 이벤트는 dedupe-window 안에서 한 번만 반영")
+    void record_SameUserWithinWindow_CountsOnce() {
+        TrendingIndex index = index(100);
+        index.record(1L, 7L, TrendingIndex.Signal.LIKE);
+        index.record(1L, 7L, TrendingIndex.Signal.LIKE);
+        index.record(1L, 7L, TrendingIndex.Signal.VIEW);
+        index.record(1L, 8L, TrendingIndex.Signal.LIKE);
+        assertThat(index.score(1L)).isCloseTo(11.0, within(1e-9));
+
+        // 직전 구간까지 기억하므로 window가 두 번 지나야 다시 반영
+        index.record(2L, 7L, TrendingIndex.Signal.VIEW);
+        now.addAndGet(TimeUnit.MINUTES.toMillis(DEDUPE_WINDOW_MINUTES));
+        double before = index.score(2L);
+        index.record(2L, 7L, TrendingIndex.Signal.VIEW);
+        assertThat(index.score(2L)).isCloseTo(before, within(1e-9));
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(DEDUPE_WINDOW_MINUTES));
+        index.record(2L, 7L, TrendingIndex.Signal.VIEW);
+        assertThat(index.score(2L)).isGreaterThan(before);
+    }
+}